@@ -0,0 +1,593 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.benchmarks;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+
+import com.aerospike.benchmarks.jmh.StandInServer;
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.async.EventLoopType;
+import com.aerospike.client.async.EventLoops;
+import com.aerospike.client.async.EventPolicy;
+import com.aerospike.client.async.NettyEventLoops;
+import com.aerospike.client.async.NioEventLoops;
+import com.aerospike.client.listener.RecordListener;
+import com.aerospike.client.listener.WriteListener;
+import com.aerospike.client.policy.ClientPolicy;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.kqueue.KQueue;
+import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+
+/**
+ * Run a fixed async workload matrix on each available event loop transport against an
+ * in-process {@link StandInServer} and report comparable results.
+ * <p>
+ * Each combination of transport, read percentage, record size and concurrency level is
+ * warmed up and then measured for a fixed time. The report contains:
+ * <ul>
+ * <li>throughput in commands per second</li>
+ * <li>command latency percentiles in microseconds</li>
+ * <li>event loop thread cpu time per command in microseconds</li>
+ * </ul>
+ * Transports that are not available on this platform are skipped. The stand-in server
+ * runs in the same process with its own threads, so keep cpu limits and pinning the same
+ * between runs that are compared.
+ * <pre>
+ * java -cp target/aerospike-benchmarks-*-jar-with-dependencies.jar com.aerospike.benchmarks.TransportBenchmark -csv transports.csv
+ * </pre>
+ */
+public final class TransportBenchmark {
+	private static final int KEY_COUNT = 10000;
+
+	private final List<EventLoopType> transports = new ArrayList<EventLoopType>();
+	private int[] readPercents;
+	private int[] sizes;
+	private int[] concurrencies;
+	private int eventLoopSize;
+	private int warmup;
+	private int duration;
+	private String csvFile;
+
+	public static void main(String[] args) {
+		try {
+			TransportBenchmark benchmark = new TransportBenchmark();
+
+			if (benchmark.parse(args)) {
+				benchmark.run();
+			}
+		}
+		catch (Exception e) {
+			System.out.println("Error: " + e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	private boolean parse(String[] args) throws Exception {
+		Options options = new Options();
+		options.addOption("t", "transports", true,
+			"Comma separated event loop types. Unavailable types are skipped.\n" +
+			"Default: DIRECT_NIO,NETTY_NIO,NETTY_EPOLL,NETTY_KQUEUE,NETTY_IOURING");
+		options.addOption("r", "reads", true, "Comma separated read percentages. Default: 100,50,0");
+		options.addOption("s", "sizes", true, "Comma separated record sizes in bytes. Default: 100,1000,10000");
+		options.addOption("c", "concurrency", true, "Comma separated concurrent commands. Default: 1,16,128");
+		options.addOption("e", "eventLoops", true, "Number of event loops. Default: 1");
+		options.addOption("w", "warmup", true, "Warmup seconds per combination. Default: 2");
+		options.addOption("d", "duration", true, "Measured seconds per combination. Default: 5");
+		options.addOption("csv", true, "Also write results to this CSV file.");
+		options.addOption("u", "usage", false, "Print usage.");
+
+		CommandLineParser parser = new DefaultParser();
+		CommandLine line = parser.parse(options, args);
+
+		if (line.hasOption("u")) {
+			HelpFormatter formatter = new HelpFormatter();
+			formatter.printHelp(TransportBenchmark.class.getName() + " [<options>]", options);
+			return false;
+		}
+
+		String list = line.getOptionValue("t", "DIRECT_NIO,NETTY_NIO,NETTY_EPOLL,NETTY_KQUEUE,NETTY_IOURING");
+
+		for (String s : list.split(",")) {
+			EventLoopType type = EventLoopType.valueOf(s.trim().toUpperCase());
+			String reason = unavailable(type);
+
+			if (reason == null) {
+				transports.add(type);
+			}
+			else {
+				System.out.println("Skip " + type + ": " + reason);
+			}
+		}
+
+		readPercents = parseInts(line.getOptionValue("r", "100,50,0"));
+		sizes = parseInts(line.getOptionValue("s", "100,1000,10000"));
+		concurrencies = parseInts(line.getOptionValue("c", "1,16,128"));
+		eventLoopSize = Integer.parseInt(line.getOptionValue("e", "1"));
+		warmup = Integer.parseInt(line.getOptionValue("w", "2"));
+		duration = Integer.parseInt(line.getOptionValue("d", "5"));
+		csvFile = line.getOptionValue("csv");
+		return true;
+	}
+
+	private static int[] parseInts(String list) {
+		String[] tokens = list.split(",");
+		int[] values = new int[tokens.length];
+
+		for (int i = 0; i < tokens.length; i++) {
+			values[i] = Integer.parseInt(tokens[i].trim());
+		}
+		return values;
+	}
+
+	/**
+	 * Return reason that transport is not available or null if available.
+	 */
+	private static String unavailable(EventLoopType type) {
+		try {
+			switch (type) {
+			case NETTY_EPOLL:
+				return Epoll.isAvailable()? null : String.valueOf(Epoll.unavailabilityCause());
+
+			case NETTY_KQUEUE:
+				return KQueue.isAvailable()? null : String.valueOf(KQueue.unavailabilityCause());
+
+			case NETTY_IOURING:
+				return IOUring.isAvailable()? null : String.valueOf(IOUring.unavailabilityCause());
+
+			default:
+				return null;
+			}
+		}
+		catch (Throwable e) {
+			return e.toString();
+		}
+	}
+
+	private void run() throws Exception {
+		int maxConcurrency = 0;
+
+		for (int c : concurrencies) {
+			if (c > maxConcurrency) {
+				maxConcurrency = c;
+			}
+		}
+
+		List<Result> results = new ArrayList<Result>();
+
+		for (int size : sizes) {
+			try (StandInServer server = new StandInServer(size)) {
+				for (EventLoopType type : transports) {
+					Transport transport = new Transport(type, eventLoopSize);
+
+					try {
+						ClientPolicy policy = new ClientPolicy();
+						policy.eventLoops = transport.eventLoops;
+						// Each event loop must be able to open a connection per in flight command.
+						policy.asyncMaxConnsPerNode = maxConcurrency * eventLoopSize;
+
+						AerospikeClient client = new AerospikeClient(policy, server.getHost());
+
+						try {
+							for (int readPercent : readPercents) {
+								for (int concurrency : concurrencies) {
+									System.out.println("Run " + type + " reads=" + readPercent + "% size=" +
+										size + " concurrency=" + concurrency);
+
+									Workload workload = new Workload(client, transport, readPercent, size, concurrency);
+									workload.execute(warmup);
+									results.add(workload.execute(duration));
+								}
+							}
+						}
+						finally {
+							client.close();
+						}
+					}
+					finally {
+						transport.close();
+					}
+				}
+			}
+		}
+
+		// Place transports next to each other for each workload.
+		Collections.sort(results, new Comparator<Result>() {
+			public int compare(Result a, Result b) {
+				int cmp = Integer.compare(b.readPercent, a.readPercent);
+
+				if (cmp == 0) {
+					cmp = Integer.compare(a.size, b.size);
+				}
+
+				if (cmp == 0) {
+					cmp = Integer.compare(a.concurrency, b.concurrency);
+				}
+
+				if (cmp == 0) {
+					cmp = a.type.compareTo(b.type);
+				}
+				return cmp;
+			}
+		});
+
+		printTable(results);
+
+		if (csvFile != null) {
+			writeCsv(results);
+		}
+	}
+
+	private static void printTable(List<Result> results) {
+		String format = "%-14s %6s %7s %6s %12s %10s %10s %10s %11s %8s%n";
+
+		System.out.println();
+		System.out.printf(format, "transport", "reads%", "size", "conc", "ops/sec", "p50(us)",
+			"p99(us)", "p99.9(us)", "cpu/op(us)", "errors");
+
+		for (Result r : results) {
+			System.out.printf(format, r.type, r.readPercent, r.size, r.concurrency,
+				String.format("%.0f", r.throughput), String.format("%.1f", r.p50), String.format("%.1f", r.p99),
+				String.format("%.1f", r.p999), String.format("%.2f", r.cpuPerOp), r.errors);
+		}
+	}
+
+	private void writeCsv(List<Result> results) throws IOException {
+		try (PrintWriter pw = new PrintWriter(new FileWriter(csvFile))) {
+			pw.println("transport,eventLoops,readPercent,size,concurrency,opsPerSec,p50Micros,p99Micros,p999Micros,cpuPerOpMicros,errors");
+
+			for (Result r : results) {
+				pw.println(r.type + "," + eventLoopSize + "," + r.readPercent + "," + r.size + "," +
+					r.concurrency + "," + r.throughput + "," + r.p50 + "," + r.p99 + "," + r.p999 + "," +
+					r.cpuPerOp + "," + r.errors);
+			}
+		}
+		System.out.println("Results written to " + csvFile);
+	}
+
+	/**
+	 * Event loops of one transport type and their thread ids for cpu accounting.
+	 */
+	private static final class Transport {
+		private final EventLoopType type;
+		private final EventLoopGroup group;
+		private final EventLoops eventLoops;
+		private final long[] threadIds;
+
+		private Transport(EventLoopType type, int size) throws InterruptedException {
+			EventPolicy policy = new EventPolicy();
+			this.type = type;
+
+			switch (type) {
+			default:
+			case DIRECT_NIO:
+				group = null;
+				eventLoops = new NioEventLoops(policy, size);
+				break;
+
+			case NETTY_NIO:
+				group = new NioEventLoopGroup(size);
+				eventLoops = new NettyEventLoops(policy, group, type);
+				break;
+
+			case NETTY_EPOLL:
+				group = new EpollEventLoopGroup(size);
+				eventLoops = new NettyEventLoops(policy, group, type);
+				break;
+
+			case NETTY_KQUEUE:
+				group = new KQueueEventLoopGroup(size);
+				eventLoops = new NettyEventLoops(policy, group, type);
+				break;
+
+			case NETTY_IOURING:
+				group = new IOUringEventLoopGroup(size);
+				eventLoops = new NettyEventLoops(policy, group, type);
+				break;
+			}
+
+			// Find event loop threads.
+			threadIds = new long[size];
+			final CountDownLatch latch = new CountDownLatch(size);
+
+			for (int i = 0; i < size; i++) {
+				final int index = i;
+
+				eventLoops.get(i).execute(new Runnable() {
+					public void run() {
+						threadIds[index] = Thread.currentThread().getId();
+						latch.countDown();
+					}
+				});
+			}
+			latch.await();
+		}
+
+		private long cpuTime(ThreadMXBean bean) {
+			long total = 0;
+
+			for (long id : threadIds) {
+				long t = bean.getThreadCpuTime(id);
+
+				if (t < 0) {
+					return -1;
+				}
+				total += t;
+			}
+			return total;
+		}
+
+		private void close() {
+			if (group != null) {
+				// Shut down immediately so the next transport starts from an idle process.
+				group.shutdownGracefully(0, 5, TimeUnit.SECONDS).awaitUninterruptibly();
+			}
+			else {
+				eventLoops.close();
+			}
+		}
+	}
+
+	/**
+	 * Fixed number of command chains. Each chain issues its next command from the previous
+	 * command's listener, so exactly concurrency commands are in flight.
+	 */
+	private static final class Workload {
+		private final AerospikeClient client;
+		private final Transport transport;
+		private final int readPercent;
+		private final int size;
+		private final int concurrency;
+		private final Key[] keys;
+		private final Bin bin;
+		private volatile boolean stop;
+		private CountDownLatch stopped;
+
+		private Workload(AerospikeClient client, Transport transport, int readPercent, int size, int concurrency) {
+			this.client = client;
+			this.transport = transport;
+			this.readPercent = readPercent;
+			this.size = size;
+			this.concurrency = concurrency;
+			this.keys = new Key[KEY_COUNT];
+
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = new Key(StandInServer.NAMESPACE, "transport", i);
+			}
+			this.bin = new Bin(StandInServer.BIN_NAME, new byte[size]);
+		}
+
+		private Result execute(int seconds) throws InterruptedException {
+			EventLoops eventLoops = transport.eventLoops;
+			int loopCount = eventLoops.getSize();
+			Stats[] stats = new Stats[loopCount];
+
+			for (int i = 0; i < loopCount; i++) {
+				stats[i] = new Stats();
+			}
+
+			stop = false;
+			stopped = new CountDownLatch(concurrency);
+
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			long cpuBegin = transport.cpuTime(bean);
+			long begin = System.nanoTime();
+
+			for (int i = 0; i < concurrency; i++) {
+				int index = i % loopCount;
+				final Chain chain = new Chain(this, eventLoops.get(index), stats[index], i);
+
+				chain.eventLoop.execute(new Runnable() {
+					public void run() {
+						chain.next();
+					}
+				});
+			}
+
+			Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+			stop = true;
+			stopped.await();
+
+			long elapsed = System.nanoTime() - begin;
+			long cpuEnd = transport.cpuTime(bean);
+
+			// Stats are safely published by the stopped latch.
+			Stats total = new Stats();
+
+			for (Stats s : stats) {
+				total.merge(s);
+			}
+
+			Result r = new Result();
+			r.type = transport.type;
+			r.readPercent = readPercent;
+			r.size = size;
+			r.concurrency = concurrency;
+			r.throughput = total.count * 1e9 / elapsed;
+			r.p50 = total.percentile(0.50) / 1000.0;
+			r.p99 = total.percentile(0.99) / 1000.0;
+			r.p999 = total.percentile(0.999) / 1000.0;
+			r.cpuPerOp = (cpuBegin >= 0 && total.count > 0)?
+				(cpuEnd - cpuBegin) / 1000.0 / total.count : Double.NaN;
+			r.errors = total.errors;
+			return r;
+		}
+	}
+
+	private static final class Chain implements RecordListener, WriteListener {
+		private final Workload workload;
+		private final EventLoop eventLoop;
+		private final Stats stats;
+		private long seed;
+		private long begin;
+
+		private Chain(Workload workload, EventLoop eventLoop, Stats stats, int id) {
+			this.workload = workload;
+			this.eventLoop = eventLoop;
+			this.stats = stats;
+			this.seed = 0x9E3779B97F4A7C15L * (id + 1);
+		}
+
+		private void next() {
+			if (workload.stop) {
+				workload.stopped.countDown();
+				return;
+			}
+
+			// Xorshift random so chains do not share state.
+			seed ^= seed << 13;
+			seed ^= seed >>> 7;
+			seed ^= seed << 17;
+
+			long r = seed & Long.MAX_VALUE;
+			Key key = workload.keys[(int)(r % KEY_COUNT)];
+
+			begin = System.nanoTime();
+
+			if ((r >>> 32) % 100 < workload.readPercent) {
+				workload.client.get(eventLoop, this, null, key);
+			}
+			else {
+				workload.client.put(eventLoop, this, null, key, workload.bin);
+			}
+		}
+
+		@Override
+		public void onSuccess(Key key, Record record) {
+			stats.record(System.nanoTime() - begin);
+			next();
+		}
+
+		@Override
+		public void onSuccess(Key key) {
+			stats.record(System.nanoTime() - begin);
+			next();
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			stats.errors++;
+			next();
+		}
+	}
+
+	/**
+	 * Latency histogram with 16 linear buckets per power of two nanoseconds (about 6% precision).
+	 * Only accessed by one event loop thread while the workload runs.
+	 */
+	private static final class Stats {
+		private static final int SUB_BITS = 4;
+		private static final int SUB_COUNT = 1 << SUB_BITS;
+
+		private final long[] buckets = new long[64 << SUB_BITS];
+		private long count;
+		private long errors;
+
+		private void record(long nanos) {
+			buckets[index(nanos)]++;
+			count++;
+		}
+
+		private static int index(long v) {
+			if (v < SUB_COUNT) {
+				return (v < 0)? 0 : (int)v;
+			}
+
+			int exp = 63 - Long.numberOfLeadingZeros(v);
+			int sub = (int)(v >>> (exp - SUB_BITS)) & (SUB_COUNT - 1);
+			return ((exp - SUB_BITS + 1) << SUB_BITS) + sub;
+		}
+
+		private static long lowValue(int index) {
+			if (index < SUB_COUNT) {
+				return index;
+			}
+
+			int exp = (index >> SUB_BITS) + SUB_BITS - 1;
+			long sub = index & (SUB_COUNT - 1);
+			return (SUB_COUNT + sub) << (exp - SUB_BITS);
+		}
+
+		private void merge(Stats other) {
+			for (int i = 0; i < buckets.length; i++) {
+				buckets[i] += other.buckets[i];
+			}
+			count += other.count;
+			errors += other.errors;
+		}
+
+		/**
+		 * Return bucket midpoint in nanoseconds that contains the given quantile.
+		 */
+		private double percentile(double quantile) {
+			if (count == 0) {
+				return 0;
+			}
+
+			long target = (long)Math.ceil(quantile * count);
+			long sum = 0;
+
+			for (int i = 0; i < buckets.length; i++) {
+				sum += buckets[i];
+
+				if (sum >= target) {
+					return (lowValue(i) + lowValue(i + 1)) / 2.0;
+				}
+			}
+			return lowValue(buckets.length - 1);
+		}
+	}
+
+	private static final class Result {
+		private EventLoopType type;
+		private int readPercent;
+		private int size;
+		private int concurrency;
+		private double throughput;
+		private double p50;
+		private double p99;
+		private double p999;
+		private double cpuPerOp;
+		private long errors;
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.benchmarks.jmh;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.async.EventPolicy;
+import com.aerospike.client.async.NioEventLoops;
+import com.aerospike.client.listener.ExistsListener;
+import com.aerospike.client.listener.RecordListener;
+import com.aerospike.client.policy.ClientPolicy;
+
+/**
+ * Measure per command garbage of async commands with and without
+ * {@link EventPolicy#commandPoolSize}. Commands run against an in-process
+ * {@link StandInServer} on one direct NIO event loop. Each new command is issued from the
+ * previous command's listener, so commands start in the event loop thread and can use the
+ * event loop's command pool. Run with the gc profiler and compare gc.alloc.rate.norm:
+ * <pre>
+ * java -cp target/aerospike-benchmarks-*-jar-with-dependencies.jar org.openjdk.jmh.Main AsyncCommandPoolBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncCommandPoolBenchmark {
+	private static final int COMMANDS = 10000;
+	private static final int WINDOW = 32;
+
+	@Param({"0", "256"})
+	public int commandPoolSize;
+
+	private StandInServer server;
+	private NioEventLoops eventLoops;
+	private EventLoop eventLoop;
+	private AerospikeClient client;
+	private Key key;
+	private Chain chain;
+
+	@Setup
+	public void setup() throws IOException {
+		server = new StandInServer();
+
+		EventPolicy eventPolicy = new EventPolicy();
+		eventPolicy.commandPoolSize = commandPoolSize;
+		eventLoops = new NioEventLoops(eventPolicy, 1, true, "bench-pool");
+		eventLoop = eventLoops.get(0);
+
+		ClientPolicy policy = new ClientPolicy();
+		policy.eventLoops = eventLoops;
+		client = new AerospikeClient(policy, server.getHost());
+		key = new Key(StandInServer.NAMESPACE, "set", 1);
+		chain = new Chain();
+	}
+
+	@TearDown
+	public void tearDown() {
+		client.close();
+		eventLoops.close();
+		server.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COMMANDS)
+	public void get() throws InterruptedException {
+		chain.run(false);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COMMANDS)
+	public void exists() throws InterruptedException {
+		chain.run(true);
+	}
+
+	/**
+	 * Keep {@link #WINDOW} commands in flight until {@link #COMMANDS} have completed.
+	 * The same listener instances are reused so only client allocations are measured.
+	 */
+	private final class Chain implements Runnable, RecordListener, ExistsListener {
+		private CountDownLatch latch;
+		private boolean exists;
+		private int issued;
+		private int completed;
+
+		void run(boolean exists) throws InterruptedException {
+			this.exists = exists;
+			this.issued = 0;
+			this.completed = 0;
+			this.latch = new CountDownLatch(1);
+			eventLoop.execute(this);
+			latch.await();
+		}
+
+		@Override
+		public void run() {
+			// Start window in event loop thread.
+			for (int i = 0; i < WINDOW; i++) {
+				next();
+			}
+		}
+
+		private void next() {
+			if (issued >= COMMANDS) {
+				return;
+			}
+			issued++;
+
+			if (exists) {
+				client.exists(eventLoop, this, null, key);
+			}
+			else {
+				client.get(eventLoop, this, null, key);
+			}
+		}
+
+		private void done() {
+			if (++completed == COMMANDS) {
+				latch.countDown();
+				return;
+			}
+			next();
+		}
+
+		@Override
+		public void onSuccess(Key key, Record record) {
+			done();
+		}
+
+		@Override
+		public void onSuccess(Key key, boolean exists) {
+			done();
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			done();
+		}
+	}
+}
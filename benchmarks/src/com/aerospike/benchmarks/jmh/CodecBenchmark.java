@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.benchmarks.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.codec.RecordCodec;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.RecordParser;
+import com.aerospike.client.policy.WritePolicy;
+
+/**
+ * Compare object mapping through Record bin maps and Bin arrays with direct
+ * {@link RecordCodec} mapping. The decode benchmarks parse a synthetic response
+ * buffer, so no server is required.
+ * <pre>
+ * java -cp target/aerospike-benchmarks-*-jar-with-dependencies.jar org.openjdk.jmh.Main CodecBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark {
+	public static class User {
+		String name;
+		String email;
+		long id;
+		int age;
+		double score;
+		boolean active;
+		long created;
+		long updated;
+	}
+
+	private WritePolicy policy;
+	private Key key;
+	private User user;
+	private RecordCodec<User> codec;
+	private SerializeCommand command;
+	private byte[] response;
+
+	@Setup
+	public void setup() {
+		policy = new WritePolicy();
+		key = new Key("test", "bench", "key1");
+		codec = RecordCodec.get(User.class);
+
+		user = new User();
+		user.name = "Joe Bloggs";
+		user.email = "joe.bloggs@example.com";
+		user.id = 123456789L;
+		user.age = 42;
+		user.score = 98.6;
+		user.active = true;
+		user.created = 1700000000000L;
+		user.updated = 1700000500000L;
+
+		command = new SerializeCommand(policy);
+
+		// A write command and a read response share the same message layout,
+		// so the serialized put is used as the response buffer.
+		command.setWrite(policy, key, codec, user);
+		response = new byte[command.dataOffset];
+		System.arraycopy(command.dataBuffer, 0, response, 0, response.length);
+	}
+
+	@Benchmark
+	public int encodeBins() {
+		User u = user;
+		Bin[] bins = new Bin[] {
+			new Bin("name", u.name),
+			new Bin("email", u.email),
+			new Bin("id", u.id),
+			new Bin("age", u.age),
+			new Bin("score", u.score),
+			new Bin("active", u.active),
+			new Bin("created", u.created),
+			new Bin("updated", u.updated)
+		};
+		command.setWrite(policy, Operation.Type.WRITE, key, bins);
+		return command.dataOffset;
+	}
+
+	@Benchmark
+	public int encodeCodec() {
+		command.setWrite(policy, key, codec, user);
+		return command.dataOffset;
+	}
+
+	@Benchmark
+	public User decodeRecord() {
+		RecordParser rp = new RecordParser(response, 8, response.length - 8);
+		rp.parseFields(null, key, false);
+		Record rec = rp.parseRecord(false);
+
+		User u = new User();
+		u.name = rec.getString("name");
+		u.email = rec.getString("email");
+		u.id = rec.getLong("id");
+		u.age = rec.getInt("age");
+		u.score = rec.getDouble("score");
+		u.active = rec.getBoolean("active");
+		u.created = rec.getLong("created");
+		u.updated = rec.getLong("updated");
+		return u;
+	}
+
+	@Benchmark
+	public User decodeCodec() {
+		RecordParser rp = new RecordParser(response, 8, response.length - 8);
+		rp.parseFields(null, key, false);
+		return rp.parseObject(codec);
+	}
+
+	/**
+	 * Allocate a new buffer for each command like sync commands do.
+	 */
+	private static final class SerializeCommand extends Command {
+		private SerializeCommand(WritePolicy policy) {
+			super(policy.socketTimeout, policy.totalTimeout, policy.maxRetries);
+		}
+
+		@Override
+		protected void sizeBuffer() {
+			dataBuffer = new byte[dataOffset];
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.benchmarks.jmh;
+
+import java.io.IOException;
+import java.nio.channels.Selector;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aerospike.client.async.EventLoop;
+import com.aerospike.client.async.EventPolicy;
+import com.aerospike.client.async.NioEventLoops;
+
+/**
+ * Compare cross-thread command submission into a direct NIO event loop.
+ * <ul>
+ * <li>deque: the previous submission path (ConcurrentLinkedDeque and a wakeup on every
+ * awakened transition), reproduced here as a standalone selector loop.</li>
+ * <li>mpsc: {@link NioEventLoops} with the chunked MPSC command queue and coalesced wakeups.</li>
+ * <li>mpsc-spin: same as mpsc with a 50 microsecond selector spin window.</li>
+ * </ul>
+ * Each producer thread keeps at most {@link #WINDOW} commands outstanding, so the score
+ * is end-to-end submit and run throughput. No server is required. Attach a profiler to
+ * see where the time goes, for example:
+ * <pre>
+ * java -cp target/aerospike-benchmarks-*-jar-with-dependencies.jar org.openjdk.jmh.Main EventLoopSubmitBenchmark -t 16
+ * java -cp target/aerospike-benchmarks-*-jar-with-dependencies.jar org.openjdk.jmh.Main EventLoopSubmitBenchmark -prof async:libPath=/path/to/libasyncProfiler.so
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class EventLoopSubmitBenchmark {
+	private static final int WINDOW = 256;
+
+	@Param({"deque", "mpsc", "mpsc-spin"})
+	public String loop;
+
+	private NioEventLoops eventLoops;
+	private EventLoop eventLoop;
+	private DequeLoop dequeLoop;
+
+	@State(Scope.Thread)
+	public static class Producer {
+		final AtomicLong completed = new AtomicLong();
+		long submitted;
+
+		final Runnable task = new Runnable() {
+			public void run() {
+				// Only the event loop thread writes completed.
+				completed.lazySet(completed.get() + 1);
+			}
+		};
+	}
+
+	@Setup
+	public void setup() throws IOException {
+		if (loop.equals("deque")) {
+			dequeLoop = new DequeLoop();
+			dequeLoop.start();
+			return;
+		}
+
+		EventPolicy policy = new EventPolicy();
+
+		if (loop.equals("mpsc-spin")) {
+			policy.selectorSpinTime = 50;
+		}
+		eventLoops = new NioEventLoops(policy, 1, true, "bench-nio");
+		eventLoop = eventLoops.get(0);
+	}
+
+	@TearDown
+	public void tearDown() throws InterruptedException {
+		if (dequeLoop != null) {
+			dequeLoop.close();
+		}
+
+		if (eventLoops != null) {
+			eventLoops.close();
+		}
+	}
+
+	@Benchmark
+	public void submit(Producer p) {
+		while (p.submitted - p.completed.get() >= WINDOW) {
+			// Yield instead of spin so the event loop thread is not starved
+			// when producers outnumber cores.
+			Thread.yield();
+		}
+		p.submitted++;
+
+		if (dequeLoop != null) {
+			dequeLoop.execute(p.task);
+		}
+		else {
+			eventLoop.execute(p.task);
+		}
+	}
+
+	/**
+	 * Selector loop with the previous NioEventLoop command submission path.
+	 */
+	private static final class DequeLoop implements Runnable {
+		private final ConcurrentLinkedDeque<Runnable> commandQueue = new ConcurrentLinkedDeque<Runnable>();
+		private final AtomicBoolean awakened = new AtomicBoolean();
+		private final Selector selector;
+		private final Thread thread;
+		private volatile boolean closed;
+
+		DequeLoop() throws IOException {
+			selector = Selector.open();
+			thread = new Thread(this, "bench-deque");
+			thread.setDaemon(true);
+		}
+
+		void start() {
+			thread.start();
+		}
+
+		void execute(Runnable command) {
+			commandQueue.offerLast(command);
+
+			if (awakened.compareAndSet(false, true)) {
+				selector.wakeup();
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (! closed) {
+					Runnable last = commandQueue.peekLast();
+					Runnable command;
+
+					while ((command = commandQueue.pollFirst()) != null) {
+						command.run();
+
+						if (command == last) {
+							break;
+						}
+					}
+					awakened.set(false);
+					selector.select(100);
+
+					if (awakened.get()) {
+						selector.wakeup();
+					}
+					selector.selectedKeys().clear();
+				}
+				selector.close();
+			}
+			catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		void close() throws InterruptedException {
+			closed = true;
+			selector.wakeup();
+			thread.join();
+		}
+	}
+}
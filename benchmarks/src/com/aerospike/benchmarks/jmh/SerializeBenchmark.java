@@ -0,0 +1,150 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.benchmarks.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.policy.WritePolicy;
+
+/**
+ * Compare put command serialization. The two pass path sizes all bins before writing
+ * them (the previous setWrite implementation). The single pass path writes bins directly
+ * into a growable buffer (the current setWrite implementation). Both produce the same
+ * bytes for a record with the given number of string, integer and list bins.
+ * <pre>
+ * java -cp target/aerospike-benchmarks-*-jar-with-dependencies.jar org.openjdk.jmh.Main SerializeBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializeBenchmark {
+	@Param({"1", "10", "100"})
+	public int binCount;
+
+	private WritePolicy policy;
+	private Key key;
+	private Bin[] bins;
+	private SerializeCommand command;
+
+	@Setup
+	public void setup() {
+		policy = new WritePolicy();
+		key = new Key("test", "bench", "key1");
+		bins = new Bin[binCount];
+
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < 50; i++) {
+			sb.append((char)('a' + (i % 26)));
+		}
+
+		String str = sb.toString();
+		List<Long> list = new ArrayList<Long>();
+
+		for (long i = 0; i < 10; i++) {
+			list.add(i);
+		}
+
+		for (int i = 0; i < binCount; i++) {
+			String name = "bin" + i;
+
+			switch (i % 3) {
+			case 0:
+				bins[i] = new Bin(name, str);
+				break;
+
+			case 1:
+				bins[i] = new Bin(name, (long)i);
+				break;
+
+			default:
+				bins[i] = new Bin(name, list);
+				break;
+			}
+		}
+		command = new SerializeCommand(policy);
+	}
+
+	@Benchmark
+	public int twoPass() {
+		command.setWriteTwoPass(policy, Operation.Type.WRITE, key, bins);
+		return command.dataOffset;
+	}
+
+	@Benchmark
+	public int singlePass() {
+		command.setWrite(policy, Operation.Type.WRITE, key, bins);
+		return command.dataOffset;
+	}
+
+	/**
+	 * Allocate a new buffer for each command like sync commands do.
+	 */
+	private static final class SerializeCommand extends Command {
+		private SerializeCommand(WritePolicy policy) {
+			super(policy.socketTimeout, policy.totalTimeout, policy.maxRetries);
+		}
+
+		@Override
+		protected void sizeBuffer() {
+			dataBuffer = new byte[dataOffset];
+		}
+
+		/**
+		 * Previous setWrite implementation for a policy without transaction, send key,
+		 * filter expression or compression.
+		 */
+		private void setWriteTwoPass(WritePolicy policy, Operation.Type operation, Key key, Bin[] bins) {
+			begin();
+			int fieldCount = estimateKeySize(key);
+
+			for (Bin bin : bins) {
+				estimateOperationSize(bin);
+			}
+			sizeBuffer();
+			writeHeaderWrite(policy, Command.INFO2_WRITE, fieldCount, bins.length);
+			writeKey(key);
+
+			for (Bin bin : bins) {
+				writeOperation(bin, operation);
+			}
+			end();
+		}
+	}
+}
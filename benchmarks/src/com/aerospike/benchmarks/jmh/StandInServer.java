@@ -0,0 +1,268 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.benchmarks.jmh;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import com.aerospike.client.Host;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+
+/**
+ * Minimal in-process stand-in for a single Aerospike server node. It lets client benchmarks
+ * exercise the real network path without a database.
+ * <ul>
+ * <li>Info commands used by cluster tending are answered for one node that owns every
+ * partition of {@link #NAMESPACE}.</li>
+ * <li>Single record commands succeed. Reads return {@link #BIN_NAME} with an integer value,
+ * or a blob of a fixed size. Nothing is stored.</li>
+ * </ul>
+ * Each connection is served by its own daemon thread.
+ */
+public final class StandInServer implements Closeable, Runnable {
+	public static final String NAMESPACE = "test";
+	public static final String BIN_NAME = "bin";
+
+	private static final int INFO_TYPE = 1;
+	private static final int MSG_TYPE = 3;
+	private static final int OP_READ = 1;
+	private static final int INTEGER_PARTICLE = 1;
+	private static final int BLOB_PARTICLE = 4;
+	private static final String NODE_NAME = "BB9000000000001";
+	private static final byte[] BIN = BIN_NAME.getBytes(StandardCharsets.UTF_8);
+	private static final int PARTITIONS = 4096;
+
+	private final ServerSocket serverSocket;
+	private final Thread acceptThread;
+	private final String replicas;
+	private final byte[] readResponse;
+	private final byte[] writeResponse;
+	private volatile boolean closed;
+
+	/**
+	 * Start server that returns an integer bin on reads.
+	 */
+	public StandInServer() throws IOException {
+		this(0);
+	}
+
+	/**
+	 * Start server that returns a blob bin of valueSize bytes on reads.
+	 * If valueSize is zero, an integer bin is returned.
+	 */
+	public StandInServer(int valueSize) throws IOException {
+		if (valueSize > 0) {
+			readResponse = message(BLOB_PARTICLE, new byte[valueSize]);
+		}
+		else {
+			byte[] value = new byte[8];
+			Buffer.longToBytes(1, value, 0);
+			readResponse = message(INTEGER_PARTICLE, value);
+		}
+		writeResponse = message(0, null);
+		serverSocket = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+
+		// Single copy of every partition.
+		byte[] bitmap = new byte[PARTITIONS / 8];
+		Arrays.fill(bitmap, (byte)0xff);
+		replicas = NAMESPACE + ":0,1," + Base64.getEncoder().encodeToString(bitmap);
+
+		acceptThread = new Thread(this, "stand-in-accept");
+		acceptThread.setDaemon(true);
+		acceptThread.start();
+	}
+
+	/**
+	 * Return seed host for this server.
+	 */
+	public Host getHost() {
+		return new Host(serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort());
+	}
+
+	@Override
+	public void run() {
+		while (! closed) {
+			try {
+				final Socket socket = serverSocket.accept();
+				socket.setTcpNoDelay(true);
+
+				Thread thread = new Thread(new Runnable() {
+					public void run() {
+						serve(socket);
+					}
+				}, "stand-in-conn");
+				thread.setDaemon(true);
+				thread.start();
+			}
+			catch (IOException ioe) {
+				// Server socket closed.
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		byte[] buffer = new byte[8192];
+
+		try {
+			DataInputStream in = new DataInputStream(socket.getInputStream());
+			OutputStream out = socket.getOutputStream();
+
+			while (! closed) {
+				in.readFully(buffer, 0, 8);
+
+				long proto = Buffer.bytesToLong(buffer, 0);
+				int size = (int)(proto & 0xFFFFFFFFFFFFL);
+				int type = (int)((proto >> 48) & 0xFF);
+
+				if (size > buffer.length) {
+					buffer = new byte[size];
+				}
+				in.readFully(buffer, 0, size);
+
+				switch (type) {
+				case INFO_TYPE:
+					out.write(info(buffer, size));
+					break;
+
+				case MSG_TYPE:
+					int info1 = buffer[1] & 0xFF;
+
+					if ((info1 & Command.INFO1_READ) != 0 && (info1 & Command.INFO1_NOBINDATA) == 0) {
+						out.write(readResponse);
+					}
+					else {
+						out.write(writeResponse);
+					}
+					break;
+
+				default:
+					// Compressed and other message types are not supported.
+					socket.close();
+					return;
+				}
+			}
+		}
+		catch (IOException ioe) {
+			// Connection closed.
+		}
+		finally {
+			try {
+				socket.close();
+			}
+			catch (IOException ioe) {
+			}
+		}
+	}
+
+	private byte[] info(byte[] buffer, int size) {
+		String request = new String(buffer, 0, size, StandardCharsets.UTF_8);
+		StringBuilder sb = new StringBuilder(replicas.length() + 256);
+
+		for (String name : request.split("\n")) {
+			if (name.isEmpty()) {
+				continue;
+			}
+			sb.append(name).append('\t').append(infoValue(name)).append('\n');
+		}
+
+		byte[] body = sb.toString().getBytes(StandardCharsets.UTF_8);
+		byte[] response = new byte[8 + body.length];
+		writeProto(response, INFO_TYPE, body.length);
+		System.arraycopy(body, 0, response, 8, body.length);
+		return response;
+	}
+
+	private String infoValue(String name) {
+		switch (name) {
+		case "node":
+			return NODE_NAME;
+
+		case "features":
+			return "pscans;query-show;batch-any;pquery";
+
+		case "partition-generation":
+		case "peers-generation":
+		case "rebalance-generation":
+			return "1";
+
+		case "peers-clear-std":
+		case "peers-clear-alt":
+			return "1," + serverSocket.getLocalPort() + ",[]";
+
+		case "replicas":
+			return replicas;
+
+		default:
+			return "";
+		}
+	}
+
+	/**
+	 * Build response with one bin of the given particle type, or no bins if value is null.
+	 */
+	private static byte[] message(int particleType, byte[] value) {
+		int opSize = (value != null)? Command.OPERATION_HEADER_SIZE + BIN.length + value.length : 0;
+		int size = Command.MSG_REMAINING_HEADER_SIZE + opSize;
+		byte[] response = new byte[8 + size];
+
+		writeProto(response, MSG_TYPE, size);
+
+		int offset = 8;
+		response[offset] = (byte)Command.MSG_REMAINING_HEADER_SIZE;
+		// Result code 0. Generation 1. No fields.
+		Buffer.intToBytes(1, response, offset + 6);
+		Buffer.shortToBytes((value != null)? 1 : 0, response, offset + 20);
+		offset += Command.MSG_REMAINING_HEADER_SIZE;
+
+		if (value != null) {
+			Buffer.intToBytes(opSize - 4, response, offset);
+			response[offset + 4] = (byte)OP_READ;
+			response[offset + 5] = (byte)particleType;
+			response[offset + 7] = (byte)BIN.length;
+			offset += Command.OPERATION_HEADER_SIZE;
+			System.arraycopy(BIN, 0, response, offset, BIN.length);
+			offset += BIN.length;
+			System.arraycopy(value, 0, response, offset, value.length);
+		}
+		return response;
+	}
+
+	private static void writeProto(byte[] buffer, int type, int size) {
+		long proto = (long)size | (Command.CL_MSG_VERSION << 56) | ((long)type << 48);
+		Buffer.longToBytes(proto, buffer, 0);
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+
+		try {
+			serverSocket.close();
+		}
+		catch (IOException ioe) {
+		}
+	}
+}
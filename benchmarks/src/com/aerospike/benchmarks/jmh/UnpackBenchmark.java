@@ -0,0 +1,104 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.benchmarks.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aerospike.client.util.Packer;
+import com.aerospike.client.util.Unpacker;
+
+/**
+ * Compare decoding packed integer and double lists into boxed lists followed by
+ * conversion to primitive arrays against decoding directly into primitive arrays.
+ * <pre>
+ * java -cp target/aerospike-benchmarks-*-jar-with-dependencies.jar org.openjdk.jmh.Main UnpackBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnpackBenchmark {
+	@Param({"1000", "10000", "100000"})
+	public int size;
+
+	private byte[] longs;
+	private byte[] doubles;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(1);
+		List<Long> longList = new ArrayList<Long>(size);
+		List<Double> doubleList = new ArrayList<Double>(size);
+
+		for (int i = 0; i < size; i++) {
+			longList.add(random.nextLong() >> random.nextInt(64));
+			doubleList.add(random.nextDouble());
+		}
+		longs = Packer.pack(longList);
+		doubles = Packer.pack(doubleList);
+	}
+
+	@Benchmark
+	public long[] boxedLongs() {
+		List<?> list = (List<?>)Unpacker.unpackObjectList(longs, 0, longs.length);
+		long[] array = new long[list.size()];
+
+		for (int i = 0; i < array.length; i++) {
+			array[i] = (Long)list.get(i);
+		}
+		return array;
+	}
+
+	@Benchmark
+	public long[] primitiveLongs() {
+		return Unpacker.unpackLongArray(longs, 0, longs.length);
+	}
+
+	@Benchmark
+	public double[] boxedDoubles() {
+		List<?> list = (List<?>)Unpacker.unpackObjectList(doubles, 0, doubles.length);
+		double[] array = new double[list.size()];
+
+		for (int i = 0; i < array.length; i++) {
+			array[i] = (Double)list.get(i);
+		}
+		return array;
+	}
+
+	@Benchmark
+	public double[] primitiveDoubles() {
+		return Unpacker.unpackDoubleArray(doubles, 0, doubles.length);
+	}
+}
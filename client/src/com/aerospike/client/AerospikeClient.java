@@ -54,6 +54,7 @@ import com.aerospike.client.cluster.Cluster;
 import com.aerospike.client.cluster.ClusterStats;
 import com.aerospike.client.cluster.Connection;
 import com.aerospike.client.cluster.Node;
+import com.aerospike.client.codec.RecordCodec;
 import com.aerospike.client.command.Batch;
 import com.aerospike.client.command.BatchAttr;
 import com.aerospike.client.command.BatchExecutor;
@@ -61,6 +62,7 @@ import com.aerospike.client.command.BatchNode;
 import com.aerospike.client.command.BatchNodeList;
 import com.aerospike.client.command.BatchSingle;
 import com.aerospike.client.command.BatchStatus;
+import com.aerospike.client.command.BatchStreamExecutor;
 import com.aerospike.client.command.Buffer;
 import com.aerospike.client.command.Command;
 import com.aerospike.client.command.DeleteCommand;
@@ -73,12 +75,14 @@ import com.aerospike.client.command.OperateCommandRead;
 import com.aerospike.client.command.OperateCommandWrite;
 import com.aerospike.client.command.ReadCommand;
 import com.aerospike.client.command.ReadHeaderCommand;
+import com.aerospike.client.command.ReadObjectCommand;
 import com.aerospike.client.command.RegisterCommand;
 import com.aerospike.client.command.ScanExecutor;
 import com.aerospike.client.command.TouchCommand;
 import com.aerospike.client.command.TxnMonitor;
 import com.aerospike.client.command.TxnRoll;
 import com.aerospike.client.command.WriteCommand;
+import com.aerospike.client.command.WriteObjectCommand;
 import com.aerospike.client.exp.Expression;
 import com.aerospike.client.listener.BatchListListener;
 import com.aerospike.client.listener.BatchOperateListListener;
@@ -573,6 +577,19 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		return cluster.isConnected();
 	}
 
+	/**
+	 * Determine if all active nodes have filled their sync and async connection pools to
+	 * {@link ClientPolicy#minConnsPerNode} and {@link ClientPolicy#asyncMinConnsPerNode}.
+	 * Async pools are filled in the background when a node recovers, so deployments can poll
+	 * this method to hold back traffic until connections are available.
+	 *
+	 * @return	<code>true</code> if cluster is connected and connection pools are filled,
+	 * 			<code>false</code> otherwise
+	 */
+	public final boolean isReady() {
+		return cluster.isReady();
+	}
+
 	/**
 	 * Return array of active server nodes in the cluster.
 	 */
@@ -810,6 +827,36 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		command.execute();
 	}
 
+	/**
+	 * Write object fields as record bins. Fields are mapped to bins by {@link RecordCodec}.
+	 * Null fields are not written. The codec is created once per class and cached.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param obj					object whose fields are written as bins
+	 * @throws AerospikeException	if all fields are null or write fails
+	 */
+	public final void putObject(WritePolicy policy, Key key, Object obj)
+		throws AerospikeException {
+		if (policy == null) {
+			policy = writePolicyDefault;
+		}
+
+		RecordCodec<?> codec = RecordCodec.get(obj.getClass());
+
+		if (codec.isEmpty(obj)) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Object has no fields to write: " +
+				obj.getClass().getName());
+		}
+
+		if (policy.txn != null) {
+			TxnMonitor.addKey(cluster, policy, key);
+		}
+
+		WriteObjectCommand command = new WriteObjectCommand(cluster, policy, key, codec, obj);
+		command.execute();
+	}
+
 	/**
 	 * Asynchronously write record bin(s).
 	 * This method registers the command with an event loop and returns.
@@ -828,15 +875,77 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void put(EventLoop eventLoop, WriteListener listener, WritePolicy policy, Key key, Bin... bins)
 		throws AerospikeException {
+		if (policy == null) {
+			policy = writePolicyDefault;
+		}
+
 		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
+			eventLoop = cluster.nextEventLoop(policy, key, true);
+		}
+
+		AsyncWrite command = new AsyncWrite(cluster, listener, policy, key, bins, Operation.Type.WRITE);
+		AsyncTxnMonitor.execute(eventLoop, cluster, policy, command);
+	}
+
+	/**
+	 * Write record bins serialized by a {@link RecordWriter}.
+	 * The writer is serialized before this method returns, so it can be cleared and
+	 * reused for the next call.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param writer				bin write operations
+	 * @throws AerospikeException	if write fails
+	 */
+	public final void put(WritePolicy policy, Key key, RecordWriter writer)
+		throws AerospikeException {
+		if (writer.hasRead()) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Put does not allow read operations");
 		}
 
 		if (policy == null) {
 			policy = writePolicyDefault;
 		}
 
-		AsyncWrite command = new AsyncWrite(cluster, listener, policy, key, bins, Operation.Type.WRITE);
+		if (policy.txn != null) {
+			TxnMonitor.addKey(cluster, policy, key);
+		}
+
+		WriteCommand command = new WriteCommand(cluster, policy, key, writer);
+		command.execute();
+	}
+
+	/**
+	 * Asynchronously write record bins serialized by a {@link RecordWriter}.
+	 * This method registers the command with an event loop and returns.
+	 * The event loop thread will process the command and send the results to the listener.
+	 * <p>
+	 * The writer is copied before this method returns, so it can be cleared and reused
+	 * for the next call.
+	 *
+	 * @param eventLoop				event loop that will process the command. If NULL, the event
+	 * 								loop will be chosen by round-robin.
+	 * @param listener				where to send results, pass in null for fire and forget
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param writer				bin write operations
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public final void put(EventLoop eventLoop, WriteListener listener, WritePolicy policy, Key key, RecordWriter writer)
+		throws AerospikeException {
+		if (writer.hasRead()) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Put does not allow read operations");
+		}
+
+		if (policy == null) {
+			policy = writePolicyDefault;
+		}
+
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, true);
+		}
+
+		AsyncWrite command = new AsyncWrite(cluster, listener, policy, key, writer.copy());
 		AsyncTxnMonitor.execute(eventLoop, cluster, policy, command);
 	}
 
@@ -888,14 +997,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void append(EventLoop eventLoop, WriteListener listener, WritePolicy policy, Key key, Bin... bins)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = writePolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, true);
+		}
+
 		AsyncWrite command = new AsyncWrite(cluster, listener, policy, key, bins, Operation.Type.APPEND);
 		AsyncTxnMonitor.execute(eventLoop, cluster, policy, command);
 	}
@@ -944,14 +1053,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void prepend(EventLoop eventLoop, WriteListener listener, WritePolicy policy, Key key, Bin... bins)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = writePolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, true);
+		}
+
 		AsyncWrite command = new AsyncWrite(cluster, listener, policy, key, bins, Operation.Type.PREPEND);
 		AsyncTxnMonitor.execute(eventLoop, cluster, policy, command);
 	}
@@ -1004,14 +1113,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void add(EventLoop eventLoop, WriteListener listener, WritePolicy policy, Key key, Bin... bins)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = writePolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, true);
+		}
+
 		AsyncWrite command = new AsyncWrite(cluster, listener, policy, key, bins, Operation.Type.ADD);
 		AsyncTxnMonitor.execute(eventLoop, cluster, policy, command);
 	}
@@ -1060,14 +1169,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void delete(EventLoop eventLoop, DeleteListener listener, WritePolicy policy, Key key)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = writePolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, true);
+		}
+
 		AsyncDelete command = new AsyncDelete(cluster, listener, policy, key);
 		AsyncTxnMonitor.execute(eventLoop, cluster, policy, command);
 	}
@@ -1372,14 +1481,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void touch(EventLoop eventLoop, WriteListener listener, WritePolicy policy, Key key)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = writePolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, true);
+		}
+
 		AsyncTouch command = new AsyncTouch(cluster, listener, policy, key);
 		AsyncTxnMonitor.execute(eventLoop, cluster, policy, command);
 	}
@@ -1427,14 +1536,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void touched(EventLoop eventLoop, ExistsListener listener, WritePolicy policy, Key key)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = writePolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, true);
+		}
+
 		AsyncTouch command = new AsyncTouch(cluster, listener, policy, key);
 		AsyncTxnMonitor.execute(eventLoop, cluster, policy, command);
 	}
@@ -1483,14 +1592,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void exists(EventLoop eventLoop, ExistsListener listener, Policy policy, Key key)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = readPolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, false);
+		}
+
 		if (policy.txn != null) {
 			policy.txn.prepareRead(key.namespace);
 		}
@@ -1700,14 +1809,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void get(EventLoop eventLoop, RecordListener listener, Policy policy, Key key)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = readPolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, false);
+		}
+
 		if (policy.txn != null) {
 			policy.txn.prepareRead(key.namespace);
 		}
@@ -1741,6 +1850,32 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		return command.getRecord();
 	}
 
+	/**
+	 * Read record bins directly into a new instance of the specified class. Only bins that
+	 * are mapped by the class {@link RecordCodec} are requested. The codec is created once
+	 * per class and cached.
+	 *
+	 * @param policy				generic configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param type					class with a no-arg constructor
+	 * @return						if found, return object instance.  If not found, return null.
+	 * @throws AerospikeException	if read fails
+	 */
+	public final <T> T getObject(Policy policy, Key key, Class<T> type)
+		throws AerospikeException {
+		if (policy == null) {
+			policy = readPolicyDefault;
+		}
+
+		if (policy.txn != null) {
+			policy.txn.prepareRead(key.namespace);
+		}
+
+		ReadObjectCommand<T> command = new ReadObjectCommand<T>(cluster, policy, key, RecordCodec.get(type));
+		command.execute();
+		return command.getObject();
+	}
+
 	/**
 	 * Asynchronously read record header and bins for specified key.
 	 * This method registers the command with an event loop and returns.
@@ -1758,14 +1893,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void get(EventLoop eventLoop, RecordListener listener, Policy policy, Key key, String... binNames)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = readPolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, false);
+		}
+
 		if (policy.txn != null) {
 			policy.txn.prepareRead(key.namespace);
 		}
@@ -1814,14 +1949,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void getHeader(EventLoop eventLoop, RecordListener listener, Policy policy, Key key)
 		throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = readPolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, false);
+		}
+
 		if (policy.txn != null) {
 			policy.txn.prepareRead(key.namespace);
 		}
@@ -2038,6 +2173,52 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		}
 	}
 
+	/**
+	 * Read multiple records for specified keys in one batch call and stream the results.
+	 * This method starts the batch node commands in virtual threads and returns immediately.
+	 * Each key's result is placed on the returned record set as soon as its node response is
+	 * parsed, so results from the fastest nodes are available first and the full result array
+	 * is never materialized.
+	 * <p>
+	 * Each key is returned exactly once as a {@link BatchRecord}. If a key is not found,
+	 * the record is null and the resultCode is {@link ResultCode#KEY_NOT_FOUND_ERROR}.
+	 * The record set must be closed. Closing the record set early cancels the remaining
+	 * node commands.
+	 *
+	 * @param policy	batch configuration parameters, pass in null for defaults
+	 * @param keys		array of unique record identifiers
+	 * @return			record set iterator
+	 * @throws AerospikeException	if batch initialization fails
+	 */
+	public final BatchRecordSet getRecordSet(BatchPolicy policy, Key[] keys)
+		throws AerospikeException {
+		if (policy == null) {
+			policy = batchPolicyDefault;
+		}
+
+		if (policy.txn != null) {
+			policy.txn.prepareRead(keys);
+		}
+
+		BatchStreamExecutor executor = new BatchStreamExecutor(cluster, policy, keys);
+
+		if (keys.length == 0) {
+			executor.start(new Batch.BatchCommand[0]);
+			return executor.getRecordSet();
+		}
+
+		List<BatchNode> bns = BatchNodeList.generate(cluster, policy, keys, null, false, executor);
+		Batch.BatchCommand[] commands = new Batch.BatchCommand[bns.size()];
+		int count = 0;
+
+		for (BatchNode bn : bns) {
+			commands[count++] = new Batch.GetStreamCommand(
+				cluster, bn, policy, keys, null, Command.INFO1_READ | Command.INFO1_GET_ALL, executor);
+		}
+		executor.start(commands);
+		return executor.getRecordSet();
+	}
+
 	/**
 	 * Asynchronously read multiple records for specified keys in one batch call.
 	 * This method registers the command with an event loop and returns.
@@ -2714,13 +2895,176 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 	 */
 	public final void operate(EventLoop eventLoop, RecordListener listener, WritePolicy policy, Key key, Operation... operations)
 		throws AerospikeException {
+		OperateArgs args = new OperateArgs(policy, writePolicyDefault, operatePolicyReadDefault, operations);
+		policy = args.writePolicy;
+
 		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
+			eventLoop = cluster.nextEventLoop(policy, key, args.hasWrite);
 		}
 
-		OperateArgs args = new OperateArgs(policy, writePolicyDefault, operatePolicyReadDefault, operations);
+		if (args.hasWrite) {
+			AsyncOperateWrite command = new AsyncOperateWrite(cluster, listener, key, args);
+			AsyncTxnMonitor.execute(eventLoop, cluster, args.writePolicy, command);
+		}
+		else {
+			if (policy.txn != null) {
+				policy.txn.prepareRead(key.namespace);
+			}
+
+			AsyncOperateRead command = new AsyncOperateRead(cluster, listener, key, args);
+			eventLoop.execute(cluster, command);
+		}
+	}
+
+	/**
+	 * Perform operations from a precompiled template on a single key in one call.
+	 * The template's parameter slots are bound to values in slot order. Only the key and
+	 * bound values are serialized. All other operations are copied from the template.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param template				precompiled database operations
+	 * @param values				values for template parameter slots
+	 * @return						record if there is a read in the operations list
+	 * @throws AerospikeException	if command fails
+	 */
+	public final Record operate(WritePolicy policy, Key key, OperateTemplate template, Value... values)
+		throws AerospikeException {
+		OperateArgs args = new OperateArgs(policy, writePolicyDefault, operatePolicyReadDefault, template, values);
+		policy = args.writePolicy;
+
+		if (args.hasWrite) {
+			if (policy.txn != null) {
+				TxnMonitor.addKey(cluster, policy, key);
+			}
+
+			OperateCommandWrite command = new OperateCommandWrite(cluster, key, args);
+			command.execute();
+			return command.getRecord();
+		}
+		else {
+			if (policy.txn != null) {
+				policy.txn.prepareRead(key.namespace);
+			}
+
+			OperateCommandRead command = new OperateCommandRead(cluster, key, args);
+			command.execute();
+			return command.getRecord();
+		}
+	}
+
+	/**
+	 * Asynchronously perform operations from a precompiled template on a single key in one call.
+	 * This method registers the command with an event loop and returns.
+	 * The event loop thread will process the command and send the results to the listener.
+	 * <p>
+	 * The template's parameter slots are bound to values in slot order. Only the key and
+	 * bound values are serialized. All other operations are copied from the template.
+	 *
+	 * @param eventLoop				event loop that will process the command. If NULL, the event
+	 * 								loop will be chosen by round-robin.
+	 * @param listener				where to send results, pass in null for fire and forget
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param template				precompiled database operations
+	 * @param values				values for template parameter slots
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public final void operate(
+		EventLoop eventLoop,
+		RecordListener listener,
+		WritePolicy policy,
+		Key key,
+		OperateTemplate template,
+		Value... values
+	) throws AerospikeException {
+		OperateArgs args = new OperateArgs(policy, writePolicyDefault, operatePolicyReadDefault, template, values);
 		policy = args.writePolicy;
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, args.hasWrite);
+		}
+
+		if (args.hasWrite) {
+			AsyncOperateWrite command = new AsyncOperateWrite(cluster, listener, key, args);
+			AsyncTxnMonitor.execute(eventLoop, cluster, args.writePolicy, command);
+		}
+		else {
+			if (policy.txn != null) {
+				policy.txn.prepareRead(key.namespace);
+			}
+
+			AsyncOperateRead command = new AsyncOperateRead(cluster, listener, key, args);
+			eventLoop.execute(cluster, command);
+		}
+	}
+
+	/**
+	 * Perform operations serialized by a {@link RecordWriter} on a single key in one call.
+	 * The writer is serialized before this method returns, so it can be cleared and
+	 * reused for the next call.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param writer				database operations
+	 * @return						record if there is a read in the operations list
+	 * @throws AerospikeException	if command fails
+	 */
+	public final Record operate(WritePolicy policy, Key key, RecordWriter writer)
+		throws AerospikeException {
+		OperateArgs args = new OperateArgs(policy, writePolicyDefault, operatePolicyReadDefault, writer);
+		policy = args.writePolicy;
+
+		if (args.hasWrite) {
+			if (policy.txn != null) {
+				TxnMonitor.addKey(cluster, policy, key);
+			}
+
+			OperateCommandWrite command = new OperateCommandWrite(cluster, key, args);
+			command.execute();
+			return command.getRecord();
+		}
+		else {
+			if (policy.txn != null) {
+				policy.txn.prepareRead(key.namespace);
+			}
+
+			OperateCommandRead command = new OperateCommandRead(cluster, key, args);
+			command.execute();
+			return command.getRecord();
+		}
+	}
+
+	/**
+	 * Asynchronously perform operations serialized by a {@link RecordWriter} on a single key
+	 * in one call. This method registers the command with an event loop and returns.
+	 * The event loop thread will process the command and send the results to the listener.
+	 * <p>
+	 * The writer is copied before this method returns, so it can be cleared and reused
+	 * for the next call.
+	 *
+	 * @param eventLoop				event loop that will process the command. If NULL, the event
+	 * 								loop will be chosen by round-robin.
+	 * @param listener				where to send results, pass in null for fire and forget
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param writer				database operations
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public final void operate(
+		EventLoop eventLoop,
+		RecordListener listener,
+		WritePolicy policy,
+		Key key,
+		RecordWriter writer
+	) throws AerospikeException {
+		OperateArgs args = new OperateArgs(policy, writePolicyDefault, operatePolicyReadDefault, writer.copy());
+		policy = args.writePolicy;
+
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, args.hasWrite);
+		}
+
 		if (args.hasWrite) {
 			AsyncOperateWrite command = new AsyncOperateWrite(cluster, listener, key, args);
 			AsyncTxnMonitor.execute(eventLoop, cluster, args.writePolicy, command);
@@ -2791,10 +3135,19 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 						BatchWritePolicy bwp = (bw.policy != null)? bw.policy : this.batchWritePolicyDefault;
 
 						attr.setWrite(bwp);
-						attr.adjustWrite(bw.ops);
-						attr.setOpSize(bw.ops);
-						commands[count++] = new BatchSingle.OperateBatchRecord(
-							cluster, policy, bw.ops, attr, record, status, bn.node);
+
+						if (bw.writer != null) {
+							attr.adjustWrite(bw.writer);
+							attr.setOpSize(bw.writer);
+							commands[count++] = new BatchSingle.OperateBatchRecord(
+								cluster, policy, bw.writer, attr, record, status, bn.node);
+						}
+						else {
+							attr.adjustWrite(bw.ops);
+							attr.setOpSize(bw.ops);
+							commands[count++] = new BatchSingle.OperateBatchRecord(
+								cluster, policy, bw.ops, attr, record, status, bn.node);
+						}
 						break;
 					}
 
@@ -2833,6 +3186,62 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		return status.getStatus();
 	}
 
+	/**
+	 * Read/Write multiple records for specified batch keys in one batch call and stream the results.
+	 * This method starts the batch node commands in virtual threads and returns immediately.
+	 * Each batch record is placed on the returned record set as soon as its node response is
+	 * parsed, so results from the fastest nodes are available first.
+	 * <p>
+	 * Each batch record is returned exactly once. The results are also stored in the records list.
+	 * The record set must be closed. Closing the record set early cancels the remaining node
+	 * commands.
+	 * <p>
+	 * {@link BatchRecord} can be {@link BatchRead}, {@link BatchWrite}, {@link BatchDelete} or
+	 * {@link BatchUDF}.
+	 * <p>
+	 * Requires server version 6.0+
+	 *
+	 * @param policy	batch configuration parameters, pass in null for defaults
+	 * @param records	list of unique record identifiers and read/write operations
+	 * @return			record set iterator
+	 * @throws AerospikeException	if batch initialization fails
+	 */
+	public final BatchRecordSet operateRecordSet(BatchPolicy policy, List<BatchRecord> records)
+		throws AerospikeException {
+		if (policy == null) {
+			policy = batchParentPolicyWriteDefault;
+		}
+
+		if (policy.txn != null) {
+			TxnMonitor.addKeys(cluster, policy, records);
+		}
+
+		BatchStreamExecutor executor = new BatchStreamExecutor(cluster, policy, records);
+
+		if (records.size() == 0) {
+			executor.start(new Batch.BatchCommand[0]);
+			return executor.getRecordSet();
+		}
+
+		List<BatchNode> bns = BatchNodeList.generate(cluster, policy, records, executor);
+
+		// Return records that could not be assigned to a node.
+		for (int i = 0; i < records.size(); i++) {
+			if (records.get(i).resultCode != ResultCode.NO_RESPONSE) {
+				executor.addCompleted(i);
+			}
+		}
+
+		Batch.BatchCommand[] commands = new Batch.BatchCommand[bns.size()];
+		int count = 0;
+
+		for (BatchNode bn : bns) {
+			commands[count++] = new Batch.OperateStreamCommand(cluster, bn, policy, records, executor);
+		}
+		executor.start(commands);
+		return executor.getRecordSet();
+	}
+
 	/**
 	 * Asynchronously read/write multiple records for specified batch keys in one batch call.
 	 * This method registers the command with an event loop and returns.
@@ -2896,8 +3305,15 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 						BatchWritePolicy bwp = (bw.policy != null)? bw.policy : this.batchWritePolicyDefault;
 
 						attr.setWrite(bwp);
-						attr.adjustWrite(bw.ops);
-						attr.setOpSize(bw.ops);
+
+						if (bw.writer != null) {
+							attr.adjustWrite(bw.writer);
+							attr.setOpSize(bw.writer);
+						}
+						else {
+							attr.adjustWrite(bw.ops);
+							attr.setOpSize(bw.ops);
+						}
 						commands[count++] = new AsyncBatchSingle.Write(executor, cluster, policy, attr, bw, bn.node);
 						break;
 					}
@@ -2999,8 +3415,15 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 						BatchWritePolicy bwp = (bw.policy != null)? bw.policy : this.batchWritePolicyDefault;
 
 						attr.setWrite(bwp);
-						attr.adjustWrite(bw.ops);
-						attr.setOpSize(bw.ops);
+
+						if (bw.writer != null) {
+							attr.adjustWrite(bw.writer);
+							attr.setOpSize(bw.writer);
+						}
+						else {
+							attr.adjustWrite(bw.ops);
+							attr.setOpSize(bw.ops);
+						}
 						commands[count++] = new AsyncBatchSingle.WriteSequence(
 							executor, cluster, policy, attr, bw, bn.node, listener, i);
 						break;
@@ -3621,14 +4044,14 @@ public class AerospikeClient implements IAerospikeClient, Closeable {
 		String functionName,
 		Value... functionArgs
 	) throws AerospikeException {
-		if (eventLoop == null) {
-			eventLoop = cluster.eventLoops.next();
-		}
-
 		if (policy == null) {
 			policy = writePolicyDefault;
 		}
 
+		if (eventLoop == null) {
+			eventLoop = cluster.nextEventLoop(policy, key, true);
+		}
+
 		AsyncExecute command = new AsyncExecute(cluster, listener, policy, key, packageName, functionName, functionArgs);
 		AsyncTxnMonitor.execute(eventLoop, cluster, policy, command);
 	}
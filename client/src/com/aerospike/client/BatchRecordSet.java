@@ -0,0 +1,185 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.aerospike.client.query.IQueryExecutor;
+
+/**
+ * This class manages streaming batch results.
+ * Batch node commands put records on the queue as each node response is parsed.
+ * The single user thread consumes these records from the queue.
+ * <p>
+ * Each batch key is returned exactly once in the order that node responses arrive.
+ * If a node command fails, the keys assigned to that node are returned with an error
+ * resultCode and the node exception is thrown after the last record is consumed.
+ */
+public final class BatchRecordSet implements Iterable<BatchRecord>, Closeable {
+	public static final BatchRecord END = new BatchRecord(null, false);
+
+	private final IQueryExecutor executor;
+	private final BlockingQueue<BatchRecord> queue;
+	private BatchRecord record;
+	private volatile boolean valid = true;
+
+	/**
+	 * For internal use only.
+	 */
+	public BatchRecordSet(IQueryExecutor executor, int capacity) {
+		this.executor = executor;
+		this.queue = new ArrayBlockingQueue<BatchRecord>(capacity);
+	}
+
+	//-------------------------------------------------------
+	// Record traversal methods
+	//-------------------------------------------------------
+
+	/**
+	 * Retrieve next batch record. This method will block until a record is retrieved
+	 * or the batch is cancelled.
+	 *
+	 * @return whether record exists - if false, no more records are available
+	 */
+	public boolean next() throws AerospikeException {
+		if (! valid) {
+			executor.checkForException();
+			return false;
+		}
+
+		try {
+			record = queue.take();
+		}
+		catch (InterruptedException ie) {
+			valid = false;
+			return false;
+		}
+
+		if (record == END) {
+			valid = false;
+			executor.checkForException();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Close batch. Batch node commands that are still running are stopped.
+	 */
+	public void close() {
+		valid = false;
+
+		// Check if more records are available.
+		if (record != END && queue.poll() != END) {
+			// Some batch node commands may still be running. Stop these commands.
+			executor.stopThreads(new AerospikeException.QueryTerminated());
+		}
+	}
+
+	/**
+	 * Provide Iterator for BatchRecordSet.
+	 */
+	@Override
+	public Iterator<BatchRecord> iterator() {
+		return new BatchRecordSetIterator(this);
+	}
+
+	/**
+	 * Get current batch record.
+	 */
+	public BatchRecord getBatchRecord() {
+		return record;
+	}
+
+	//-------------------------------------------------------
+	// Methods for internal use only.
+	//-------------------------------------------------------
+
+	/**
+	 * Put a record on the queue. For internal use only.
+	 */
+	public boolean put(BatchRecord record) {
+		if (! valid) {
+			return false;
+		}
+
+		try {
+			// This put will block if queue capacity is reached.
+			queue.put(record);
+			return true;
+		}
+		catch (InterruptedException ie) {
+			// Valid may have changed.  Check again.
+			if (valid) {
+				abort();
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Abort retrieval with end token. For internal use only.
+	 */
+	public void abort() {
+		valid = false;
+		queue.clear();
+
+		// Send end command to command thread.
+		// It's critical that the end offer succeeds.
+		while (! queue.offer(END)) {
+			// Queue must be full. Remove one item to make room.
+			if (queue.poll() == null) {
+				// Can't offer or poll.  Nothing further can be done.
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Support standard iteration interface for BatchRecordSet.
+	 */
+	private static class BatchRecordSetIterator implements Iterator<BatchRecord>, Closeable {
+
+		private final BatchRecordSet recordSet;
+		private boolean more;
+
+		BatchRecordSetIterator(BatchRecordSet recordSet) {
+			this.recordSet = recordSet;
+			more = this.recordSet.next();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return more;
+		}
+
+		@Override
+		public BatchRecord next() {
+			BatchRecord br = recordSet.getBatchRecord();
+			more = recordSet.next();
+			return br;
+		}
+
+		@Override
+		public void close() {
+			recordSet.close();
+		}
+	}
+}
@@ -31,10 +31,15 @@ public final class BatchWrite extends BatchRecord {
 	public final BatchWritePolicy policy;
 
 	/**
-	 * Required operations for this key.
+	 * Required operations for this key. Null when operations are supplied by {@link #writer}.
 	 */
 	public final Operation[] ops;
 
+	/**
+	 * Serialized operations for this key. Null when operations are supplied by {@link #ops}.
+	 */
+	public final RecordWriter writer;
+
 	/**
 	 * Initialize batch key and read/write operations.
 	 * <p>
@@ -45,6 +50,7 @@ public final class BatchWrite extends BatchRecord {
 	public BatchWrite(Key key, Operation[] ops) {
 		super(key, true);
 		this.ops = ops;
+		this.writer = null;
 		this.policy = null;
 	}
 
@@ -58,6 +64,26 @@ public final class BatchWrite extends BatchRecord {
 	public BatchWrite(BatchWritePolicy policy, Key key, Operation[] ops) {
 		super(key, true);
 		this.ops = ops;
+		this.writer = null;
+		this.policy = policy;
+	}
+
+	/**
+	 * Initialize batch key and serialized read/write operations. The writer is copied,
+	 * so it can be cleared and reused for the next record.
+	 */
+	public BatchWrite(Key key, RecordWriter writer) {
+		this(null, key, writer);
+	}
+
+	/**
+	 * Initialize policy, batch key and serialized read/write operations. The writer is copied,
+	 * so it can be cleared and reused for the next record.
+	 */
+	public BatchWrite(BatchWritePolicy policy, Key key, RecordWriter writer) {
+		super(key, true);
+		this.ops = null;
+		this.writer = writer.copy();
 		this.policy = policy;
 	}
 
@@ -70,7 +96,8 @@ public final class BatchWrite extends BatchRecord {
 	}
 
 	/**
-	 * Optimized reference equality check to determine batch wire protocol repeat flag.
+	 * Optimized equality check to determine batch wire protocol repeat flag. Operations are
+	 * compared by reference. Writers are copied per record, so their bytes are compared.
 	 * For internal use only.
 	 */
 	@Override
@@ -79,7 +106,16 @@ public final class BatchWrite extends BatchRecord {
 			return false;
 
 		BatchWrite other = (BatchWrite)obj;
-		return ops == other.ops && policy == other.policy && (policy == null || !policy.sendKey);
+
+		if (writer != null) {
+			if (other.writer == null || ! writer.contentEquals(other.writer)) {
+				return false;
+			}
+		}
+		else if (ops != other.ops) {
+			return false;
+		}
+		return policy == other.policy && (policy == null || !policy.sendKey);
 	}
 
 	/**
@@ -102,6 +138,13 @@ public final class BatchWrite extends BatchRecord {
 			size += key.userKey.estimateSize() + Command.FIELD_HEADER_SIZE + 1;
 		}
 
+		if (writer != null) {
+			if (! writer.hasWrite()) {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Batch write operations do not contain a write");
+			}
+			return size + writer.size();
+		}
+
 		boolean hasWrite = false;
 
 		for (Operation op : ops) {
@@ -236,6 +236,15 @@ public interface IAerospikeClient extends Closeable {
 	 */
 	public boolean isConnected();
 
+	/**
+	 * Determine if all active nodes have filled their sync and async connection pools to
+	 * min connections.
+	 *
+	 * @return	<code>true</code> if cluster is connected and connection pools are filled,
+	 * 			<code>false</code> otherwise
+	 */
+	public boolean isReady();
+
 	/**
 	 * Return array of active server nodes in the cluster.
 	 */
@@ -359,6 +368,18 @@ public interface IAerospikeClient extends Closeable {
 	public void put(WritePolicy policy, Key key, Bin... bins)
 		throws AerospikeException;
 
+	/**
+	 * Write object fields as record bins. Fields are mapped to bins by
+	 * {@link com.aerospike.client.codec.RecordCodec}. Null fields are not written.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param obj					object whose fields are written as bins
+	 * @throws AerospikeException	if all fields are null or write fails
+	 */
+	public void putObject(WritePolicy policy, Key key, Object obj)
+		throws AerospikeException;
+
 	/**
 	 * Asynchronously write record bin(s).
 	 * This method registers the command with an event loop and returns.
@@ -378,6 +399,38 @@ public interface IAerospikeClient extends Closeable {
 	public void put(EventLoop eventLoop, WriteListener listener, WritePolicy policy, Key key, Bin... bins)
 		throws AerospikeException;
 
+	/**
+	 * Write record bins serialized by a {@link RecordWriter}.
+	 * The writer is serialized before this method returns, so it can be cleared and
+	 * reused for the next call.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param writer				bin write operations
+	 * @throws AerospikeException	if write fails
+	 */
+	public void put(WritePolicy policy, Key key, RecordWriter writer)
+		throws AerospikeException;
+
+	/**
+	 * Asynchronously write record bins serialized by a {@link RecordWriter}.
+	 * This method registers the command with an event loop and returns.
+	 * The event loop thread will process the command and send the results to the listener.
+	 * <p>
+	 * The writer is copied before this method returns, so it can be cleared and reused
+	 * for the next call.
+	 *
+	 * @param eventLoop				event loop that will process the command. If NULL, the event
+	 * 								loop will be chosen by round-robin.
+	 * @param listener				where to send results, pass in null for fire and forget
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param writer				bin write operations
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public void put(EventLoop eventLoop, WriteListener listener, WritePolicy policy, Key key, RecordWriter writer)
+		throws AerospikeException;
+
 	//-------------------------------------------------------
 	// String Operations
 	//-------------------------------------------------------
@@ -801,6 +854,19 @@ public interface IAerospikeClient extends Closeable {
 	public Record get(Policy policy, Key key, String... binNames)
 		throws AerospikeException;
 
+	/**
+	 * Read record bins directly into a new instance of the specified class. Only bins that
+	 * are mapped by the class {@link com.aerospike.client.codec.RecordCodec} are requested.
+	 *
+	 * @param policy				generic configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param type					class with a no-arg constructor
+	 * @return						if found, return object instance.  If not found, return null.
+	 * @throws AerospikeException	if read fails
+	 */
+	public <T> T getObject(Policy policy, Key key, Class<T> type)
+		throws AerospikeException;
+
 	/**
 	 * Asynchronously read record header and bins for specified key.
 	 * This method registers the command with an event loop and returns.
@@ -920,6 +986,20 @@ public interface IAerospikeClient extends Closeable {
 	public Record[] get(BatchPolicy policy, Key[] keys)
 		throws AerospikeException;
 
+	/**
+	 * Read multiple records for specified keys in one batch call and stream the results.
+	 * Each key's result is placed on the returned record set as soon as its node response
+	 * is parsed. Each key is returned exactly once as a {@link BatchRecord}. The record set
+	 * must be closed. Closing the record set early cancels the remaining node commands.
+	 *
+	 * @param policy	batch configuration parameters, pass in null for defaults
+	 * @param keys		array of unique record identifiers
+	 * @return			record set iterator
+	 * @throws AerospikeException	if batch initialization fails
+	 */
+	public BatchRecordSet getRecordSet(BatchPolicy policy, Key[] keys)
+		throws AerospikeException;
+
 	/**
 	 * Asynchronously read multiple records for specified keys in one batch call.
 	 * This method registers the command with an event loop and returns.
@@ -1154,6 +1234,82 @@ public interface IAerospikeClient extends Closeable {
 	public void operate(EventLoop eventLoop, RecordListener listener, WritePolicy policy, Key key, Operation... operations)
 		throws AerospikeException;
 
+	/**
+	 * Perform operations from a precompiled template on a single key in one call.
+	 * The template's parameter slots are bound to values in slot order. Only the key and
+	 * bound values are serialized. All other operations are copied from the template.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param template				precompiled database operations
+	 * @param values				values for template parameter slots
+	 * @return						record if there is a read in the operations list
+	 * @throws AerospikeException	if command fails
+	 */
+	public Record operate(WritePolicy policy, Key key, OperateTemplate template, Value... values)
+		throws AerospikeException;
+
+	/**
+	 * Asynchronously perform operations from a precompiled template on a single key in one call.
+	 * This method registers the command with an event loop and returns.
+	 * The event loop thread will process the command and send the results to the listener.
+	 *
+	 * @param eventLoop				event loop that will process the command. If NULL, the event
+	 * 								loop will be chosen by round-robin.
+	 * @param listener				where to send results, pass in null for fire and forget
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param template				precompiled database operations
+	 * @param values				values for template parameter slots
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public void operate(
+		EventLoop eventLoop,
+		RecordListener listener,
+		WritePolicy policy,
+		Key key,
+		OperateTemplate template,
+		Value... values
+	) throws AerospikeException;
+
+	/**
+	 * Perform operations serialized by a {@link RecordWriter} on a single key in one call.
+	 * The writer is serialized before this method returns, so it can be cleared and
+	 * reused for the next call.
+	 *
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param writer				database operations
+	 * @return						record if there is a read in the operations list
+	 * @throws AerospikeException	if command fails
+	 */
+	public Record operate(WritePolicy policy, Key key, RecordWriter writer)
+		throws AerospikeException;
+
+	/**
+	 * Asynchronously perform operations serialized by a {@link RecordWriter} on a single key
+	 * in one call. This method registers the command with an event loop and returns.
+	 * The event loop thread will process the command and send the results to the listener.
+	 * <p>
+	 * The writer is copied before this method returns, so it can be cleared and reused
+	 * for the next call.
+	 *
+	 * @param eventLoop				event loop that will process the command. If NULL, the event
+	 * 								loop will be chosen by round-robin.
+	 * @param listener				where to send results, pass in null for fire and forget
+	 * @param policy				write configuration parameters, pass in null for defaults
+	 * @param key					unique record identifier
+	 * @param writer				database operations
+	 * @throws AerospikeException	if event loop registration fails
+	 */
+	public void operate(
+		EventLoop eventLoop,
+		RecordListener listener,
+		WritePolicy policy,
+		Key key,
+		RecordWriter writer
+	) throws AerospikeException;
+
 	//-------------------------------------------------------
 	// Batch Read/Write Operations
 	//-------------------------------------------------------
@@ -1176,6 +1332,22 @@ public interface IAerospikeClient extends Closeable {
 	public boolean operate(BatchPolicy policy, List<BatchRecord> records)
 		throws AerospikeException;
 
+	/**
+	 * Read/Write multiple records for specified batch keys in one batch call and stream the results.
+	 * Each batch record is placed on the returned record set as soon as its node response is parsed.
+	 * Each batch record is returned exactly once. The results are also stored in the records list.
+	 * The record set must be closed. Closing the record set early cancels the remaining node commands.
+	 * <p>
+	 * Requires server version 6.0+
+	 *
+	 * @param policy	batch configuration parameters, pass in null for defaults
+	 * @param records	list of unique record identifiers and read/write operations
+	 * @return			record set iterator
+	 * @throws AerospikeException	if batch initialization fails
+	 */
+	public BatchRecordSet operateRecordSet(BatchPolicy policy, List<BatchRecord> records)
+		throws AerospikeException;
+
 	/**
 	 * Asynchronously read/write multiple records for specified batch keys in one batch call.
 	 * This method registers the command with an event loop and returns.
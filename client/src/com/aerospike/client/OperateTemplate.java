@@ -0,0 +1,263 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client;
+
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.OperateArgs;
+
+/**
+ * Operation list compiled once into a reusable wire format template. Use a template when
+ * the same operation list is executed repeatedly and only the key and some bin values change.
+ * <p>
+ * Operations are analyzed and serialized when the template is created. Operations with a
+ * {@link #PARAM} value are parameter slots. The values for these slots are bound on each
+ * call in the order that the slots appear in the operation list. Only the parameter slots
+ * are serialized on each call. All other operations, including CDT operations, are copied
+ * from the template.
+ *
+ * <pre>{@code
+ * OperateTemplate template = new OperateTemplate(
+ *     Operation.add(new Bin("count", OperateTemplate.PARAM)),
+ *     Operation.put(new Bin("name", OperateTemplate.PARAM)),
+ *     ListOperation.append("events", Value.get("login")),
+ *     Operation.get("count"));
+ *
+ * Record rec = client.operate(null, key, template, Value.get(1), Value.get("Bob"));
+ * }</pre>
+ *
+ * Templates are immutable and can be shared between threads.
+ */
+public final class OperateTemplate {
+	/**
+	 * Value placeholder that marks an operation as a parameter slot.
+	 */
+	public static final Value PARAM = new Value.NullValue();
+
+	private final Operation[] operations;
+	private final byte[] template;
+	private final int[] slotOffsets;
+	private final byte[][] slotNames;
+	private final int[] slotTypes;
+	private final int[] slotIndexes;
+	private final int readAttr;
+	private final int writeAttr;
+	private final boolean hasWrite;
+	private final boolean respondAllOps;
+
+	/**
+	 * Compile operation list into template.
+	 *
+	 * @param operations			database operations to perform. Bin operations with a
+	 * 								{@link #PARAM} value are parameter slots.
+	 * @throws AerospikeException	if a parameter slot is not a bin write operation
+	 */
+	public OperateTemplate(Operation... operations) {
+		this.operations = operations;
+
+		OperateArgs.Attr attr = new OperateArgs.Attr();
+		int size = 0;
+		int slotCount = 0;
+
+		for (Operation operation : operations) {
+			attr.add(operation);
+
+			if (operation.value == PARAM) {
+				switch (operation.type) {
+				case WRITE:
+				case ADD:
+				case APPEND:
+				case PREPEND:
+					slotCount++;
+					break;
+
+				default:
+					throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+						"Invalid template parameter operation: " + operation.type);
+				}
+				continue;
+			}
+			size += Buffer.estimateSizeUtf8(operation.binName) + Command.OPERATION_HEADER_SIZE;
+			size += operation.value.estimateSize();
+		}
+
+		attr.finish();
+
+		this.readAttr = attr.readAttr;
+		this.writeAttr = attr.writeAttr;
+		this.hasWrite = attr.hasWrite;
+		this.respondAllOps = attr.respondAllOps;
+		this.template = new byte[size];
+		this.slotOffsets = new int[slotCount];
+		this.slotNames = new byte[slotCount][];
+		this.slotTypes = new int[slotCount];
+		this.slotIndexes = new int[slotCount];
+
+		int offset = 0;
+		int slot = 0;
+
+		for (int i = 0; i < operations.length; i++) {
+			Operation operation = operations[i];
+
+			if (operation.value == PARAM) {
+				slotOffsets[slot] = offset;
+				slotNames[slot] = Buffer.stringToUtf8(operation.binName);
+				slotTypes[slot] = operation.type.protocolType;
+				slotIndexes[slot] = i;
+				slot++;
+				continue;
+			}
+			offset = writeOperation(template, offset, operation);
+		}
+	}
+
+	/**
+	 * Return operations with parameter slots replaced by bound values. Operations that are
+	 * not parameter slots are shared with the template. This method is used for batch
+	 * commands like {@link BatchWrite} that serialize each record's operations.
+	 *
+	 * @param values				values for parameter slots in slot order
+	 * @throws AerospikeException	if the number of values does not match the number of slots
+	 */
+	public Operation[] bind(Value... values) {
+		validate(values);
+
+		Operation[] ops = operations.clone();
+
+		for (int i = 0; i < values.length; i++) {
+			int index = slotIndexes[i];
+			Operation op = ops[index];
+			ops[index] = new Operation(op.type, op.binName, values[i]);
+		}
+		return ops;
+	}
+
+	/**
+	 * Return number of parameter slots.
+	 */
+	public int getParamCount() {
+		return slotOffsets.length;
+	}
+
+	/**
+	 * Return template operations.
+	 */
+	public Operation[] getOperations() {
+		return operations;
+	}
+
+	/**
+	 * Does template contain write operations.
+	 */
+	public boolean hasWrite() {
+		return hasWrite;
+	}
+
+	/**
+	 * Return wire protocol read attributes. For internal use only.
+	 */
+	public int getReadAttr() {
+		return readAttr;
+	}
+
+	/**
+	 * Return wire protocol write attributes. For internal use only.
+	 */
+	public int getWriteAttr() {
+		return writeAttr;
+	}
+
+	/**
+	 * Do operations require that results are returned for all operations. For internal use only.
+	 */
+	public boolean getRespondAllOps() {
+		return respondAllOps;
+	}
+
+	/**
+	 * Validate bound values. For internal use only.
+	 */
+	public void validate(Value[] values) {
+		if (values.length != slotOffsets.length) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Template expects " +
+				slotOffsets.length + " values. Received " + values.length);
+		}
+	}
+
+	/**
+	 * Return wire size of operations with bound values. For internal use only.
+	 */
+	public int estimateSize(Value[] values) {
+		int size = template.length;
+
+		for (int i = 0; i < values.length; i++) {
+			size += slotNames[i].length + Command.OPERATION_HEADER_SIZE + values[i].estimateSize();
+		}
+		return size;
+	}
+
+	/**
+	 * Write operations with bound values to buffer and return the new offset.
+	 * For internal use only.
+	 */
+	public int write(Value[] values, byte[] buffer, int offset) {
+		int begin = 0;
+
+		for (int i = 0; i < values.length; i++) {
+			int end = slotOffsets[i];
+			int len = end - begin;
+
+			System.arraycopy(template, begin, buffer, offset, len);
+			offset += len;
+			begin = end;
+
+			// Write parameter slot operation.
+			Value value = values[i];
+			byte[] name = slotNames[i];
+			int nameOffset = offset + Command.OPERATION_HEADER_SIZE;
+
+			System.arraycopy(name, 0, buffer, nameOffset, name.length);
+
+			int valueLength = value.write(buffer, nameOffset + name.length);
+
+			Buffer.intToBytes(name.length + valueLength + 4, buffer, offset);
+			offset += 4;
+			buffer[offset++] = (byte)slotTypes[i];
+			buffer[offset++] = (byte)value.getType();
+			buffer[offset++] = (byte)0;
+			buffer[offset++] = (byte)name.length;
+			offset += name.length + valueLength;
+		}
+
+		int len = template.length - begin;
+		System.arraycopy(template, begin, buffer, offset, len);
+		return offset + len;
+	}
+
+	private static int writeOperation(byte[] buffer, int offset, Operation operation) {
+		int nameLength = Buffer.stringToUtf8(operation.binName, buffer, offset + Command.OPERATION_HEADER_SIZE);
+		int valueLength = operation.value.write(buffer, offset + Command.OPERATION_HEADER_SIZE + nameLength);
+
+		Buffer.intToBytes(nameLength + valueLength + 4, buffer, offset);
+		offset += 4;
+		buffer[offset++] = (byte)operation.type.protocolType;
+		buffer[offset++] = (byte)operation.value.getType();
+		buffer[offset++] = (byte)0;
+		buffer[offset++] = (byte)nameLength;
+		return offset + nameLength + valueLength;
+	}
+}
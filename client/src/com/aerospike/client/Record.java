@@ -23,6 +23,8 @@ import java.util.Objects;
 
 import com.aerospike.client.Value.GeoJSONValue;
 import com.aerospike.client.Value.HLLValue;
+import com.aerospike.client.util.PackedCdt;
+import com.aerospike.client.util.UnpackVisitor;
 
 /**
  * Container object for records.  Records are equivalent to rows.
@@ -153,6 +155,135 @@ public final class Record {
 		return (List<?>)getValue(name);
 	}
 
+	/**
+	 * Get list of integers bin value as a primitive array. If the record was read with
+	 * {@link com.aerospike.client.policy.Policy#rawCdt} set to true, the list is decoded
+	 * directly from packed bytes without boxing. This includes list operation results.
+	 * When a bin has multiple operation results, use {@link PackedCdt#toLongArray()} on
+	 * each result of {@link #getList(String)}. Returns null if the bin does not exist.
+	 *
+	 * @throws AerospikeException	if the value is not a list of integers
+	 */
+	public long[] getLongArray(String name) {
+		Object value = getValue(name);
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof PackedCdt) {
+			return ((PackedCdt)value).toLongArray();
+		}
+
+		List<?> list = toList(value);
+		long[] array = new long[list.size()];
+		int i = 0;
+
+		for (Object obj : list) {
+			if (! (obj instanceof Long)) {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "List element is not an integer: " + obj);
+			}
+			array[i++] = (Long)obj;
+		}
+		return array;
+	}
+
+	/**
+	 * Get list of numbers bin value as a primitive array. If the record was read with
+	 * {@link com.aerospike.client.policy.Policy#rawCdt} set to true, the list is decoded
+	 * directly from packed bytes without boxing. This includes list operation results.
+	 * Returns null if the bin does not exist.
+	 *
+	 * @throws AerospikeException	if the value is not a list of numbers
+	 */
+	public double[] getDoubleArray(String name) {
+		Object value = getValue(name);
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof PackedCdt) {
+			return ((PackedCdt)value).toDoubleArray();
+		}
+
+		List<?> list = toList(value);
+		double[] array = new double[list.size()];
+		int i = 0;
+
+		for (Object obj : list) {
+			if (! (obj instanceof Long || obj instanceof Double)) {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "List element is not a number: " + obj);
+			}
+			array[i++] = ((Number)obj).doubleValue();
+		}
+		return array;
+	}
+
+	/**
+	 * Get list of blobs bin value as an array of byte arrays. This includes list
+	 * operation results. Returns null if the bin does not exist.
+	 *
+	 * @throws AerospikeException	if the value is not a list of blobs
+	 */
+	public byte[][] getBytesArray(String name) {
+		Object value = getValue(name);
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof PackedCdt) {
+			return ((PackedCdt)value).toBytesArray();
+		}
+
+		List<?> list = toList(value);
+		byte[][] array = new byte[list.size()][];
+		int i = 0;
+
+		for (Object obj : list) {
+			if (! (obj instanceof byte[])) {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "List element is not a blob: " + obj);
+			}
+			array[i++] = (byte[])obj;
+		}
+		return array;
+	}
+
+	private static List<?> toList(Object value) {
+		if (! (value instanceof List)) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Value is not a list");
+		}
+		return (List<?>)value;
+	}
+
+	/**
+	 * Get packed list or map bin value. The record must have been read with
+	 * {@link com.aerospike.client.policy.Policy#rawCdt} set to true.
+	 */
+	public PackedCdt getPacked(String name) {
+		return (PackedCdt)getValue(name);
+	}
+
+	/**
+	 * Traverse packed list or map bin value and send typed events to visitor.
+	 * The record must have been read with {@link com.aerospike.client.policy.Policy#rawCdt}
+	 * set to true. Returns false if the bin does not exist.
+	 */
+	public boolean visit(String name, UnpackVisitor visitor) {
+		Object value = getValue(name);
+
+		if (value == null) {
+			return false;
+		}
+
+		if (! (value instanceof PackedCdt)) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Bin " + name + " is not a packed list or map");
+		}
+		((PackedCdt)value).visit(visitor);
+		return true;
+	}
+
 	/**
 	 * Get bin value as map.
 	 */
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client;
+
+import java.util.Arrays;
+
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.ParticleType;
+
+/**
+ * Reusable record writer that serializes bin operations directly into a wire format buffer.
+ * Primitive values are written without creating {@link Bin} or {@link Value} objects.
+ * Use a writer with {@link AerospikeClient#put(com.aerospike.client.policy.WritePolicy, Key, RecordWriter)},
+ * {@link AerospikeClient#operate(com.aerospike.client.policy.WritePolicy, Key, RecordWriter)} or
+ * {@link BatchWrite#BatchWrite(Key, RecordWriter)}.
+ *
+ * <pre>{@code
+ * RecordWriter writer = new RecordWriter();
+ *
+ * for (User user : users) {
+ *     writer.clear()
+ *         .put("id", user.id)
+ *         .put("name", user.name)
+ *         .add("logins", 1);
+ *     client.put(null, new Key("test", "users", user.id), writer);
+ * }
+ * }</pre>
+ *
+ * The writer's buffer is reused after {@link #clear()}. Every command copies the serialized
+ * operations into its own buffer after the message header and key. Sync commands copy before
+ * the call returns. Async commands and batch records first take a copy of the writer, because
+ * they serialize later on an event loop or with other records. Either way, the writer can be
+ * cleared and reused as soon as the call returns. Writers are not thread-safe. Use one writer
+ * per thread or event loop.
+ */
+public final class RecordWriter {
+	private byte[] buffer;
+	private int offset;
+	private int opCount;
+	private boolean hasRead;
+	private boolean hasWrite;
+
+	/**
+	 * Create writer with default initial capacity.
+	 */
+	public RecordWriter() {
+		this(256);
+	}
+
+	/**
+	 * Create writer with initial capacity in bytes. The buffer grows as needed.
+	 */
+	public RecordWriter(int capacity) {
+		this.buffer = new byte[capacity];
+	}
+
+	private RecordWriter(RecordWriter other) {
+		this.buffer = new byte[other.offset];
+		System.arraycopy(other.buffer, 0, buffer, 0, other.offset);
+		this.offset = other.offset;
+		this.opCount = other.opCount;
+		this.hasRead = other.hasRead;
+		this.hasWrite = other.hasWrite;
+	}
+
+	/**
+	 * Remove all operations. The buffer is retained for reuse.
+	 */
+	public RecordWriter clear() {
+		offset = 0;
+		opCount = 0;
+		hasRead = false;
+		hasWrite = false;
+		return this;
+	}
+
+	/**
+	 * Write integer bin.
+	 */
+	public RecordWriter put(String name, long value) {
+		return writeLong(Operation.Type.WRITE, name, value);
+	}
+
+	/**
+	 * Write double bin.
+	 */
+	public RecordWriter put(String name, double value) {
+		return writeDouble(Operation.Type.WRITE, name, value);
+	}
+
+	/**
+	 * Write boolean bin. The bin is a boolean or integer depending on {@link Value#UseBoolBin}.
+	 */
+	public RecordWriter put(String name, boolean value) {
+		int begin = writeName(Operation.Type.WRITE, name, 8);
+
+		if (Value.UseBoolBin) {
+			buffer[offset++] = (byte)(value? 1 : 0);
+			return end(begin, ParticleType.BOOL);
+		}
+		Buffer.longToBytes(value? 1L : 0L, buffer, offset);
+		offset += 8;
+		return end(begin, ParticleType.INTEGER);
+	}
+
+	/**
+	 * Write string bin. A null value deletes the bin.
+	 */
+	public RecordWriter put(String name, String value) {
+		if (value == null) {
+			return putNull(name);
+		}
+		return writeString(Operation.Type.WRITE, name, value);
+	}
+
+	/**
+	 * Write byte array bin. A null value deletes the bin.
+	 */
+	public RecordWriter put(String name, byte[] value) {
+		if (value == null) {
+			return putNull(name);
+		}
+
+		int begin = writeName(Operation.Type.WRITE, name, value.length);
+		System.arraycopy(value, 0, buffer, offset, value.length);
+		offset += value.length;
+		return end(begin, ParticleType.BLOB);
+	}
+
+	/**
+	 * Delete bin.
+	 */
+	public RecordWriter putNull(String name) {
+		int begin = writeName(Operation.Type.WRITE, name, 0);
+		return end(begin, ParticleType.NULL);
+	}
+
+	/**
+	 * Add integer to existing bin value.
+	 */
+	public RecordWriter add(String name, long value) {
+		return writeLong(Operation.Type.ADD, name, value);
+	}
+
+	/**
+	 * Add double to existing bin value.
+	 */
+	public RecordWriter add(String name, double value) {
+		return writeDouble(Operation.Type.ADD, name, value);
+	}
+
+	/**
+	 * Append string to existing bin value.
+	 */
+	public RecordWriter append(String name, String value) {
+		return writeString(Operation.Type.APPEND, name, value);
+	}
+
+	/**
+	 * Prepend string to existing bin value.
+	 */
+	public RecordWriter prepend(String name, String value) {
+		return writeString(Operation.Type.PREPEND, name, value);
+	}
+
+	/**
+	 * Read bin. Read operations are only allowed in operate and batch write commands.
+	 */
+	public RecordWriter get(String name) {
+		int begin = writeName(Operation.Type.READ, name, 0);
+		return end(begin, ParticleType.NULL);
+	}
+
+	/**
+	 * Return immutable copy of the writer sized to its operations.
+	 */
+	public RecordWriter copy() {
+		return new RecordWriter(this);
+	}
+
+	/**
+	 * Return number of operations.
+	 */
+	public int getOpCount() {
+		return opCount;
+	}
+
+	/**
+	 * Does writer contain read operations.
+	 */
+	public boolean hasRead() {
+		return hasRead;
+	}
+
+	/**
+	 * Does writer contain write operations.
+	 */
+	public boolean hasWrite() {
+		return hasWrite;
+	}
+
+	/**
+	 * Return wire size of operations. For internal use only.
+	 */
+	public int size() {
+		return offset;
+	}
+
+	/**
+	 * Return true if both writers contain the same serialized operations. For internal use only.
+	 */
+	public boolean contentEquals(RecordWriter other) {
+		return this == other || Arrays.equals(buffer, 0, offset, other.buffer, 0, other.offset);
+	}
+
+	/**
+	 * Copy operations to buffer and return the new offset. Commands copy because the key
+	 * and header precede the operations and the writer is built before the command exists.
+	 * The copy is a single array copy of the serialized operations. For internal use only.
+	 */
+	public int write(byte[] buf, int offset) {
+		System.arraycopy(buffer, 0, buf, offset, this.offset);
+		return offset + this.offset;
+	}
+
+	private RecordWriter writeLong(Operation.Type type, String name, long value) {
+		int begin = writeName(type, name, 8);
+		Buffer.longToBytes(value, buffer, offset);
+		offset += 8;
+		return end(begin, ParticleType.INTEGER);
+	}
+
+	private RecordWriter writeDouble(Operation.Type type, String name, double value) {
+		int begin = writeName(type, name, 8);
+		Buffer.doubleToBytes(value, buffer, offset);
+		offset += 8;
+		return end(begin, ParticleType.DOUBLE);
+	}
+
+	private RecordWriter writeString(Operation.Type type, String name, String value) {
+		// Reserve the maximum UTF-8 length so the string is encoded in one pass.
+		int begin = writeName(type, name, value.length() * 3);
+		offset += Buffer.stringToUtf8(value, buffer, offset);
+		return end(begin, ParticleType.STRING);
+	}
+
+	/**
+	 * Ensure capacity for the operation and write the bin name. Return operation offset.
+	 */
+	private int writeName(Operation.Type type, String name, int valueCapacity) {
+		ensureCapacity(Command.OPERATION_HEADER_SIZE + name.length() * 3 + valueCapacity);
+
+		int begin = offset;
+		offset += Command.OPERATION_HEADER_SIZE;
+
+		int nameLength = Buffer.stringToUtf8(name, buffer, offset);
+		offset += nameLength;
+		buffer[begin + 4] = (byte)type.protocolType;
+		buffer[begin + 6] = (byte)0;
+		buffer[begin + 7] = (byte)nameLength;
+
+		if (type.isWrite) {
+			hasWrite = true;
+		}
+		else {
+			hasRead = true;
+		}
+		return begin;
+	}
+
+	/**
+	 * Write operation size and particle type after the value is encoded.
+	 */
+	private RecordWriter end(int begin, int particleType) {
+		Buffer.intToBytes(offset - begin - 4, buffer, begin);
+		buffer[begin + 5] = (byte)particleType;
+		opCount++;
+		return this;
+	}
+
+	private void ensureCapacity(int size) {
+		int required = offset + size;
+
+		if (required > buffer.length) {
+			int capacity = buffer.length * 2;
+
+			if (capacity < required) {
+				capacity = required;
+			}
+
+			byte[] buf = new byte[capacity];
+			System.arraycopy(buffer, 0, buf, 0, offset);
+			buffer = buf;
+		}
+	}
+}
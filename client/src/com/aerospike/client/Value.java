@@ -1425,7 +1425,6 @@ public abstract class Value {
 	 */
 	public static final class ValueArray extends Value {
 		private final Value[] array;
-		private byte[] bytes;
 
 		public ValueArray(Value[] array) {
 			this.array = array;
@@ -1433,14 +1432,12 @@ public abstract class Value {
 
 		@Override
 		public int estimateSize() throws AerospikeException {
-			bytes = Packer.pack(array);
-			return bytes.length;
+			return Packer.estimateSize(this);
 		}
 
 		@Override
 		public int write(byte[] buffer, int offset) {
-			System.arraycopy(bytes, 0, buffer, offset, bytes.length);
-			return bytes.length;
+			return Packer.pack(this, buffer, offset);
 		}
 
 		@Override
@@ -1491,7 +1488,6 @@ public abstract class Value {
 	 */
 	public static final class ListValue extends Value {
 		private final List<?> list;
-		private byte[] bytes;
 
 		public ListValue(List<?> list) {
 			this.list = list;
@@ -1499,14 +1495,12 @@ public abstract class Value {
 
 		@Override
 		public int estimateSize() throws AerospikeException {
-			bytes = Packer.pack(list);
-			return bytes.length;
+			return Packer.estimateSize(this);
 		}
 
 		@Override
 		public int write(byte[] buffer, int offset) {
-			System.arraycopy(bytes, 0, buffer, offset, bytes.length);
-			return bytes.length;
+			return Packer.pack(this, buffer, offset);
 		}
 
 		@Override
@@ -1558,7 +1552,6 @@ public abstract class Value {
 	public static final class MapValue extends Value {
 		private final Map<?,?> map;
 		private final MapOrder order;
-		private byte[] bytes;
 
 		public MapValue(Map<?,?> map)  {
 			this.map = map;
@@ -1576,14 +1569,12 @@ public abstract class Value {
 
 		@Override
 		public int estimateSize() throws AerospikeException {
-			bytes = Packer.pack(map, order);
-			return bytes.length;
+			return Packer.estimateSize(this);
 		}
 
 		@Override
 		public int write(byte[] buffer, int offset) {
-			System.arraycopy(bytes, 0, buffer, offset, bytes.length);
-			return bytes.length;
+			return Packer.pack(this, buffer, offset);
 		}
 
 		@Override
@@ -1638,7 +1629,6 @@ public abstract class Value {
 	 */
 	public static final class SortedMapValue extends Value {
 		private final List<? extends Entry<?,?>> list;
-		private byte[] bytes;
 		private final MapOrder order;
 
 		public SortedMapValue(List<? extends Entry<?,?>> list, MapOrder order)  {
@@ -1648,14 +1638,12 @@ public abstract class Value {
 
 		@Override
 		public int estimateSize() throws AerospikeException {
-			bytes = Packer.pack(list, order);
-			return bytes.length;
+			return Packer.estimateSize(this);
 		}
 
 		@Override
 		public int write(byte[] buffer, int offset) {
-			System.arraycopy(bytes, 0, buffer, offset, bytes.length);
-			return bytes.length;
+			return Packer.pack(this, buffer, offset);
 		}
 
 		@Override
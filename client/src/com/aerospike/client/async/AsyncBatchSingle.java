@@ -541,7 +541,12 @@ public final class AsyncBatchSingle {
 
 		@Override
 		protected void writeBuffer() {
-			setOperate(policy, attr, record.key, record.ops);
+			if (record.writer != null) {
+				setOperate(policy, attr, record.key, record.writer);
+			}
+			else {
+				setOperate(policy, attr, record.key, record.ops);
+			}
 		}
 
 		@Override
@@ -100,6 +100,14 @@ public abstract class AsyncCommand extends Command {
 		}
 	}
 
+	@Override
+	protected void growBuffer(int capacity) {
+		byte[] buffer = getBuffer(capacity);
+		System.arraycopy(dataBuffer, 0, buffer, 0, dataOffset);
+		putBuffer(dataBuffer);
+		dataBuffer = buffer;
+	}
+
 	void putBuffer() {
 		if (dataBuffer != null) {
 			putBuffer(dataBuffer);
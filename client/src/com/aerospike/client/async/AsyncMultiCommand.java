@@ -35,6 +35,11 @@ public abstract class AsyncMultiCommand extends AsyncCommand {
 	int opCount;
 	protected final boolean isOperation;
 
+	// Uncompressed groups are parsed as bytes are received. While a group is received,
+	// dataOffset is the number of group bytes received and dataBuffer holds the unparsed
+	// bytes of the group, starting at a record boundary and ending at windowEnd.
+	private int windowEnd;
+
 	/**
 	 * Batch constructor.
 	 */
@@ -66,34 +71,140 @@ public abstract class AsyncMultiCommand extends AsyncCommand {
 	@Override
 	final boolean parseResult() {
 		while (dataOffset < receiveSize) {
-			dataOffset += 3;
-			info3 = dataBuffer[dataOffset] & 0xFF;
-			dataOffset += 2;
-			resultCode = dataBuffer[dataOffset] & 0xFF;
-
-			// If this is the end marker of the response, do not proceed further.
-			if ((info3 & Command.INFO3_LAST) != 0) {
-				if (resultCode != 0) {
-					// The server returned a fatal error.
-					throw new AerospikeException(resultCode);
-				}
+			if (parseNext()) {
 				return true;
 			}
+		}
+		return false;
+	}
 
-			dataOffset++;
-			generation = Buffer.bytesToInt(dataBuffer, dataOffset);
-			dataOffset += 4;
-			expiration = Buffer.bytesToInt(dataBuffer, dataOffset);
-			dataOffset += 4;
-			batchIndex = Buffer.bytesToInt(dataBuffer, dataOffset);
-			dataOffset += 4;
-			fieldCount = Buffer.bytesToShort(dataBuffer, dataOffset);
-			dataOffset += 2;
-			opCount = Buffer.bytesToShort(dataBuffer, dataOffset);
-			dataOffset += 2;
-
-			parseRow();
+	/**
+	 * Start receiving an uncompressed group. The receive buffer is a fixed size
+	 * chunk that is reused for the whole group.
+	 */
+	final void beginGroup() {
+		if (dataBuffer == null) {
+			initBuffer();
 		}
+		dataOffset = 0;
+		windowEnd = 0;
+	}
+
+	/**
+	 * Return dataBuffer offset where received group bytes are copied.
+	 */
+	final int receiveOffset() {
+		return windowEnd;
+	}
+
+	/**
+	 * Return number of group bytes that can be copied at the receive offset.
+	 * The buffer only grows when a single partial record fills the whole buffer.
+	 */
+	final int receiveSpace() {
+		int space = dataBuffer.length - windowEnd;
+
+		if (space == 0) {
+			byte[] buffer = getBuffer(dataBuffer.length * 2);
+			System.arraycopy(dataBuffer, 0, buffer, 0, windowEnd);
+			putBuffer(dataBuffer);
+			dataBuffer = buffer;
+			space = dataBuffer.length - windowEnd;
+		}
+		return space;
+	}
+
+	/**
+	 * Parse all complete records after size bytes were copied at the receive offset.
+	 * The unparsed remainder is moved to the start of the buffer. Return true if the
+	 * end marker was parsed.
+	 */
+	final boolean parseReceived(int size) {
+		int received = dataOffset + size;
+
+		windowEnd += size;
+		dataOffset = 0;
+
+		while (isRecordComplete()) {
+			if (parseNext()) {
+				return true;
+			}
+		}
+
+		int remaining = windowEnd - dataOffset;
+
+		if (remaining > 0 && dataOffset > 0) {
+			System.arraycopy(dataBuffer, dataOffset, dataBuffer, 0, remaining);
+		}
+		windowEnd = remaining;
+		dataOffset = received;
+		return false;
+	}
+
+	/**
+	 * Complete uncompressed group after all group bytes were received and parsed.
+	 */
+	final void endGroup() {
+		if (windowEnd != 0) {
+			throw new AerospikeException.Parse("Incomplete record at end of group: " + windowEnd);
+		}
+		dataOffset = 0;
+	}
+
+	/**
+	 * Does the window contain the full record at dataOffset.
+	 */
+	private boolean isRecordComplete() {
+		int offset = dataOffset;
+
+		if (windowEnd - offset < Command.MSG_REMAINING_HEADER_SIZE) {
+			return false;
+		}
+
+		int count = Buffer.bytesToShort(dataBuffer, offset + 18) + Buffer.bytesToShort(dataBuffer, offset + 20);
+		offset += Command.MSG_REMAINING_HEADER_SIZE;
+
+		// Fields and operations both start with a four byte size.
+		for (int i = 0; i < count; i++) {
+			if (windowEnd - offset < 4) {
+				return false;
+			}
+			offset += 4 + Buffer.bytesToInt(dataBuffer, offset);
+		}
+		return offset <= windowEnd;
+	}
+
+	/**
+	 * Parse record at dataOffset. Return true if the record is the end marker.
+	 */
+	private boolean parseNext() {
+		dataOffset += 3;
+		info3 = dataBuffer[dataOffset] & 0xFF;
+		dataOffset += 2;
+		resultCode = dataBuffer[dataOffset] & 0xFF;
+
+		// If this is the end marker of the response, do not proceed further.
+		if ((info3 & Command.INFO3_LAST) != 0) {
+			if (resultCode != 0) {
+				// The server returned a fatal error.
+				throw new AerospikeException(resultCode);
+			}
+			return true;
+		}
+
+		dataOffset++;
+		generation = Buffer.bytesToInt(dataBuffer, dataOffset);
+		dataOffset += 4;
+		expiration = Buffer.bytesToInt(dataBuffer, dataOffset);
+		dataOffset += 4;
+		batchIndex = Buffer.bytesToInt(dataBuffer, dataOffset);
+		dataOffset += 4;
+		fieldCount = Buffer.bytesToShort(dataBuffer, dataOffset);
+		dataOffset += 2;
+		opCount = Buffer.bytesToShort(dataBuffer, dataOffset);
+		dataOffset += 2;
+
+		parseRow();
 		return false;
 	}
 
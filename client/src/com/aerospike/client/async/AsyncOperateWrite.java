@@ -47,7 +47,7 @@ public final class AsyncOperateWrite extends AsyncWriteBase {
 		rp.parseFields(policy.txn, key, true);
 
 		if (rp.resultCode == ResultCode.OK) {
-			record = rp.parseRecord(true);
+			record = rp.parseRecord(true, policy.rawCdt);
 			return true;
 		}
 
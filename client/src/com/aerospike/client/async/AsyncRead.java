@@ -56,7 +56,7 @@ public class AsyncRead extends AsyncReadBase {
 		rp.parseFields(policy.txn, key, false);
 
 		if (rp.resultCode == ResultCode.OK) {
-			this.record = rp.parseRecord(isOperation);
+			this.record = rp.parseRecord(isOperation, policy.rawCdt);
 			return true;
 		}
 
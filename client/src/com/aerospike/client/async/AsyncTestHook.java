@@ -0,0 +1,229 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.async;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Record;
+import com.aerospike.client.async.HashedWheelTimer.HashedWheelTimeout;
+import com.aerospike.client.metrics.LatencyType;
+import com.aerospike.client.policy.Policy;
+
+/**
+ * Access to package-private async internals for unit tests.
+ * For internal use only.
+ */
+public final class AsyncTestHook {
+	/**
+	 * Return number of idle wrappers in the event loop's command pool.
+	 * Must be called in the event loop thread.
+	 */
+	public static int getCommandPoolSize(NioEventLoop eventLoop) {
+		return eventLoop.commandPool.size();
+	}
+
+	/**
+	 * Return number of wrappers the event loop's command pool allocated.
+	 * Must be called in the event loop thread.
+	 */
+	public static long getCommandAllocCount(NioEventLoop eventLoop) {
+		return eventLoop.commandPool.getAllocCount();
+	}
+
+	/**
+	 * Return number of wrappers the event loop's command pool reported as leaked.
+	 * Must be called in the event loop thread.
+	 */
+	public static long getCommandLeakCount(NioEventLoop eventLoop) {
+		return eventLoop.commandPool.getLeakCount();
+	}
+
+	/**
+	 * Acquire wrapper from the event loop's command pool without starting a command.
+	 * Must be called in the event loop thread.
+	 */
+	public static NioCommand acquireCommand(NioEventLoop eventLoop) {
+		return eventLoop.commandPool.acquire();
+	}
+
+	/**
+	 * Return wrapper to its event loop's command pool as a completed command would.
+	 * Must be called in the event loop thread.
+	 */
+	public static void recycleCommand(NioCommand command) {
+		command.recycle();
+	}
+
+	/**
+	 * Return number of scheduled tasks on the event loop.
+	 * Must be called in the event loop thread.
+	 */
+	public static int getScheduleQueueSize(NioEventLoop eventLoop) {
+		return eventLoop.scheduleQueue.size();
+	}
+
+	/**
+	 * Create timer timeout for the given task.
+	 */
+	public static HashedWheelTimeout createTimeout(TimerTask task) {
+		return new HashedWheelTimeout(task);
+	}
+
+	/**
+	 * Add timeout to the event loop's timer.
+	 * Must be called in the event loop thread.
+	 */
+	public static void addTimeout(NioEventLoop eventLoop, HashedWheelTimeout timeout, long deadline) {
+		eventLoop.timer.addTimeout(timeout, deadline);
+	}
+
+	/**
+	 * Entry stored on a {@link Queue}.
+	 */
+	public interface QueueEntry {
+		/**
+		 * Has entry expired.
+		 */
+		boolean isExpired(long currentTime);
+	}
+
+	/**
+	 * Delay queue that is not attached to an event loop.
+	 */
+	public static final class Queue {
+		private final DelayQueue queue;
+
+		public Queue(EventPolicy policy, int[] pending) {
+			this.queue = new DelayQueue(policy, pending);
+		}
+
+		public void addLast(QueueEntry entry, int priority) {
+			queue.addLast(new Entry(entry), priority);
+		}
+
+		public QueueEntry pollFirst() {
+			Entry entry = (Entry)queue.pollFirst();
+			return (entry != null)? entry.entry : null;
+		}
+
+		public int removeExpired(long currentTime) {
+			return queue.removeExpired(currentTime);
+		}
+
+		public long estimateWait(int priority) {
+			return queue.estimateWait(priority);
+		}
+
+		public void addWaitTime(int priority, long currentTime, long queueTime) {
+			queue.addWaitTime(priority, currentTime, queueTime);
+		}
+
+		public int size() {
+			return queue.size();
+		}
+	}
+
+	private static final class Entry implements DelayQueue.Entry {
+		private final QueueEntry entry;
+
+		private Entry(QueueEntry entry) {
+			this.entry = entry;
+		}
+
+		@Override
+		public boolean isExpired(long currentTime) {
+			return entry.isExpired(currentTime);
+		}
+
+		@Override
+		public void expire() {
+		}
+
+		@Override
+		public void run() {
+		}
+	}
+
+	/**
+	 * Multi-record command that parses groups copied into its buffer by the caller
+	 * instead of a connection. Each record must have one key field.
+	 */
+	public static final class MultiParser extends AsyncMultiCommand {
+		private final List<Record> records = new ArrayList<Record>();
+
+		public MultiParser() {
+			super(null, new Policy(), 0, 0);
+			bufferQueue = new ArrayDeque<byte[]>();
+		}
+
+		/**
+		 * Return parsed records.
+		 */
+		public List<Record> getRecords() {
+			return records;
+		}
+
+		public void startGroup() {
+			beginGroup();
+		}
+
+		public int getReceiveOffset() {
+			return receiveOffset();
+		}
+
+		public int getReceiveSpace() {
+			return receiveSpace();
+		}
+
+		/**
+		 * Parse size bytes copied at the receive offset. Return true if the end marker was parsed.
+		 */
+		public boolean parse(int size) {
+			return parseReceived(size);
+		}
+
+		public void finishGroup() {
+			endGroup();
+		}
+
+		@Override
+		protected void parseRow() {
+			skipKey(fieldCount);
+			records.add(parseRecord());
+		}
+
+		@Override
+		protected LatencyType getLatencyType() {
+			return LatencyType.QUERY;
+		}
+
+		@Override
+		protected void writeBuffer() {
+		}
+
+		@Override
+		protected void onSuccess() {
+		}
+
+		@Override
+		protected void onFailure(AerospikeException ae) {
+		}
+	}
+}
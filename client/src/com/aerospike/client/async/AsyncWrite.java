@@ -20,6 +20,7 @@ import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
 import com.aerospike.client.Operation;
+import com.aerospike.client.RecordWriter;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.cluster.Cluster;
 import com.aerospike.client.listener.WriteListener;
@@ -29,6 +30,7 @@ public final class AsyncWrite extends AsyncWriteBase {
 	private final WriteListener listener;
 	private final Bin[] bins;
 	private final Operation.Type operation;
+	private final RecordWriter writer;
 
 	public AsyncWrite(
 		Cluster cluster,
@@ -42,11 +44,31 @@ public final class AsyncWrite extends AsyncWriteBase {
 		this.listener = listener;
 		this.bins = bins;
 		this.operation = operation;
+		this.writer = null;
+	}
+
+	public AsyncWrite(
+		Cluster cluster,
+		WriteListener listener,
+		WritePolicy writePolicy,
+		Key key,
+		RecordWriter writer
+	) {
+		super(cluster, writePolicy, key);
+		this.listener = listener;
+		this.bins = null;
+		this.operation = null;
+		this.writer = writer;
 	}
 
 	@Override
 	protected void writeBuffer() {
-		setWrite(writePolicy, operation, key, bins);
+		if (writer != null) {
+			setWrite(writePolicy, key, writer);
+		}
+		else {
+			setWrite(writePolicy, operation, key, bins);
+		}
 	}
 
 	@Override
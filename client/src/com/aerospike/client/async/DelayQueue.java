@@ -0,0 +1,224 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.async;
+
+import java.util.ArrayDeque;
+
+/**
+ * Event loop delay queue with a FIFO lane for each command priority class.
+ * Lanes are dequeued with smooth weighted round-robin. A lane is skipped while
+ * its priority class has reached its in-process limit. An empty lane's credit is
+ * reset, so a lane that was idle does not get a burst when commands arrive. This class is only
+ * accessed from the event loop thread.
+ */
+final class DelayQueue {
+	/**
+	 * Command stored on the delay queue.
+	 */
+	interface Entry extends Runnable {
+		/**
+		 * Has command already completed or has its total deadline passed.
+		 */
+		boolean isExpired(long currentTime);
+
+		/**
+		 * Fail command with a timeout if it has not already completed.
+		 * Called after the command has been removed from the queue.
+		 */
+		void expire();
+	}
+
+	private final ArrayDeque<Entry>[] lanes;
+	private final int[] weights;
+	private final int[] limits;
+	private final int[] credits;
+	private final int[] pending;
+	private final long[] waitCounts;
+	private final long[] waitTimes;
+	private long drainTime;
+	private long lastDrain;
+	private int size;
+
+	@SuppressWarnings("unchecked")
+	DelayQueue(EventPolicy policy, int[] pending) {
+		int count = EventLoopBase.PRIORITY_COUNT;
+
+		this.lanes = (ArrayDeque<Entry>[])new ArrayDeque<?>[count];
+		this.weights = new int[] {policy.interactiveWeight, policy.batchWeight, policy.backgroundWeight};
+		this.limits = new int[] {
+			Integer.MAX_VALUE,
+			(policy.batchMaxInProcess > 0)? policy.batchMaxInProcess : Integer.MAX_VALUE,
+			(policy.backgroundMaxInProcess > 0)? policy.backgroundMaxInProcess : Integer.MAX_VALUE
+		};
+		this.credits = new int[count];
+		this.pending = pending;
+		this.waitCounts = new long[count];
+		this.waitTimes = new long[count];
+
+		for (int i = 0; i < count; i++) {
+			lanes[i] = new ArrayDeque<Entry>(policy.queueInitialCapacity);
+		}
+	}
+
+	/**
+	 * Append command to the lane for its priority class.
+	 */
+	void addLast(Entry command, int priority) {
+		lanes[priority].addLast(command);
+		size++;
+	}
+
+	/**
+	 * Remove next command using the lane weights. Return null if all lanes are
+	 * empty or at their in-process limit.
+	 */
+	Entry pollFirst() {
+		int best = -1;
+		int idle = -1;
+		int total = 0;
+
+		for (int i = 0; i < lanes.length; i++) {
+			if (lanes[i].isEmpty()) {
+				// Idle lanes do not bank credit for a later burst.
+				credits[i] = 0;
+				continue;
+			}
+
+			if (pending[i] >= limits[i]) {
+				continue;
+			}
+
+			int weight = weights[i];
+
+			if (weight <= 0) {
+				// Zero weight lanes only run when no weighted lane is ready.
+				if (idle < 0) {
+					idle = i;
+				}
+				continue;
+			}
+			credits[i] += weight;
+			total += weight;
+
+			if (best < 0 || credits[i] > credits[best]) {
+				best = i;
+			}
+		}
+
+		if (best >= 0) {
+			credits[best] -= total;
+		}
+		else if (idle >= 0) {
+			best = idle;
+		}
+		else {
+			return null;
+		}
+		size--;
+		return lanes[best].pollFirst();
+	}
+
+	/**
+	 * Remove expired commands from the head of each lane and fail them with a timeout.
+	 * Return number of commands removed.
+	 */
+	int removeExpired(long currentTime) {
+		int count = 0;
+
+		for (ArrayDeque<Entry> lane : lanes) {
+			Entry entry;
+
+			while ((entry = lane.peekFirst()) != null && entry.isExpired(currentTime)) {
+				// Remove before notifying user because listener may reenter the queue.
+				lane.pollFirst();
+				size--;
+				count++;
+				entry.expire();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Estimate nanoseconds a new command of the given priority class will wait in the queue.
+	 * The commands ahead of it are the commands in its own lane. While its lane is not empty,
+	 * the lane receives its weight's share of dequeues among the non-empty weighted lanes, so
+	 * each command ahead costs the average dequeue interval divided by that share. The estimate
+	 * never exceeds the time to drain the whole queue. Zero weight lanes wait for the whole
+	 * queue. Return zero until an interval has been measured.
+	 */
+	long estimateWait(int priority) {
+		int depth = lanes[priority].size();
+		int weight = weights[priority];
+
+		if (depth == 0) {
+			return 0;
+		}
+
+		if (weight <= 0) {
+			return size * drainTime;
+		}
+
+		int total = weight;
+
+		for (int i = 0; i < lanes.length; i++) {
+			if (i != priority && weights[i] > 0 && ! lanes[i].isEmpty()) {
+				total += weights[i];
+			}
+		}
+
+		long dequeues = (long)depth * total / weight;
+		return Math.min(dequeues, size) * drainTime;
+	}
+
+	/**
+	 * Has priority class reached its in-process limit.
+	 */
+	boolean isFull(int priority) {
+		return pending[priority] >= limits[priority];
+	}
+
+	/**
+	 * Record time that a command waited in the queue and update drain rate.
+	 */
+	void addWaitTime(int priority, long currentTime, long queueTime) {
+		waitCounts[priority]++;
+		waitTimes[priority] += currentTime - queueTime;
+
+		if (lastDrain != 0) {
+			// Exponential moving average with 1/8 weight for new sample.
+			drainTime += ((currentTime - lastDrain) - drainTime) >> 3;
+		}
+		lastDrain = (size > 0)? currentTime : 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int size(int priority) {
+		return lanes[priority].size();
+	}
+
+	long getWaitCount(int priority) {
+		return waitCounts[priority];
+	}
+
+	long getWaitTime(int priority) {
+		return waitTimes[priority];
+	}
+}
@@ -20,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 
 import com.aerospike.client.cluster.Cluster;
 import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.CommandPriority;
 
 /**
  * Aerospike event loop interface.
@@ -48,7 +49,8 @@ public interface EventLoop {
 	public void schedule(Runnable command, long delay, TimeUnit unit);
 
 	/**
-	 * Schedule execution with a reusable ScheduleTask.
+	 * Schedule execution with a reusable ScheduleTask. If the task is already scheduled,
+	 * it only runs at the new delay.
 	 */
 	public void schedule(ScheduleTask task, long delay, TimeUnit unit);
 
@@ -81,6 +83,24 @@ public interface EventLoop {
 	 */
 	public int getQueueSize();
 
+	/**
+	 * Return the approximate number of commands stored on this event loop's
+	 * delay queue lane for the given priority class.
+	 */
+	public int getQueueSize(CommandPriority priority);
+
+	/**
+	 * Return the approximate number of commands of the given priority class that
+	 * have been started from this event loop's delay queue.
+	 */
+	public long getQueueWaitCount(CommandPriority priority);
+
+	/**
+	 * Return the approximate total time in nanoseconds that commands of the given
+	 * priority class waited in this event loop's delay queue before starting.
+	 */
+	public long getQueueWaitTime(CommandPriority priority);
+
 	/**
 	 * Return event loop array index.
 	 */
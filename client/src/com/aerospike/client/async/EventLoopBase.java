@@ -20,18 +20,22 @@ import java.util.ArrayDeque;
 import java.util.concurrent.TimeUnit;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.policy.CommandPriority;
 
 /**
  * Common methods for Netty and NIO event loop.
  */
 public abstract class EventLoopBase implements EventLoop {
+	static final int PRIORITY_COUNT = CommandPriority.values().length;
 
-	final ArrayDeque<Runnable> delayQueue;
+	final DelayQueue delayQueue;
 	final ArrayDeque<byte[]> bufferQueue;
 	final HashedWheelTimer timer;
 	final int index;
 	final int maxCommandsInProcess;
 	final int maxCommandsInQueue;
+	final boolean deadlineAdmission;
+	final int[] priorityPending;
 	int pending;
 	boolean usingDelayQueue;
 
@@ -42,12 +46,16 @@ public abstract class EventLoopBase implements EventLoop {
 		if (policy.maxCommandsInProcess > 0 && policy.maxCommandsInProcess < 5) {
 			throw new AerospikeException("maxCommandsInProcess " + policy.maxCommandsInProcess + " must be 0 or >= 5");
 		}
-		delayQueue = (policy.maxCommandsInProcess > 0) ? new ArrayDeque<Runnable>(policy.queueInitialCapacity) : null;
+		priorityPending = new int[PRIORITY_COUNT];
+		delayQueue = (policy.maxCommandsInProcess > 0) ? new DelayQueue(policy, priorityPending) : null;
 		bufferQueue = new ArrayDeque<byte[]>(policy.commandsPerEventLoop);
-		timer = new HashedWheelTimer(this, policy.minTimeout, TimeUnit.MILLISECONDS, policy.ticksPerWheel);
+		timer = (policy.timerTickTime > 0) ?
+			new HashedWheelTimer(this, policy.timerTickTime, TimeUnit.MICROSECONDS, policy.ticksPerWheel) :
+			new HashedWheelTimer(this, policy.minTimeout, TimeUnit.MILLISECONDS, policy.ticksPerWheel);
 		this.index = index;
 		this.maxCommandsInProcess = policy.maxCommandsInProcess;
 		this.maxCommandsInQueue = policy.maxCommandsInQueue;
+		this.deadlineAdmission = policy.deadlineAdmission;
 	}
 
 	/**
@@ -70,6 +78,33 @@ public abstract class EventLoopBase implements EventLoop {
 		return (delayQueue != null) ? delayQueue.size() : 0;
 	}
 
+	/**
+	 * Return the approximate number of commands stored on this event loop's
+	 * delay queue lane for the given priority class.
+	 */
+	@Override
+	public int getQueueSize(CommandPriority priority) {
+		return (delayQueue != null) ? delayQueue.size(priority.ordinal()) : 0;
+	}
+
+	/**
+	 * Return the approximate number of commands of the given priority class that
+	 * have been started from this event loop's delay queue.
+	 */
+	@Override
+	public long getQueueWaitCount(CommandPriority priority) {
+		return (delayQueue != null) ? delayQueue.getWaitCount(priority.ordinal()) : 0;
+	}
+
+	/**
+	 * Return the approximate total time in nanoseconds that commands of the given
+	 * priority class waited in this event loop's delay queue before starting.
+	 */
+	@Override
+	public long getQueueWaitTime(CommandPriority priority) {
+		return (delayQueue != null) ? delayQueue.getWaitTime(priority.ordinal()) : 0;
+	}
+
 	/**
 	 * Return event loop array index.
 	 */
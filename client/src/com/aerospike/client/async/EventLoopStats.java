@@ -16,6 +16,8 @@
  */
 package com.aerospike.client.async;
 
+import com.aerospike.client.policy.CommandPriority;
+
 /**
  * Event loop statistics.
  */
@@ -32,12 +34,51 @@ public final class EventLoopStats {
 	 */
 	public final int queueSize;
 
+	/**
+	 * Approximate number of commands stored on each delay queue priority lane.
+	 * Indexed by {@link CommandPriority#ordinal()}.
+	 */
+	public final int[] priorityQueueSizes;
+
+	/**
+	 * Number of commands started from each delay queue priority lane since the
+	 * event loop was created. Indexed by {@link CommandPriority#ordinal()}.
+	 */
+	public final long[] priorityWaitCounts;
+
+	/**
+	 * Total time in microseconds that commands waited in each delay queue priority
+	 * lane since the event loop was created. Indexed by {@link CommandPriority#ordinal()}.
+	 */
+	public final long[] priorityWaitMicros;
+
 	/**
 	 * Event loop statistics constructor.
 	 */
 	public EventLoopStats(EventLoop eventLoop) {
 		this.processSize = eventLoop.getProcessSize();
 		this.queueSize = eventLoop.getQueueSize();
+
+		CommandPriority[] priorities = CommandPriority.values();
+
+		this.priorityQueueSizes = new int[priorities.length];
+		this.priorityWaitCounts = new long[priorities.length];
+		this.priorityWaitMicros = new long[priorities.length];
+
+		for (CommandPriority priority : priorities) {
+			int i = priority.ordinal();
+			priorityQueueSizes[i] = eventLoop.getQueueSize(priority);
+			priorityWaitCounts[i] = eventLoop.getQueueWaitCount(priority);
+			priorityWaitMicros[i] = eventLoop.getQueueWaitTime(priority) / 1000;
+		}
+	}
+
+	/**
+	 * Return average delay queue wait time in microseconds for the priority class.
+	 */
+	public long getAverageWaitMicros(CommandPriority priority) {
+		long count = priorityWaitCounts[priority.ordinal()];
+		return (count > 0)? priorityWaitMicros[priority.ordinal()] / count : 0;
 	}
 
 	/**
@@ -63,25 +63,110 @@ public final class EventPolicy {
 	 */
 	public int queueInitialCapacity = 256;
 
+	/**
+	 * Delay queue dequeue weight for {@link com.aerospike.client.policy.CommandPriority#INTERACTIVE}
+	 * commands. When multiple priority lanes have waiting commands, commands are dequeued in
+	 * proportion to the lane weights. A lane with weight zero is only dequeued when the other
+	 * lanes are empty.
+	 * <p>
+	 * Default: 8
+	 */
+	public int interactiveWeight = 8;
+
+	/**
+	 * Delay queue dequeue weight for {@link com.aerospike.client.policy.CommandPriority#BATCH}
+	 * commands.
+	 * <p>
+	 * Default: 2
+	 */
+	public int batchWeight = 2;
+
+	/**
+	 * Delay queue dequeue weight for {@link com.aerospike.client.policy.CommandPriority#BACKGROUND}
+	 * commands.
+	 * <p>
+	 * Default: 1
+	 */
+	public int backgroundWeight = 1;
+
+	/**
+	 * Maximum number of {@link com.aerospike.client.policy.CommandPriority#BATCH} commands that can
+	 * be processed in each event loop at any point in time. Batch commands that exceed this limit
+	 * wait in the delay queue even if {@link #maxCommandsInProcess} has not been reached. This
+	 * reserves capacity for the other priority classes.
+	 * <p>
+	 * Default: 0 (limited by maxCommandsInProcess only)
+	 */
+	public int batchMaxInProcess;
+
+	/**
+	 * Maximum number of {@link com.aerospike.client.policy.CommandPriority#BACKGROUND} commands that
+	 * can be processed in each event loop at any point in time.
+	 * <p>
+	 * Default: 0 (limited by maxCommandsInProcess only)
+	 */
+	public int backgroundMaxInProcess;
+
+	/**
+	 * Reject async commands up front when they would be placed on the delay queue and the
+	 * estimated queue wait exceeds the command's remaining totalTimeout. The wait is estimated
+	 * from the depth of the command's priority lane, the lane's share of the dequeue weights and
+	 * the recent rate that commands are started from the queue. A backlog of lower priority
+	 * commands does not cause higher priority commands to be rejected.
+	 * Rejected commands fail immediately with a client side
+	 * {@link com.aerospike.client.AerospikeException.Timeout} instead of occupying the queue
+	 * and then timing out.
+	 * <p>
+	 * Commands at the head of the delay queue whose totalTimeout has expired are always
+	 * removed in bulk before new commands are started, regardless of this setting.
+	 * <p>
+	 * Default: false
+	 */
+	public boolean deadlineAdmission;
+
 	/**
 	 * Minimum command timeout in milliseconds that will be specified for this event loop group.
 	 * If command timeouts are less than minTimeout, the actual command timeout will be minTimeout.
 	 * The absolute minimum timeout value is 5ms.
 	 * <p>
-	 * minTimeout is used to specify the tick duration for HashedWheelTimer in each event loop.
-	 * minTimeout is also used to specify the direct NIO event loop selector timeout.
+	 * minTimeout is used to specify the tick duration for HashedWheelTimer in each event loop
+	 * when {@link #timerTickTime} is zero. minTimeout is also used to specify the maximum direct
+	 * NIO event loop selector timeout.
 	 * <p>
 	 * Default: 100ms
 	 */
 	public int minTimeout = 100;
 
 	/**
-	 * The number of ticks per wheel for HashedWheelTimer in each event loop.
+	 * HashedWheelTimer tick duration in microseconds. Command timeouts are accurate to one tick.
+	 * Small values (for example 500) support sub-millisecond socket timeouts. The timer only
+	 * wakes the event loop for ticks that have pending timeouts, so a small tick does not
+	 * cause idle wakeups. Direct NIO event loops block in the selector with millisecond
+	 * precision, so NIO timeouts are accurate to the larger of the tick and 1ms.
+	 * <p>
+	 * Default: 0 (use minTimeout)
+	 */
+	public int timerTickTime;
+
+	/**
+	 * The number of ticks per wheel for each level of HashedWheelTimer in each event loop.
+	 * Timeouts beyond one wheel are stored in higher level wheels and cascade down as their
+	 * deadline approaches. The value is rounded up to a power of 2 (minimum 16).
 	 * <p>
 	 * Default: 256
 	 */
 	public int ticksPerWheel = 256;
 
+	/**
+	 * Time in microseconds that each direct NIO event loop busy polls its selector and command
+	 * queue before blocking in {@link java.nio.channels.Selector#select(long)}. Spinning reduces
+	 * latency and wakeup system calls for commands submitted from other threads at the cost of
+	 * cpu usage while the event loop is idle. This field is ignored by netty event loops.
+	 * <p>
+	 * Default: 0 (block immediately)
+	 */
+	public int selectorSpinTime;
+
 	/**
 	 * Expected number of concurrent asynchronous commands in each event loop that are active at
 	 * any point in time.  This value is used as each event loop's timeout queue and ByteBuffer
@@ -95,6 +180,30 @@ public final class EventPolicy {
 	 */
 	public int commandsPerEventLoop = 256;
 
+	/**
+	 * Maximum number of idle async command wrappers (with their timeout entries) that each
+	 * direct NIO event loop keeps for reuse. When enabled, commands that are started in the
+	 * event loop thread (for example, a new command issued from a listener callback) reuse a
+	 * wrapper from the pool instead of allocating one. The wrapper is reset and returned to the
+	 * pool when the command completes. Commands submitted from other threads and commands run
+	 * on netty event loops allocate a new wrapper as before.
+	 * <p>
+	 * Default: 0 (pooling disabled)
+	 */
+	public int commandPoolSize;
+
+	/**
+	 * Debug setting that logs a warning with the acquiring stack trace when a pooled async
+	 * command wrapper has not been returned to its pool within this many milliseconds. The
+	 * value should be greater than the longest expected command duration, including retries
+	 * and scans. Leak detection records a stack trace for every pooled command, so it should
+	 * not be enabled in production. Only applies when {@link #commandPoolSize} is greater
+	 * than zero.
+	 * <p>
+	 * Default: 0 (leak detection disabled)
+	 */
+	public int commandLeakThreshold;
+
 	// Include setters to facilitate Spring's ConfigurationProperties.
 
 	public void setMaxCommandsInProcess(int maxCommandsInProcess) {
@@ -109,15 +218,55 @@ public final class EventPolicy {
 		this.queueInitialCapacity = queueInitialCapacity;
 	}
 
+	public void setInteractiveWeight(int interactiveWeight) {
+		this.interactiveWeight = interactiveWeight;
+	}
+
+	public void setBatchWeight(int batchWeight) {
+		this.batchWeight = batchWeight;
+	}
+
+	public void setBackgroundWeight(int backgroundWeight) {
+		this.backgroundWeight = backgroundWeight;
+	}
+
+	public void setBatchMaxInProcess(int batchMaxInProcess) {
+		this.batchMaxInProcess = batchMaxInProcess;
+	}
+
+	public void setBackgroundMaxInProcess(int backgroundMaxInProcess) {
+		this.backgroundMaxInProcess = backgroundMaxInProcess;
+	}
+
+	public void setDeadlineAdmission(boolean deadlineAdmission) {
+		this.deadlineAdmission = deadlineAdmission;
+	}
+
 	public void setMinTimeout(int minTimeout) {
 		this.minTimeout = minTimeout;
 	}
 
+	public void setTimerTickTime(int timerTickTime) {
+		this.timerTickTime = timerTickTime;
+	}
+
 	public void setTicksPerWheel(int ticksPerWheel) {
 		this.ticksPerWheel = ticksPerWheel;
 	}
 
+	public void setSelectorSpinTime(int selectorSpinTime) {
+		this.selectorSpinTime = selectorSpinTime;
+	}
+
 	public void setCommandsPerEventLoop(int commandsPerEventLoop) {
 		this.commandsPerEventLoop = commandsPerEventLoop;
 	}
+
+	public void setCommandPoolSize(int commandPoolSize) {
+		this.commandPoolSize = commandPoolSize;
+	}
+
+	public void setCommandLeakThreshold(int commandLeakThreshold) {
+		this.commandLeakThreshold = commandLeakThreshold;
+	}
 }
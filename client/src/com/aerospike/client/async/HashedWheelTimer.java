@@ -1,20 +1,5 @@
 /*
- * Copyright 2012 The Netty Project
- *
- * The Netty Project licenses this file to you under the Apache License,
- * version 2.0 (the "License"); you may not use this file except in compliance
- * with the License. You may obtain a copy of the License at:
- *
- *   http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
- * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
- * License for the specific language governing permissions and limitations
- * under the License.
- */
-/*
- * Copyright 2012-2021 Aerospike, Inc.
+ * Copyright 2012-2025 Aerospike, Inc.
  *
  * Portions may be licensed to Aerospike, Inc. under one or more contributor
  * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
@@ -37,93 +22,261 @@ import com.aerospike.client.Log;
 import com.aerospike.client.util.Util;
 
 /**
- * This HashedWheelTimer is a simplified version of netty's
- * <a href="https://github.com/netty/netty/blob/ed37cf20ef1ce2c792d57b02ef6494880b24f72d/common/src/main/java/io/netty/util/HashedWheelTimer.java">HashedWheelTimer</a>.
- * <p>
- * {@link HashedWheelTimer} is based on
- * <a href="http://cseweb.ucsd.edu/users/varghese/">George Varghese</a> and
- * Tony Lauck's paper,
+ * Hierarchical timing wheel based on George Varghese and Tony Lauck's paper,
  * <a href="http://cseweb.ucsd.edu/users/varghese/PAPERS/twheel.ps.Z">'Hashed
  * and Hierarchical Timing Wheels: data structures to efficiently implement a
- * timer facility'</a>.  More comprehensive slides are located
- * <a href="http://www.cse.wustl.edu/~cdgill/courses/cs6874/TimingWheels.ppt">here</a>.
+ * timer facility'</a>.
+ * <p>
+ * The first wheel has one bucket per tick. Each higher wheel bucket covers a full
+ * revolution of the wheel below it. Timeouts are placed in the lowest wheel that can
+ * hold their deadline and cascade down one wheel at a time as the cursor approaches,
+ * so a timeout is touched at most once per wheel instead of once per revolution.
+ * Add and cancel are O(1) with intrusive doubly linked buckets.
+ * <p>
+ * The timer is tickless. It only schedules an event loop wakeup for the next occupied
+ * bucket (or the next cascade), and it does not schedule any wakeup while no timeouts
+ * are pending.
  * <p>
- * This HashedWheelTimer runs directly in each event loop thread.  All HashedWheelTimer method calls
+ * This timer runs directly in each event loop thread.  All HashedWheelTimer method calls
  * must also occur in its defined event loop thread.
  */
 public final class HashedWheelTimer implements Runnable {
 	private final EventLoop eventLoop;
-	private final HashedWheelBucket[] wheel;
-	private final ScheduleTask schedule;
+	private final HashedWheelBucket[][] wheels;
+	private final long[][] occupied;
 	private final long tickDuration;
+	private final int wheelBits;
+	private final int mask;
+	private final long maxTicks;
+	private final Wake wake;
 	private long startTime;
 	private long tick;
-	private final int mask;
+	private int count;
+	private boolean running;
 
 	public HashedWheelTimer(EventLoop eventLoop, long tickDuration, TimeUnit unit, int ticksPerWheel) {
 		this.eventLoop = eventLoop;
 		this.tickDuration = unit.toNanos(tickDuration);
 
-		int normalizedTicksPerWheel = 1;
-
-		while (normalizedTicksPerWheel < ticksPerWheel) {
-			normalizedTicksPerWheel <<= 1;
+		if (this.tickDuration <= 0) {
+			throw new IllegalArgumentException("tickDuration must be > 0: " + tickDuration);
 		}
 
-		wheel = new HashedWheelBucket[normalizedTicksPerWheel];
+		int bits = 4;
 
-		for (int i = 0; i < wheel.length; i++) {
-			wheel[i] = new HashedWheelBucket();
+		while ((1 << bits) < ticksPerWheel) {
+			bits++;
 		}
-		mask = wheel.length - 1;
 
-		// Prevent overflow.
-		if (this.tickDuration >= Long.MAX_VALUE / wheel.length) {
-			throw new IllegalArgumentException(String.format(
-				"tickDuration: %d (expected: 0 < tickDuration in nanos < %d",
-				tickDuration, Long.MAX_VALUE / wheel.length));
-		}
+		int slots = 1 << bits;
+		int levels = (32 + bits - 1) / bits;
+
+		wheelBits = bits;
+		mask = slots - 1;
+		maxTicks = 1L << (bits * levels);
+		wheels = new HashedWheelBucket[levels][slots];
+		occupied = new long[levels][(slots + 63) >>> 6];
 
-		schedule = new ScheduleTask(this);
+		for (int level = 0; level < levels; level++) {
+			for (int i = 0; i < slots; i++) {
+				wheels[level][i] = new HashedWheelBucket(level, i);
+			}
+		}
+		wake = new Wake();
 	}
 
 	public void start() {
 		startTime = System.nanoTime();
-		eventLoop.schedule(schedule, tickDuration, TimeUnit.NANOSECONDS);
 	}
 
+	/**
+	 * Expire timeouts whose tick has elapsed. For internal use only.
+	 */
 	public void run() {
-		long currentTime = System.nanoTime() - startTime;
-		long expectTime = tickDuration * (tick + 1);
+		long currentTick = (System.nanoTime() - startTime) / tickDuration;
+
+		// Expire callbacks may add timeouts. Schedule the next wakeup once at the end.
+		running = true;
+
+		while (tick < currentTick) {
+			if (count == 0) {
+				// Nothing to expire or cascade.
+				tick = currentTick;
+				break;
+			}
+
+			long next = nextEventTick();
 
-		while (expectTime <= currentTime) {
-			int idx = (int) (tick & mask);
-			wheel[idx].expireTimeouts(currentTime);
+			if (next >= currentTick) {
+				// Skip empty buckets. Cascades only occur on wheel boundaries,
+				// which nextEventTick() never skips.
+				tick = currentTick;
+				break;
+			}
+			tick = next;
+			processTick();
 			tick++;
-			expectTime += tickDuration;
 		}
-		eventLoop.schedule(schedule, expectTime - currentTime, TimeUnit.NANOSECONDS);
+		running = false;
+		scheduleWake();
 	}
 
 	public void addTimeout(HashedWheelTimeout timeout, long deadline) {
-		timeout.deadline = deadline - startTime;
-		timeout.next = null;
-		timeout.prev = null;
+		if (timeout.bucket != null) {
+			timeout.bucket.remove(timeout);
+		}
+
+		if (count == 0 && ! running) {
+			// Cursor is not advanced while idle. Move it to the current tick so the timeout
+			// is placed relative to now and no empty ticks are replayed on the next run.
+			tick = Math.max(tick, (System.nanoTime() - startTime) / tickDuration);
+		}
+
+		long expiration = (deadline - startTime) / tickDuration;
+
+		timeout.expiration = expiration;
+		place(timeout);
+		count++;
+
+		if (! running && (! wake.pending || expiration < wake.tick)) {
+			scheduleWake();
+		}
+	}
+
+	private void place(HashedWheelTimeout timeout) {
+		long expiration = timeout.expiration;
+		long delta = expiration - tick;
+
+		if (delta < 0) {
+			// Already expired. Place in current bucket.
+			expiration = tick;
+			delta = 0;
+		}
+		else if (delta >= maxTicks) {
+			// Beyond range. Park in top wheel and cascade again later.
+			expiration = tick + maxTicks - 1;
+			delta = maxTicks - 1;
+		}
+
+		int level = 0;
+		int shift = 0;
+
+		while ((delta >>> shift) > mask) {
+			level++;
+			shift += wheelBits;
+		}
+		wheels[level][(int)((expiration >>> shift) & mask)].addTimeout(timeout);
+	}
+
+	private void processTick() {
+		int index = (int)(tick & mask);
+
+		if (index == 0) {
+			cascade();
+		}
+
+		HashedWheelBucket bucket = wheels[0][index];
+		HashedWheelTimeout timeout;
 
-		long calculated = timeout.deadline / tickDuration;
-		timeout.remainingRounds = (calculated - tick) / wheel.length;
+		// Remove each timeout before expiring it because expire callbacks may
+		// add or cancel other timeouts in this bucket.
+		while ((timeout = bucket.head) != null) {
+			bucket.remove(timeout);
 
-		final long ticks = Math.max(calculated, tick);
-		int stopIndex = (int) (ticks & mask);
+			if (timeout.expiration > tick) {
+				// Parked timeout that has not expired yet.
+				place(timeout);
+				count++;
+				continue;
+			}
+			timeout.expire();
+		}
+	}
+
+	private void cascade() {
+		int shift = 0;
+
+		for (int level = 1; level < wheels.length; level++) {
+			shift += wheelBits;
+
+			int index = (int)((tick >>> shift) & mask);
+			HashedWheelBucket bucket = wheels[level][index];
+			HashedWheelTimeout timeout;
+
+			while ((timeout = bucket.head) != null) {
+				bucket.remove(timeout);
+				place(timeout);
+				count++;
+			}
+
+			if (index != 0) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Return next tick at or after the cursor that has a first wheel timeout
+	 * or requires a cascade.
+	 */
+	private long nextEventTick() {
+		int index = (int)(tick & mask);
+
+		if (index == 0) {
+			// Cascade is due.
+			return tick;
+		}
+
+		long[] bits = occupied[0];
+		int word = index >>> 6;
+		long w = bits[word] & (-1L << (index & 63));
 
-		HashedWheelBucket bucket = wheel[stopIndex];
-		bucket.addTimeout(timeout);
+		while (true) {
+			if (w != 0) {
+				return (tick & ~(long)mask) + (word << 6) + Long.numberOfTrailingZeros(w);
+			}
+
+			if (++word >= bits.length) {
+				// Next wheel revolution.
+				return (tick | mask) + 1;
+			}
+			w = bits[word];
+		}
+	}
+
+	private void scheduleWake() {
+		if (count == 0) {
+			return;
+		}
+
+		long next = nextEventTick();
+
+		if (wake.pending && wake.tick <= next) {
+			return;
+		}
+
+		// Schedule wakeup or move pending later wakeup to the next event.
+		long delay = startTime + (next + 1) * tickDuration - System.nanoTime();
+
+		wake.tick = next;
+		wake.pending = true;
+		eventLoop.schedule(wake.task, (delay > 0)? delay : 0, TimeUnit.NANOSECONDS);
+	}
+
+	private final class Wake implements Runnable {
+		private final ScheduleTask task = new ScheduleTask(this);
+		private long tick;
+		private boolean pending;
+
+		public void run() {
+			pending = false;
+			HashedWheelTimer.this.run();
+		}
 	}
 
 	public static final class HashedWheelTimeout {
 		private final TimerTask task;
-		private long deadline;
-		private long remainingRounds;
+		private long expiration;
 		private HashedWheelTimeout next;
 		private HashedWheelTimeout prev;
 		private HashedWheelBucket bucket;
@@ -153,14 +306,22 @@ public final class HashedWheelTimer implements Runnable {
 		}
 	}
 
-	private static final class HashedWheelBucket {
+	private final class HashedWheelBucket {
+		private final int level;
+		private final int index;
 		private HashedWheelTimeout head;
 		private HashedWheelTimeout tail;
 
-		public void addTimeout(HashedWheelTimeout timeout) {
+		private HashedWheelBucket(int level, int index) {
+			this.level = level;
+			this.index = index;
+		}
+
+		private void addTimeout(HashedWheelTimeout timeout) {
 			timeout.bucket = this;
 			if (head == null) {
 				head = tail = timeout;
+				occupied[level][index >>> 6] |= 1L << index;
 			} else {
 				tail.next = timeout;
 				timeout.prev = tail;
@@ -168,31 +329,7 @@ public final class HashedWheelTimer implements Runnable {
 			}
 		}
 
-		public void expireTimeouts(long deadline) {
-			HashedWheelTimeout timeout = head;
-
-			// process all timeouts
-			while (timeout != null) {
-				HashedWheelTimeout next = timeout.next;
-				if (timeout.remainingRounds <= 0) {
-					next = remove(timeout);
-
-					if (timeout.deadline > deadline) {
-						// Should not happen.  Do not throw exception because that would break all
-						// other timeouts in this iteration.
-						if (Log.warnEnabled()) {
-							Log.warn("timeout.deadline (" + timeout.deadline + ") > deadline (" + deadline + ")");
-						}
-					}
-					timeout.expire();
-				} else {
-					timeout.remainingRounds--;
-				}
-				timeout = next;
-			}
-		}
-
-		public HashedWheelTimeout remove(HashedWheelTimeout timeout) {
+		private void remove(HashedWheelTimeout timeout) {
 			HashedWheelTimeout next = timeout.next;
 			// remove timeout that was either processed or cancelled by updating the linked-list
 			if (timeout.prev != null) {
@@ -207,6 +344,7 @@ public final class HashedWheelTimer implements Runnable {
 				if (timeout == tail) {
 					tail = null;
 					head = null;
+					occupied[level][index >>> 6] &= ~(1L << index);
 				} else {
 					head = next;
 				}
@@ -218,19 +356,19 @@ public final class HashedWheelTimer implements Runnable {
 			timeout.prev = null;
 			timeout.next = null;
 			timeout.bucket = null;
-			return next;
+			count--;
 		}
 	}
 
 	/*
 	public void printRemaining() {
-		System.out.println("Search remaining buckets");
+		System.out.println("Search remaining buckets: " + count);
 
-		for (int i = 0; i < wheel.length; i++) {
-			HashedWheelBucket bucket = wheel[i];
-
-			if (bucket.head != null || bucket.tail != null) {
-				System.out.println("Bucket " + i + " exists");
+		for (int level = 0; level < wheels.length; level++) {
+			for (int i = 0; i < wheels[level].length; i++) {
+				if (wheels[level][i].head != null) {
+					System.out.println("Bucket " + level + ':' + i + " exists");
+				}
 			}
 		}
 	}
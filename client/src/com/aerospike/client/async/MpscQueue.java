@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.async;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Unbounded lock-free multi-producer single-consumer queue stored in linked array chunks.
+ * Producers claim a slot with a single atomic increment and do not allocate a node per
+ * element. Only one thread may call the consumer methods {@link #poll()} and
+ * {@link #isEmpty()}. For internal use only.
+ */
+public final class MpscQueue<E> {
+	private static final int CHUNK_SIZE = 1024;
+
+	private static final class Chunk<E> {
+		final AtomicReferenceArray<E> items = new AtomicReferenceArray<E>(CHUNK_SIZE);
+		final AtomicInteger claimed = new AtomicInteger();
+		final AtomicReference<Chunk<E>> next = new AtomicReference<Chunk<E>>();
+	}
+
+	private final AtomicReference<Chunk<E>> tail;
+
+	// Consumer state.
+	private Chunk<E> head;
+	private int headIndex;
+
+	public MpscQueue() {
+		head = new Chunk<E>();
+		tail = new AtomicReference<Chunk<E>>(head);
+	}
+
+	/**
+	 * Append element. May be called by any thread.
+	 */
+	public void offer(E e) {
+		Chunk<E> chunk = tail.get();
+
+		while (true) {
+			int index = chunk.claimed.getAndIncrement();
+
+			if (index < CHUNK_SIZE) {
+				// Volatile store so the consumer's empty check and the producer's
+				// wakeup check can not both miss this element.
+				chunk.items.set(index, e);
+				return;
+			}
+
+			// Chunk is full. Append next chunk if another producer has not already done so.
+			Chunk<E> next = chunk.next.get();
+
+			if (next == null) {
+				Chunk<E> c = new Chunk<E>();
+				next = chunk.next.compareAndSet(null, c)? c : chunk.next.get();
+			}
+			tail.compareAndSet(chunk, next);
+			chunk = next;
+		}
+	}
+
+	/**
+	 * Remove and return first element or null if no element is available.
+	 * An element whose slot has been claimed but not yet stored is not available.
+	 * Consumer thread only.
+	 */
+	public E poll() {
+		if (headIndex == CHUNK_SIZE) {
+			Chunk<E> next = head.next.get();
+
+			if (next == null) {
+				return null;
+			}
+			head = next;
+			headIndex = 0;
+		}
+
+		E e = head.items.get(headIndex);
+
+		if (e == null) {
+			return null;
+		}
+		head.items.lazySet(headIndex++, null);
+		return e;
+	}
+
+	/**
+	 * Is next element unavailable. Consumer thread only.
+	 */
+	public boolean isEmpty() {
+		if (headIndex == CHUNK_SIZE) {
+			Chunk<E> next = head.next.get();
+			return next == null || next.items.get(0) == null;
+		}
+		return head.items.get(headIndex) == null;
+	}
+}
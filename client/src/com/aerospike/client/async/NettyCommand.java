@@ -32,6 +32,7 @@ import com.aerospike.client.cluster.Connection;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.cluster.Node.AsyncPool;
 import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
 import com.aerospike.client.metrics.LatencyType;
 import com.aerospike.client.policy.TCPKeepAlive;
 import com.aerospike.client.policy.TlsPolicy;
@@ -39,7 +40,7 @@ import com.aerospike.client.util.Util;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -60,7 +61,7 @@ import io.netty.incubator.channel.uring.IOUringSocketChannel;
 /**
  * Asynchronous command handler using netty.
  */
-public final class NettyCommand implements Runnable, TimerTask {
+public final class NettyCommand implements DelayQueue.Entry, TimerTask {
 	private static final long MinHandshakeTimeout = TimeUnit.MILLISECONDS.toNanos(1);
 
 	final NettyEventLoop eventLoop;
@@ -72,9 +73,12 @@ public final class NettyCommand implements Runnable, TimerTask {
 	Node node;
 	NettyConnection conn;
 	long begin;
+	long tlsBegin;
 	long totalDeadline;
 	int state;
 	int iteration;
+	long queueTime;
+	final int priority;
 	final boolean metricsEnabled;
 	final boolean hasTotalTimeout;
 	boolean usingSocketTimeout;
@@ -85,9 +89,11 @@ public final class NettyCommand implements Runnable, TimerTask {
 		this.eventLoop = loop;
 		this.cluster = cluster;
 		this.command = command;
+		this.priority = command.policy.priority.ordinal();
 		this.eventState = cluster.eventState[loop.index];
 		this.timeoutTask = new HashedWheelTimeout(this);
 		command.bufferQueue = loop.bufferQueue;
+		command.gatherEnabled = true;
 		this.metricsEnabled = cluster.metricsEnabled;
 		this.hasTotalTimeout = command.totalTimeout > 0;
 
@@ -109,6 +115,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 		this.eventLoop = other.eventLoop;
 		this.cluster = other.cluster;
 		this.command = command;
+		this.priority = command.policy.priority.ordinal();
 		this.eventState = other.eventState;
 		this.timeoutTask = new HashedWheelTimeout(this);
 		this.totalDeadline = other.totalDeadline;
@@ -118,6 +125,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 		this.usingSocketTimeout = other.usingSocketTimeout;
 
 		command.bufferQueue = eventLoop.bufferQueue;
+		command.gatherEnabled = true;
 
 		// We are already in event loop thread, so start processing now.
 		if (eventState.closed) {
@@ -130,13 +138,18 @@ public final class NettyCommand implements Runnable, TimerTask {
 			eventLoop.executeFromDelayQueue();
 
 			// Handle new command.
-			if (eventLoop.pending >= eventLoop.maxCommandsInProcess) {
+			if (eventLoop.pending >= eventLoop.maxCommandsInProcess || eventLoop.delayQueue.isFull(priority)) {
 				// Pending queue full. Append new command to delay queue.
 				if (eventLoop.maxCommandsInQueue > 0 && eventLoop.delayQueue.size() >= eventLoop.maxCommandsInQueue) {
 					queueError(new AerospikeException.AsyncQueueFull());
 					return;
 				}
-				eventLoop.delayQueue.addLast(this);
+				queueTime = System.nanoTime();
+
+				if (eventLoop.deadlineAdmission && deadline > 0 && isLate(deadline)) {
+					return;
+				}
+				eventLoop.delayQueue.addLast(this, priority);
 
 				if (deadline > 0) {
 					eventLoop.timer.addTimeout(timeoutTask, deadline);
@@ -147,6 +160,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 		}
 		eventState.pending++;
 		eventLoop.pending++;
+		eventLoop.priorityPending[priority]++;
 		executeCommand(deadline, TimeoutState.BATCH_RETRY);
 	}
 
@@ -180,13 +194,18 @@ public final class NettyCommand implements Runnable, TimerTask {
 			eventLoop.executeFromDelayQueue();
 
 			// Handle new command.
-			if (eventLoop.pending >= eventLoop.maxCommandsInProcess) {
+			if (eventLoop.pending >= eventLoop.maxCommandsInProcess || eventLoop.delayQueue.isFull(priority)) {
 				// Pending queue full. Append new command to delay queue.
 				if (eventLoop.maxCommandsInQueue > 0 && eventLoop.delayQueue.size() >= eventLoop.maxCommandsInQueue) {
 					queueError(new AerospikeException.AsyncQueueFull());
 					return;
 				}
-				eventLoop.delayQueue.addLast(this);
+				queueTime = System.nanoTime();
+
+				if (eventLoop.deadlineAdmission && hasTotalTimeout && isLate(totalDeadline)) {
+					return;
+				}
+				eventLoop.delayQueue.addLast(this, priority);
 
 				if (hasTotalTimeout) {
 					eventLoop.timer.addTimeout(timeoutTask, totalDeadline);
@@ -215,9 +234,46 @@ public final class NettyCommand implements Runnable, TimerTask {
 
 		eventState.pending++;
 		eventLoop.pending++;
+		eventLoop.priorityPending[priority]++;
 		executeCommand(deadline, TimeoutState.REGISTERED);
 	}
 
+	/**
+	 * Reject command if the estimated delay queue wait for its priority class exceeds the
+	 * command deadline.
+	 */
+	private boolean isLate(long deadline) {
+		if (queueTime + eventLoop.delayQueue.estimateWait(priority) < deadline) {
+			return false;
+		}
+
+		if (metricsEnabled) {
+			cluster.addDelayQueueReject();
+		}
+		queueError(new AerospikeException.Timeout(command.policy, true));
+		return true;
+	}
+
+	@Override
+	public boolean isExpired(long currentTime) {
+		return state == AsyncCommand.COMPLETE || (hasTotalTimeout && currentTime >= totalDeadline);
+	}
+
+	@Override
+	public void expire() {
+		if (state == AsyncCommand.COMPLETE) {
+			// Command timed out and user has already been notified.
+			return;
+		}
+
+		if (metricsEnabled) {
+			cluster.addDelayQueueShed();
+		}
+		timeoutTask.cancel();
+		closeFromDelayQueue();
+		notifyFailure(new AerospikeException.Timeout(command.policy, true));
+	}
+
 	private void queueError(AerospikeException ae) {
 		eventState.errors++;
 		state = AsyncCommand.COMPLETE;
@@ -225,10 +281,13 @@ public final class NettyCommand implements Runnable, TimerTask {
 	}
 
 	final void executeCommandFromDelayQueue() {
+		long currentTime = System.nanoTime();
 		long deadline = totalDeadline;
 
+		eventLoop.delayQueue.addWaitTime(priority, currentTime, queueTime);
+
 		if (command.socketTimeout > 0) {
-			long socketDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(command.socketTimeout);
+			long socketDeadline = currentTime + TimeUnit.MILLISECONDS.toNanos(command.socketTimeout);
 
 			if (hasTotalTimeout) {
 				if (socketDeadline < totalDeadline) {
@@ -245,6 +304,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 		}
 		eventState.pending++;
 		eventLoop.pending++;
+		eventLoop.priorityPending[priority]++;
 		executeCommand(deadline, TimeoutState.DELAY_QUEUE);
 	}
 
@@ -310,8 +370,9 @@ public final class NettyCommand implements Runnable, TimerTask {
 
 					if (cluster.tlsPolicy != null && !cluster.tlsPolicy.forLoginOnly) {
 						state = AsyncCommand.TLS_HANDSHAKE;
+						tlsBegin = System.currentTimeMillis();
 
-						SslHandler hdl = cluster.nettyTlsContext.createHandler(ch);
+						SslHandler hdl = cluster.nettyTlsContext.createHandler(ch, node);
 
 						// If deadline defined, set equivalent handshake timeout.
 						// Otherwise, use default handshake timeout.
@@ -468,9 +529,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 	}
 
 	private void writeByteBuffer() {
-		ByteBuf byteBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(command.dataOffset);
-		byteBuffer.clear();
-		byteBuffer.writeBytes(command.dataBuffer, 0, command.dataOffset);
+		ByteBuf byteBuffer = copyMessage(command, conn.channel.alloc());
 
 		ChannelFuture cf = conn.channel.writeAndFlush(byteBuffer);
 		cf.addListener(new ChannelFutureListener() {
@@ -503,6 +562,36 @@ public final class NettyCommand implements Runnable, TimerTask {
 		});
 	}
 
+	/**
+	 * Copy the command message once into a direct buffer from the given allocator.
+	 * Large blobs that were gathered during serialization are copied directly from
+	 * the user's byte arrays instead of first being copied into dataBuffer.
+	 * For internal use only.
+	 */
+	public static ByteBuf copyMessage(Command command, ByteBufAllocator alloc) {
+		int gatherCount = command.gatherCount;
+		ByteBuf byteBuffer = alloc.directBuffer(command.dataOffset + command.gatherSize);
+
+		if (gatherCount == 0) {
+			byteBuffer.writeBytes(command.dataBuffer, 0, command.dataOffset);
+		}
+		else {
+			byte[][] buffers = command.gatherBuffers;
+			int[] offsets = command.gatherOffsets;
+			int begin = 0;
+
+			for (int i = 0; i < gatherCount; i++) {
+				int offset = offsets[i];
+				byteBuffer.writeBytes(command.dataBuffer, begin, offset - begin);
+				byteBuffer.writeBytes(buffers[i]);
+				begin = offset;
+			}
+			byteBuffer.writeBytes(command.dataBuffer, begin, command.dataOffset - begin);
+			command.clearGather();
+		}
+		return byteBuffer;
+	}
+
 	private void read(ByteBuf byteBuffer) {
 		eventReceived = true;
 
@@ -682,32 +771,24 @@ public final class NettyCommand implements Runnable, TimerTask {
 				continue;
 			}
 
-			command.sizeBuffer(receiveSize);
+			if (command.compressed) {
+				// Compressed groups are received in full and then decompressed.
+				command.sizeBuffer(receiveSize);
+				command.dataOffset = 0;
+			}
+			else {
+				((AsyncMultiCommand)command).beginGroup();
+			}
 			state = AsyncCommand.COMMAND_READ_BODY;
 
 			if (readableBytes <= 0) {
 				return;
 			}
 
-			dataSize = (readableBytes >= receiveSize)? receiveSize : readableBytes;
-			byteBuffer.readBytes(command.dataBuffer, 0, dataSize);
-			readableBytes -= dataSize;
-			command.dataOffset = dataSize;
-
-			if (command.dataOffset < receiveSize) {
-				return;
-			}
-
-			conn.updateLastUsed();
-
-			if (command.parseCommandResult()) {
-				finish();
+			if (! readMultiGroup(byteBuffer)) {
 				return;
 			}
-
-			// Prepare for next group.
-			state = AsyncCommand.COMMAND_READ_HEADER;
-			command.dataOffset = 0;
+			readableBytes = byteBuffer.readableBytes();
 		} while (true);
 	}
 
@@ -716,28 +797,65 @@ public final class NettyCommand implements Runnable, TimerTask {
 			throw new AerospikeException.QueryTerminated();
 		}
 
+		if (! readMultiGroup(byteBuffer)) {
+			return;
+		}
+		readMultiHeader(byteBuffer);
+	}
+
+	/**
+	 * Read group bytes. Uncompressed records are parsed as soon as they are complete.
+	 * Return true if the group is complete and the next group header should be read.
+	 */
+	private boolean readMultiGroup(ByteBuf byteBuffer) {
 		int readableBytes = byteBuffer.readableBytes();
 		int needBytes = command.receiveSize - command.dataOffset;
 		int dataSize = (readableBytes >= needBytes)? needBytes : readableBytes;
 
-		byteBuffer.readBytes(command.dataBuffer, command.dataOffset, dataSize);
-		command.dataOffset += dataSize;
+		if (command.compressed) {
+			byteBuffer.readBytes(command.dataBuffer, command.dataOffset, dataSize);
+			command.dataOffset += dataSize;
 
-		if (command.dataOffset < command.receiveSize) {
-			return;
+			if (command.dataOffset < command.receiveSize) {
+				return false;
+			}
+
+			conn.updateLastUsed();
+
+			if (command.parseCommandResult()) {
+				finish();
+				return false;
+			}
 		}
+		else {
+			AsyncMultiCommand multi = (AsyncMultiCommand)command;
 
-		conn.updateLastUsed();
+			while (dataSize > 0) {
+				int space = multi.receiveSpace();
+				int size = (dataSize < space)? dataSize : space;
 
-		if (command.parseCommandResult()) {
-			finish();
-			return;
+				byteBuffer.readBytes(command.dataBuffer, multi.receiveOffset(), size);
+				dataSize -= size;
+
+				if (multi.parseReceived(size)) {
+					conn.updateLastUsed();
+					finish();
+					return false;
+				}
+			}
+
+			if (command.dataOffset < command.receiveSize) {
+				return false;
+			}
+
+			conn.updateLastUsed();
+			multi.endGroup();
 		}
 
 		// Prepare for next group.
 		state = AsyncCommand.COMMAND_READ_HEADER;
 		command.dataOffset = 0;
-		readMultiHeader(byteBuffer);
+		return true;
 	}
 
 	@Override
@@ -1157,6 +1275,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 		state = AsyncCommand.COMPLETE;
 		eventState.pending--;
 		eventLoop.pending--;
+		eventLoop.priorityPending[priority]--;
 	}
 
 	private void logError(Throwable e) {
@@ -1229,6 +1348,7 @@ public final class NettyCommand implements Runnable, TimerTask {
 			X509Certificate cert = (X509Certificate)session.getPeerCertificates()[0];
 
 			Connection.validateServerCertificate(tlsPolicy, tlsName, cert);
+			command.node.tlsHandshakeComplete(session, command.tlsBegin);
 
 			if (command.state == AsyncCommand.TLS_HANDSHAKE) {
 				command.channelActive();
@@ -54,6 +54,7 @@ public final class NettyConnector extends AsyncConnector {
 	private final NettyEventLoop eventLoop;
 	private final byte[] dataBuffer;
 	private NettyConnection conn;
+	private long tlsBegin;
 	private int dataOffset;
 	private int receiveSize;
 
@@ -92,8 +93,9 @@ public final class NettyConnector extends AsyncConnector {
 
 				if (cluster.tlsPolicy != null && !cluster.tlsPolicy.forLoginOnly) {
 					state = AsyncCommand.TLS_HANDSHAKE;
+					tlsBegin = System.currentTimeMillis();
 
-					SslHandler hdl = cluster.nettyTlsContext.createHandler(ch);
+					SslHandler hdl = cluster.nettyTlsContext.createHandler(ch, node);
 					hdl.setHandshakeTimeoutMillis(cluster.connectTimeout);
 					p.addLast(hdl);
 				}
@@ -305,6 +307,7 @@ public final class NettyConnector extends AsyncConnector {
 			X509Certificate cert = (X509Certificate)session.getPeerCertificates()[0];
 
 			Connection.validateServerCertificate(tlsPolicy, tlsName, cert);
+			connector.node.tlsHandshakeComplete(session, connector.tlsBegin);
 
 			if (connector.state == AsyncCommand.TLS_HANDSHAKE) {
 				connector.channelActive();
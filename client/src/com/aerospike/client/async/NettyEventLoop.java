@@ -16,6 +16,7 @@
  */
 package com.aerospike.client.async;
 
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import com.aerospike.client.Log;
@@ -84,10 +85,17 @@ public final class NettyEventLoop extends EventLoopBase {
 
 	/**
 	 * Schedule execution with a reusable ScheduleTask.
+	 * If the task is already scheduled, the previous schedule is cancelled.
+	 * Must be called from this event loop's thread.
 	 */
 	@Override
 	public void schedule(ScheduleTask task, long delay, TimeUnit unit) {
-		eventLoop.schedule(task, delay, unit);
+		ScheduledFuture<?> future = task.future;
+
+		if (future != null) {
+			future.cancel(false);
+		}
+		task.future = eventLoop.schedule(task, delay, unit);
 	}
 
 	/**
@@ -116,6 +124,11 @@ public final class NettyEventLoop extends EventLoopBase {
 		usingDelayQueue = true;
 
 		try {
+			if (delayQueue.size() > 0) {
+				// Drop commands that can no longer complete in time.
+				delayQueue.removeExpired(System.nanoTime());
+			}
+
 			NettyCommand cmd;
 			while (pending < maxCommandsInProcess && (cmd = (NettyCommand)delayQueue.pollFirst()) != null) {
 				if (cmd.state == AsyncCommand.COMPLETE) {
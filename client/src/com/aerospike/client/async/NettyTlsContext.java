@@ -16,8 +16,7 @@
  */
 package com.aerospike.client.async;
 
-import java.io.FileInputStream;
-import java.security.KeyStore;
+import java.net.InetSocketAddress;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -25,6 +24,8 @@ import java.util.Set;
 import javax.net.ssl.KeyManagerFactory;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.cluster.Connection;
+import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.TlsPolicy;
 import com.aerospike.client.util.Util;
 
@@ -51,6 +52,7 @@ public final class NettyTlsContext implements CipherSuiteFilter {
 		this.policy = policy;
 
 		if (policy.context != null) {
+			Connection.configureSessionCache(policy);
 			CipherSuiteFilter csf = (policy.ciphers != null)? this : IdentityCipherSuiteFilter.INSTANCE;
 			this.context = new JdkSslContext(policy.context, true, null, csf, null, ClientAuth.NONE, null, false);
 			return;
@@ -67,22 +69,18 @@ public final class NettyTlsContext implements CipherSuiteFilter {
 				builder.ciphers(Arrays.asList(policy.ciphers));
 			}
 
-			String keyStoreLocation = System.getProperty("javax.net.ssl.keyStore");
-
-			// Keystore is only required for mutual authentication.
-			if (keyStoreLocation != null) {
-				String keyStorePassword = System.getProperty("javax.net.ssl.keyStorePassword");
-				char[] pass = (keyStorePassword != null) ? keyStorePassword.toCharArray() : null;
-
-				KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
+			if (policy.sessionCacheSize > 0) {
+				builder.sessionCacheSize(policy.sessionCacheSize);
+			}
 
-				try (FileInputStream is = new FileInputStream(keyStoreLocation)) {
-					ks.load(is, pass);
-				}
+			if (policy.sessionTimeout > 0) {
+				builder.sessionTimeout(policy.sessionTimeout);
+			}
 
-				KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
-				kmf.init(ks, pass);
+			// Keystore is only required for mutual authentication.
+			KeyManagerFactory kmf = Connection.createKeyManagerFactory();
 
+			if (kmf != null) {
 				builder.keyManager(kmf);
 			}
 
@@ -100,6 +98,17 @@ public final class NettyTlsContext implements CipherSuiteFilter {
 		return context.newHandler(ch.alloc());
 	}
 
+	/**
+	 * Create TLS handler for a node. The SSL engine is created with the node's IP address
+	 * and port, so the SSL context's client session cache is keyed by node and new
+	 * connections to the same node can resume a previous session instead of performing
+	 * a full handshake.
+	 */
+	public SslHandler createHandler(SocketChannel ch, Node node) {
+		InetSocketAddress address = node.getAddress();
+		return context.newHandler(ch.alloc(), address.getAddress().getHostAddress(), address.getPort());
+	}
+
 	/**
 	 * Return supported ciphers.
 	 */
@@ -32,13 +32,13 @@ import com.aerospike.client.command.Command;
 import com.aerospike.client.metrics.LatencyType;
 import com.aerospike.client.util.Util;
 
-public final class NioCommand implements INioCommand, Runnable, TimerTask {
+public final class NioCommand implements INioCommand, DelayQueue.Entry, TimerTask {
 
 	final NioEventLoop eventLoop;
-	final Cluster cluster;
-	final AsyncCommand command;
-	final EventState eventState;
 	final HashedWheelTimeout timeoutTask;
+	Cluster cluster;
+	AsyncCommand command;
+	EventState eventState;
 	TimeoutState timeoutState;
 	Node node;
 	NioConnection conn;
@@ -47,33 +47,26 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 	long totalDeadline;
 	int state;
 	int iteration;
-	final boolean metricsEnabled;
-	final boolean hasTotalTimeout;
+	long queueTime;
+	long acquireTime;
+	int priority;
+	int poolState;
+	boolean metricsEnabled;
+	boolean hasTotalTimeout;
 	boolean usingSocketTimeout;
 	boolean eventReceived;
 
 	public NioCommand(NioEventLoop eventLoop, Cluster cluster, AsyncCommand command) {
 		this.eventLoop = eventLoop;
-		this.cluster = cluster;
-		this.command = command;
-		this.eventState = cluster.eventState[eventLoop.index];
 		this.timeoutTask = new HashedWheelTimeout(this);
-		command.bufferQueue = eventLoop.bufferQueue;
-		this.metricsEnabled = cluster.metricsEnabled;
-		this.hasTotalTimeout = command.totalTimeout > 0;
+		init(cluster, command);
+		start();
+	}
 
-		if (eventLoop.thread == Thread.currentThread() && eventState.errors < 5) {
-			// We are already in event loop thread, so start processing.
-			run();
-		}
-		else {
-			// Send command through queue so it can be executed in event loop thread.
-			if (hasTotalTimeout) {
-				totalDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(command.totalTimeout);
-			}
-			state = AsyncCommand.REGISTERED;
-			eventLoop.execute(this);
-		}
+	// Pooled command constructor.
+	NioCommand(NioEventLoop eventLoop) {
+		this.eventLoop = eventLoop;
+		this.timeoutTask = new HashedWheelTimeout(this);
 	}
 
 	// Batch retry constructor.
@@ -81,6 +74,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		this.eventLoop = other.eventLoop;
 		this.cluster = other.cluster;
 		this.command = command;
+		this.priority = command.policy.priority.ordinal();
 		this.eventState = other.eventState;
 		this.timeoutTask = new HashedWheelTimeout(this);
 		this.totalDeadline = other.totalDeadline;
@@ -102,13 +96,18 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			eventLoop.executeFromDelayQueue();
 
 			// Handle new command.
-			if (eventLoop.pending >= eventLoop.maxCommandsInProcess) {
+			if (eventLoop.pending >= eventLoop.maxCommandsInProcess || eventLoop.delayQueue.isFull(priority)) {
 				// Pending queue full. Append new command to delay queue.
 				if (eventLoop.maxCommandsInQueue > 0 && eventLoop.delayQueue.size() >= eventLoop.maxCommandsInQueue) {
 					queueError(new AerospikeException.AsyncQueueFull());
 					return;
 				}
-				eventLoop.delayQueue.addLast(this);
+				queueTime = System.nanoTime();
+
+				if (eventLoop.deadlineAdmission && deadline > 0 && isLate(deadline)) {
+					return;
+				}
+				eventLoop.delayQueue.addLast(this, priority);
 
 				if (deadline > 0) {
 					eventLoop.timer.addTimeout(timeoutTask, deadline);
@@ -119,9 +118,50 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		}
 		eventState.pending++;
 		eventLoop.pending++;
+		eventLoop.priorityPending[priority]++;
 		executeCommand(deadline, TimeoutState.BATCH_RETRY);
 	}
 
+	/**
+	 * Reset state for a new command. Pooled commands are reused, so every per command
+	 * field must be assigned here.
+	 */
+	final void init(Cluster cluster, AsyncCommand command) {
+		this.cluster = cluster;
+		this.command = command;
+		this.priority = command.policy.priority.ordinal();
+		this.eventState = cluster.eventState[eventLoop.index];
+		command.bufferQueue = eventLoop.bufferQueue;
+		this.metricsEnabled = cluster.metricsEnabled;
+		this.hasTotalTimeout = command.totalTimeout > 0;
+		this.timeoutState = null;
+		this.node = null;
+		this.conn = null;
+		this.byteBuffer = null;
+		this.begin = 0;
+		this.totalDeadline = 0;
+		this.queueTime = 0;
+		this.state = 0;
+		this.iteration = 0;
+		this.usingSocketTimeout = false;
+		this.eventReceived = false;
+	}
+
+	final void start() {
+		if (eventLoop.thread == Thread.currentThread() && eventState.errors < 5) {
+			// We are already in event loop thread, so start processing.
+			run();
+		}
+		else {
+			// Send command through queue so it can be executed in event loop thread.
+			if (hasTotalTimeout) {
+				totalDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(command.totalTimeout);
+			}
+			state = AsyncCommand.REGISTERED;
+			eventLoop.execute(this);
+		}
+	}
+
 	@Override
 	public void run() {
 		if (eventState.closed) {
@@ -152,13 +192,18 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			eventLoop.executeFromDelayQueue();
 
 			// Handle new command.
-			if (eventLoop.pending >= eventLoop.maxCommandsInProcess) {
+			if (eventLoop.pending >= eventLoop.maxCommandsInProcess || eventLoop.delayQueue.isFull(priority)) {
 				// Pending queue full. Append new command to delay queue.
 				if (eventLoop.maxCommandsInQueue > 0 && eventLoop.delayQueue.size() >= eventLoop.maxCommandsInQueue) {
 					queueError(new AerospikeException.AsyncQueueFull());
 					return;
 				}
-				eventLoop.delayQueue.addLast(this);
+				queueTime = System.nanoTime();
+
+				if (eventLoop.deadlineAdmission && hasTotalTimeout && isLate(totalDeadline)) {
+					return;
+				}
+				eventLoop.delayQueue.addLast(this, priority);
 
 				if (hasTotalTimeout) {
 					eventLoop.timer.addTimeout(timeoutTask, totalDeadline);
@@ -187,20 +232,64 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 
 		eventState.pending++;
 		eventLoop.pending++;
+		eventLoop.priorityPending[priority]++;
 		executeCommand(deadline, TimeoutState.REGISTERED);
 	}
 
+	/**
+	 * Reject command if the estimated delay queue wait for its priority class exceeds the
+	 * command deadline.
+	 */
+	private final boolean isLate(long deadline) {
+		if (queueTime + eventLoop.delayQueue.estimateWait(priority) < deadline) {
+			return false;
+		}
+
+		if (metricsEnabled) {
+			cluster.addDelayQueueReject();
+		}
+		queueError(new AerospikeException.Timeout(command.policy, true));
+		return true;
+	}
+
+	@Override
+	public boolean isExpired(long currentTime) {
+		return state == AsyncCommand.COMPLETE || (hasTotalTimeout && currentTime >= totalDeadline);
+	}
+
+	@Override
+	public void expire() {
+		if (state == AsyncCommand.COMPLETE) {
+			// Command timed out and user has already been notified.
+			// Command has now been removed from the delay queue.
+			recycle();
+			return;
+		}
+
+		if (metricsEnabled) {
+			cluster.addDelayQueueShed();
+		}
+		timeoutTask.cancel();
+		closeFromDelayQueue();
+		notifyFailure(new AerospikeException.Timeout(command.policy, true));
+		recycle();
+	}
+
 	private final void queueError(AerospikeException ae) {
 		eventState.errors++;
 		state = AsyncCommand.COMPLETE;
 		notifyFailure(ae);
+		recycle();
 	}
 
 	final void executeCommandFromDelayQueue() {
+		long currentTime = System.nanoTime();
 		long deadline = totalDeadline;
 
+		eventLoop.delayQueue.addWaitTime(priority, currentTime, queueTime);
+
 		if (command.socketTimeout > 0) {
-			long socketDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(command.socketTimeout);
+			long socketDeadline = currentTime + TimeUnit.MILLISECONDS.toNanos(command.socketTimeout);
 
 			if (hasTotalTimeout) {
 				if (socketDeadline < totalDeadline) {
@@ -217,6 +306,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		}
 		eventState.pending++;
 		eventLoop.pending++;
+		eventLoop.priorityPending[priority]++;
 		executeCommand(deadline, TimeoutState.DELAY_QUEUE);
 	}
 
@@ -277,6 +367,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			fail();
 			notifyFailure(ae);
 			eventLoop.tryDelayQueue();
+			recycle();
 		}
 		catch (IOException ioe) {
 			eventState.errors++;
@@ -288,6 +379,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			fail();
 			notifyFailure(new AerospikeException(e));
 			eventLoop.tryDelayQueue();
+			recycle();
 		}
 	}
 
@@ -626,8 +718,14 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			return false;
 		}
 
-		command.sizeBuffer(receiveSize);
-		command.dataOffset = 0;
+		if (command.compressed) {
+			// Compressed groups are received in full and then decompressed.
+			command.sizeBuffer(receiveSize);
+			command.dataOffset = 0;
+		}
+		else {
+			((AsyncMultiCommand)command).beginGroup();
+		}
 		byteBuffer.clear();
 
 		if (receiveSize < byteBuffer.capacity()) {
@@ -641,16 +739,27 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		do {
 			// Copy byteBuffer to byte[].
 			byteBuffer.position(0);
-			byteBuffer.get(command.dataBuffer, command.dataOffset, byteBuffer.limit());
-			command.dataOffset += byteBuffer.limit();
+
+			if (command.compressed) {
+				byteBuffer.get(command.dataBuffer, command.dataOffset, byteBuffer.limit());
+				command.dataOffset += byteBuffer.limit();
+			}
+			else if (parseReceived()) {
+				return false;
+			}
 			byteBuffer.clear();
 
 			if (command.dataOffset >= command.receiveSize) {
 				conn.updateLastUsed();
 
-				if (command.parseCommandResult()) {
-					finish();
-					return false;
+				if (command.compressed) {
+					if (command.parseCommandResult()) {
+						finish();
+						return false;
+					}
+				}
+				else {
+					((AsyncMultiCommand)command).endGroup();
 				}
 				// Prepare for next group.
 				byteBuffer.limit(8);
@@ -672,6 +781,30 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		} while (true);
 	}
 
+	/**
+	 * Copy received bytes to the command's receive buffer in chunks and parse the
+	 * records that are complete. Return true if the command finished.
+	 */
+	private final boolean parseReceived() {
+		AsyncMultiCommand multi = (AsyncMultiCommand)command;
+		int len = byteBuffer.limit();
+
+		do {
+			int space = multi.receiveSpace();
+			int size = (len < space)? len : space;
+
+			byteBuffer.get(command.dataBuffer, multi.receiveOffset(), size);
+			len -= size;
+
+			if (multi.parseReceived(size)) {
+				conn.updateLastUsed();
+				finish();
+				return true;
+			}
+		} while (len > 0);
+		return false;
+	}
+
 	@Override
 	public final void timeout() {
 		if (state == AsyncCommand.COMPLETE) {
@@ -754,6 +887,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			if (command.retryBatch(this, deadline)) {
 				// Batch retried in separate commands.  Complete this command.
 				close();
+				recycle();
 				return;
 			}
 		}
@@ -770,6 +904,8 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			if (metricsEnabled) {
 				cluster.addDelayQueueTimeout();
 			}
+			// Command is still referenced by the delay queue, so it is
+			// recycled when the delay queue removes it.
 			closeFromDelayQueue();
 			notifyFailure(ae);
 			return;
@@ -785,6 +921,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		close();
 		notifyFailure(ae);
 		eventLoop.tryDelayQueue();
+		recycle();
 	}
 
 	private final void recoverConnection() {
@@ -826,6 +963,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		}
 
 		eventLoop.tryDelayQueue();
+		recycle();
 	}
 
 	private void addLatency(LatencyType type) {
@@ -872,6 +1010,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			close();
 			notifyFailure(ae);
 			eventLoop.tryDelayQueue();
+			recycle();
 			return;
 		}
 
@@ -886,6 +1025,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 				close();
 				notifyFailure(ae);
 				eventLoop.tryDelayQueue();
+				recycle();
 				return;
 			}
 		}
@@ -918,10 +1058,12 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			// Retry command at the end of the queue so other commands have a
 			// chance to run first.
 			final long d = deadline;
+			final AsyncCommand cmd = command;
 			eventLoop.execute(new Runnable() {
 				@Override
 				public void run() {
-					if (state == AsyncCommand.COMPLETE) {
+					if (command != cmd || state == AsyncCommand.COMPLETE) {
+						// Command completed (and possibly was recycled) before retry.
 						return;
 					}
 					retry(ae, d);
@@ -942,6 +1084,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 			if (command.retryBatch(this, deadline)) {
 				// Batch retried in separate commands.  Complete this command.
 				close();
+				recycle();
 				return;
 			}
 		}
@@ -968,6 +1111,7 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 
 		notifyFailure(ae);
 		eventLoop.tryDelayQueue();
+		recycle();
 	}
 
 	private final void notifyFailure(AerospikeException ae) {
@@ -1022,5 +1166,21 @@ public final class NioCommand implements INioCommand, Runnable, TimerTask {
 		state = AsyncCommand.COMPLETE;
 		eventState.pending--;
 		eventLoop.pending--;
+		eventLoop.priorityPending[priority]--;
+	}
+
+	/**
+	 * Return pooled command to the event loop's command pool. Must be the last
+	 * reference to this command on every completion path.
+	 */
+	final void recycle() {
+		if (poolState != NioCommandPool.NONE) {
+			command = null;
+			node = null;
+			conn = null;
+			byteBuffer = null;
+			timeoutState = null;
+			eventLoop.commandPool.release(this);
+		}
 	}
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.async;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.aerospike.client.Log;
+
+/**
+ * Pool of reusable NioCommand wrappers owned by a single event loop.
+ * All methods must be called in the event loop thread.
+ * <p>
+ * Each pooled wrapper moves through FREE -> ACQUIRED -> FREE. Any other transition is a
+ * lifecycle error. Acquiring a wrapper that is not free throws an exception, and releasing
+ * a wrapper that is not acquired is logged and ignored so the pool is never corrupted.
+ * <p>
+ * When leak detection is enabled, acquired wrappers are tracked with the acquiring stack
+ * trace and wrappers that are not released within the leak threshold are logged once.
+ */
+final class NioCommandPool {
+	static final int NONE = 0;
+	static final int FREE = 1;
+	static final int ACQUIRED = 2;
+
+	private final NioEventLoop eventLoop;
+	private final NioCommand[] pool;
+	private final IdentityHashMap<NioCommand,Throwable> outstanding;
+	private final long leakThreshold;
+	private long nextLeakCheck;
+	private long leakCount;
+	private long allocCount;
+	private int size;
+
+	NioCommandPool(NioEventLoop eventLoop, int capacity, int leakThreshold) {
+		this.eventLoop = eventLoop;
+		this.pool = new NioCommand[capacity];
+
+		if (leakThreshold > 0) {
+			this.outstanding = new IdentityHashMap<NioCommand,Throwable>();
+			this.leakThreshold = TimeUnit.MILLISECONDS.toNanos(leakThreshold);
+			this.nextLeakCheck = System.nanoTime() + this.leakThreshold;
+		}
+		else {
+			this.outstanding = null;
+			this.leakThreshold = 0;
+		}
+	}
+
+	/**
+	 * Return a free wrapper from the pool or allocate a new pooled wrapper when the pool is empty.
+	 */
+	NioCommand acquire() {
+		NioCommand cmd;
+
+		if (size > 0) {
+			cmd = pool[--size];
+			pool[size] = null;
+
+			if (cmd.poolState != FREE) {
+				throw new IllegalStateException("Pooled async command is not free: " + cmd.poolState);
+			}
+		}
+		else {
+			cmd = new NioCommand(eventLoop);
+			allocCount++;
+		}
+		cmd.poolState = ACQUIRED;
+
+		if (outstanding != null) {
+			long currentTime = System.nanoTime();
+
+			cmd.acquireTime = currentTime;
+			outstanding.put(cmd, new Throwable("Async command acquired"));
+
+			if (currentTime >= nextLeakCheck) {
+				nextLeakCheck = currentTime + leakThreshold;
+				checkLeaks(currentTime);
+			}
+		}
+		return cmd;
+	}
+
+	/**
+	 * Return completed wrapper to the pool. The wrapper is discarded when the pool is full.
+	 */
+	void release(NioCommand cmd) {
+		if (cmd.poolState != ACQUIRED) {
+			Log.error("Async command released while not acquired: " + cmd.poolState);
+			return;
+		}
+
+		if (outstanding != null) {
+			outstanding.remove(cmd);
+		}
+
+		if (size < pool.length) {
+			cmd.poolState = FREE;
+			pool[size++] = cmd;
+		}
+		else {
+			cmd.poolState = NONE;
+		}
+	}
+
+	/**
+	 * Return number of idle wrappers in the pool.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Return number of pooled wrappers that were allocated because the pool was empty.
+	 */
+	long getAllocCount() {
+		return allocCount;
+	}
+
+	/**
+	 * Return number of wrappers that have been reported as leaked.
+	 */
+	long getLeakCount() {
+		return leakCount;
+	}
+
+	private void checkLeaks(long currentTime) {
+		ArrayList<NioCommand> leaks = null;
+
+		for (NioCommand cmd : outstanding.keySet()) {
+			if (currentTime - cmd.acquireTime >= leakThreshold) {
+				if (leaks == null) {
+					leaks = new ArrayList<NioCommand>();
+				}
+				leaks.add(cmd);
+			}
+		}
+
+		if (leaks == null) {
+			return;
+		}
+
+		for (NioCommand cmd : leaks) {
+			// Report each leak once.
+			Throwable trace = outstanding.remove(cmd);
+			leakCount++;
+
+			if (Log.warnEnabled()) {
+				StringWriter sw = new StringWriter();
+				trace.printStackTrace(new PrintWriter(sw));
+				Log.warn("Async command not released within " +
+					TimeUnit.NANOSECONDS.toMillis(leakThreshold) + "ms on event loop " +
+					eventLoop.index + ": " + sw);
+			}
+		}
+	}
+}
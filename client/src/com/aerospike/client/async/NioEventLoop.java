@@ -24,7 +24,6 @@ import java.nio.channels.spi.SelectorProvider;
 import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -38,14 +37,18 @@ import com.aerospike.client.util.Util;
  * Implements the Aerospike EventLoop interface.
  */
 public final class NioEventLoop extends EventLoopBase implements Runnable {
+	private static final int MAX_COMMAND_DRAIN = 1024;
 
-	final ConcurrentLinkedDeque<Runnable> commandQueue;
+	final MpscQueue<Runnable> commandQueue;
 	final ArrayDeque<ScheduleTask> scheduleQueue;
 	final ArrayDeque<ByteBuffer> byteBufferQueue;
+	final NioCommandPool commandPool;
 	final Selector selector;
 	final AtomicBoolean awakened = new AtomicBoolean();
 	final Thread thread;
 	final long selectorTimeout;
+	final long selectorSpinNanos;
+	long scheduleDeadline = Long.MAX_VALUE;
 
 	/**
 	 * Construct Aerospike event loop wrapper from NIO Selector.
@@ -53,10 +56,13 @@ public final class NioEventLoop extends EventLoopBase implements Runnable {
 	public NioEventLoop(EventPolicy policy, SelectorProvider provider, int index, boolean daemon, String poolName) throws IOException {
 		super(policy, index);
 
-		commandQueue = new ConcurrentLinkedDeque<Runnable>();
+		commandQueue = new MpscQueue<Runnable>();
 		scheduleQueue = new ArrayDeque<ScheduleTask>(8);
 		byteBufferQueue = new ArrayDeque<ByteBuffer>(policy.commandsPerEventLoop);
 		selectorTimeout = policy.minTimeout;
+		selectorSpinNanos = TimeUnit.MICROSECONDS.toNanos(policy.selectorSpinTime);
+		commandPool = (policy.commandPoolSize > 0)?
+			new NioCommandPool(this, policy.commandPoolSize, policy.commandLeakThreshold) : null;
 		selector = provider.openSelector();
 
 		thread = new Thread(this, poolName + '-' + index);
@@ -69,6 +75,13 @@ public final class NioEventLoop extends EventLoopBase implements Runnable {
 	 */
 	@Override
 	public void execute(Cluster cluster, AsyncCommand command) {
+		if (commandPool != null && thread == Thread.currentThread()) {
+			// Only the event loop thread may use its command pool.
+			NioCommand cmd = commandPool.acquire();
+			cmd.init(cluster, command);
+			cmd.start();
+			return;
+		}
 		new NioCommand(this, cluster, command);
 	}
 
@@ -78,9 +91,12 @@ public final class NioEventLoop extends EventLoopBase implements Runnable {
 	 */
 	@Override
 	public void execute(Runnable command) {
-		commandQueue.offerLast(command);
+		commandQueue.offer(command);
 
-		if (awakened.compareAndSet(false, true)) {
+		// Awakened is true while the event loop is running or spinning, so most
+		// producers only perform a volatile read. Only one producer wakes a blocked
+		// selector.
+		if (! awakened.get() && awakened.compareAndSet(false, true)) {
 			selector.wakeup();
 		}
 	}
@@ -100,12 +116,12 @@ public final class NioEventLoop extends EventLoopBase implements Runnable {
 		final ScheduleTask task = new ScheduleTask(command, delay, unit);
 
 		if (thread == Thread.currentThread()) {
-			scheduleQueue.offer(task);
+			addScheduled(task);
 		}
 		else {
 			execute(new Runnable() {
 				public void run() {
-					scheduleQueue.offer(task);
+					addScheduled(task);
 				}
 			});
 		}
@@ -114,18 +130,19 @@ public final class NioEventLoop extends EventLoopBase implements Runnable {
 	/**
 	 * Schedule execution with a reusable ScheduleTask.
 	 * Saves memory allocation for repeatedly scheduled task.
+	 * If the task is already scheduled, it is moved to the new deadline.
 	 */
 	@Override
 	public void schedule(final ScheduleTask task, long delay, TimeUnit unit) {
-		task.setDeadline(delay, unit);
+		final long deadline = System.nanoTime() + unit.toNanos(delay);
 
 		if (thread == Thread.currentThread()) {
-			scheduleQueue.offer(task);
+			reschedule(task, deadline);
 		}
 		else {
 			execute(new Runnable() {
 				public void run() {
-					scheduleQueue.offer(task);
+					reschedule(task, deadline);
 				}
 			});
 		}
@@ -197,11 +214,20 @@ public final class NioEventLoop extends EventLoopBase implements Runnable {
 	private void runCommands() throws Exception {
 		registerCommands();
 		runScheduled();
-		awakened.set(false);
-		selector.select(selectorTimeout);
 
-		if (awakened.get()) {
-			selector.wakeup();
+		if (! spinSelect()) {
+			awakened.set(false);
+
+			long timeout = selectTimeout();
+
+			if (timeout > 0 && commandQueue.isEmpty()) {
+				selector.select(timeout);
+			}
+			else {
+				// Command was queued before awakened was reset or a scheduled task is due.
+				selector.selectNow();
+			}
+			awakened.set(true);
 		}
 
 		final Set<SelectionKey> keys = selector.selectedKeys();
@@ -228,31 +254,92 @@ public final class NioEventLoop extends EventLoopBase implements Runnable {
 		}
 	}
 
+	/**
+	 * Poll selector and command queue for the spin window before blocking.
+	 * Return true if work is available.
+	 */
+	private boolean spinSelect() throws IOException {
+		if (selectorSpinNanos <= 0) {
+			return false;
+		}
+
+		long begin = System.nanoTime();
+
+		do {
+			if (selector.selectNow() > 0 || ! commandQueue.isEmpty()) {
+				return true;
+			}
+			Thread.onSpinWait();
+		} while (System.nanoTime() - begin < selectorSpinNanos);
+
+		return false;
+	}
+
 	private void registerCommands() {
-		Runnable last = commandQueue.peekLast();
+		// Limit batch so commands that queue other commands can not starve socket events.
 		Runnable command;
+		int count = 0;
 
-		while ((command = commandQueue.pollFirst()) != null) {
+		while (count++ < MAX_COMMAND_DRAIN && (command = commandQueue.poll()) != null) {
 			command.run();
+		}
+	}
 
-			if (command == last) {
-				break;
+	private void reschedule(ScheduleTask task, long deadline) {
+		task.deadline = deadline;
+
+		if (task.scheduled) {
+			// Task is already queued. runScheduled() checks the updated deadline.
+			if (deadline < scheduleDeadline) {
+				scheduleDeadline = deadline;
 			}
+			return;
+		}
+		task.scheduled = true;
+		addScheduled(task);
+	}
+
+	private void addScheduled(ScheduleTask task) {
+		scheduleQueue.offer(task);
+
+		if (task.deadline < scheduleDeadline) {
+			scheduleDeadline = task.deadline;
 		}
 	}
 
+	/**
+	 * Return selector timeout in milliseconds bounded by the earliest scheduled task.
+	 * Return zero if a scheduled task is due.
+	 */
+	private long selectTimeout() {
+		if (scheduleDeadline == Long.MAX_VALUE) {
+			return selectorTimeout;
+		}
+
+		long remaining = scheduleDeadline - System.nanoTime();
+
+		if (remaining <= 0) {
+			return 0;
+		}
+		return Math.min(selectorTimeout, (remaining + 999999) / 1000000);
+	}
+
 	private void runScheduled() {
 		ScheduleTask last = scheduleQueue.peekLast();
 		ScheduleTask command;
 		long currentTime = System.nanoTime();
 
+		// Tasks that remain or are added while running recompute the earliest deadline.
+		scheduleDeadline = Long.MAX_VALUE;
+
 		while ((command = scheduleQueue.pollFirst()) != null) {
 			if (command.deadline <= currentTime) {
+				command.scheduled = false;
 				command.run();
 				currentTime = System.nanoTime();
 			}
 			else {
-				scheduleQueue.addLast(command);
+				addScheduled(command);
 			}
 
 			if (command == last) {
@@ -272,10 +359,16 @@ public final class NioEventLoop extends EventLoopBase implements Runnable {
 		usingDelayQueue = true;
 
 		try {
+			if (delayQueue.size() > 0) {
+				// Drop commands that can no longer complete in time.
+				delayQueue.removeExpired(System.nanoTime());
+			}
+
 			NioCommand cmd;
 			while (pending < maxCommandsInProcess && (cmd = (NioCommand)delayQueue.pollFirst()) != null) {
 				if (cmd.state == AsyncCommand.COMPLETE) {
 					// Command timed out and user has already been notified.
+					cmd.recycle();
 					continue;
 				}
 				cmd.executeCommandFromDelayQueue();
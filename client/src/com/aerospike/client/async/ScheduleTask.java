@@ -16,12 +16,19 @@
  */
 package com.aerospike.client.async;
 
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 public final class ScheduleTask implements Runnable {
 	final Runnable command;
 	long deadline;
 
+	// Task is in the nio event loop schedule queue.
+	boolean scheduled;
+
+	// Last netty event loop schedule of this task.
+	ScheduledFuture<?> future;
+
 	public ScheduleTask(Runnable command, long delay, TimeUnit unit) {
 		this.command = command;
 		this.deadline = System.nanoTime() + unit.toNanos(delay);
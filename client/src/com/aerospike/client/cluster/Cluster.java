@@ -17,14 +17,19 @@
 package com.aerospike.client.cluster;
 
 import java.io.Closeable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,6 +40,7 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 import com.aerospike.client.AerospikeClient;
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Host;
+import com.aerospike.client.Key;
 import com.aerospike.client.Log;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.admin.AdminCommand;
@@ -53,6 +59,7 @@ import com.aerospike.client.metrics.MetricsPolicy;
 import com.aerospike.client.metrics.MetricsWriter;
 import com.aerospike.client.policy.AuthMode;
 import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.TCPKeepAlive;
 import com.aerospike.client.policy.TlsPolicy;
 import com.aerospike.client.util.ThreadLocalData;
@@ -141,6 +148,18 @@ public class Cluster implements Runnable, Closeable {
 	// Maximum async connections per node.
 	protected final int asyncMaxConnsPerNode;
 
+	// Maximum concurrent async connection opens per node when filling async pools.
+	protected final int asyncWarmupConcurrency;
+
+	// Dispatch single record async commands to node preferred event loops.
+	final boolean asyncEventLoopAffinity;
+
+	// Pending command difference that spills over affine commands to round-robin.
+	private final int asyncAffinitySpillover;
+
+	// Number of event loops assigned to each node in affinity mode.
+	private volatile int affinityWidth = 1;
+
 	// Sync connection pools per node.
 	protected final int connPoolsPerNode;
 
@@ -171,6 +190,31 @@ public class Cluster implements Runnable, Closeable {
 	// Cluster tend counter
 	private int tendCount;
 
+	// Duration of the most recent cluster tend iteration in microseconds.
+	private volatile long tendTimeLast;
+
+	// Maximum cluster tend iteration duration in microseconds.
+	private volatile long tendTimeMax;
+
+	// Issue node info requests in parallel during cluster tend.
+	private final boolean tendParallel;
+
+	// Optional cluster snapshot file.
+	private final Path snapshotPath;
+
+	// Number of cluster tend iterations between cluster snapshot writes.
+	private final int snapshotInterval;
+
+	// Partition replicas moved between nodes in the current cluster tend iteration.
+	// Only accessed within cluster tend thread.
+	int partitionsMoved;
+
+	// Partition replicas moved between nodes in the most recent cluster tend iteration.
+	private volatile int partitionMoveCount;
+
+	// Partition replicas moved between nodes since the client was started.
+	private final AtomicLong partitionMoveTotal = new AtomicLong();
+
 	// Has cluster instance been closed.
 	private AtomicBoolean closed;
 
@@ -201,16 +245,21 @@ public class Cluster implements Runnable, Closeable {
 	private final AtomicLong retryCount = new AtomicLong();
 	private final AtomicLong commandCount = new AtomicLong();
 	private final AtomicLong delayQueueTimeoutCount = new AtomicLong();
+	private final AtomicLong delayQueueShedCount = new AtomicLong();
+	private final AtomicLong delayQueueRejectCount = new AtomicLong();
 
 	public Cluster(AerospikeClient client, ClientPolicy policy, Host[] hosts) {
 		this.client = client;
 		this.clusterName = policy.clusterName;
 		this.validateClusterName = policy.validateClusterName;
-		this.tlsPolicy = policy.tlsPolicy;
+		// Apply TLS session cache settings before the first TLS connection.
+		this.tlsPolicy = (policy.tlsPolicy != null)?
+			Connection.configureSessionCache(policy.tlsPolicy) : null;
 		this.authMode = policy.authMode;
 
-		// Default TLS names when TLS enabled.
 		if (tlsPolicy != null) {
+
+			// Default TLS names when TLS enabled.
 			boolean useClusterName = clusterName != null && clusterName.length() > 0;
 
 			for (int i = 0; i < hosts.length; i++) {
@@ -285,6 +334,8 @@ public class Cluster implements Runnable, Closeable {
 			throw new AerospikeException("Invalid async connection range: " + asyncMinConnsPerNode + " - " +  asyncMaxConnsPerNode);
 		}
 
+		asyncWarmupConcurrency = (policy.asyncWarmupConcurrency > 0)? policy.asyncWarmupConcurrency : 1;
+
 		connPoolsPerNode = policy.connPoolsPerNode;
 		maxErrorRate = policy.maxErrorRate;
 		errorRateWindow = policy.errorRateWindow;
@@ -292,6 +343,13 @@ public class Cluster implements Runnable, Closeable {
 		loginTimeout = policy.loginTimeout;
 		closeTimeout = policy.closeTimeout;
 		tendInterval = policy.tendInterval;
+		tendParallel = policy.tendParallel;
+		snapshotPath = (policy.snapshotFile != null)? Paths.get(policy.snapshotFile) : null;
+		snapshotInterval = policy.snapshotInterval;
+
+		if (snapshotPath != null && snapshotInterval <= 0) {
+			throw new AerospikeException("Invalid snapshotInterval: " + snapshotInterval);
+		}
 		ipMap = policy.ipMap;
 		keepAlive = policy.keepAlive;
 		threadFactory = Thread.ofVirtual().name("Aerospike-", 0L).factory();
@@ -321,6 +379,8 @@ public class Cluster implements Runnable, Closeable {
 		closed = new AtomicBoolean();
 
 		eventLoops = policy.eventLoops;
+		asyncEventLoopAffinity = policy.asyncEventLoopAffinity && eventLoops != null;
+		asyncAffinitySpillover = policy.asyncAffinitySpillover;
 
 		if (eventLoops != null) {
 			EventLoop[] loops = eventLoops.getArray();
@@ -414,8 +474,10 @@ public class Cluster implements Runnable, Closeable {
 	}
 
 	public void initTendThread(boolean failIfNotConnected) {
-		// Tend cluster until all nodes identified.
-		waitTillStabilized(failIfNotConnected);
+		// Use cluster snapshot if it exists. Otherwise, tend cluster until all nodes identified.
+		if (! loadSnapshot()) {
+			waitTillStabilized(failIfNotConnected);
+		}
 
 		if (Log.debugEnabled()) {
 			for (Host host : seeds) {
@@ -444,6 +506,124 @@ public class Cluster implements Runnable, Closeable {
 		tendThread.start();
 	}
 
+	/**
+	 * Initialize nodes and partition maps from the cluster snapshot file. Snapshot nodes are
+	 * validated in parallel. Partition maps are used as is and will be repaired by the first
+	 * cluster tend iteration in the background. Partitions owned by snapshot nodes that failed
+	 * validation have no node until then. Return false if the snapshot does not exist or none
+	 * of the snapshot nodes are valid.
+	 */
+	private final boolean loadSnapshot() {
+		if (snapshotPath == null) {
+			return false;
+		}
+
+		ClusterSnapshot snapshot;
+
+		try {
+			snapshot = ClusterSnapshot.read(snapshotPath);
+		}
+		catch (Throwable e) {
+			if (Log.warnEnabled()) {
+				Log.warn("Cluster snapshot read failed: " + Util.getErrorMessage(e));
+			}
+			return false;
+		}
+
+		if (snapshot == null) {
+			return false;
+		}
+
+		if (validateClusterName() && ! clusterName.equals(snapshot.clusterName)) {
+			if (Log.warnEnabled()) {
+				Log.warn("Cluster snapshot ignored. Expected cluster name '" + clusterName +
+					"' received '" + snapshot.clusterName + "'");
+			}
+			return false;
+		}
+
+		final ClusterSnapshot.NodeEntry[] entries = snapshot.nodes;
+		final Node[] validNodes = new Node[entries.length];
+
+		try (ExecutorService es = Executors.newThreadPerTaskExecutor(threadFactory);) {
+			for (int i = 0; i < entries.length; i++) {
+				final int index = i;
+
+				es.execute(new Runnable() {
+					public void run() {
+						ClusterSnapshot.NodeEntry entry = entries[index];
+
+						try {
+							NodeValidator nv = new NodeValidator();
+							nv.validateNode(Cluster.this, entry.host);
+
+							if (! entry.name.equals(nv.name)) {
+								// Host now references a different node. Let cluster tend find it.
+								nv.primaryConn.close();
+								throw new AerospikeException("Node name has changed. Old=" + entry.name +
+									" New=" + nv.name);
+							}
+							validNodes[index] = createNode(nv);
+						}
+						catch (Throwable e) {
+							if (Log.warnEnabled()) {
+								Log.warn("Snapshot node " + entry.name + ' ' + entry.host + " failed: " +
+									Util.getErrorMessage(e));
+							}
+						}
+					}
+				});
+			}
+		}
+
+		HashMap<String,Node> nodesToAdd = new HashMap<String,Node>(entries.length * 2);
+
+		for (int i = 0; i < validNodes.length; i++) {
+			Node node = validNodes[i];
+
+			if (node != null) {
+				if (rackAware) {
+					node.setRacks(new HashMap<String,Integer>(entries[i].racks));
+				}
+				nodesToAdd.put(node.getName(), node);
+			}
+		}
+
+		if (nodesToAdd.size() == 0) {
+			if (Log.warnEnabled()) {
+				Log.warn("Cluster snapshot ignored. All snapshot nodes failed.");
+			}
+			return false;
+		}
+
+		addNodes(nodesToAdd);
+		partitionMap = snapshot.createPartitionMap(validNodes);
+
+		if (Log.infoEnabled()) {
+			Log.info("Cluster initialized from snapshot: nodes=" + nodesToAdd.size() + '/' + entries.length);
+		}
+		return true;
+	}
+
+	private final void writeSnapshot() {
+		Node[] nodeArray = nodes;
+
+		// Do not overwrite a valid snapshot with an empty cluster.
+		if (nodeArray.length == 0) {
+			return;
+		}
+
+		try {
+			ClusterSnapshot snapshot = ClusterSnapshot.create(this, nodeArray, partitionMap);
+			snapshot.write(snapshotPath);
+		}
+		catch (Throwable e) {
+			if (Log.warnEnabled()) {
+				Log.warn("Cluster snapshot write failed: " + Util.getErrorMessage(e));
+			}
+		}
+	}
+
 	public final void addSeeds(Host[] hosts) {
 		// Use copy on write semantics.
 		Host[] seedArray = new Host[seeds.length + hosts.length];
@@ -517,9 +697,12 @@ public class Cluster implements Runnable, Closeable {
 	 * Check health of all nodes in the cluster.
 	 */
 	private final void tend(boolean failIfNotConnected, boolean isInit) {
+		long begin = System.nanoTime();
+
 		// All node additions/deletions are performed in tend thread.
 		// Initialize tend iteration node statistics.
 		Peers peers = new Peers(nodes.length + 16);
+		partitionsMoved = 0;
 
 		// Clear node reference counts.
 		for (Node node : nodes) {
@@ -539,8 +722,22 @@ public class Cluster implements Runnable, Closeable {
 		}
 		else {
 			// Refresh all known nodes.
-			for (Node node : nodes) {
-				node.refresh(peers);
+			if (isParallel(nodes)) {
+				runParallel(nodes, new NodeTask() {
+					public void run(Node node) {
+						node.refresh();
+					}
+				});
+
+				// Merge node results in node order.
+				for (Node node : nodes) {
+					node.mergeRefresh(peers);
+				}
+			}
+			else {
+				for (Node node : nodes) {
+					node.refresh(peers);
+				}
 			}
 
 			// Refresh peers when necessary.
@@ -548,6 +745,8 @@ public class Cluster implements Runnable, Closeable {
 				// Refresh peers for all nodes that responded the first time even if only one node's peers changed.
 				peers.refreshCount = 0;
 
+				requestPeers(nodes);
+
 				for (Node node : nodes) {
 					node.refreshPeers(peers);
 				}
@@ -571,13 +770,51 @@ public class Cluster implements Runnable, Closeable {
 		invalidNodeCount += peers.getInvalidCount();
 
 		// Refresh partition map when necessary.
-		for (Node node : nodes) {
-			if (node.partitionChanged) {
-				node.refreshPartitions(peers);
+		if (isParallel(nodes)) {
+			// Request partition maps and racks in parallel.
+			runParallel(nodes, new NodeTask() {
+				public void run(Node node) {
+					if (node.partitionChanged) {
+						node.requestPartitions(peers);
+					}
+
+					if (node.rebalanceChanged) {
+						node.requestRacks();
+					}
+				}
+			});
+
+			// Apply partition maps and racks in node order, so updates
+			// are the same as a sequential tend.
+			for (Node node : nodes) {
+				if (node.partitionChanged) {
+					node.refreshPartitions(peers);
+				}
+
+				if (node.rebalanceChanged) {
+					node.refreshRacks();
+				}
 			}
+		}
+		else {
+			for (Node node : nodes) {
+				if (node.partitionChanged) {
+					node.refreshPartitions(peers);
+				}
 
-			if (node.rebalanceChanged) {
-				node.refreshRacks();
+				if (node.rebalanceChanged) {
+					node.refreshRacks();
+				}
+			}
+		}
+
+		partitionMoveCount = partitionsMoved;
+
+		if (partitionsMoved > 0) {
+			partitionMoveTotal.getAndAdd(partitionsMoved);
+
+			if (Log.debugEnabled()) {
+				Log.debug("Partition replicas moved: " + partitionsMoved);
 			}
 		}
 
@@ -620,54 +857,112 @@ public class Cluster implements Runnable, Closeable {
 			}
 		}
 
+		// Write cluster snapshot after the first tend and every snapshotInterval tend iterations.
+		if (snapshotPath != null && (tendCount == 1 || tendCount % snapshotInterval == 0)) {
+			writeSnapshot();
+		}
+
 		if (metricsEnabled && (tendCount % metricsPolicy.interval) == 0) {
 			metricsListener.onSnapshot(this);
 		}
 
 		processRecoverQueue();
+
+		long elapsed = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin);
+		tendTimeLast = elapsed;
+
+		if (elapsed > tendTimeMax) {
+			tendTimeMax = elapsed;
+		}
+	}
+
+	private final boolean isParallel(Node[] nodeArray) {
+		return tendParallel && nodeArray.length > 1;
+	}
+
+	/**
+	 * Run task on each node in a separate virtual thread and wait for all tasks to complete.
+	 * Tasks must only modify node local state.
+	 */
+	private final void runParallel(Node[] nodeArray, final NodeTask task) {
+		try (ExecutorService es = Executors.newThreadPerTaskExecutor(threadFactory);) {
+			for (final Node node : nodeArray) {
+				es.execute(new Runnable() {
+					public void run() {
+						try {
+							task.run(node);
+						}
+						catch (Throwable e) {
+							if (Log.warnEnabled()) {
+								Log.warn("Node " + node + " tend failed: " + Util.getErrorMessage(e));
+							}
+						}
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Request peers from nodes in parallel when parallel tend is enabled.
+	 * The responses are parsed in node order by Node.refreshPeers().
+	 */
+	private final void requestPeers(Node[] nodeArray) {
+		if (isParallel(nodeArray)) {
+			runParallel(nodeArray, new NodeTask() {
+				public void run(Node node) {
+					node.requestPeers();
+				}
+			});
+		}
+	}
+
+	private interface NodeTask {
+		void run(Node node);
 	}
 
 	private final boolean seedNode(Peers peers, boolean failIfNotConnected) {
 		// Must copy array reference for copy on write semantics to work.
 		Host[] seedArray = seeds;
-		Throwable[] exceptions = null;
+		Throwable[] exceptions = new Throwable[seedArray.length];
 		NodeValidator nv = new NodeValidator();
 
+		// Validate seeds concurrently.
+		Node node = nv.seedNodes(this, seedArray, peers, exceptions);
+
 		for (int i = 0; i < seedArray.length; i++) {
-			Host seed = seedArray[i];
+			Throwable e = exceptions[i];
 
-			try {
-				Node node = nv.seedNode(this, seed, peers);
+			if (e == null) {
+				continue;
+			}
 
-				if (node != null) {
-					addSeedAndPeers(node, peers);
-					return true;
-				}
+			Host seed = seedArray[i];
+
+			if (seed.tlsName != null && tlsPolicy == null) {
+				// Fail immediately for known configuration errors like this.
+				throw new AerospikeException.Connection("Seed host tlsName '" + seed.tlsName +
+					"' defined but client tlsPolicy not enabled", e);
 			}
-			catch (Throwable e) {
-				peers.fail(seed);
 
-				if (seed.tlsName != null && tlsPolicy == null) {
-					// Fail immediately for known configuration errors like this.
-					throw new AerospikeException.Connection("Seed host tlsName '" + seed.tlsName +
-						"' defined but client tlsPolicy not enabled", e);
-				}
+			// Only mark seeds as failed when no seed node was found.
+			// Otherwise, seed failures depend on which seed validated first.
+			if (node == null) {
+				peers.fail(seed);
+			}
 
-				// Store exception and try next seed.
-				if (failIfNotConnected) {
-					if (exceptions == null) {
-						exceptions = new Exception[seedArray.length];
-					}
-					exceptions[i] = e;
-				}
-				else {
-					if (Log.warnEnabled()) {
-						Log.warn("Seed " + seed + " failed: " + Util.getErrorMessage(e));
-					}
+			if (! failIfNotConnected || node != null) {
+				if (Log.warnEnabled()) {
+					Log.warn("Seed " + seed + " failed: " + Util.getErrorMessage(e));
 				}
 			}
 		}
 
+		if (node != null) {
+			addSeedAndPeers(node, peers);
+			return true;
+		}
+
 		// No seeds valid. Use fallback node if it exists.
 		if (nv.fallback != null) {
 			// When a fallback is used, peers refreshCount is reset to zero.
@@ -726,6 +1021,8 @@ public class Cluster implements Runnable, Closeable {
 			// Refresh peers of peers in order retrieve the node's peersCount
 			// which is used in RefreshPartitions(). This call might add even
 			// more peers.
+			requestPeers(nodeArray);
+
 			for (Node node : nodeArray) {
 				node.refreshPeers(peers);
 			}
@@ -817,6 +1114,7 @@ public class Cluster implements Runnable, Closeable {
 			addNode(peer);
 		}
 		hasPartitionQuery = Cluster.supportsPartitionQuery(nodeArray);
+		assignEventLoops(nodeArray);
 
 		// Replace nodes with copy.
 		nodes = nodeArray;
@@ -842,11 +1140,42 @@ public class Cluster implements Runnable, Closeable {
 			addNode(node);
 		}
 		hasPartitionQuery = Cluster.supportsPartitionQuery(nodeArray);
+		assignEventLoops(nodeArray);
 
 		// Replace nodes with copy.
 		nodes = nodeArray;
 	}
 
+	/**
+	 * Map each node to a consistent range of event loops. Nodes are ordered by name so
+	 * the mapping does not depend on the order that nodes were discovered. Each node's async
+	 * min connections are moved to its range.
+	 */
+	private final void assignEventLoops(Node[] nodeArray) {
+		if (! asyncEventLoopAffinity || nodeArray.length == 0) {
+			return;
+		}
+
+		Node[] sorted = nodeArray.clone();
+
+		Arrays.sort(sorted, new Comparator<Node>() {
+			@Override
+			public int compare(Node n1, Node n2) {
+				return n1.getName().compareTo(n2.getName());
+			}
+		});
+
+		int loopCount = eventLoops.getSize();
+		int width = Math.max(1, loopCount / sorted.length);
+
+		// Publish width first so a command never indexes past a node's new range.
+		affinityWidth = width;
+
+		for (int i = 0; i < sorted.length; i++) {
+			sorted[i].assignEventLoops((i * width) % loopCount, width);
+		}
+	}
+
 	private final void addNode(Node node) {
 		if (Log.infoEnabled()) {
 			Log.info("Add node " + node);
@@ -915,6 +1244,7 @@ public class Cluster implements Runnable, Closeable {
 			nodeArray = nodeArray2;
 		}
 		hasPartitionQuery = Cluster.supportsPartitionQuery(nodeArray);
+		assignEventLoops(nodeArray);
 
 		// Replace nodes with copy.
 		nodes = nodeArray;
@@ -937,6 +1267,26 @@ public class Cluster implements Runnable, Closeable {
 		return false;
 	}
 
+	/**
+	 * Return if the cluster is connected and every active node has filled its connection
+	 * pools to min connections with no async pool warm-up in progress.
+	 */
+	public final boolean isReady() {
+		// Must copy array reference for copy on write semantics to work.
+		Node[] nodeArray = nodes;
+
+		if (nodeArray.length == 0 || ! isConnected()) {
+			return false;
+		}
+
+		for (Node node : nodeArray) {
+			if (node.active && ! node.isReady()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public final Node getRandomNode() throws AerospikeException.InvalidNode {
 		// Must copy array reference for copy on write semantics to work.
 		Node[] nodeArray = nodes;
@@ -1087,6 +1437,41 @@ public class Cluster implements Runnable, Closeable {
 		return eventLoops.getArray();
 	}
 
+	/**
+	 * Return event loop for a single record async command. If event loop affinity is enabled,
+	 * return the event loop preferred for the node that the command will try first (according
+	 * to the policy's replica) unless that event loop has too many pending commands relative
+	 * to the next round-robin event loop.
+	 * For internal use only.
+	 */
+	public final EventLoop nextEventLoop(Policy policy, Key key, boolean write) {
+		EventLoop next = eventLoops.next();
+
+		if (! asyncEventLoopAffinity) {
+			return next;
+		}
+
+		Node node = Partition.getNodeFirst(this, policy, key, write);
+
+		if (node == null) {
+			return next;
+		}
+
+		// Spread a node's partitions over its assigned event loops.
+		int partitionId = Partition.getPartitionId(key.digest);
+		int index = (node.eventLoopAffinity + (partitionId % affinityWidth)) % eventLoops.getSize();
+		EventLoop preferred = eventLoops.get(index);
+
+		if (preferred == next) {
+			return next;
+		}
+
+		int preferredLoad = preferred.getProcessSize() + preferred.getQueueSize();
+		int nextLoad = next.getProcessSize() + next.getQueueSize();
+
+		return (preferredLoad - nextLoad >= asyncAffinitySpillover)? next : preferred;
+	}
+
 	public final ClusterStats getStats() {
 		// Get sync statistics.
 		final Node[] nodeArray = nodes;
@@ -1405,6 +1790,36 @@ public class Cluster implements Runnable, Closeable {
 		return delayQueueTimeoutCount.get();
 	}
 
+	/**
+	 * Increment count of expired commands dropped from async delay queue.
+	 */
+	public final void addDelayQueueShed() {
+		delayQueueShedCount.getAndIncrement();
+	}
+
+	/**
+	 * Return count of expired commands dropped from async delay queue.
+	 */
+	public final long getDelayQueueShedCount() {
+		return delayQueueShedCount.get();
+	}
+
+	/**
+	 * Increment count of commands rejected because the estimated async delay queue wait
+	 * exceeded the command deadline.
+	 */
+	public final void addDelayQueueReject() {
+		delayQueueRejectCount.getAndIncrement();
+	}
+
+	/**
+	 * Return count of commands rejected because the estimated async delay queue wait
+	 * exceeded the command deadline.
+	 */
+	public final long getDelayQueueRejectCount() {
+		return delayQueueRejectCount.get();
+	}
+
 	/**
 	 * Return connection recoverQueue size. The queue contains connections that have timed out and
 	 * need to be drained before returning the connection to a connection pool. The recoverQueue
@@ -1417,6 +1832,42 @@ public class Cluster implements Runnable, Closeable {
 		return recoverCount.get();
 	}
 
+	/**
+	 * Return number of cluster tend iterations since the client was started.
+	 */
+	public final int getTendCount() {
+		return tendCount;
+	}
+
+	/**
+	 * Return duration of the most recent cluster tend iteration in microseconds.
+	 */
+	public final long getTendTimeLast() {
+		return tendTimeLast;
+	}
+
+	/**
+	 * Return maximum cluster tend iteration duration in microseconds since the client was started.
+	 */
+	public final long getTendTimeMax() {
+		return tendTimeMax;
+	}
+
+	/**
+	 * Return count of partition replicas that moved between nodes in the most recent cluster
+	 * tend iteration. This count is useful for tracking migration progress.
+	 */
+	public final int getPartitionMoveCount() {
+		return partitionMoveCount;
+	}
+
+	/**
+	 * Return count of partition replicas that moved between nodes since the client was started.
+	 */
+	public final long getPartitionMoveTotal() {
+		return partitionMoveTotal.get();
+	}
+
 	/**
 	 * Return count of add node failures in the most recent cluster tend iteration.
 	 */
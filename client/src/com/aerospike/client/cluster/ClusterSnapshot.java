@@ -0,0 +1,347 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.cluster;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Host;
+import com.aerospike.client.command.Buffer;
+
+/**
+ * Cluster nodes, racks and partition maps persisted to a file. The snapshot is used to
+ * start routing commands immediately when a new client instance is created. Cluster tend
+ * validates the snapshot in the background and repairs stale entries.
+ */
+public final class ClusterSnapshot {
+	private static final int MAGIC = 0x41534e50; // "ASNP"
+	private static final int VERSION = 1;
+
+	final String clusterName;
+	final NodeEntry[] nodes;
+	final NamespaceEntry[] namespaces;
+
+	private ClusterSnapshot(String clusterName, NodeEntry[] nodes, NamespaceEntry[] namespaces) {
+		this.clusterName = clusterName;
+		this.nodes = nodes;
+		this.namespaces = namespaces;
+	}
+
+	/**
+	 * Create snapshot of the cluster's current nodes and partition maps.
+	 */
+	static ClusterSnapshot create(Cluster cluster, Node[] nodeArray, HashMap<String,Partitions> partitionMap) {
+		HashMap<Node,Integer> nodeIndexes = new HashMap<Node,Integer>(nodeArray.length * 2);
+		NodeEntry[] nodes = new NodeEntry[nodeArray.length];
+
+		for (int i = 0; i < nodeArray.length; i++) {
+			Node node = nodeArray[i];
+			nodeIndexes.put(node, i);
+
+			Map<String,Integer> racks = node.getRacks();
+
+			if (racks == null) {
+				racks = new HashMap<String,Integer>();
+			}
+			nodes[i] = new NodeEntry(node.getName(), node.getHost(), racks);
+		}
+
+		NamespaceEntry[] namespaces = new NamespaceEntry[partitionMap.size()];
+		int count = 0;
+
+		for (Entry<String,Partitions> entry : partitionMap.entrySet()) {
+			Partitions partitions = entry.getValue();
+			AtomicReferenceArray<Node>[] replicas = partitions.replicas;
+			short[][] owners = new short[replicas.length][];
+
+			for (int r = 0; r < replicas.length; r++) {
+				AtomicReferenceArray<Node> nodeRefs = replicas[r];
+				int max = nodeRefs.length();
+				short[] indexes = new short[max];
+
+				for (int p = 0; p < max; p++) {
+					Node node = nodeRefs.get(p);
+					Integer index = (node != null)? nodeIndexes.get(node) : null;
+					indexes[p] = (index != null)? (short)index.intValue() : -1;
+				}
+				owners[r] = indexes;
+			}
+			namespaces[count++] = new NamespaceEntry(entry.getKey(), partitions.scMode, owners);
+		}
+
+		String name = cluster.getClusterName();
+		return new ClusterSnapshot((name != null)? name : "", nodes, namespaces);
+	}
+
+	/**
+	 * Write snapshot to a temporary file and then atomically replace the existing snapshot file.
+	 */
+	void write(Path path) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(estimateSize());
+		buf.putInt(MAGIC);
+		buf.putInt(VERSION);
+		putString(buf, clusterName);
+		buf.putInt(nodes.length);
+
+		for (NodeEntry node : nodes) {
+			putString(buf, node.name);
+			putString(buf, node.host.name);
+			putString(buf, (node.host.tlsName != null)? node.host.tlsName : "");
+			buf.putInt(node.host.port);
+			buf.putInt(node.racks.size());
+
+			for (Entry<String,Integer> entry : node.racks.entrySet()) {
+				putString(buf, entry.getKey());
+				buf.putInt(entry.getValue());
+			}
+		}
+
+		buf.putInt(namespaces.length);
+
+		for (NamespaceEntry ns : namespaces) {
+			putString(buf, ns.name);
+			buf.put((byte)(ns.scMode ? 1 : 0));
+			buf.putInt(ns.owners.length);
+			buf.putInt(ns.owners.length > 0 ? ns.owners[0].length : 0);
+
+			for (short[] indexes : ns.owners) {
+				for (short index : indexes) {
+					buf.putShort(index);
+				}
+			}
+		}
+		buf.flip();
+
+		Path dir = path.toAbsolutePath().getParent();
+
+		if (dir != null) {
+			Files.createDirectories(dir);
+		}
+
+		Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+		try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			while (buf.hasRemaining()) {
+				channel.write(buf);
+			}
+			channel.force(false);
+		}
+		Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Read snapshot file. Return null if the file does not exist.
+	 */
+	static ClusterSnapshot read(Path path) throws IOException {
+		if (! Files.exists(path)) {
+			return null;
+		}
+
+		ByteBuffer buf;
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+
+			if (size > Integer.MAX_VALUE) {
+				throw new AerospikeException("Invalid cluster snapshot size: " + size);
+			}
+
+			buf = ByteBuffer.allocate((int)size);
+
+			while (buf.hasRemaining()) {
+				if (channel.read(buf) < 0) {
+					break;
+				}
+			}
+			buf.flip();
+		}
+
+		try {
+			int magic = buf.getInt();
+
+			if (magic != MAGIC) {
+				throw new AerospikeException("Invalid cluster snapshot file: " + path);
+			}
+
+			int version = buf.getInt();
+
+			if (version != VERSION) {
+				throw new AerospikeException("Unsupported cluster snapshot version: " + version);
+			}
+
+			String clusterName = getString(buf);
+			NodeEntry[] nodes = new NodeEntry[buf.getInt()];
+
+			for (int i = 0; i < nodes.length; i++) {
+				String name = getString(buf);
+				String hostName = getString(buf);
+				String tlsName = getString(buf);
+				int port = buf.getInt();
+				int rackCount = buf.getInt();
+				HashMap<String,Integer> racks = new HashMap<String,Integer>();
+
+				for (int j = 0; j < rackCount; j++) {
+					String ns = getString(buf);
+					racks.put(ns, buf.getInt());
+				}
+
+				Host host = new Host(hostName, (tlsName.length() > 0)? tlsName : null, port);
+				nodes[i] = new NodeEntry(name, host, racks);
+			}
+
+			NamespaceEntry[] namespaces = new NamespaceEntry[buf.getInt()];
+
+			for (int i = 0; i < namespaces.length; i++) {
+				String name = getString(buf);
+				boolean scMode = buf.get() != 0;
+				int replicaCount = buf.getInt();
+				int partitionCount = buf.getInt();
+
+				if (partitionCount != Node.PARTITIONS) {
+					throw new AerospikeException("Invalid cluster snapshot partition count: " + partitionCount);
+				}
+
+				short[][] owners = new short[replicaCount][partitionCount];
+
+				for (int r = 0; r < replicaCount; r++) {
+					short[] indexes = owners[r];
+
+					for (int p = 0; p < partitionCount; p++) {
+						short index = buf.getShort();
+
+						if (index >= nodes.length) {
+							throw new AerospikeException("Invalid cluster snapshot node index: " + index);
+						}
+						indexes[p] = index;
+					}
+				}
+				namespaces[i] = new NamespaceEntry(name, scMode, owners);
+			}
+			return new ClusterSnapshot(clusterName, nodes, namespaces);
+		}
+		catch (RuntimeException re) {
+			if (re instanceof AerospikeException) {
+				throw re;
+			}
+			throw new AerospikeException("Invalid cluster snapshot file: " + path, re);
+		}
+	}
+
+	/**
+	 * Create partition map from snapshot. Partitions owned by nodes that could not
+	 * be validated are left empty.
+	 */
+	HashMap<String,Partitions> createPartitionMap(Node[] validNodes) {
+		HashMap<String,Partitions> map = new HashMap<String,Partitions>(namespaces.length * 2);
+
+		for (NamespaceEntry ns : namespaces) {
+			Partitions partitions = new Partitions(Node.PARTITIONS, ns.owners.length, ns.scMode);
+
+			for (int r = 0; r < ns.owners.length; r++) {
+				AtomicReferenceArray<Node> nodeRefs = partitions.replicas[r];
+				short[] indexes = ns.owners[r];
+
+				for (int p = 0; p < indexes.length; p++) {
+					int index = indexes[p];
+
+					if (index >= 0) {
+						nodeRefs.set(p, validNodes[index]);
+					}
+				}
+			}
+			map.put(ns.name, partitions);
+		}
+		return map;
+	}
+
+	private int estimateSize() {
+		int size = 12 + estimateString(clusterName);
+
+		for (NodeEntry node : nodes) {
+			size += estimateString(node.name) + estimateString(node.host.name) +
+				estimateString(node.host.tlsName) + 8;
+
+			for (String ns : node.racks.keySet()) {
+				size += estimateString(ns) + 4;
+			}
+		}
+
+		size += 4;
+
+		for (NamespaceEntry ns : namespaces) {
+			size += estimateString(ns.name) + 9;
+
+			for (short[] indexes : ns.owners) {
+				size += indexes.length * 2;
+			}
+		}
+		return size;
+	}
+
+	private static int estimateString(String s) {
+		return (s != null)? Buffer.estimateSizeUtf8(s) + 2 : 2;
+	}
+
+	private static void putString(ByteBuffer buf, String s) {
+		byte[] bytes = Buffer.stringToUtf8(s);
+		buf.putShort((short)bytes.length);
+		buf.put(bytes);
+	}
+
+	private static String getString(ByteBuffer buf) {
+		int len = buf.getShort() & 0xFFFF;
+		byte[] bytes = new byte[len];
+		buf.get(bytes);
+		return Buffer.utf8ToString(bytes, 0, len);
+	}
+
+	static final class NodeEntry {
+		final String name;
+		final Host host;
+		final Map<String,Integer> racks;
+
+		private NodeEntry(String name, Host host, Map<String,Integer> racks) {
+			this.name = name;
+			this.host = host;
+			this.racks = racks;
+		}
+	}
+
+	static final class NamespaceEntry {
+		final String name;
+		final boolean scMode;
+		final short[][] owners;
+
+		private NamespaceEntry(String name, boolean scMode, short[][] owners) {
+			this.name = name;
+			this.scMode = scMode;
+			this.owners = owners;
+		}
+	}
+}
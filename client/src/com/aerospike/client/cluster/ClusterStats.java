@@ -48,6 +48,31 @@ public final class ClusterStats {
 	 */
 	public final long retryCount;
 
+	/**
+	 * Count of cluster tend iterations since the client was started.
+	 */
+	public final int tendCount;
+
+	/**
+	 * Duration of the most recent cluster tend iteration in microseconds.
+	 */
+	public final long tendTimeLast;
+
+	/**
+	 * Maximum cluster tend iteration duration in microseconds since the client was started.
+	 */
+	public final long tendTimeMax;
+
+	/**
+	 * Count of partition replicas that moved between nodes in the most recent cluster tend iteration.
+	 */
+	public final int partitionMoveCount;
+
+	/**
+	 * Count of partition replicas that moved between nodes since the client was started.
+	 */
+	public final long partitionMoveTotal;
+
 	/**
 	 * Cluster statistics constructor.
 	 */
@@ -61,6 +86,11 @@ public final class ClusterStats {
 		this.recoverQueueSize = cluster.getRecoverQueueSize();
 		this.invalidNodeCount = cluster.getInvalidNodeCount();
 		this.retryCount = cluster.getRetryCount();
+		this.tendCount = cluster.getTendCount();
+		this.tendTimeLast = cluster.getTendTimeLast();
+		this.tendTimeMax = cluster.getTendTimeMax();
+		this.partitionMoveCount = cluster.getPartitionMoveCount();
+		this.partitionMoveTotal = cluster.getPartitionMoveTotal();
 	}
 
 	/**
@@ -98,6 +128,10 @@ public final class ClusterStats {
 		sb.append("invalidNodeCount: " + invalidNodeCount);
 		sb.append(System.lineSeparator());
 		sb.append("retryCount: " + retryCount);
+		sb.append(System.lineSeparator());
+		sb.append("tend(count,lastMicros,maxMicros): " + tendCount + ',' + tendTimeLast + ',' + tendTimeMax);
+		sb.append(System.lineSeparator());
+		sb.append("partitionMoves(last,total): " + partitionMoveCount + ',' + partitionMoveTotal);
 		return sb.toString();
 	}
 }
@@ -18,6 +18,7 @@ package com.aerospike.client.cluster;
 
 import java.io.Closeable;
 import java.io.EOFException;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -26,6 +27,7 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.security.KeyStore;
 import java.security.cert.X509Certificate;
 import java.util.Collection;
 import java.util.List;
@@ -33,6 +35,10 @@ import java.util.List;
 import javax.naming.directory.Attribute;
 import javax.naming.ldap.LdapName;
 import javax.naming.ldap.Rdn;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 import javax.security.auth.x500.X500Principal;
@@ -143,10 +149,17 @@ public final class Connection implements Closeable {
 
 				sslSocket.setUseClientMode(true);
 				sslSocket.connect(address, timeoutMillis);
+
+				long tlsBegin = System.currentTimeMillis();
 				sslSocket.startHandshake();
-				X509Certificate cert = (X509Certificate)sslSocket.getSession().getPeerCertificates()[0];
+				SSLSession session = sslSocket.getSession();
+				X509Certificate cert = (X509Certificate)session.getPeerCertificates()[0];
 				validateServerCertificate(policy, tlsName, cert);
 
+				if (node != null) {
+					node.tlsHandshakeComplete(session, tlsBegin);
+				}
+
 				in = socket.getInputStream();
 				out = socket.getOutputStream();
 				lastUsed = System.nanoTime();
@@ -169,6 +182,72 @@ public final class Connection implements Closeable {
 		}
 	}
 
+	/**
+	 * Apply TLS session cache size and timeout to the client session context of
+	 * {@link TlsPolicy#context} and return the policy that sync connections should use.
+	 * If a session setting is defined and {@link TlsPolicy#context} is null, return a copy
+	 * of the policy with a dedicated SSLContext. The JVM default SSLContext is shared by
+	 * other TLS clients in the process and is never changed.
+	 * For internal use only.
+	 */
+	public static TlsPolicy configureSessionCache(TlsPolicy policy) {
+		if (policy.sessionCacheSize <= 0 && policy.sessionTimeout <= 0) {
+			return policy;
+		}
+
+		try {
+			if (policy.context == null) {
+				KeyManagerFactory kmf = createKeyManagerFactory();
+				SSLContext context = SSLContext.getInstance("TLS");
+				context.init((kmf != null)? kmf.getKeyManagers() : null, null, null);
+
+				policy = new TlsPolicy(policy);
+				policy.context = context;
+			}
+
+			SSLSessionContext sessions = policy.context.getClientSessionContext();
+
+			if (policy.sessionCacheSize > 0) {
+				sessions.setSessionCacheSize(policy.sessionCacheSize);
+			}
+
+			if (policy.sessionTimeout > 0) {
+				sessions.setSessionTimeout(policy.sessionTimeout);
+			}
+			return policy;
+		}
+		catch (Throwable e) {
+			throw new AerospikeException("Failed to configure TLS session cache: " + Util.getErrorMessage(e));
+		}
+	}
+
+	/**
+	 * Return key manager factory for the keystore defined by the "javax.net.ssl.keyStore"
+	 * system property or null if that property is not defined. A keystore is only required
+	 * for mutual authentication.
+	 * For internal use only.
+	 */
+	public static KeyManagerFactory createKeyManagerFactory() throws Exception {
+		String keyStoreLocation = System.getProperty("javax.net.ssl.keyStore");
+
+		if (keyStoreLocation == null) {
+			return null;
+		}
+
+		String keyStorePassword = System.getProperty("javax.net.ssl.keyStorePassword");
+		char[] pass = (keyStorePassword != null) ? keyStorePassword.toCharArray() : null;
+
+		KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
+
+		try (FileInputStream is = new FileInputStream(keyStoreLocation)) {
+			ks.load(is, pass);
+		}
+
+		KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		kmf.init(ks, pass);
+		return kmf;
+	}
+
 	public static void validateServerCertificate(TlsPolicy policy, String tlsName, X509Certificate cert) throws Exception {
 		if (tlsName == null) {
 			// Do not throw AerospikeException.Connection because that exception will be retried.
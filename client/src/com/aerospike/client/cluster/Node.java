@@ -23,12 +23,19 @@ import java.net.InetSocketAddress;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
+import javax.net.ssl.SSLSession;
+
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Host;
 import com.aerospike.client.Info;
@@ -62,6 +69,9 @@ public class Node implements Closeable {
 	public static final int HAS_BATCH_ANY = (1 << 2);
 	public static final int HAS_PARTITION_QUERY = (1 << 3);
 
+	// Maximum number of sync connections created concurrently when warming up a node.
+	private static final int MAX_WARMUP_CONCURRENCY = 20;
+
 	private static final String[] INFO_PERIODIC = new String[] {"node", "peers-generation", "partition-generation"};
 	private static final String[] INFO_PERIODIC_REB = new String[] {"node", "peers-generation", "partition-generation", "rebalance-generation"};
 
@@ -73,6 +83,9 @@ public class Node implements Closeable {
 	private final Pool[] connectionPools;
 	private final AsyncPool[] asyncConnectionPools;
 	private Connection tendConnection;
+	private Info peersInfo;
+	private Info partitionInfo;
+	private RackParser rackParser;
 	private byte[] sessionToken;
 	private long sessionExpiration;
 	private volatile Map<String,Integer> racks;
@@ -82,9 +95,14 @@ public class Node implements Closeable {
 	private final AtomicInteger errorRateCount;
 	private final AtomicLong errorCount;
 	private final AtomicLong timeoutCount;
+	private final AtomicLong tlsHandshakes;
+	private final AtomicLong tlsResumptions;
+	private final AtomicInteger asyncWarmup;
+	private volatile long warmupTime;
 	protected int connectionIter;
 	private int peersGeneration;
 	int partitionGeneration;
+	volatile int eventLoopAffinity;
 	private int rebalanceGeneration;
 	protected int peersCount;
 	protected int referenceCount;
@@ -92,6 +110,8 @@ public class Node implements Closeable {
 	private final int features;
 	protected boolean partitionChanged;
 	protected boolean rebalanceChanged;
+	private boolean refreshValid;
+	private boolean peersChanged;
 	protected volatile boolean performLogin;
 	protected volatile boolean active;
 
@@ -115,6 +135,9 @@ public class Node implements Closeable {
 		this.errorRateCount = new AtomicInteger(0);
 		this.errorCount = new AtomicLong(0);
 		this.timeoutCount = new AtomicLong(0);
+		this.tlsHandshakes = new AtomicLong(0);
+		this.tlsResumptions = new AtomicLong(0);
+		this.asyncWarmup = new AtomicInteger(0);
 		this.peersGeneration = -1;
 		this.partitionGeneration = -1;
 		this.rebalanceGeneration = -1;
@@ -151,8 +174,12 @@ public class Node implements Closeable {
 
 		// Create async connection pools.
 		asyncConnectionPools = new AsyncPool[eventState.length];
-		min = cluster.asyncMinConnsPerNode / asyncConnectionPools.length;
-		remMin = cluster.asyncMinConnsPerNode - (min * asyncConnectionPools.length);
+
+		// With event loop affinity, min connections are assigned when the node's
+		// event loops are known. See assignEventLoops().
+		int minConns = cluster.asyncEventLoopAffinity ? 0 : cluster.asyncMinConnsPerNode;
+		min = minConns / asyncConnectionPools.length;
+		remMin = minConns - (min * asyncConnectionPools.length);
 		max = cluster.asyncMaxConnsPerNode / asyncConnectionPools.length;
 		remMax = cluster.asyncMaxConnsPerNode - (max * asyncConnectionPools.length);
 
@@ -164,36 +191,135 @@ public class Node implements Closeable {
 	}
 
 	public final void createMinConnections() {
-		// Create sync connections.
+		long begin = System.nanoTime();
+
+		try {
+			// Create sync connections.
+			createMinSyncConnections();
+
+			// Create async connections.
+			warmAsyncConnections(true);
+		}
+		finally {
+			warmupTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+		}
+	}
+
+	private void createMinSyncConnections() {
+		int total = 0;
+
 		for (Pool pool : connectionPools) {
-			if (pool.minSize > 0) {
-				createConnections(pool, pool.minSize);
+			total += pool.minSize;
+		}
+
+		if (total <= 0) {
+			return;
+		}
+
+		// Assign each connection to be created to its pool.
+		final Pool[] pools = new Pool[total];
+		int count = 0;
+
+		for (Pool pool : connectionPools) {
+			for (int i = 0; i < pool.minSize; i++) {
+				pools[count++] = pool;
 			}
 		}
 
+		// Create first connection in this thread. When TLS is enabled, the first connection
+		// performs a full handshake and caches the session for this node. The remaining
+		// connections are created concurrently and can resume that session.
+		if (! addConnection(pools[0]) || total == 1) {
+			return;
+		}
+
+		final AtomicInteger next = new AtomicInteger(1);
+		final AtomicBoolean failed = new AtomicBoolean();
+		final int max = total;
+		int threads = Math.min(max - 1, MAX_WARMUP_CONCURRENCY);
+
+		try (ExecutorService es = Executors.newThreadPerTaskExecutor(cluster.threadFactory);) {
+			for (int i = 0; i < threads; i++) {
+				es.execute(new Runnable() {
+					public void run() {
+						int index;
+
+						while (! failed.get() && (index = next.getAndIncrement()) < max) {
+							if (! addConnection(pools[index])) {
+								failed.set(true);
+							}
+						}
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Fill each event loop's async connection pool to min connections in parallel. Event loops
+	 * that have min connections share asyncWarmupConcurrency, and each opens at least one
+	 * connection at a time. If wait is true, block until all event loops are done. Otherwise,
+	 * return immediately.
+	 */
+	private void warmAsyncConnections(boolean wait) {
 		EventState[] eventState = cluster.eventState;
 
 		if (eventState == null || cluster.asyncMinConnsPerNode <= 0) {
 			return;
 		}
 
+		// Only one warm-up can be in progress per node.
+		if (! asyncWarmup.compareAndSet(0, eventState.length)) {
+			return;
+		}
+
+		// Divide concurrency between event loops that have min connections.
+		// The first event loops receive the remainder.
+		int loops = 0;
+
+		for (AsyncPool pool : asyncConnectionPools) {
+			if (pool.minSize > 0) {
+				loops++;
+			}
+		}
+
+		int concurrency = Math.max(1, cluster.asyncWarmupConcurrency);
+		int perLoop = (loops > 0)? concurrency / loops : 0;
+		int remainder = concurrency - (perLoop * loops);
+		int loop = 0;
+
 		// Create async connections.
 		final Monitor monitor = new Monitor();
-		final AtomicInteger eventLoopCount = new AtomicInteger(eventState.length);
-		final int maxConcurrent = 20 / eventState.length + 1;
+		final AtomicInteger eventLoopCount = asyncWarmup;
 
 		for (int i = 0; i < eventState.length; i++) {
-			final int minSize = asyncConnectionPools[i].minSize;
+			final AsyncPool pool = asyncConnectionPools[i];
+
+			if (pool.minSize <= 0) {
+				AsyncConnectorExecutor.eventLoopComplete(monitor, eventLoopCount);
+				continue;
+			}
 
-			if (minSize > 0) {
-				final EventLoop eventLoop = eventState[i].eventLoop;
-				final Node node = this;
+			final EventLoop eventLoop = eventState[i].eventLoop;
+			final Node node = this;
+			final int maxConcurrent = Math.max(1, (loop++ < remainder)? perLoop + 1 : perLoop);
 
+			try {
 				eventLoop.execute(new Runnable() {
 					public void run() {
+						// Pool may already be partially filled after a node recovers.
+						int count = pool.minSize - pool.total;
+
+						if (count <= 0) {
+							AsyncConnectorExecutor.eventLoopComplete(monitor, eventLoopCount);
+							return;
+						}
+
 						try {
+							// The executor releases this event loop's warm-up count when it
+							// completes, and also when its constructor throws.
 							new AsyncConnectorExecutor(
-								eventLoop, cluster, node, minSize, maxConcurrent, monitor, eventLoopCount
+								eventLoop, cluster, node, count, maxConcurrent, monitor, eventLoopCount
 							);
 						}
 						catch (Throwable e) {
@@ -204,18 +330,100 @@ public class Node implements Closeable {
 					}
 				});
 			}
-			else {
+			catch (Throwable e) {
+				// Warm-up was not queued on the event loop. Release its count here.
+				if (Log.warnEnabled()) {
+					Log.warn("Async warm-up failed: " + this + ' ' + Util.getErrorMessage(e));
+				}
 				AsyncConnectorExecutor.eventLoopComplete(monitor, eventLoopCount);
 			}
 		}
-		// Wait until all async connections are created.
-		monitor.waitTillComplete();
+
+		if (wait) {
+			// Wait until all async connections are created.
+			monitor.waitTillComplete();
+		}
+	}
+
+	/**
+	 * Assign a range of event loops to this node when event loop affinity is enabled.
+	 * Async min connections are divided among the node's event loops. Other event loops
+	 * have no min connections and open connections on demand. If the min connections
+	 * changed, fill the node's event loops in the background.
+	 */
+	final void assignEventLoops(int first, int width) {
+		eventLoopAffinity = first;
+
+		AsyncPool[] pools = asyncConnectionPools;
+
+		if (pools == null || cluster.asyncMinConnsPerNode <= 0) {
+			return;
+		}
+
+		int loopCount = pools.length;
+		int min = cluster.asyncMinConnsPerNode / width;
+		int remMin = cluster.asyncMinConnsPerNode - (min * width);
+		boolean changed = false;
+
+		for (int i = 0; i < loopCount; i++) {
+			AsyncPool pool = pools[i];
+			int offset = (i - first + loopCount) % loopCount;
+			int minSize = 0;
+
+			if (offset < width) {
+				minSize = Math.min(offset < remMin ? min + 1 : min, pool.maxSize);
+			}
+
+			if (pool.minSize != minSize) {
+				pool.minSize = minSize;
+				changed = true;
+			}
+		}
+
+		if (changed) {
+			warmAsyncConnections(false);
+		}
+	}
+
+	/**
+	 * Return if sync and async connection pools have been filled to min connections and
+	 * no async pool warm-up is in progress.
+	 */
+	public final boolean isReady() {
+		if (asyncWarmup.get() > 0) {
+			return false;
+		}
+
+		for (Pool pool : connectionPools) {
+			if (pool.total.get() < pool.minSize) {
+				return false;
+			}
+		}
+
+		if (asyncConnectionPools != null) {
+			for (AsyncPool pool : asyncConnectionPools) {
+				if (pool.total < pool.minSize) {
+					return false;
+				}
+			}
+		}
+		return true;
 	}
 
 	/**
 	 * Request current status from server node.
 	 */
 	public final void refresh(Peers peers) {
+		refresh();
+		mergeRefresh(peers);
+	}
+
+	/**
+	 * Request current status from server node without modifying peers. The results are
+	 * saved in the node and applied to peers in {@link #mergeRefresh(Peers)}. This allows
+	 * multiple nodes to be refreshed in parallel.
+	 */
+	final void refresh() {
 		if (! active) {
 			return;
 		}
@@ -249,28 +457,48 @@ public class Node implements Closeable {
 			HashMap<String,String> infoMap = Info.request(tendConnection, commands);
 
 			verifyNodeName(infoMap);
-			verifyPeersGeneration(infoMap, peers);
+			verifyPeersGeneration(infoMap);
 			verifyPartitionGeneration(infoMap);
 
 			if (cluster.rackAware) {
 				verifyRebalanceGeneration(infoMap);
 			}
-			peers.refreshCount++;
+			refreshValid = true;
 
 			// Reload peers, partitions and racks if there were failures on previous tend.
 			if (failures > 0) {
-				peers.genChanged = true;
+				peersChanged = true;
 				partitionChanged = true;
 				rebalanceChanged = cluster.rackAware;
+
+				// Refill async pools that may have lost connections while the node
+				// was unreachable.
+				warmAsyncConnections(false);
 			}
 			failures = 0;
 		}
 		catch (Throwable e) {
-			peers.genChanged = true;
+			peersChanged = true;
 			refreshFailed(e);
 		}
 	}
 
+	/**
+	 * Apply results of the last {@link #refresh()} to the cluster tend iteration peers.
+	 * Must be called from the cluster tend thread.
+	 */
+	final void mergeRefresh(Peers peers) {
+		if (refreshValid) {
+			peers.refreshCount++;
+			refreshValid = false;
+		}
+
+		if (peersChanged) {
+			peers.genChanged = true;
+			peersChanged = false;
+		}
+	}
+
 	private boolean shouldLogin() {
 		return performLogin || (sessionExpiration > 0 && System.nanoTime() >= sessionExpiration);
 	}
@@ -318,7 +546,7 @@ public class Node implements Closeable {
 		}
 	}
 
-	private final void verifyPeersGeneration(HashMap<String,String> infoMap, Peers peers) {
+	private final void verifyPeersGeneration(HashMap<String,String> infoMap) {
 		String genString = infoMap.get("peers-generation");
 
 		if (genString == null || genString.length() == 0) {
@@ -328,7 +556,7 @@ public class Node implements Closeable {
 		int gen = Integer.parseInt(genString);
 
 		if (peersGeneration != gen) {
-			peers.genChanged = true;
+			peersChanged = true;
 
 			if (peersGeneration > gen) {
 				if (Log.infoEnabled()) {
@@ -409,7 +637,30 @@ public class Node implements Closeable {
 		}
 	}
 
+	/**
+	 * Request peers from server node without parsing the response. The response is parsed
+	 * on the next {@link #refreshPeers(Peers)} call. This allows peers info requests to be
+	 * issued to multiple nodes in parallel while peers are still processed in node order.
+	 */
+	final void requestPeers() {
+		// Do not request peers when node connection has already failed during this cluster tend iteration.
+		if (failures > 0 || ! active) {
+			return;
+		}
+
+		try {
+			peersInfo = PeerParser.sendRequest(cluster, tendConnection);
+		}
+		catch (Throwable e) {
+			refreshFailed(e);
+		}
+	}
+
 	protected final void refreshPeers(Peers peers) {
+		// Use peers response if it was already requested in this cluster tend iteration.
+		Info info = peersInfo;
+		peersInfo = null;
+
 		// Do not refresh peers when node connection has already failed during this cluster tend iteration.
 		if (failures > 0 || ! active) {
 			return;
@@ -419,10 +670,15 @@ public class Node implements Closeable {
 			if (Log.debugEnabled()) {
 				Log.debug("Update peers for node " + this);
 			}
-			PeerParser parser = new PeerParser(cluster, tendConnection, peers.peers);
+
+			if (info == null) {
+				info = PeerParser.sendRequest(cluster, tendConnection);
+			}
+
+			PeerParser parser = new PeerParser(cluster, info, peers.peers);
 			peersCount = peers.peers.size();
 
-			boolean peersValidated = true;
+			ArrayList<Peer> newPeers = null;
 
 			for (Peer peer : peers.peers) {
 				if (findPeerNode(cluster, peers, peer)) {
@@ -430,63 +686,134 @@ public class Node implements Closeable {
 					continue;
 				}
 
-				boolean nodeValidated = false;
+				if (newPeers == null) {
+					newPeers = new ArrayList<Peer>(peers.peers.size());
+				}
+				newPeers.add(peer);
+			}
 
-				// Find first host that connects.
-				for (Host host : peer.hosts) {
+			boolean peersValidated = (newPeers == null)? true : addPeers(peers, newPeers);
+
+			// Only set new peers generation if all referenced peers are added to the cluster.
+			if (peersValidated) {
+				peersGeneration = parser.generation;
+			}
+			peers.refreshCount++;
+		}
+		catch (Throwable e) {
+			refreshFailed(e);
+		}
+	}
+
+	/**
+	 * Validate new peers concurrently. Each peer races its host addresses and the first
+	 * address that validates is used. Results are merged into peers in peer order.
+	 * Return true if all new peers were added.
+	 */
+	private boolean addPeers(Peers peers, ArrayList<Peer> newPeers) {
+		int max = newPeers.size();
+		final Node[] nodes = new Node[max];
+		final List<List<Host>> hostsList = new ArrayList<List<Host>>(max);
+		final Throwable[][] exceptions = new Throwable[max][];
+
+		try (ExecutorService es = Executors.newThreadPerTaskExecutor(cluster.threadFactory);) {
+			for (int i = 0; i < max; i++) {
+				List<Host> hosts = new ArrayList<Host>(newPeers.get(i).hosts.size());
+
+				for (Host host : newPeers.get(i).hosts) {
 					// Do not attempt to add a peer if it has already failed in this cluster tend iteration.
-					if (peers.hasFailed(host)) {
-						continue;
+					if (! peers.hasFailed(host)) {
+						hosts.add(host);
 					}
+				}
 
-					try {
-						// Attempt connection to host.
+				hostsList.add(hosts);
+				exceptions[i] = new Throwable[hosts.size()];
+
+				if (hosts.size() == 0) {
+					continue;
+				}
+
+				final int index = i;
+
+				es.execute(new Runnable() {
+					public void run() {
 						NodeValidator nv = new NodeValidator();
-						nv.validateNode(cluster, host);
 
-						if (! peer.nodeName.equals(nv.name)) {
-							// Must look for new node name in the unlikely event that node names do not agree.
-							if (Log.warnEnabled()) {
-								Log.warn("Peer node " + peer.nodeName + " is different than actual node " + nv.name + " for host " + host);
+						try {
+							if (nv.validateHosts(cluster, hostsList.get(index), exceptions[index])) {
+								// Create new node.
+								nodes[index] = cluster.createNode(nv);
 							}
 						}
-
-						// Create new node.
-						Node node = cluster.createNode(nv);
-						peers.nodes.put(nv.name, node);
-						nodeValidated = true;
-
-						if (peer.replaceNode != null) {
-							if (Log.infoEnabled()) {
-								Log.info("Replace node: " + peer.replaceNode);
+						catch (Throwable e) {
+							// Close validated connection that was not transferred to a node.
+							if (nv.primaryConn != null) {
+								nv.primaryConn.close();
 							}
-							peers.removeNodes.add(peer.replaceNode);
+							exceptions[index][0] = e;
 						}
-						break;
 					}
-					catch (Throwable e) {
-						peers.fail(host);
+				});
+			}
+		}
 
-						if (Log.warnEnabled()) {
-							Log.warn("Add node " + host + " failed: " + Util.getErrorMessage(e));
-						}
+		boolean peersValidated = true;
+
+		for (int i = 0; i < max; i++) {
+			Peer peer = newPeers.get(i);
+			Node node = nodes[i];
+
+			if (node == null) {
+				List<Host> hosts = hostsList.get(i);
+
+				for (int j = 0; j < hosts.size(); j++) {
+					Throwable e = exceptions[i][j];
+
+					if (e == null) {
+						continue;
+					}
+
+					Host host = hosts.get(j);
+					peers.fail(host);
+
+					if (Log.warnEnabled()) {
+						Log.warn("Add node " + host + " failed: " + Util.getErrorMessage(e));
 					}
 				}
+				peersValidated = false;
+				continue;
+			}
 
-				if (! nodeValidated) {
-					peersValidated = false;
+			if (! peer.nodeName.equals(node.name)) {
+				// Must look for new node name in the unlikely event that node names do not agree.
+				if (Log.warnEnabled()) {
+					Log.warn("Peer node " + peer.nodeName + " is different than actual node " + node.name + " for host " + node.host);
 				}
 			}
 
-			// Only set new peers generation if all referenced peers are added to the cluster.
-			if (peersValidated) {
-				peersGeneration = parser.generation;
+			Node existing = peers.nodes.get(node.name);
+
+			if (existing != null) {
+				// Another peer resolved to the same node in this tend iteration.
+				if (Log.warnEnabled()) {
+					Log.warn("Peer node " + peer.nodeName + " resolved to node " + node.name +
+						" which was already added from host " + existing.host);
+				}
+				node.close();
+				continue;
+			}
+
+			peers.nodes.put(node.name, node);
+
+			if (peer.replaceNode != null) {
+				if (Log.infoEnabled()) {
+					Log.info("Replace node: " + peer.replaceNode);
+				}
+				peers.removeNodes.add(peer.replaceNode);
 			}
-			peers.refreshCount++;
-		}
-		catch (Throwable e) {
-			refreshFailed(e);
 		}
+		return peersValidated;
 	}
 
 	private static boolean findPeerNode(Cluster cluster, Peers peers, Peer peer) {
@@ -548,7 +875,31 @@ public class Node implements Closeable {
 		return false;
 	}
 
+	/**
+	 * Request partition maps from server node without updating the cluster partition map.
+	 * The response is parsed on the next {@link #refreshPartitions(Peers)} call. This allows
+	 * partition info requests to be issued to multiple nodes in parallel while the partition
+	 * map is still updated in node order.
+	 */
+	final void requestPartitions(Peers peers) {
+		// See refreshPartitions() for skip conditions.
+		if (failures > 0 || ! active || (peersCount == 0 && peers.refreshCount > 1)) {
+			return;
+		}
+
+		try {
+			partitionInfo = PartitionParser.sendRequest(tendConnection);
+		}
+		catch (Throwable e) {
+			refreshFailed(e);
+		}
+	}
+
 	protected final void refreshPartitions(Peers peers) {
+		// Use partition response if it was already requested in this cluster tend iteration.
+		Info info = partitionInfo;
+		partitionInfo = null;
+
 		// Do not refresh partitions when node connection has already failed during this cluster tend iteration.
 		// Also, avoid "split cluster" case where this node thinks it's a 1-node cluster.
 		// Unchecked, such a node can dominate the partition map and cause all other
@@ -561,11 +912,17 @@ public class Node implements Closeable {
 			if (Log.debugEnabled()) {
 				Log.debug("Update partition map for node " + this);
 			}
-			PartitionParser parser = new PartitionParser(tendConnection, this, cluster.partitionMap, Node.PARTITIONS);
+
+			if (info == null) {
+				info = PartitionParser.sendRequest(tendConnection);
+			}
+
+			PartitionParser parser = new PartitionParser(info, this, cluster.partitionMap, Node.PARTITIONS);
 
 			if (parser.isPartitionMapCopied()) {
 				cluster.partitionMap = parser.getPartitionMap();
 			}
+			cluster.partitionsMoved += parser.getMovedCount();
 			partitionGeneration = parser.getGeneration();
 		}
 		catch (Throwable e) {
@@ -573,7 +930,30 @@ public class Node implements Closeable {
 		}
 	}
 
+	/**
+	 * Request rack ids from server node without updating the node racks.
+	 * The response is applied on the next {@link #refreshRacks()} call, so racks
+	 * are never updated before the partition map of the same tend iteration.
+	 */
+	final void requestRacks() {
+		// See refreshRacks() for skip conditions.
+		if (failures > 0 || ! active) {
+			return;
+		}
+
+		try {
+			rackParser = new RackParser(tendConnection);
+		}
+		catch (Throwable e) {
+			refreshFailed(e);
+		}
+	}
+
 	protected final void refreshRacks() {
+		// Use rack response if it was already requested in this cluster tend iteration.
+		RackParser parser = rackParser;
+		rackParser = null;
+
 		// Do not refresh racks when node connection has already failed during this cluster tend iteration.
 		if (failures > 0 || ! active) {
 			return;
@@ -583,7 +963,10 @@ public class Node implements Closeable {
 			if (Log.debugEnabled()) {
 				Log.debug("Update racks for node " + this);
 			}
-			RackParser parser = new RackParser(tendConnection);
+
+			if (parser == null) {
+				parser = new RackParser(tendConnection);
+			}
 
 			rebalanceGeneration = parser.getGeneration();
 			racks = parser.getRacks();
@@ -609,31 +992,40 @@ public class Node implements Closeable {
 	private void createConnections(Pool pool, int count) {
 		// Create sync connections.
 		while (count > 0) {
-			Connection conn;
-
-			try {
-				conn = createConnection(pool);
-			}
-			catch (Throwable e) {
-				// Failing to create min connections is not considered fatal.
-				// Log failure and return.
-				if (Log.debugEnabled()) {
-					Log.debug("Failed to create connection: " + e.getMessage());
-				}
-				return;
-			}
-
-			if (pool.offer(conn)) {
-				pool.total.getAndIncrement();
-			}
-			else {
-				closeIdleConnection(conn);
+			if (! addConnection(pool)) {
 				break;
 			}
 			count--;
 		}
 	}
 
+	/**
+	 * Create sync connection and add it to the pool. Return false if the connection
+	 * could not be created or the pool is full.
+	 */
+	private boolean addConnection(Pool pool) {
+		Connection conn;
+
+		try {
+			conn = createConnection(pool);
+		}
+		catch (Throwable e) {
+			// Failing to create min connections is not considered fatal.
+			// Log failure and return.
+			if (Log.debugEnabled()) {
+				Log.debug("Failed to create connection: " + e.getMessage());
+			}
+			return false;
+		}
+
+		if (pool.offer(conn)) {
+			pool.total.getAndIncrement();
+			return true;
+		}
+		closeIdleConnection(conn);
+		return false;
+	}
+
 	private Connection createConnection(Pool pool) {
 		Connection conn = createConnection(pool, cluster.connectTimeout);
 
@@ -1030,7 +1422,7 @@ public class Node implements Closeable {
 		if (excess > 0) {
 			closeIdleAsyncConnections(pool, excess);
 		}
-		else if (excess < 0 && errorRateWithinLimit()) {
+		else if (excess < 0 && asyncWarmup.get() == 0 && errorRateWithinLimit()) {
 			// Create connection requests sequentially because they will be done in the
 			// background and there is no immediate need for them to complete.
 			new AsyncConnectorExecutor(eventLoop, cluster, this, -excess, 1, null, null);
@@ -1151,6 +1543,49 @@ public class Node implements Closeable {
 		return timeoutCount.get();
 	}
 
+	/**
+	 * Record completed TLS handshake. For internal use only.
+	 * <p>
+	 * A resumed session, TLS 1.2 or TLS 1.3, keeps the creation time of the session it
+	 * resumes. A full handshake creates its session after the handshake began. The handshake
+	 * is therefore counted as a resumption when the session was created before beginTime.
+	 * A session resumed within the same millisecond it was created is counted as a full
+	 * handshake.
+	 *
+	 * @param session		negotiated session
+	 * @param beginTime		System.currentTimeMillis() before the handshake started
+	 */
+	public final void tlsHandshakeComplete(SSLSession session, long beginTime) {
+		if (session.getCreationTime() < beginTime) {
+			tlsResumptions.getAndIncrement();
+		}
+		else {
+			tlsHandshakes.getAndIncrement();
+		}
+	}
+
+	/**
+	 * Return number of full TLS handshakes for connections to this node.
+	 */
+	public final long getTlsHandshakes() {
+		return tlsHandshakes.get();
+	}
+
+	/**
+	 * Return number of TLS session resumptions for connections to this node.
+	 */
+	public final long getTlsResumptions() {
+		return tlsResumptions.get();
+	}
+
+	/**
+	 * Return time in milliseconds to create the minimum number of connections
+	 * when the node was added to the cluster.
+	 */
+	public final long getWarmupTime() {
+		return warmupTime;
+	}
+
 	/**
 	 * Return server node IP address and port.
 	 */
@@ -1228,6 +1663,14 @@ public class Node implements Closeable {
 		return r == rackId;
 	}
 
+	final Map<String,Integer> getRacks() {
+		return racks;
+	}
+
+	final void setRacks(Map<String,Integer> racks) {
+		this.racks = racks;
+	}
+
 	public final boolean hasQueryShow() {
 		return (features & HAS_QUERY_SHOW) != 0;
 	}
@@ -1330,9 +1773,12 @@ public class Node implements Closeable {
 
 	public static final class AsyncPool {
 		public final ArrayDeque<AsyncConnection> queue;
-		public final int minSize;
+		public volatile int minSize;
 		public final int maxSize;
-		public int total;
+
+		// Written only by the event loop thread. Volatile so isReady() can read it
+		// from other threads.
+		public volatile int total;
 		public int opened;
 		public int closed;
 		private boolean shouldRemove;
@@ -47,6 +47,22 @@ public final class NodeStats {
 	 */
 	public final long timeoutCount;
 
+	/**
+	 * Full TLS handshake count since node was initialized.
+	 */
+	public final long tlsHandshakes;
+
+	/**
+	 * TLS session resumption count since node was initialized. Both TLS 1.2 session id and
+	 * TLS 1.3 session ticket resumptions are counted.
+	 */
+	public final long tlsResumptions;
+
+	/**
+	 * Time in milliseconds to create the minimum number of connections when the node was added.
+	 */
+	public final long warmupTime;
+
 	/**
 	 * Node statistics constructor.
 	 */
@@ -55,12 +71,16 @@ public final class NodeStats {
 		this.sync = node.getConnectionStats();
 		this.errorCount = node.getErrorCount();
 		this.timeoutCount = node.getTimeoutCount();
+		this.tlsHandshakes = node.getTlsHandshakes();
+		this.tlsResumptions = node.getTlsResumptions();
+		this.warmupTime = node.getWarmupTime();
 	}
 
 	/**
 	 * Convert statistics to string.
 	 */
 	public String toString() {
-		return node + " sync(" + sync + ") async(" + async + ") " + errorCount + ',' + timeoutCount;
+		return node + " sync(" + sync + ") async(" + async + ") " + errorCount + ',' + timeoutCount +
+			" tls(" + tlsHandshakes + ',' + tlsResumptions + ") warmup(" + warmupTime + ')';
 	}
 }
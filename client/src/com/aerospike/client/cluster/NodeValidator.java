@@ -20,8 +20,16 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Host;
@@ -91,6 +99,67 @@ public final class NodeValidator {
 		throw exception;
 	}
 
+	/**
+	 * Validate all seed host addresses concurrently and return the first seed node with valid
+	 * peers. Validated seeds are checked in the order they complete and the remaining attempts
+	 * are cancelled once a seed node is found. If only suspect seed nodes without peers are
+	 * found, return null and store the first suspect node in fallback.
+	 * <p>
+	 * On return, exceptions contains the first error for each seed that did not produce a node.
+	 * Seeds that were cancelled or did not complete before a seed node was found have no error.
+	 */
+	public Node seedNodes(Cluster cluster, Host[] seeds, Peers peers, Throwable[] exceptions) {
+		Race race = new Race(cluster);
+
+		try {
+			for (int i = 0; i < seeds.length; i++) {
+				race.addHost(i, seeds[i], true);
+			}
+
+			boolean[] valid = new boolean[seeds.length];
+			Attempt attempt;
+
+			while ((attempt = race.next()) != null) {
+				if (attempt.nv == null) {
+					if (Log.debugEnabled()) {
+						Log.debug("Seed " + attempt.host + ' ' + attempt.address + " failed in " +
+							attempt.elapsed + "ms: " + Util.getErrorMessage(attempt.exception));
+					}
+
+					if (! valid[attempt.index] && exceptions[attempt.index] == null) {
+						exceptions[attempt.index] = attempt.exception;
+					}
+					continue;
+				}
+
+				try {
+					Node node = new Node(cluster, attempt.nv);
+					valid[attempt.index] = true;
+					exceptions[attempt.index] = null;
+
+					if (validatePeers(peers, node)) {
+						if (Log.infoEnabled()) {
+							Log.info("Seed " + attempt.host + ' ' + attempt.address + " validated in " +
+								attempt.elapsed + "ms");
+						}
+						return node;
+					}
+				}
+				catch (Throwable e) {
+					valid[attempt.index] = false;
+
+					if (exceptions[attempt.index] == null) {
+						exceptions[attempt.index] = e;
+					}
+				}
+			}
+			return null;
+		}
+		finally {
+			race.close();
+		}
+	}
+
 	private boolean validatePeers(Peers peers, Node node) {
 		if (peers == null) {
 			return true;
@@ -128,31 +197,66 @@ public final class NodeValidator {
 	}
 
 	/**
-	 * Verify that a host alias references a valid node.
+	 * Verify that a host alias references a valid node. Host addresses are validated concurrently.
 	 */
 	public void validateNode(Cluster cluster, Host host) throws Throwable {
-		InetAddress[] addresses = getAddresses(host);
-		Throwable exception = null;
+		Throwable[] exceptions = new Throwable[1];
 
-		for (InetAddress address : addresses) {
-			try {
-				validateAddress(cluster, address, host.tlsName, host.port, false);
-				return;
+		if (! validateHosts(cluster, Collections.singletonList(host), exceptions)) {
+			throw exceptions[0];
+		}
+	}
+
+	/**
+	 * Validate all host aliases and their addresses concurrently. The first address that
+	 * validates is used and the remaining attempts are cancelled. Return false if all
+	 * attempts failed. In that case, exceptions contains the first error for each host.
+	 */
+	public boolean validateHosts(Cluster cluster, List<Host> hosts, Throwable[] exceptions) {
+		Race race = new Race(cluster);
+
+		try {
+			for (int i = 0; i < hosts.size(); i++) {
+				race.addHost(i, hosts.get(i), false);
 			}
-			catch (Throwable e) {
-				// Log exception and continue to next alias.
+
+			Attempt attempt;
+
+			while ((attempt = race.next()) != null) {
+				if (attempt.nv != null) {
+					if (Log.debugEnabled()) {
+						Log.debug("Address " + attempt.address + ' ' + attempt.host.port + " validated in " +
+							attempt.elapsed + "ms");
+					}
+					copy(attempt.nv);
+					return true;
+				}
+
+				// Log exception and wait for next alias.
 				if (Log.debugEnabled()) {
-					Log.debug("Address " + address + ' ' + host.port + " failed: " + Util.getErrorMessage(e));
+					Log.debug("Address " + attempt.address + ' ' + attempt.host.port + " failed in " +
+						attempt.elapsed + "ms: " + Util.getErrorMessage(attempt.exception));
 				}
 
-				if (exception == null) {
-					exception = e;
+				if (exceptions[attempt.index] == null) {
+					exceptions[attempt.index] = attempt.exception;
 				}
 			}
+			return false;
+		}
+		finally {
+			race.close();
 		}
-		// Exception can't be null here because getAddresses() will throw exception
-		// if aliases length is zero.
-		throw exception;
+	}
+
+	private void copy(NodeValidator other) {
+		this.name = other.name;
+		this.primaryHost = other.primaryHost;
+		this.primaryAddress = other.primaryAddress;
+		this.primaryConn = other.primaryConn;
+		this.sessionToken = other.sessionToken;
+		this.sessionExpiration = other.sessionExpiration;
+		this.features = other.features;
 	}
 
 	private static InetAddress[] getAddresses(Host host) {
@@ -419,6 +523,159 @@ public final class NodeValidator {
 		}
 	}
 
+	/**
+	 * Validate host addresses concurrently in virtual threads. Results are returned in the
+	 * order they complete. Attempts that are still running on close() are cancelled and
+	 * connections from attempts that completed but were not consumed are closed.
+	 */
+	private static final class Race {
+		private final Cluster cluster;
+		private final ExecutorService es;
+		private final LinkedBlockingQueue<Attempt> results;
+		private final AtomicInteger total;
+		private final AtomicBoolean done;
+		private int received;
+		private boolean interrupted;
+
+		private Race(Cluster cluster) {
+			this.cluster = cluster;
+			this.es = Executors.newThreadPerTaskExecutor(cluster.threadFactory);
+			this.results = new LinkedBlockingQueue<Attempt>();
+			this.total = new AtomicInteger();
+			this.done = new AtomicBoolean();
+		}
+
+		private void addHost(final int index, final Host host, final boolean detectLoadBalancer) {
+			final long begin = System.nanoTime();
+			total.getAndIncrement();
+
+			execute(new Runnable() {
+				public void run() {
+					InetAddress[] addresses;
+
+					try {
+						addresses = getAddresses(host);
+					}
+					catch (Throwable e) {
+						post(new Attempt(index, host, null, null, e, begin));
+						return;
+					}
+
+					// Count extra address attempts before any result is posted.
+					total.getAndAdd(addresses.length - 1);
+
+					for (int i = 1; i < addresses.length; i++) {
+						final InetAddress address = addresses[i];
+
+						execute(new Runnable() {
+							public void run() {
+								validate(index, host, address, detectLoadBalancer, begin);
+							}
+						});
+					}
+					validate(index, host, addresses[0], detectLoadBalancer, begin);
+				}
+			});
+		}
+
+		private void execute(Runnable task) {
+			try {
+				es.execute(task);
+			}
+			catch (RejectedExecutionException ree) {
+				// Race has already been closed.
+			}
+		}
+
+		private void validate(int index, Host host, InetAddress address, boolean detectLoadBalancer, long begin) {
+			if (done.get()) {
+				return;
+			}
+
+			NodeValidator nv = new NodeValidator();
+
+			try {
+				nv.validateAddress(cluster, address, host.tlsName, host.port, detectLoadBalancer);
+				post(new Attempt(index, host, address, nv, null, begin));
+			}
+			catch (Throwable e) {
+				post(new Attempt(index, host, address, null, e, begin));
+			}
+		}
+
+		private void post(Attempt attempt) {
+			results.offer(attempt);
+
+			// If the race was closed while this attempt was running, either close()
+			// or this thread removes the attempt from the queue, but not both.
+			if (done.get() && results.remove(attempt)) {
+				attempt.discard();
+			}
+		}
+
+		/**
+		 * Return next completed attempt or null if all attempts have completed.
+		 */
+		private Attempt next() {
+			if (received >= total.get()) {
+				return null;
+			}
+
+			while (true) {
+				try {
+					Attempt attempt = results.take();
+					received++;
+					return attempt;
+				}
+				catch (InterruptedException ie) {
+					// The cluster tend thread may be interrupted to shorten its sleep.
+					// Attempts are bounded by connect timeouts, so keep waiting.
+					interrupted = true;
+				}
+			}
+		}
+
+		private void close() {
+			done.set(true);
+			es.shutdownNow();
+
+			Attempt attempt;
+
+			while ((attempt = results.poll()) != null) {
+				attempt.discard();
+			}
+
+			if (interrupted) {
+				// Restore interrupt status.
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static final class Attempt {
+		private final int index;
+		private final Host host;
+		private final InetAddress address;
+		private final NodeValidator nv;
+		private final Throwable exception;
+		private final long elapsed;
+
+		private Attempt(int index, Host host, InetAddress address, NodeValidator nv, Throwable exception, long begin) {
+			this.index = index;
+			this.host = host;
+			this.address = address;
+			this.nv = nv;
+			this.exception = exception;
+			this.elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+		}
+
+		private void discard() {
+			if (nv != null) {
+				nv.primaryConn.close();
+			}
+		}
+	}
+
 	private static final class SwitchClear {
 		private InetAddress clearAddress;
 		private InetSocketAddress clearSocketAddress;
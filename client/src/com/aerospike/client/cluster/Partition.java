@@ -136,6 +136,35 @@ public final class Partition {
 		return p.getNodeRead(cluster);
 	}
 
+	/**
+	 * Return node that a single record command will try first. Return null if the namespace
+	 * or node is not available or if the replica policy does not determine a single node
+	 * (MASTER_PROLES and RANDOM reads). Shared replica counters are not advanced.
+	 * For internal use only.
+	 */
+	public static Node getNodeFirst(Cluster cluster, Policy policy, Key key, boolean write) {
+		Partitions partitions = cluster.partitionMap.get(key.namespace);
+
+		if (partitions == null) {
+			return null;
+		}
+
+		Replica replica = (! write && partitions.scMode)? getReplicaSC(policy) : policy.replica;
+
+		if (! write && (replica == Replica.MASTER_PROLES || replica == Replica.RANDOM)) {
+			return null;
+		}
+
+		Partition p = new Partition(partitions, key, replica, null, false);
+
+		try {
+			return write? p.getNodeWrite(cluster) : p.getNodeRead(cluster);
+		}
+		catch (AerospikeException.InvalidNode ain) {
+			return null;
+		}
+	}
+
 	private Partitions partitions;
 	private final String namespace;
 	private final Replica replica;
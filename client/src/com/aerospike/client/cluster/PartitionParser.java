@@ -35,12 +35,27 @@ public final class PartitionParser extends Info {
 	private HashMap<String,Partitions> map;
 	private final int partitionCount;
 	private final int generation;
+	private int movedCount;
 	private boolean copied;
 	private boolean regimeError;
 
-	public PartitionParser(Connection conn, Node node, HashMap<String,Partitions> map, int partitionCount) {
+	/**
+	 * Send partition info commands to server node and return the unparsed response.
+	 */
+	public static Info sendRequest(Connection conn) {
 		// Send format 1:  partition-generation\nreplicas\n
-		super(conn, PartitionGeneration, Replicas);
+		return new Info(conn, PartitionGeneration, Replicas);
+	}
+
+	public PartitionParser(Connection conn, Node node, HashMap<String,Partitions> map, int partitionCount) {
+		this(sendRequest(conn), node, map, partitionCount);
+	}
+
+	/**
+	 * Parse partition response that has already been received.
+	 */
+	public PartitionParser(Info info, Node node, HashMap<String,Partitions> map, int partitionCount) {
+		super(info.buffer, info.length);
 		this.partitionCount = partitionCount;
 		this.map = map;
 
@@ -56,6 +71,13 @@ public final class PartitionParser extends Info {
 		return generation;
 	}
 
+	/**
+	 * Return number of partition replicas that were moved from another node to this node.
+	 */
+	public int getMovedCount() {
+		return movedCount;
+	}
+
 	public boolean isPartitionMapCopied() {
 		return copied;
 	}
@@ -189,16 +211,21 @@ public final class PartitionParser extends Info {
 						regimes[i] = regime;
 					}
 
-					if (nodeOld != null && nodeOld != node) {
-						// Force previously mapped node to refresh it's partition map on next cluster tend.
-						nodeOld.partitionGeneration = -1;
-					}
+					// Only update partitions that changed owner. Readers always
+					// see either the old node or the new node for a partition.
+					if (nodeOld != node) {
+						if (nodeOld != null) {
+							// Force previously mapped node to refresh it's partition map on next cluster tend.
+							nodeOld.partitionGeneration = -1;
+							movedCount++;
+						}
 
-					// Use lazy set because there is only one producer thread. In addition,
-					// there is a one second delay due to the cluster tend polling interval.
-					// An extra millisecond for a node change will not make a difference and
-					// overall performance is improved.
-					nodeArray.lazySet(i, node);
+						// Use lazy set because there is only one producer thread. In addition,
+						// there is a one second delay due to the cluster tend polling interval.
+						// An extra millisecond for a node change will not make a difference and
+						// overall performance is improved.
+						nodeArray.lazySet(i, node);
+					}
 				}
 				else {
 					if (!regimeError) {
@@ -33,17 +33,32 @@ public final class PeerParser {
 	private final int portDefault;
 	public final int generation;
 
-	public PeerParser(Cluster cluster, Connection conn, List<Peer> peers) {
-		this.cluster = cluster;
+	/**
+	 * Send peers info command to server node and return the unparsed response.
+	 */
+	public static Info sendRequest(Cluster cluster, Connection conn) {
+		return new Info(conn, getCommand(cluster));
+	}
 
-		String command = (cluster.tlsPolicy != null)?
+	private static String getCommand(Cluster cluster) {
+		return (cluster.tlsPolicy != null)?
 				cluster.useServicesAlternate ? "peers-tls-alt" : "peers-tls-std" :
 				cluster.useServicesAlternate ? "peers-clear-alt" : "peers-clear-std";
+	}
 
-		parser = new Info(conn, command);
+	public PeerParser(Cluster cluster, Connection conn, List<Peer> peers) {
+		this(cluster, sendRequest(cluster, conn), peers);
+	}
+
+	/**
+	 * Parse peers response that has already been received.
+	 */
+	public PeerParser(Cluster cluster, Info info, List<Peer> peers) {
+		this.cluster = cluster;
+		this.parser = info;
 
 		if (parser.length == 0) {
-			throw new AerospikeException.Parse(command + " response is empty");
+			throw new AerospikeException.Parse(getCommand(cluster) + " response is empty");
 		}
 
 		parser.skipToValue();
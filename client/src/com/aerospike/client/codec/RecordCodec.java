@@ -0,0 +1,435 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.codec;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.ParticleType;
+
+/**
+ * Map objects of a class directly to and from the wire protocol without creating
+ * {@link com.aerospike.client.Record} bin maps or {@link com.aerospike.client.Bin} objects.
+ * <p>
+ * All non-static and non-transient fields of the class and its superclasses are mapped to
+ * bins of the same name. Use {@link BinName} to map a field to a different bin name. The class
+ * must have a no-argument constructor. Field accessors are resolved once per class into
+ * method handles. Null field values are not written.
+ * <p>
+ * Supported field types are primitives and their wrappers, String, byte[], List and Map.
+ *
+ * <pre>{@code
+ * public class User {
+ *     String name;
+ *     int age;
+ *     @BinName("ts") long lastLogin;
+ * }
+ *
+ * client.putObject(null, key, user);
+ * User user = client.getObject(null, key, User.class);
+ * }</pre>
+ *
+ * Codecs are immutable and can be shared between threads.
+ */
+public final class RecordCodec<T> {
+	private static final ClassValue<RecordCodec<?>> Codecs = new ClassValue<RecordCodec<?>>() {
+		@Override
+		protected RecordCodec<?> computeValue(Class<?> type) {
+			return new RecordCodec<Object>(type);
+		}
+	};
+
+	/**
+	 * Return codec for class. Codecs are created on first use and cached.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> RecordCodec<T> get(Class<T> type) {
+		return (RecordCodec<T>)Codecs.get(type);
+	}
+
+	private final Class<?> type;
+	private final MethodHandle constructor;
+	private final FieldCodec[] fields;
+	private final String[] binNames;
+	private final boolean hasPrimitive;
+
+	private RecordCodec(Class<?> type) {
+		this.type = type;
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		try {
+			Constructor<?> ctor = type.getDeclaredConstructor();
+			ctor.setAccessible(true);
+			this.constructor = lookup.unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+		}
+		catch (Throwable e) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+				"Class " + type.getName() + " must have a no-argument constructor", e);
+		}
+
+		List<FieldCodec> list = new ArrayList<FieldCodec>();
+
+		for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				int mod = field.getModifiers();
+
+				if (Modifier.isStatic(mod) || Modifier.isTransient(mod) || field.isSynthetic()) {
+					continue;
+				}
+				list.add(new FieldCodec(lookup, field));
+			}
+		}
+
+		this.fields = list.toArray(new FieldCodec[list.size()]);
+		this.binNames = new String[fields.length];
+
+		boolean primitive = false;
+
+		for (int i = 0; i < fields.length; i++) {
+			binNames[i] = fields[i].name;
+
+			if (fields[i].kind != FieldCodec.OBJECT) {
+				primitive = true;
+			}
+		}
+		this.hasPrimitive = primitive;
+	}
+
+	/**
+	 * Create new instance with the no-argument constructor.
+	 */
+	@SuppressWarnings("unchecked")
+	public T newInstance() {
+		try {
+			return (T)constructor.invokeExact();
+		}
+		catch (Throwable e) {
+			throw new AerospikeException("Failed to create " + type.getName(), e);
+		}
+	}
+
+	/**
+	 * Return true if the object would be written without bins, because the class has no
+	 * mapped fields or all mapped fields are null. Primitive fields are always written.
+	 */
+	public boolean isEmpty(Object obj) {
+		if (hasPrimitive) {
+			return false;
+		}
+
+		for (FieldCodec field : fields) {
+			if (field.getObject(obj) != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return mapped fields. For internal use only.
+	 */
+	public FieldCodec[] getFields() {
+		return fields;
+	}
+
+	/**
+	 * Return bin names of mapped fields.
+	 */
+	public String[] getBinNames() {
+		return binNames;
+	}
+
+	/**
+	 * Return field mapped to UTF-8 encoded bin name or null if the bin is not mapped.
+	 * For internal use only.
+	 */
+	public FieldCodec getField(byte[] buf, int offset, int length) {
+		for (FieldCodec field : fields) {
+			byte[] name = field.nameBytes;
+
+			if (name.length != length) {
+				continue;
+			}
+
+			int i = 0;
+
+			while (i < length && name[i] == buf[offset + i]) {
+				i++;
+			}
+
+			if (i == length) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Field accessor and particle conversion. For internal use only.
+	 */
+	public static final class FieldCodec {
+		public static final int LONG = 0;
+		public static final int DOUBLE = 1;
+		public static final int BOOLEAN = 2;
+		public static final int OBJECT = 3;
+
+		public final String name;
+		public final byte[] nameBytes;
+		public final int kind;
+		private final Class<?> type;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+
+		private FieldCodec(MethodHandles.Lookup lookup, Field field) {
+			BinName bn = field.getAnnotation(BinName.class);
+
+			this.name = (bn != null)? bn.value() : field.getName();
+			this.nameBytes = Buffer.stringToUtf8(name);
+			this.type = field.getType();
+
+			Class<?> base;
+
+			if (type == long.class || type == int.class || type == short.class || type == byte.class || type == char.class) {
+				kind = LONG;
+				base = long.class;
+			}
+			else if (type == double.class || type == float.class) {
+				kind = DOUBLE;
+				base = double.class;
+			}
+			else if (type == boolean.class) {
+				kind = BOOLEAN;
+				base = boolean.class;
+			}
+			else {
+				kind = OBJECT;
+				base = Object.class;
+			}
+
+			try {
+				field.setAccessible(true);
+
+				// Normalize handles to a few exact types so callers can use invokeExact.
+				// Primitive field values are widened on get. Values are range checked
+				// before they are narrowed on set.
+				MethodHandle set = lookup.unreflectSetter(field);
+
+				if (type != base && type.isPrimitive()) {
+					set = MethodHandles.filterArguments(set, 1, narrow(lookup, type));
+				}
+
+				this.getter = lookup.unreflectGetter(field).asType(MethodType.methodType(base, Object.class));
+				this.setter = set.asType(MethodType.methodType(void.class, Object.class, base));
+			}
+			catch (Throwable e) {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+					"Field " + field.getName() + " is not accessible", e);
+			}
+		}
+
+		private MethodHandle narrow(MethodHandles.Lookup lookup, Class<?> target) throws ReflectiveOperationException {
+			Class<?> base = (target == float.class)? double.class : long.class;
+			String method = "to" + Character.toUpperCase(target.getName().charAt(0)) + target.getName().substring(1);
+			MethodHandle mh = lookup.findStatic(FieldCodec.class, method, MethodType.methodType(target, String.class, base));
+			return MethodHandles.insertArguments(mh, 0, name);
+		}
+
+		private static int toInt(String name, long v) {
+			if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) {
+				throw outOfRange(name, v, "int");
+			}
+			return (int)v;
+		}
+
+		private static short toShort(String name, long v) {
+			if (v < Short.MIN_VALUE || v > Short.MAX_VALUE) {
+				throw outOfRange(name, v, "short");
+			}
+			return (short)v;
+		}
+
+		private static byte toByte(String name, long v) {
+			if (v < Byte.MIN_VALUE || v > Byte.MAX_VALUE) {
+				throw outOfRange(name, v, "byte");
+			}
+			return (byte)v;
+		}
+
+		private static char toChar(String name, long v) {
+			if (v < Character.MIN_VALUE || v > Character.MAX_VALUE) {
+				throw outOfRange(name, v, "char");
+			}
+			return (char)v;
+		}
+
+		private static float toFloat(String name, double v) {
+			float f = (float)v;
+
+			if (Float.isInfinite(f) && ! Double.isInfinite(v)) {
+				throw outOfRange(name, v, "float");
+			}
+			return f;
+		}
+
+		private static AerospikeException outOfRange(String name, Object v, String type) {
+			return new AerospikeException(ResultCode.PARAMETER_ERROR,
+				"Bin " + name + " value " + v + " is out of range for " + type + " field");
+		}
+
+		public long getLong(Object obj) {
+			try {
+				return (long)getter.invokeExact(obj);
+			}
+			catch (Throwable e) {
+				throw new AerospikeException(e);
+			}
+		}
+
+		public double getDouble(Object obj) {
+			try {
+				return (double)getter.invokeExact(obj);
+			}
+			catch (Throwable e) {
+				throw new AerospikeException(e);
+			}
+		}
+
+		public boolean getBoolean(Object obj) {
+			try {
+				return (boolean)getter.invokeExact(obj);
+			}
+			catch (Throwable e) {
+				throw new AerospikeException(e);
+			}
+		}
+
+		public Object getObject(Object obj) {
+			try {
+				return (Object)getter.invokeExact(obj);
+			}
+			catch (Throwable e) {
+				throw new AerospikeException(e);
+			}
+		}
+
+		/**
+		 * Decode particle directly into the field.
+		 */
+		public void set(Object obj, int particleType, byte[] buf, int offset, int len) {
+			try {
+				switch (kind) {
+				case LONG:
+					setter.invokeExact(obj, toLong(particleType, buf, offset, len));
+					break;
+
+				case DOUBLE:
+					setter.invokeExact(obj, toDouble(particleType, buf, offset, len));
+					break;
+
+				case BOOLEAN:
+					setter.invokeExact(obj, toLong(particleType, buf, offset, len) != 0);
+					break;
+
+				default:
+					Object value = convert(Buffer.bytesToParticle(particleType, buf, offset, len));
+					setter.invokeExact(obj, value);
+					break;
+				}
+			}
+			catch (AerospikeException ae) {
+				throw ae;
+			}
+			catch (Throwable e) {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Failed to set field " + name, e);
+			}
+		}
+
+		private long toLong(int particleType, byte[] buf, int offset, int len) {
+			switch (particleType) {
+			case ParticleType.INTEGER:
+				return (len == 8)? Buffer.bytesToLong(buf, offset) : ((Number)Buffer.bytesToNumber(buf, offset, len)).longValue();
+
+			case ParticleType.DOUBLE:
+				return (long)Buffer.bytesToDouble(buf, offset);
+
+			case ParticleType.BOOL:
+				return (buf[offset] != 0)? 1 : 0;
+
+			default:
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+					"Bin " + name + " particle type " + particleType + " is not numeric");
+			}
+		}
+
+		private double toDouble(int particleType, byte[] buf, int offset, int len) {
+			if (particleType == ParticleType.DOUBLE) {
+				return Buffer.bytesToDouble(buf, offset);
+			}
+			return toLong(particleType, buf, offset, len);
+		}
+
+		private Object convert(Object value) {
+			if (value == null || type.isInstance(value)) {
+				return value;
+			}
+
+			if (value instanceof Number) {
+				Number n = (Number)value;
+
+				if (type == Long.class) {
+					return n.longValue();
+				}
+
+				if (type == Integer.class) {
+					return toInt(name, n.longValue());
+				}
+
+				if (type == Short.class) {
+					return toShort(name, n.longValue());
+				}
+
+				if (type == Byte.class) {
+					return toByte(name, n.longValue());
+				}
+
+				if (type == Double.class) {
+					return n.doubleValue();
+				}
+
+				if (type == Float.class) {
+					return toFloat(name, n.doubleValue());
+				}
+
+				if (type == Boolean.class) {
+					return n.longValue() != 0;
+				}
+			}
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+				"Bin " + name + " value type " + value.getClass().getName() + " does not match field type " + type.getName());
+		}
+	}
+}
@@ -154,6 +154,75 @@ public final class Batch {
 		}
 	}
 
+	//-------------------------------------------------------
+	// GetStream
+	//-------------------------------------------------------
+
+	public static final class GetStreamCommand extends BatchCommand {
+		private final Key[] keys;
+		private final String[] binNames;
+		private final int readAttr;
+		private final BatchStreamExecutor stream;
+
+		public GetStreamCommand(
+			Cluster cluster,
+			BatchNode batch,
+			BatchPolicy policy,
+			Key[] keys,
+			String[] binNames,
+			int readAttr,
+			BatchStreamExecutor stream
+		) {
+			super(cluster, batch, policy, stream.getStatus(), false);
+			this.keys = keys;
+			this.binNames = binNames;
+			this.readAttr = readAttr;
+			this.stream = stream;
+		}
+
+		@Override
+		protected void writeBuffer() {
+			if (batch.node.hasBatchAny()) {
+				BatchAttr attr = new BatchAttr(policy, readAttr, null);
+				setBatchOperate(batchPolicy, keys, batch, binNames, null, attr);
+			}
+			else {
+				setBatchRead(batchPolicy, keys, batch, binNames, null, readAttr);
+			}
+		}
+
+		@Override
+		protected boolean parseRow() {
+			Key key = keys[batchIndex];
+
+			parseFieldsRead(key);
+
+			Record record = (resultCode == 0)? parseRecord() : null;
+
+			if (! valid) {
+				throw new AerospikeException.QueryTerminated();
+			}
+
+			if (! stream.put(batchIndex, new BatchRecord(key, record, resultCode, false, false))) {
+				stop();
+				throw new AerospikeException.QueryTerminated();
+			}
+			return true;
+		}
+
+		@Override
+		protected BatchCommand createCommand(BatchNode batchNode) {
+			return new GetStreamCommand(cluster, batchNode, batchPolicy, keys, binNames, readAttr, stream);
+		}
+
+		@Override
+		protected List<BatchNode> generateBatchNodes() {
+			// Keys that already have a response are not retried.
+			return BatchNodeList.generate(cluster, batchPolicy, keys, stream.getSent(), sequenceAP, sequenceSC, batch,
+				false, stream);
+		}
+	}
+
 	//-------------------------------------------------------
 	// ExistsArray
 	//-------------------------------------------------------
@@ -208,8 +277,8 @@ public final class Batch {
 	// OperateList
 	//-------------------------------------------------------
 
-	public static final class OperateListCommand extends BatchCommand {
-		private final List<BatchRecord> records;
+	public static class OperateListCommand extends BatchCommand {
+		final List<BatchRecord> records;
 
 		public OperateListCommand(
 			Cluster cluster,
@@ -292,6 +361,45 @@ public final class Batch {
 		}
 	}
 
+	//-------------------------------------------------------
+	// OperateStream
+	//-------------------------------------------------------
+
+	public static final class OperateStreamCommand extends OperateListCommand {
+		private final BatchStreamExecutor stream;
+
+		public OperateStreamCommand(
+			Cluster cluster,
+			BatchNode batch,
+			BatchPolicy policy,
+			List<BatchRecord> records,
+			BatchStreamExecutor stream
+		) {
+			super(cluster, batch, policy, records, stream.getStatus());
+			this.stream = stream;
+		}
+
+		@Override
+		protected boolean parseRow() {
+			super.parseRow();
+
+			if (! valid) {
+				throw new AerospikeException.QueryTerminated();
+			}
+
+			if (! stream.put(batchIndex, records.get(batchIndex))) {
+				stop();
+				throw new AerospikeException.QueryTerminated();
+			}
+			return true;
+		}
+
+		@Override
+		protected BatchCommand createCommand(BatchNode batchNode) {
+			return new OperateStreamCommand(cluster, batchNode, batchPolicy, records, stream);
+		}
+	}
+
 	//-------------------------------------------------------
 	// OperateArray
 	//-------------------------------------------------------
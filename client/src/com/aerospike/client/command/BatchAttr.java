@@ -17,6 +17,7 @@
 package com.aerospike.client.command;
 
 import com.aerospike.client.Operation;
+import com.aerospike.client.RecordWriter;
 import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.BatchDeletePolicy;
 import com.aerospike.client.policy.BatchPolicy;
@@ -268,6 +269,12 @@ public final class BatchAttr {
 		}
 	}
 
+	public void adjustWrite(RecordWriter writer) {
+		if (writer.hasRead()) {
+			readAttr |= Command.INFO1_READ;
+		}
+	}
+
 	public void setUDF(BatchUDFPolicy up) {
 		filterExp = up.filterExp;
 		readAttr = 0;
@@ -336,6 +343,10 @@ public final class BatchAttr {
 		opSize = dataOffset;
 	}
 
+	public void setOpSize(RecordWriter writer) {
+		opSize = writer.size();
+	}
+
 	public void setTxn(int attr) {
 		filterExp = null;
 		readAttr = 0;
@@ -16,6 +16,8 @@
  */
 package com.aerospike.client.command;
 
+import java.util.Arrays;
+
 import com.aerospike.client.cluster.Node;
 
 public final class BatchNode {
@@ -31,6 +33,12 @@ public final class BatchNode {
 		this.offsetsSize = 1;
 	}
 
+	public BatchNode(Node node, int[] offsets, int begin, int end) {
+		this.node = node;
+		this.offsets = Arrays.copyOfRange(offsets, begin, end);
+		this.offsetsSize = end - begin;
+	}
+
 	public void addKey(int offset) {
 		if (offsetsSize >= offsets.length) {
 			int[] copy = new int[offsetsSize * 2];
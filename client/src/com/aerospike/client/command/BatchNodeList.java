@@ -18,6 +18,8 @@ package com.aerospike.client.command;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntPredicate;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.BatchRecord;
@@ -106,7 +108,7 @@ public final class BatchNodeList {
 				status.batchKeyError(except);
 			}
 		}
-		return batchNodes;
+		return split(policy, batchNodes);
 	}
 
 	/**
@@ -178,7 +180,7 @@ public final class BatchNodeList {
 		if (except != null) {
 			status.batchKeyError(except);
 		}
-		return batchNodes;
+		return split(policy, batchNodes);
 	}
 
 	/**
@@ -188,7 +190,47 @@ public final class BatchNodeList {
 		Cluster cluster,
 		BatchPolicy policy,
 		Key[] keys,
-		boolean[] sent,
+		final boolean[] sent,
+		int sequenceAP,
+		int sequenceSC,
+		BatchNode batchSeed,
+		boolean hasWrite,
+		IBatchStatus status
+	) {
+		return generate(cluster, policy, keys, new IntPredicate() {
+			public boolean test(int index) {
+				return sent[index];
+			}
+		}, sequenceAP, sequenceSC, batchSeed, hasWrite, status);
+	}
+
+	/**
+	 * Assign keys to nodes in batch node retry for sync streams, where key results
+	 * may be returned from multiple threads.
+	 */
+	public static List<BatchNode> generate(
+		Cluster cluster,
+		BatchPolicy policy,
+		Key[] keys,
+		final AtomicIntegerArray sent,
+		int sequenceAP,
+		int sequenceSC,
+		BatchNode batchSeed,
+		boolean hasWrite,
+		IBatchStatus status
+	) {
+		return generate(cluster, policy, keys, new IntPredicate() {
+			public boolean test(int index) {
+				return sent.get(index) != 0;
+			}
+		}, sequenceAP, sequenceSC, batchSeed, hasWrite, status);
+	}
+
+	private static List<BatchNode> generate(
+		Cluster cluster,
+		BatchPolicy policy,
+		Key[] keys,
+		IntPredicate sent,
 		int sequenceAP,
 		int sequenceSC,
 		BatchNode batchSeed,
@@ -216,7 +258,7 @@ public final class BatchNodeList {
 		for (int i = 0; i < batchSeed.offsetsSize; i++) {
 			int offset = batchSeed.offsets[i];
 
-			if (sent[offset]) {
+			if (sent.test(offset)) {
 				// Do not retry keys that already have a response.
 				continue;
 			}
@@ -249,7 +291,7 @@ public final class BatchNodeList {
 		if (except != null) {
 			status.batchKeyError(except);
 		}
-		return batchNodes;
+		return split(policy, batchNodes);
 	}
 
 	/**
@@ -315,7 +357,7 @@ public final class BatchNodeList {
 		if (except != null) {
 			status.batchKeyError(except);
 		}
-		return batchNodes;
+		return split(policy, batchNodes);
 	}
 
 	/**
@@ -384,7 +426,7 @@ public final class BatchNodeList {
 				status.batchKeyError(except);
 			}
 		}
-		return batchNodes;
+		return split(policy, batchNodes);
 	}
 
 	/**
@@ -453,7 +495,48 @@ public final class BatchNodeList {
 		if (except != null) {
 			status.batchKeyError(except);
 		}
-		return batchNodes;
+		return split(policy, batchNodes);
+	}
+
+	/**
+	 * Split node batches with more than {@link BatchPolicy#maxKeysPerCommand} keys into
+	 * evenly sized sub-batches for the same node.
+	 */
+	private static List<BatchNode> split(BatchPolicy policy, List<BatchNode> batchNodes) {
+		int max = policy.maxKeysPerCommand;
+
+		if (max <= 0) {
+			return batchNodes;
+		}
+
+		List<BatchNode> list = null;
+
+		for (int i = 0; i < batchNodes.size(); i++) {
+			BatchNode batchNode = batchNodes.get(i);
+
+			if (batchNode.offsetsSize <= max) {
+				if (list != null) {
+					list.add(batchNode);
+				}
+				continue;
+			}
+
+			if (list == null) {
+				list = new ArrayList<BatchNode>(batchNodes.size() * 2);
+				list.addAll(batchNodes.subList(0, i));
+			}
+
+			int size = batchNode.offsetsSize;
+			int parts = (size + max - 1) / max;
+			int begin = 0;
+
+			for (int p = 1; p <= parts; p++) {
+				int end = (int)((long)size * p / parts);
+				list.add(new BatchNode(batchNode.node, batchNode.offsets, begin, end));
+				begin = end;
+			}
+		}
+		return (list != null)? list : batchNodes;
 	}
 
 	private static BatchNode findBatchNode(List<BatchNode> nodes, Node node) {
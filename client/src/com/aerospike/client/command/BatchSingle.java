@@ -24,6 +24,7 @@ import com.aerospike.client.BatchRecord;
 import com.aerospike.client.Key;
 import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.RecordWriter;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.Txn;
 import com.aerospike.client.Value;
@@ -206,6 +207,7 @@ public final class BatchSingle {
 
 	public static final class OperateBatchRecord extends BaseCommand {
 		private final Operation[] ops;
+		private final RecordWriter writer;
 		private final BatchAttr attr;
 		private final BatchRecord record;
 
@@ -220,13 +222,35 @@ public final class BatchSingle {
 		) {
 			super(cluster, policy, status, record.key, node, attr.hasWrite);
 			this.ops = ops;
+			this.writer = null;
+			this.attr = attr;
+			this.record = record;
+		}
+
+		public OperateBatchRecord(
+			Cluster cluster,
+			BatchPolicy policy,
+			RecordWriter writer,
+			BatchAttr attr,
+			BatchRecord record,
+			BatchStatus status,
+			Node node
+		) {
+			super(cluster, policy, status, record.key, node, attr.hasWrite);
+			this.ops = null;
+			this.writer = writer;
 			this.attr = attr;
 			this.record = record;
 		}
 
 		@Override
 		protected void writeBuffer() {
-			setOperate(policy, attr, record.key, ops);
+			if (writer != null) {
+				setOperate(policy, attr, record.key, writer);
+			}
+			else {
+				setOperate(policy, attr, record.key, ops);
+			}
 		}
 
 		@Override
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchRecordSet;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.query.IQueryExecutor;
+
+/**
+ * Run sync batch node commands in virtual threads and stream each key's result
+ * to a {@link BatchRecordSet} as soon as it is parsed.
+ */
+public final class BatchStreamExecutor implements IQueryExecutor, BatchNodeList.IBatchStatus {
+	private final Cluster cluster;
+	private final Key[] keys;
+	private final List<BatchRecord> records;
+	private final BatchRecordSet recordSet;
+	private final BatchStatus status;
+	private final AtomicIntegerArray sent;
+	private final AtomicInteger completedCount;
+	private final AtomicBoolean done;
+	private ArrayList<BatchRecord> pending;
+	private Batch.BatchCommand[] commands;
+	private int threadCount;
+	private volatile Throwable exception;
+	private volatile boolean started;
+
+	/**
+	 * Stream batch read results for keys.
+	 */
+	public BatchStreamExecutor(Cluster cluster, BatchPolicy policy, Key[] keys) {
+		this(cluster, policy, keys, null, keys.length, false);
+	}
+
+	/**
+	 * Stream batch operate results for records.
+	 */
+	public BatchStreamExecutor(Cluster cluster, BatchPolicy policy, List<BatchRecord> records) {
+		this(cluster, policy, null, records, records.size(), true);
+	}
+
+	private BatchStreamExecutor(
+		Cluster cluster,
+		BatchPolicy policy,
+		Key[] keys,
+		List<BatchRecord> records,
+		int size,
+		boolean hasResultCode
+	) {
+		this.cluster = cluster;
+		this.keys = keys;
+		this.records = records;
+		this.recordSet = new BatchRecordSet(this, policy.recordQueueSize);
+		this.status = new BatchStatus(hasResultCode);
+		this.sent = new AtomicIntegerArray(size);
+		this.completedCount = new AtomicInteger();
+		this.done = new AtomicBoolean();
+	}
+
+	public BatchRecordSet getRecordSet() {
+		return recordSet;
+	}
+
+	public BatchStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Queue records that were resolved before the commands were started.
+	 */
+	public void addCompleted(int index) {
+		if (pending == null) {
+			pending = new ArrayList<BatchRecord>();
+		}
+		sent.set(index, 1);
+		pending.add(records.get(index));
+	}
+
+	/**
+	 * Start batch node commands in virtual threads.
+	 */
+	public void start(Batch.BatchCommand[] commands) {
+		cluster.addCommandCount();
+		this.commands = commands;
+		this.threadCount = commands.length + ((pending != null)? 1 : 0);
+		started = true;
+
+		if (threadCount == 0) {
+			complete();
+			return;
+		}
+
+		if (pending != null) {
+			// Put records resolved on initialization in a separate thread,
+			// because the record queue may not have room for all of them.
+			final ArrayList<BatchRecord> list = pending;
+			pending = null;
+
+			cluster.threadFactory.newThread(new Runnable() {
+				public void run() {
+					for (BatchRecord br : list) {
+						if (! recordSet.put(br)) {
+							break;
+						}
+					}
+					threadCompleted();
+				}
+			}).start();
+		}
+
+		for (final Batch.BatchCommand command : commands) {
+			cluster.threadFactory.newThread(new Runnable() {
+				public void run() {
+					command.run();
+
+					// Return keys that did not receive a response.
+					flush(command.batch);
+					threadCompleted();
+				}
+			}).start();
+		}
+	}
+
+	/**
+	 * Put key result on the queue if it has not already been returned.
+	 * Return false if the batch has been cancelled.
+	 */
+	boolean put(int index, BatchRecord record) {
+		// Key results may be put by split retry threads. Only the first put is returned.
+		if (! sent.compareAndSet(index, 0, 1)) {
+			return true;
+		}
+		return recordSet.put(record);
+	}
+
+	/**
+	 * Return flags that indicate which key results have already been returned.
+	 * A non-zero value means the key result has been returned.
+	 */
+	AtomicIntegerArray getSent() {
+		return sent;
+	}
+
+	private void flush(BatchNode batch) {
+		for (int i = 0; i < batch.offsetsSize; i++) {
+			int index = batch.offsets[i];
+
+			if (sent.get(index) != 0) {
+				continue;
+			}
+
+			BatchRecord record = (records != null)?
+				records.get(index) : new BatchRecord(keys[index], null, ResultCode.NO_RESPONSE, false, false);
+
+			if (! put(index, record)) {
+				return;
+			}
+		}
+	}
+
+	private void threadCompleted() {
+		if (completedCount.incrementAndGet() < threadCount) {
+			return;
+		}
+		complete();
+	}
+
+	private void complete() {
+		// All threads complete. Tell BatchRecordSet thread to return complete to user
+		// if an exception has not already occurred.
+		if (done.compareAndSet(false, true)) {
+			try {
+				status.checkException();
+			}
+			catch (Throwable e) {
+				exception = e;
+			}
+			recordSet.put(BatchRecordSet.END);
+		}
+	}
+
+	@Override
+	public void batchKeyError(Key key, int index, AerospikeException ae, boolean inDoubt, boolean hasWrite) {
+		BatchRecord record = new BatchRecord(key, null, ae.getResultCode(), inDoubt, hasWrite);
+
+		if (! started) {
+			// Keys that could not be assigned to a node on initialization.
+			if (pending == null) {
+				pending = new ArrayList<BatchRecord>();
+			}
+			sent.set(index, 1);
+			pending.add(record);
+			return;
+		}
+		put(index, record);
+	}
+
+	@Override
+	public void batchKeyError(AerospikeException ae) {
+		status.batchKeyError(ae);
+	}
+
+	@Override
+	public void stopThreads(Throwable cause) {
+		// There is no need to stop threads if all threads have already completed.
+		if (done.compareAndSet(false, true)) {
+			exception = cause;
+
+			// Send stop signal to threads.
+			for (Batch.BatchCommand command : commands) {
+				command.stop();
+			}
+			recordSet.abort();
+		}
+	}
+
+	@Override
+	public void checkForException() {
+		// Throw an exception if an error occurred.
+		if (exception != null) {
+			if (exception instanceof AerospikeException) {
+				throw (AerospikeException)exception;
+			}
+			else {
+				throw new AerospikeException(exception);
+			}
+		}
+	}
+}
@@ -16,6 +16,7 @@
  */
 package com.aerospike.client.command;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -32,9 +33,11 @@ import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
 import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.RecordWriter;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.Value;
 import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.codec.RecordCodec;
 import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.BatchDeletePolicy;
 import com.aerospike.client.policy.BatchPolicy;
@@ -122,12 +125,22 @@ public class Command {
 	public static final int OPERATION_HEADER_SIZE = 8;
 	public static final int MSG_REMAINING_HEADER_SIZE = 22;
 	public static final int COMPRESS_THRESHOLD = 128;
+	public static final int GATHER_THRESHOLD = 4096;
 	public static final long CL_MSG_VERSION = 2L;
 	public static final long AS_MSG_TYPE = 3L;
 	public static final long MSG_TYPE_COMPRESSED = 4L;
 
 	public byte[] dataBuffer;
 	public int dataOffset;
+
+	// Blob values that are referenced instead of copied into dataBuffer. Each blob is
+	// spliced into the message at its gather offset when the message is written.
+	// Only enabled by transports that copy the message to a direct buffer anyway.
+	public boolean gatherEnabled;
+	public byte[][] gatherBuffers;
+	public int[] gatherOffsets;
+	public int gatherCount;
+	public int gatherSize;
 	public final int maxRetries;
 	public final int serverTimeout;
 	public int socketTimeout;
@@ -476,9 +489,19 @@ public class Command {
 			fieldCount++;
 		}
 
+		// Large blobs are gathered when the message is written. Compression
+		// requires the full message in dataBuffer.
+		boolean gather = gatherEnabled && ! policy.compress;
+
+		// Bins are written in a single pass. Size the initial buffer with a quick
+		// estimate and grow the buffer when the estimate is exceeded.
+		int begin = dataOffset;
+
 		for (Bin bin : bins) {
-			estimateOperationSize(bin);
+			estimateOperationSizeQuick(bin, gather);
 		}
+
+		int remaining = dataOffset - begin;
 		sizeBuffer();
 		writeHeaderWrite(policy, Command.INFO2_WRITE, fieldCount, bins.length);
 		writeKey(policy, key, true);
@@ -488,12 +511,74 @@ public class Command {
 		}
 
 		for (Bin bin : bins) {
-			writeOperation(bin, operation);
+			remaining = writeOperationGrow(bin, operation, gather, remaining);
 		}
 		end();
 		compress(policy);
 	}
 
+	public final void setWrite(WritePolicy policy, Key key, RecordCodec<?> codec, Object obj) {
+		begin();
+		int fieldCount = estimateKeySize(policy, key, true);
+
+		if (policy.filterExp != null) {
+			dataOffset += policy.filterExp.size();
+			fieldCount++;
+		}
+
+		// Fields are read and written in a single pass. Size the initial buffer
+		// with a quick estimate and grow the buffer when the estimate is exceeded.
+		RecordCodec.FieldCodec[] fields = codec.getFields();
+
+		for (RecordCodec.FieldCodec field : fields) {
+			dataOffset += OPERATION_HEADER_SIZE + field.nameBytes.length + 8;
+		}
+		sizeBuffer();
+		writeHeaderWrite(policy, Command.INFO2_WRITE, fieldCount, 0);
+		writeKey(policy, key, true);
+
+		if (policy.filterExp != null) {
+			policy.filterExp.write(this);
+		}
+
+		int opCount = 0;
+
+		for (RecordCodec.FieldCodec field : fields) {
+			if (writeOperation(field, obj)) {
+				opCount++;
+			}
+		}
+
+		// Null fields are not written, so back-patch the operation count.
+		Buffer.shortToBytes(opCount, dataBuffer, 28);
+		end();
+		compress(policy);
+	}
+
+	public final void setWrite(WritePolicy policy, Key key, RecordWriter writer) {
+		begin();
+		int fieldCount = estimateKeySize(policy, key, true);
+
+		if (policy.filterExp != null) {
+			dataOffset += policy.filterExp.size();
+			fieldCount++;
+		}
+		dataOffset += writer.size();
+		sizeBuffer();
+
+		writeHeaderWrite(policy, Command.INFO2_WRITE, fieldCount, writer.getOpCount());
+		writeKey(policy, key, true);
+
+		if (policy.filterExp != null) {
+			policy.filterExp.write(this);
+		}
+
+		// Operations are already serialized by the writer.
+		dataOffset = writer.write(dataBuffer, dataOffset);
+		end();
+		compress(policy);
+	}
+
 	public void setDelete(WritePolicy policy, Key key) {
 		begin();
 		int fieldCount = estimateKeySize(policy, key, true);
@@ -727,8 +812,17 @@ public class Command {
 			policy.filterExp.write(this);
 		}
 
-		for (Operation operation : args.operations) {
-			writeOperation(operation);
+		if (args.template != null) {
+			// Copy precompiled operations and write bound values.
+			dataOffset = args.template.write(args.values, dataBuffer, dataOffset);
+		}
+		else if (args.writer != null) {
+			dataOffset = args.writer.write(dataBuffer, dataOffset);
+		}
+		else {
+			for (Operation operation : args.operations) {
+				writeOperation(operation);
+			}
 		}
 		end();
 		compress(policy);
@@ -750,6 +844,19 @@ public class Command {
 		compress(policy);
 	}
 
+	public final void setOperate(Policy policy, BatchAttr attr, Key key, RecordWriter writer) {
+		begin();
+		Expression exp = getBatchExpression(policy, attr);
+		int fieldCount = estimateKeyAttrSize(policy, key, attr, exp);
+
+		dataOffset += attr.opSize;
+		sizeBuffer();
+		writeKeyAttr(policy, key, attr, exp, fieldCount, writer.getOpCount());
+		dataOffset = writer.write(dataBuffer, dataOffset);
+		end();
+		compress(policy);
+	}
+
 	//--------------------------------------------------
 	// UDF
 	//--------------------------------------------------
@@ -1190,8 +1297,15 @@ public class Command {
 						BatchWritePolicy bwp = (bw.policy != null)? bw.policy : writePolicy;
 
 						attr.setWrite(bwp);
-						attr.adjustWrite(bw.ops);
-						writeBatchOperations(key, txn, ver, bw.ops, attr, attr.filterExp);
+
+						if (bw.writer != null) {
+							attr.adjustWrite(bw.writer);
+							writeBatchOperations(key, txn, ver, bw.writer, attr, attr.filterExp);
+						}
+						else {
+							attr.adjustWrite(bw.ops);
+							writeBatchOperations(key, txn, ver, bw.ops, attr, attr.filterExp);
+						}
 						break;
 					}
 
@@ -1590,6 +1704,16 @@ public class Command {
 		}
 	}
 
+	private void writeBatchOperations(Key key, Txn txn, Long ver, RecordWriter writer, BatchAttr attr, Expression filter) {
+		if (attr.hasWrite) {
+			writeBatchWrite(key, txn, ver, attr, filter, 0, writer.getOpCount());
+		}
+		else {
+			writeBatchRead(key, txn, ver, attr, filter, writer.getOpCount());
+		}
+		dataOffset = writer.write(dataBuffer, dataOffset);
+	}
+
 	private void writeBatchRead(Key key, Txn txn, Long ver, BatchAttr attr, Expression filter, int opCount) {
 		if (txn != null) {
 			dataBuffer[dataOffset++] = (byte)(BATCH_MSG_INFO | BATCH_MSG_INFO4 | BATCH_MSG_TTL);
@@ -2223,11 +2347,33 @@ public class Command {
 		return 3;
 	}
 
-	private final void estimateOperationSize(Bin bin) {
+	protected final void estimateOperationSize(Bin bin) {
 		dataOffset += Buffer.estimateSizeUtf8(bin.name) + OPERATION_HEADER_SIZE;
 		dataOffset += bin.value.estimateSize();
 	}
 
+	private final void estimateOperationSizeQuick(Bin bin, boolean gather) {
+		// Assume ASCII strings. A full scan would be required to determine
+		// the UTF-8 size. Other values, including list and map values, are exact.
+		dataOffset += OPERATION_HEADER_SIZE;
+
+		if (bin.name != null) {
+			dataOffset += bin.name.length();
+		}
+
+		Value value = bin.value;
+
+		if (gather && isGatherValue(value)) {
+			return;
+		}
+
+		if (value instanceof Value.StringValue) {
+			dataOffset += ((String)value.getObject()).length();
+			return;
+		}
+		dataOffset += value.estimateSize();
+	}
+
 	private final void estimateOperationSize(Operation operation) {
 		dataOffset += Buffer.estimateSizeUtf8(operation.binName) + OPERATION_HEADER_SIZE;
 		dataOffset += operation.value.estimateSize();
@@ -2256,7 +2402,7 @@ public class Command {
 	/**
 	 * Header write for write commands.
 	 */
-	private final void writeHeaderWrite(WritePolicy policy, int writeAttr, int fieldCount, int operationCount) {
+	protected final void writeHeaderWrite(WritePolicy policy, int writeAttr, int fieldCount, int operationCount) {
 		// Set flags.
 		int generation = 0;
 		int readAttr = 0;
@@ -2339,7 +2485,7 @@ public class Command {
 		int writeAttr = args.writeAttr;
 		int infoAttr = 0;
 		int txnAttr = 0;
-		int operationCount = args.operations.length;
+		int operationCount = (args.writer != null)? args.writer.getOpCount() : args.operations.length;
 
 		switch (policy.recordExistsAction) {
 		case UPDATE:
@@ -2598,7 +2744,7 @@ public class Command {
 		return readAttr;
 	}
 
-	private final void writeOperation(Bin bin, Operation.Type operation) {
+	protected final void writeOperation(Bin bin, Operation.Type operation) {
 		int nameLength = Buffer.stringToUtf8(bin.name, dataBuffer, dataOffset + OPERATION_HEADER_SIZE);
 		int valueLength = bin.value.write(dataBuffer, dataOffset + OPERATION_HEADER_SIZE + nameLength);
 
@@ -2611,6 +2757,224 @@ public class Command {
 		dataOffset += nameLength + valueLength;
 	}
 
+	/**
+	 * Write bin operation without a prior sizing pass. The buffer grows when needed and
+	 * the operation size is back-patched after the name and value have been encoded.
+	 * <p>
+	 * The buffer always has room for the quick estimate of the operations that have not
+	 * been written (remaining). Only multi-byte strings can exceed their estimate, so
+	 * other values are written without a capacity check. Return the quick estimate of
+	 * the operations that follow this operation.
+	 */
+	private final int writeOperationGrow(Bin bin, Operation.Type operation, boolean gather, int remaining) {
+		Value value = bin.value;
+		int begin = dataOffset;
+
+		dataOffset += OPERATION_HEADER_SIZE;
+		remaining -= OPERATION_HEADER_SIZE;
+
+		if (bin.name != null) {
+			remaining -= bin.name.length();
+		}
+
+		int nameLength = writeUtf8(bin.name, remaining);
+		int valueLength;
+
+		if (value instanceof Value.StringValue) {
+			String str = (String)value.getObject();
+			remaining -= str.length();
+			valueLength = writeUtf8(str, remaining);
+		}
+		else if (gather && isGatherValue(value)) {
+			byte[] bytes = (byte[])value.getObject();
+			addGather(bytes);
+			valueLength = bytes.length;
+		}
+		else {
+			// The size of this value was included in the estimate.
+			valueLength = value.write(dataBuffer, dataOffset);
+			dataOffset += valueLength;
+			remaining -= valueLength;
+		}
+
+		Buffer.intToBytes(nameLength + valueLength + 4, dataBuffer, begin);
+		begin += 4;
+		dataBuffer[begin++] = (byte) operation.protocolType;
+		dataBuffer[begin++] = (byte) value.getType();
+		dataBuffer[begin++] = (byte) 0;
+		dataBuffer[begin] = (byte) nameLength;
+		return remaining;
+	}
+
+	/**
+	 * Write field as a bin write operation. Return false if the field value is null.
+	 */
+	private final boolean writeOperation(RecordCodec.FieldCodec field, Object obj) {
+		int begin = dataOffset;
+		byte[] name = field.nameBytes;
+		int particleType;
+
+		ensureCapacity(OPERATION_HEADER_SIZE + name.length + 8);
+		dataOffset += OPERATION_HEADER_SIZE;
+		System.arraycopy(name, 0, dataBuffer, dataOffset, name.length);
+		dataOffset += name.length;
+
+		int valueBegin = dataOffset;
+
+		switch (field.kind) {
+		case RecordCodec.FieldCodec.LONG:
+			particleType = ParticleType.INTEGER;
+			Buffer.longToBytes(field.getLong(obj), dataBuffer, dataOffset);
+			dataOffset += 8;
+			break;
+
+		case RecordCodec.FieldCodec.DOUBLE:
+			particleType = ParticleType.DOUBLE;
+			Buffer.doubleToBytes(field.getDouble(obj), dataBuffer, dataOffset);
+			dataOffset += 8;
+			break;
+
+		case RecordCodec.FieldCodec.BOOLEAN:
+			particleType = writeBoolean(field.getBoolean(obj));
+			break;
+
+		default: {
+			Object value = field.getObject(obj);
+
+			if (value == null) {
+				dataOffset = begin;
+				return false;
+			}
+
+			if (value instanceof String) {
+				particleType = ParticleType.STRING;
+				writeUtf8((String)value);
+			}
+			else if (value instanceof Boolean) {
+				particleType = writeBoolean((Boolean)value);
+			}
+			else {
+				Value v = Value.get(value);
+				particleType = v.getType();
+				ensureCapacity(v.estimateSize());
+				dataOffset += v.write(dataBuffer, dataOffset);
+			}
+			break;
+		}
+		}
+
+		int valueLength = dataOffset - valueBegin;
+
+		Buffer.intToBytes(name.length + valueLength + 4, dataBuffer, begin);
+		begin += 4;
+		dataBuffer[begin++] = (byte) Operation.Type.WRITE.protocolType;
+		dataBuffer[begin++] = (byte) particleType;
+		dataBuffer[begin++] = (byte) 0;
+		dataBuffer[begin] = (byte) name.length;
+		return true;
+	}
+
+	private final int writeBoolean(boolean value) {
+		if (Value.UseBoolBin) {
+			dataBuffer[dataOffset++] = (byte)(value? 1 : 0);
+			return ParticleType.BOOL;
+		}
+		Buffer.longToBytes(value? 1L : 0L, dataBuffer, dataOffset);
+		dataOffset += 8;
+		return ParticleType.INTEGER;
+	}
+
+	/**
+	 * Encode string directly into the buffer and return the encoded length.
+	 */
+	private final int writeUtf8(String s) {
+		return writeUtf8(s, -1);
+	}
+
+	/**
+	 * Encode string directly into the buffer in a single pass and return the encoded length.
+	 * ASCII characters are copied. On the first multi-byte character, room is made for the
+	 * worst case size of the rest of the string and encoding continues from that character.
+	 * If reserve is not negative, the buffer also has room for reserve bytes after the
+	 * string.
+	 */
+	private final int writeUtf8(String s, int reserve) {
+		if (s == null) {
+			return 0;
+		}
+
+		int length = s.length();
+		ensureCapacity(length, reserve);
+
+		byte[] buf = dataBuffer;
+		int begin = dataOffset;
+		int offset = begin;
+
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+
+			if (c >= 0x80) {
+				// A UTF-16 char never encodes to more than 3 UTF-8 bytes.
+				dataOffset = offset;
+				ensureCapacity((length - i) * 3, reserve);
+				buf = dataBuffer;
+
+				for (; i < length; i++) {
+					c = s.charAt(i);
+
+					if (c < 0x80) {
+						buf[offset++] = (byte)c;
+					}
+					else if (c < 0x800) {
+						buf[offset++] = (byte)(0xc0 | (c >> 6));
+						buf[offset++] = (byte)(0x80 | (c & 0x3f));
+					}
+					else {
+						// 3 and 4 byte characters and surrogates. Let java encode the rest.
+						byte[] rest = s.substring(i).getBytes(StandardCharsets.UTF_8);
+						System.arraycopy(rest, 0, buf, offset, rest.length);
+						offset += rest.length;
+						break;
+					}
+				}
+				break;
+			}
+			buf[offset++] = (byte)c;
+		}
+		dataOffset = offset;
+		return offset - begin;
+	}
+
+	/**
+	 * Ensure buffer has room for size bytes at the current offset.
+	 */
+	private final void ensureCapacity(int size) {
+		ensureCapacity(size, -1);
+	}
+
+	/**
+	 * Ensure buffer has room for size bytes at the current offset. If reserve is not
+	 * negative, also ensure room for the reserve estimate of what follows and grow to
+	 * exactly that size. Otherwise, double the buffer size to amortize copies.
+	 */
+	private final void ensureCapacity(int size, int reserve) {
+		if (reserve >= 0) {
+			int capacity = dataOffset + size + reserve;
+
+			if (capacity > dataBuffer.length) {
+				growBuffer(capacity);
+			}
+			return;
+		}
+
+		int capacity = dataOffset + size;
+
+		if (capacity > dataBuffer.length) {
+			int len = dataBuffer.length * 2;
+			growBuffer((capacity > len)? capacity : len);
+		}
+	}
+
 	private final void writeOperation(Operation operation) {
 		int nameLength = Buffer.stringToUtf8(operation.binName, dataBuffer, dataOffset + OPERATION_HEADER_SIZE);
 		int valueLength = operation.value.write(dataBuffer, dataOffset + OPERATION_HEADER_SIZE + nameLength);
@@ -2743,14 +3107,53 @@ public class Command {
 
 	protected final void begin() {
 		dataOffset = MSG_TOTAL_HEADER_SIZE;
+		clearGather();
 	}
 
 	protected final void end() {
-		// Write total size of message which is the current offset.
-		long proto = (dataOffset - 8) | (CL_MSG_VERSION << 56) | (AS_MSG_TYPE << 48);
+		// Write total size of message which is the current offset plus gathered blobs.
+		long proto = (dataOffset + gatherSize - 8) | (CL_MSG_VERSION << 56) | (AS_MSG_TYPE << 48);
 		Buffer.longToBytes(proto, dataBuffer, 0);
 	}
 
+	private static boolean isGatherValue(Value value) {
+		return value instanceof Value.BytesValue && value.estimateSize() >= GATHER_THRESHOLD;
+	}
+
+	/**
+	 * Reference blob at the current offset instead of copying it into dataBuffer.
+	 */
+	private final void addGather(byte[] bytes) {
+		if (gatherBuffers == null) {
+			gatherBuffers = new byte[4][];
+			gatherOffsets = new int[4];
+		}
+		else if (gatherCount == gatherBuffers.length) {
+			int capacity = gatherCount * 2;
+			byte[][] buffers = new byte[capacity][];
+			int[] offsets = new int[capacity];
+			System.arraycopy(gatherBuffers, 0, buffers, 0, gatherCount);
+			System.arraycopy(gatherOffsets, 0, offsets, 0, gatherCount);
+			gatherBuffers = buffers;
+			gatherOffsets = offsets;
+		}
+		gatherBuffers[gatherCount] = bytes;
+		gatherOffsets[gatherCount] = dataOffset;
+		gatherCount++;
+		gatherSize += bytes.length;
+	}
+
+	/**
+	 * Release gathered blob references.
+	 */
+	public final void clearGather() {
+		for (int i = 0; i < gatherCount; i++) {
+			gatherBuffers[i] = null;
+		}
+		gatherCount = 0;
+		gatherSize = 0;
+	}
+
 	private final void compress(Policy policy) {
 		if (policy.compress && dataOffset > COMPRESS_THRESHOLD) {
 			Deflater def = new Deflater(Deflater.BEST_SPEED);
@@ -2778,6 +3181,16 @@ public class Command {
 	protected void sizeBuffer() {
 	}
 
+	/**
+	 * Replace buffer with a buffer of at least capacity bytes and copy
+	 * the bytes that have been written so far.
+	 */
+	protected void growBuffer(int capacity) {
+		byte[] buf = new byte[capacity];
+		System.arraycopy(dataBuffer, 0, buf, 0, dataOffset);
+		dataBuffer = buf;
+	}
+
 	//--------------------------------------------------
 	// Response Parsing
 	//--------------------------------------------------
@@ -16,12 +16,18 @@
  */
 package com.aerospike.client.command;
 
+import com.aerospike.client.OperateTemplate;
 import com.aerospike.client.Operation;
+import com.aerospike.client.RecordWriter;
+import com.aerospike.client.Value;
 import com.aerospike.client.policy.WritePolicy;
 
 public final class OperateArgs {
 	public final WritePolicy writePolicy;
 	public final Operation[] operations;
+	public final OperateTemplate template;
+	public final Value[] values;
+	public final RecordWriter writer;
 	public final int size;
 	public final int readAttr;
 	public final int writeAttr;
@@ -34,16 +40,100 @@ public final class OperateArgs {
 		Operation[] operations
 	) {
 		this.operations = operations;
+		this.template = null;
+		this.values = null;
+		this.writer = null;
 
+		Attr attr = new Attr();
 		int dataOffset = 0;
-		int rattr = 0;
-		int wattr = 0;
-		boolean write = false;
-		boolean readBin = false;
-		boolean readHeader = false;
-		boolean respondAllOps = false;
 
 		for (Operation operation : operations) {
+			attr.add(operation);
+			dataOffset += Buffer.estimateSizeUtf8(operation.binName) + Command.OPERATION_HEADER_SIZE;
+			dataOffset += operation.value.estimateSize();
+		}
+		attr.finish();
+
+		size = dataOffset;
+		hasWrite = attr.hasWrite;
+		readAttr = attr.readAttr;
+		writePolicy = selectPolicy(policy, writeDefault, readDefault, hasWrite);
+		writeAttr = respondAllOps(attr.writeAttr, readAttr, attr.respondAllOps, writePolicy);
+	}
+
+	public OperateArgs(
+		WritePolicy policy,
+		WritePolicy writeDefault,
+		WritePolicy readDefault,
+		OperateTemplate template,
+		Value[] values
+	) {
+		template.validate(values);
+
+		this.operations = template.getOperations();
+		this.template = template;
+		this.values = values;
+		this.writer = null;
+		this.size = template.estimateSize(values);
+		this.readAttr = template.getReadAttr();
+		this.hasWrite = template.hasWrite();
+		this.writePolicy = selectPolicy(policy, writeDefault, readDefault, hasWrite);
+		this.writeAttr = respondAllOps(template.getWriteAttr(), readAttr, template.getRespondAllOps(), writePolicy);
+	}
+
+	public OperateArgs(
+		WritePolicy policy,
+		WritePolicy writeDefault,
+		WritePolicy readDefault,
+		RecordWriter writer
+	) {
+		this.operations = null;
+		this.template = null;
+		this.values = null;
+		this.writer = writer;
+		this.size = writer.size();
+		this.readAttr = writer.hasRead()? Command.INFO1_READ : 0;
+		this.hasWrite = writer.hasWrite();
+		this.writePolicy = selectPolicy(policy, writeDefault, readDefault, hasWrite);
+
+		// Writers only read named bins, so RESPOND_ALL_OPS can always be honored.
+		this.writeAttr = respondAllOps(hasWrite? Command.INFO2_WRITE : 0, readAttr, false, writePolicy);
+	}
+
+	private static WritePolicy selectPolicy(
+		WritePolicy policy,
+		WritePolicy writeDefault,
+		WritePolicy readDefault,
+		boolean hasWrite
+	) {
+		if (policy == null) {
+			return hasWrite ? writeDefault : readDefault;
+		}
+		return policy;
+	}
+
+	private static int respondAllOps(int writeAttr, int readAttr, boolean respondAllOps, WritePolicy policy) {
+		// When GET_ALL is specified, RESPOND_ALL_OPS must be disabled.
+		if ((respondAllOps || policy.respondAllOps) && (readAttr & Command.INFO1_GET_ALL) == 0) {
+			writeAttr |= Command.INFO2_RESPOND_ALL_OPS;
+		}
+		return writeAttr;
+	}
+
+	/**
+	 * Wire protocol attributes derived from an operation list. Operations are added
+	 * with {@link #add(Operation)} and {@link #finish()} is called after the last
+	 * operation. For internal use only.
+	 */
+	public static final class Attr {
+		public int readAttr;
+		public int writeAttr;
+		public boolean hasWrite;
+		public boolean respondAllOps;
+		private boolean readBin;
+		private boolean readHeader;
+
+		public void add(Operation operation) {
 			switch (operation.type) {
 			case BIT_READ:
 			case EXP_READ:
@@ -54,17 +144,17 @@ public final class OperateArgs {
 				// Fall through to read.
 			case CDT_READ:
 			case READ:
-				rattr |= Command.INFO1_READ;
+				readAttr |= Command.INFO1_READ;
 
 				// Read all bins if no bin is specified.
 				if (operation.binName == null) {
-					rattr |= Command.INFO1_GET_ALL;
+					readAttr |= Command.INFO1_GET_ALL;
 				}
 				readBin = true;
 				break;
 
 			case READ_HEADER:
-				rattr |= Command.INFO1_READ;
+				readAttr |= Command.INFO1_READ;
 				readHeader = true;
 				break;
 
@@ -76,37 +166,16 @@ public final class OperateArgs {
 				respondAllOps = true;
 				// Fall through to write.
 			default:
-				wattr = Command.INFO2_WRITE;
-				write = true;
+				writeAttr = Command.INFO2_WRITE;
+				hasWrite = true;
 				break;
 			}
-			dataOffset += Buffer.estimateSizeUtf8(operation.binName) + Command.OPERATION_HEADER_SIZE;
-			dataOffset += operation.value.estimateSize();
-		}
-		size = dataOffset;
-		hasWrite = write;
-
-		if (readHeader && ! readBin) {
-			rattr |= Command.INFO1_NOBINDATA;
 		}
-		readAttr = rattr;
 
-		if (policy == null) {
-			if (write) {
-				writePolicy = writeDefault;
+		public void finish() {
+			if (readHeader && ! readBin) {
+				readAttr |= Command.INFO1_NOBINDATA;
 			}
-			else {
-				writePolicy = readDefault;
-			}
-		}
-		else {
-			writePolicy = policy;
-		}
-
-		// When GET_ALL is specified, RESPOND_ALL_OPS must be disabled.
-		if ((respondAllOps || writePolicy.respondAllOps) && (rattr & Command.INFO1_GET_ALL) == 0) {
-			wattr |= Command.INFO2_RESPOND_ALL_OPS;
 		}
-		writeAttr = wattr;
 	}
 }
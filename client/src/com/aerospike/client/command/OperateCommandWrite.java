@@ -44,7 +44,7 @@ public final class OperateCommandWrite extends SyncWriteCommand {
 		rp.parseFields(policy.txn, key, true);
 
 		if (rp.resultCode == ResultCode.OK) {
-			record = rp.parseRecord(true);
+			record = rp.parseRecord(true, policy.rawCdt);
 			return;
 		}
 
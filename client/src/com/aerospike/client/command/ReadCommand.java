@@ -60,7 +60,7 @@ public class ReadCommand extends SyncReadCommand {
 		rp.parseFields(policy.txn, key, false);
 
 		if (rp.resultCode == ResultCode.OK) {
-			this.record = rp.parseRecord(isOperation);
+			this.record = rp.parseRecord(isOperation, policy.rawCdt);
 			return;
 		}
 
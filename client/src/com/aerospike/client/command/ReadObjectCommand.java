@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.command;
+
+import java.io.IOException;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.Connection;
+import com.aerospike.client.codec.RecordCodec;
+import com.aerospike.client.policy.Policy;
+
+public final class ReadObjectCommand<T> extends SyncReadCommand {
+	private final RecordCodec<T> codec;
+	private T object;
+
+	public ReadObjectCommand(Cluster cluster, Policy policy, Key key, RecordCodec<T> codec) {
+		super(cluster, policy, key);
+		this.codec = codec;
+	}
+
+	@Override
+	protected void writeBuffer() {
+		setRead(policy, key, codec.getBinNames());
+	}
+
+	@Override
+	protected void parseResult(Connection conn) throws IOException {
+		RecordParser rp = new RecordParser(conn, dataBuffer);
+		rp.parseFields(policy.txn, key, false);
+
+		if (rp.resultCode == ResultCode.OK) {
+			this.object = rp.parseObject(codec);
+			return;
+		}
+
+		if (rp.resultCode == ResultCode.KEY_NOT_FOUND_ERROR) {
+			return;
+		}
+
+		if (rp.resultCode == ResultCode.FILTERED_OUT) {
+			if (policy.failOnFilteredOut) {
+				throw new AerospikeException(rp.resultCode);
+			}
+			return;
+		}
+
+		throw new AerospikeException(rp.resultCode);
+	}
+
+	public T getObject() {
+		return object;
+	}
+}
@@ -17,6 +17,7 @@
 package com.aerospike.client.command;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.zip.DataFormatException;
@@ -27,7 +28,9 @@ import com.aerospike.client.Key;
 import com.aerospike.client.Record;
 import com.aerospike.client.Txn;
 import com.aerospike.client.cluster.Connection;
+import com.aerospike.client.codec.RecordCodec;
 import com.aerospike.client.command.Command.OpResults;
+import com.aerospike.client.util.PackedCdt;
 
 public final class RecordParser {
 	public final byte[] dataBuffer;
@@ -212,6 +215,13 @@ public final class RecordParser {
 	}
 
 	public Record parseRecord(boolean isOperation)  {
+		return parseRecord(isOperation, false);
+	}
+
+	/**
+	 * Parse record. If rawCdt is true, list and map values are returned as {@link PackedCdt}.
+	 */
+	public Record parseRecord(boolean isOperation, boolean rawCdt)  {
 		if (opCount == 0) {
 			// Bin data was not returned.
 			return new Record(null, generation, expiration);
@@ -227,7 +237,14 @@ public final class RecordParser {
 			dataOffset += 4 + 4 + nameSize;
 
 			int particleBytesSize = opSize - (4 + nameSize);
-			Object value = Buffer.bytesToParticle(particleType, dataBuffer, dataOffset, particleBytesSize);
+			Object value;
+
+			if (rawCdt && (particleType == ParticleType.LIST || particleType == ParticleType.MAP)) {
+				value = parsePacked(particleType, particleBytesSize);
+			}
+			else {
+				value = Buffer.bytesToParticle(particleType, dataBuffer, dataOffset, particleBytesSize);
+			}
 			dataOffset += particleBytesSize;
 
 			if (isOperation) {
@@ -258,4 +275,34 @@ public final class RecordParser {
 		}
 		return new Record(bins, generation, expiration);
 	}
+
+	/**
+	 * Decode bins directly into a new object. Bins that are not mapped by the codec are ignored.
+	 */
+	public <T> T parseObject(RecordCodec<T> codec) {
+		T obj = codec.newInstance();
+
+		for (int i = 0 ; i < opCount; i++) {
+			int opSize = Buffer.bytesToInt(dataBuffer, dataOffset);
+			byte particleType = dataBuffer[dataOffset + 5];
+			byte nameSize = dataBuffer[dataOffset + 7];
+			RecordCodec.FieldCodec field = codec.getField(dataBuffer, dataOffset + 8, nameSize);
+			dataOffset += 4 + 4 + nameSize;
+
+			int particleBytesSize = opSize - (4 + nameSize);
+
+			if (field != null) {
+				field.set(obj, particleType, dataBuffer, dataOffset, particleBytesSize);
+			}
+			dataOffset += particleBytesSize;
+		}
+		return obj;
+	}
+
+	private PackedCdt parsePacked(int particleType, int size) {
+		// Copy the packed bytes, so the record does not hold on to the whole response
+		// buffer. Async buffers are also returned to the event loop pool.
+		byte[] bytes = Arrays.copyOfRange(dataBuffer, dataOffset, dataOffset + size);
+		return new PackedCdt(particleType, bytes, 0, size);
+	}
 }
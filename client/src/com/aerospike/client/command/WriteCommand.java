@@ -20,6 +20,7 @@ import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
 import com.aerospike.client.Operation;
+import com.aerospike.client.RecordWriter;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.cluster.Cluster;
 import com.aerospike.client.cluster.Connection;
@@ -29,16 +30,30 @@ import java.io.IOException;
 public final class WriteCommand extends SyncWriteCommand {
 	private final Bin[] bins;
 	private final Operation.Type operation;
+	private final RecordWriter writer;
 
 	public WriteCommand(Cluster cluster, WritePolicy writePolicy, Key key, Bin[] bins, Operation.Type operation) {
 		super(cluster, writePolicy, key);
 		this.bins = bins;
 		this.operation = operation;
+		this.writer = null;
+	}
+
+	public WriteCommand(Cluster cluster, WritePolicy writePolicy, Key key, RecordWriter writer) {
+		super(cluster, writePolicy, key);
+		this.bins = null;
+		this.operation = null;
+		this.writer = writer;
 	}
 
 	@Override
 	protected void writeBuffer() {
-		setWrite(writePolicy, operation, key, bins);
+		if (writer != null) {
+			setWrite(writePolicy, key, writer);
+		}
+		else {
+			setWrite(writePolicy, operation, key, bins);
+		}
 	}
 
 	@Override
@@ -59,6 +59,22 @@ public abstract class Exp {
 		return new Expression(exp);
 	}
 
+	/**
+	 * Compile expression that contains {@link #param(int)} placeholders into a reusable template.
+	 * The template is packed once. Each {@link ExpressionTemplate#bind(Exp...)} call packs
+	 * only the bound values and splices them into the template bytes.
+	 *
+	 * <pre>{@code
+	 * // a == ?
+	 * ExpressionTemplate template = Exp.compile(Exp.eq(Exp.intBin("a"), Exp.param(0)));
+	 *
+	 * policy.filterExp = template.bind(Exp.val(25));
+	 * }</pre>
+	 */
+	public static ExpressionTemplate compile(Exp exp) {
+		return new ExpressionTemplate(exp);
+	}
+
 	//--------------------------------------------------
 	// Record Key
 	//--------------------------------------------------
@@ -501,6 +517,14 @@ public abstract class Exp {
 		return new MapVal(map);
 	}
 
+	/**
+	 * Create parameter placeholder for use in {@link #compile(Exp)}. Parameter indexes
+	 * start at zero. The same index may be used multiple times in an expression.
+	 */
+	public static Exp param(int index) {
+		return new Param(index);
+	}
+
 	/**
 	 * Create nil value.
 	 */
@@ -1515,6 +1539,19 @@ public abstract class Exp {
 		}
 	}
 
+	private static final class Param extends Exp {
+		private final int index;
+
+		private Param(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public void pack(Packer packer) {
+			packer.packSlot(index);
+		}
+	}
+
 	private static final class Nil extends Exp {
 		@Override
 		public void pack(Packer packer) {
@@ -19,6 +19,8 @@ package com.aerospike.client.exp;
 import java.io.Serializable;
 import java.util.Arrays;
 
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
 import com.aerospike.client.command.Command;
 import com.aerospike.client.util.Crypto;
 import com.aerospike.client.util.Packer;
@@ -37,6 +39,11 @@ public final class Expression implements Serializable {
 	Expression(Exp exp) {
 		Packer packer = new Packer();
 		exp.pack(packer);
+
+		if (packer.getSlots() != null) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+				"Expression contains parameters. Use Exp.compile() to create a template");
+		}
 		packer.createBuffer();
 		exp.pack(packer);
 		bytes = packer.getBuffer();
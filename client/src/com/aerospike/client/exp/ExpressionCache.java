@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.exp;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least recently used cache of compiled expression templates keyed by expression
+ * shape. The shape key is supplied by the caller and identifies an expression tree that
+ * only differs by parameter values, like a query name or a normalized filter string.
+ *
+ * <pre>{@code
+ * ExpressionCache cache = new ExpressionCache(1000);
+ *
+ * ExpressionTemplate template = cache.get("age>=");
+ *
+ * if (template == null) {
+ *     template = cache.put("age>=", Exp.ge(Exp.intBin("age"), Exp.param(0)));
+ * }
+ * policy.filterExp = template.bind(Exp.val(age));
+ * }</pre>
+ *
+ * This class is thread-safe.
+ */
+public final class ExpressionCache {
+	private final LinkedHashMap<Object,ExpressionTemplate> map;
+
+	/**
+	 * Create cache that holds at most capacity templates.
+	 */
+	public ExpressionCache(final int capacity) {
+		this.map = new LinkedHashMap<Object,ExpressionTemplate>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object,ExpressionTemplate> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Return cached template for shape or null if the shape has not been compiled.
+	 */
+	public synchronized ExpressionTemplate get(Object shape) {
+		return map.get(shape);
+	}
+
+	/**
+	 * Compile expression and cache the template under shape. If another thread
+	 * already cached a template for the same shape, that template is returned.
+	 */
+	public ExpressionTemplate put(Object shape, Exp exp) {
+		// Compile outside the lock.
+		ExpressionTemplate template = Exp.compile(exp);
+
+		synchronized (this) {
+			ExpressionTemplate existing = map.get(shape);
+
+			if (existing != null) {
+				return existing;
+			}
+			map.put(shape, template);
+			return template;
+		}
+	}
+
+	/**
+	 * Return cached template for shape or compile and cache the expression.
+	 * The expression is only packed when the shape is not cached.
+	 */
+	public ExpressionTemplate get(Object shape, Exp exp) {
+		ExpressionTemplate template = get(shape);
+		return (template != null)? template : put(shape, exp);
+	}
+
+	/**
+	 * Return number of cached templates.
+	 */
+	public synchronized int size() {
+		return map.size();
+	}
+
+	/**
+	 * Remove all cached templates.
+	 */
+	public synchronized void clear() {
+		map.clear();
+	}
+}
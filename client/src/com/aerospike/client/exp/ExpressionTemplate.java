@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.exp;
+
+import java.util.List;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.util.Packer;
+
+/**
+ * Expression compiled once with parameter placeholders. Binding values packs only the
+ * values and splices them into the compiled bytes without rebuilding the expression tree.
+ * The resulting {@link Expression} can be used anywhere an expression is accepted, like
+ * {@link com.aerospike.client.policy.Policy#filterExp} and {@link ExpOperation}.
+ * <p>
+ * Parameters are not supported in CDT, bit and HLL expression arguments, because those
+ * arguments are packed when the expression is created.
+ * <p>
+ * Templates are immutable and can be shared between threads.
+ */
+public final class ExpressionTemplate {
+	private final byte[] bytes;
+	private final int[] slotOffsets;
+	private final int[] slotIndexes;
+	private final int paramCount;
+
+	/**
+	 * Expression template constructor used by {@link Exp#compile(Exp)}.
+	 */
+	ExpressionTemplate(Exp exp) {
+		Packer packer = new Packer();
+		exp.pack(packer);
+		packer.createBuffer();
+		exp.pack(packer);
+		bytes = packer.getBuffer();
+
+		List<int[]> slots = packer.getSlots();
+
+		if (slots == null) {
+			slotOffsets = new int[0];
+			slotIndexes = new int[0];
+			paramCount = 0;
+			return;
+		}
+
+		int max = -1;
+
+		slotOffsets = new int[slots.size()];
+		slotIndexes = new int[slots.size()];
+
+		for (int i = 0; i < slotOffsets.length; i++) {
+			int[] slot = slots.get(i);
+			int index = slot[1];
+
+			if (index < 0) {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Invalid parameter index: " + index);
+			}
+
+			if (index > max) {
+				max = index;
+			}
+			slotOffsets[i] = slot[0];
+			slotIndexes[i] = index;
+		}
+
+		paramCount = max + 1;
+
+		// Every parameter index must be used.
+		boolean[] used = new boolean[paramCount];
+
+		for (int index : slotIndexes) {
+			used[index] = true;
+		}
+
+		for (int i = 0; i < paramCount; i++) {
+			if (! used[i]) {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Parameter " + i + " is not used");
+			}
+		}
+	}
+
+	/**
+	 * Return expression with parameters replaced by values.
+	 *
+	 * @param values				parameter values in index order
+	 * @throws AerospikeException	if the number of values does not match the number of parameters
+	 */
+	public Expression bind(Exp... values) {
+		if (values.length != paramCount) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Template expects " +
+				paramCount + " values. Received " + values.length);
+		}
+
+		if (paramCount == 0) {
+			return new Expression(bytes);
+		}
+
+		// Pack each value once, even when its parameter is used multiple times.
+		Packer packer = new Packer();
+
+		for (Exp value : values) {
+			value.pack(packer);
+		}
+		packer.createBuffer();
+
+		int[] ends = new int[paramCount];
+
+		for (int i = 0; i < paramCount; i++) {
+			values[i].pack(packer);
+			ends[i] = packer.getOffset();
+		}
+
+		if (packer.getSlots() != null) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Bound values can not contain parameters");
+		}
+
+		byte[] packed = packer.getBuffer();
+		int size = bytes.length;
+
+		for (int index : slotIndexes) {
+			size += valueLength(ends, index);
+		}
+
+		byte[] buf = new byte[size];
+		int begin = 0;
+		int offset = 0;
+
+		for (int i = 0; i < slotOffsets.length; i++) {
+			int end = slotOffsets[i];
+			int len = end - begin;
+
+			System.arraycopy(bytes, begin, buf, offset, len);
+			offset += len;
+			begin = end;
+
+			int index = slotIndexes[i];
+			int valueOffset = (index == 0)? 0 : ends[index - 1];
+
+			len = ends[index] - valueOffset;
+			System.arraycopy(packed, valueOffset, buf, offset, len);
+			offset += len;
+		}
+		System.arraycopy(bytes, begin, buf, offset, bytes.length - begin);
+		return new Expression(buf);
+	}
+
+	/**
+	 * Return number of parameters.
+	 */
+	public int getParamCount() {
+		return paramCount;
+	}
+
+	private static int valueLength(int[] ends, int index) {
+		return (index == 0)? ends[0] : ends[index] - ends[index - 1];
+	}
+}
@@ -141,8 +141,10 @@ public final class MetricsWriter implements MetricsListener {
 		// Must use separate StringBuilder instance to avoid conflicting with metrics detail write.
 		sb.setLength(0);
 		sb.append(now.format(TimestampFormat));
-		sb.append(" header(1)");
-		sb.append(" cluster[name,cpu,mem,recoverQueueSize,invalidNodeCount,commandCount,retryCount,delayQueueTimeoutCount,eventloop[],node[]]");
+		// Increment header version when fields are added to or moved within a record.
+		// Version 2 added delayQueueShedCount and delayQueueRejectCount to cluster.
+		sb.append(" header(2)");
+		sb.append(" cluster[name,cpu,mem,recoverQueueSize,invalidNodeCount,commandCount,retryCount,delayQueueTimeoutCount,delayQueueShedCount,delayQueueRejectCount,eventloop[],node[]]");
 		sb.append(" eventloop[processSize,queueSize]");
 		sb.append(" node[name,address,port,syncConn,asyncConn,errors,timeouts,latency[]]");
 		sb.append(" conn[inUse,inPool,opened,closed]");
@@ -183,6 +185,10 @@ public final class MetricsWriter implements MetricsListener {
 		sb.append(cluster.getRetryCount()); // Cumulative. Not reset on each interval.
 		sb.append(',');
 		sb.append(cluster.getDelayQueueTimeoutCount()); // Cumulative. Not reset on each interval.
+		sb.append(',');
+		sb.append(cluster.getDelayQueueShedCount()); // Cumulative. Not reset on each interval.
+		sb.append(',');
+		sb.append(cluster.getDelayQueueRejectCount()); // Cumulative. Not reset on each interval.
 		sb.append(",[");
 
 		EventLoop[] eventLoops = cluster.getEventLoopArray();
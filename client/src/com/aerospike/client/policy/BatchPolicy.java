@@ -75,6 +75,31 @@ public class BatchPolicy extends Policy {
 	 */
 	public boolean respondAllKeys = true;
 
+	/**
+	 * Maximum number of keys sent to a node in a single batch command. If the keys assigned
+	 * to a node exceed this value, the node's keys are split into evenly sized sub-batches
+	 * that are sent to the same node concurrently. Each sub-batch is retried independently.
+	 * <p>
+	 * Splitting very large batches allows the server to process the sub-batches in parallel
+	 * and the client to parse the responses in parallel, which reduces the latency of the
+	 * slowest node. Smaller values increase the number of commands per batch.
+	 * <p>
+	 * If zero, all keys assigned to a node are sent in a single batch command.
+	 * <p>
+	 * Default: 0
+	 */
+	public int maxKeysPerCommand;
+
+	/**
+	 * Number of records to place in queue before blocking when batch results are streamed with
+	 * {@link com.aerospike.client.BatchRecordSet}. Records received from multiple server nodes
+	 * will be placed in a queue. A separate thread consumes these records in parallel.
+	 * If the queue is full, the producer threads will block until records are consumed.
+	 * <p>
+	 * Default: 5000
+	 */
+	public int recordQueueSize = 5000;
+
 	/**
 	 * This method is deprecated and will eventually be removed.
 	 * The set name is now always sent for every distinct namespace/set in the batch.
@@ -97,6 +122,8 @@ public class BatchPolicy extends Policy {
 		this.allowInline = other.allowInline;
 		this.allowInlineSSD = other.allowInlineSSD;
 		this.respondAllKeys = other.respondAllKeys;
+		this.maxKeysPerCommand = other.maxKeysPerCommand;
+		this.recordQueueSize = other.recordQueueSize;
 		this.sendSetName = other.sendSetName;
 	}
 
@@ -111,6 +138,7 @@ public class BatchPolicy extends Policy {
 	 * Default constructor.
 	 */
 	public BatchPolicy() {
+		super.priority = CommandPriority.BATCH;
 	}
 
 	/**
@@ -146,4 +174,12 @@ public class BatchPolicy extends Policy {
 	public void setRespondAllKeys(boolean respondAllKeys) {
 		this.respondAllKeys = respondAllKeys;
 	}
+
+	public void setMaxKeysPerCommand(int maxKeysPerCommand) {
+		this.maxKeysPerCommand = maxKeysPerCommand;
+	}
+
+	public void setRecordQueueSize(int recordQueueSize) {
+		this.recordQueueSize = recordQueueSize;
+	}
 }
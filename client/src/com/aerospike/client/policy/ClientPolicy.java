@@ -125,7 +125,9 @@ public class ClientPolicy {
 	/**
 	 * Minimum number of asynchronous connections allowed per server node.  Preallocate min connections
 	 * on client node creation.  The client will periodically allocate new connections if count falls
-	 * below min connections.
+	 * below min connections.  When a node recovers from failed tend requests, its async connection
+	 * pools are refilled to min connections on all event loops in parallel
+	 * (see {@link #asyncWarmupConcurrency}).
 	 * <p>
 	 * Server proto-fd-idle-ms and client {@link ClientPolicy#maxSocketIdle} should be set to zero
 	 * (no reap) if asyncMinConnsPerNode is greater than zero.  Reaping connections can defeat the purpose
@@ -150,6 +152,50 @@ public class ClientPolicy {
 	 */
 	public int asyncMaxConnsPerNode = -1;
 
+	/**
+	 * Maximum number of async connections that are opened concurrently per node when async
+	 * connection pools are filled to {@link #asyncMinConnsPerNode}. Pools are filled when a node
+	 * is added to the cluster and when a node recovers from failed tend requests. The limit is
+	 * divided between event loops that have min connections, and each of those event loops opens
+	 * at least one connection at a time.
+	 * Lower values spread connection creation over a longer period.
+	 * <p>
+	 * Use {@link com.aerospike.client.AerospikeClient#isReady()} to determine when all pools have
+	 * been filled.
+	 * <p>
+	 * Default: 20
+	 */
+	public int asyncWarmupConcurrency = 20;
+
+	/**
+	 * Dispatch single record async commands to an event loop that is preferred for the node that
+	 * the command will try first (as determined by the policy's replica) when the event loop
+	 * argument is null. Each node is mapped to a consistent subset of event loops (ordered by node
+	 * name), so each node's async connections are concentrated on fewer event loops. This reduces
+	 * total sockets, improves per event loop connection reuse and reduces new connection churn.
+	 * <p>
+	 * {@link #asyncMinConnsPerNode} is divided among the node's preferred event loops only.
+	 * Other event loops open connections to the node on demand.
+	 * <p>
+	 * If the preferred event loop is overloaded (see {@link #asyncAffinitySpillover}), the command
+	 * is dispatched to the next round-robin event loop instead. Multi-node commands (batch, scan,
+	 * query), reads with {@link Replica#MASTER_PROLES} or {@link Replica#RANDOM} and commands whose
+	 * node can not be determined always use round-robin.
+	 * <p>
+	 * Default: false (round-robin)
+	 */
+	public boolean asyncEventLoopAffinity;
+
+	/**
+	 * Pending command difference at which {@link #asyncEventLoopAffinity} spills over to the
+	 * round-robin event loop. Pending commands are the event loop's commands in process plus
+	 * commands in its delay queue. If the preferred event loop has at least this many more pending
+	 * commands than the round-robin event loop, the round-robin event loop is used.
+	 * <p>
+	 * Default: 64
+	 */
+	public int asyncAffinitySpillover = 64;
+
 	/**
 	 * Number of synchronous connection pools used for each node.  Machines with 8 cpu cores or
 	 * less usually need just one connection pool per node.  Machines with a large number of cpu
@@ -213,6 +259,48 @@ public class ClientPolicy {
 	 */
 	public int tendInterval = 1000;
 
+	/**
+	 * Tend cluster nodes in parallel. If true, the cluster tend thread issues node status,
+	 * peers, partition map and rack info requests to all nodes concurrently using virtual
+	 * threads. Peers and partition map responses are still applied in node order, so the
+	 * resulting cluster view is the same as a sequential tend.
+	 * <p>
+	 * Parallel tending shortens each tend iteration on large clusters, which allows the client
+	 * to react faster to partition map changes during migrations.
+	 * <p>
+	 * Default: false
+	 */
+	public boolean tendParallel;
+
+	/**
+	 * Optional cluster snapshot file path. If set, the cluster tend thread periodically writes the
+	 * cluster's nodes, racks and partition maps to this file.
+	 * <p>
+	 * When a new client instance is created and the snapshot file exists, the snapshot nodes are
+	 * validated in parallel and the snapshot partition maps are used to route commands immediately.
+	 * The full cluster discovery normally performed before the client constructor returns is then
+	 * skipped. Cluster tend runs in the background and repairs stale snapshot entries. If the
+	 * snapshot can't be read or none of its nodes are valid, the seeds are used instead.
+	 * <p>
+	 * Partitions owned by snapshot nodes that fail validation have no node until the first
+	 * cluster tend iteration completes. Until then, commands that route to those partitions
+	 * may fail with {@link com.aerospike.client.ResultCode#INVALID_NODE_ERROR}.
+	 * <p>
+	 * The snapshot file is written to a temporary file first and then atomically moved to the
+	 * snapshot path.
+	 * <p>
+	 * Default: null (cluster snapshot disabled)
+	 */
+	public String snapshotFile;
+
+	/**
+	 * Number of cluster tend iterations between cluster snapshot writes. The snapshot is also
+	 * written after the first cluster tend. Only used when {@link #snapshotFile} is set.
+	 * <p>
+	 * Default: 60
+	 */
+	public int snapshotInterval = 60;
+
 	/**
 	 * Should cluster instantiation fail if the client fails to connect to a seed or
 	 * all the seed's peers.
@@ -415,11 +503,17 @@ public class ClientPolicy {
 		this.maxConnsPerNode = other.maxConnsPerNode;
 		this.asyncMinConnsPerNode = other.asyncMinConnsPerNode;
 		this.asyncMaxConnsPerNode = other.asyncMaxConnsPerNode;
+		this.asyncWarmupConcurrency = other.asyncWarmupConcurrency;
+		this.asyncEventLoopAffinity = other.asyncEventLoopAffinity;
+		this.asyncAffinitySpillover = other.asyncAffinitySpillover;
 		this.connPoolsPerNode = other.connPoolsPerNode;
 		this.maxSocketIdle = other.maxSocketIdle;
 		this.maxErrorRate = other.maxErrorRate;
 		this.errorRateWindow = other.errorRateWindow;
 		this.tendInterval = other.tendInterval;
+		this.tendParallel = other.tendParallel;
+		this.snapshotFile = other.snapshotFile;
+		this.snapshotInterval = other.snapshotInterval;
 		this.failIfNotConnected = other.failIfNotConnected;
 		this.validateClusterName = other.validateClusterName;
 		this.readPolicyDefault = new Policy(other.readPolicyDefault);
@@ -502,6 +596,18 @@ public class ClientPolicy {
 		this.asyncMaxConnsPerNode = asyncMaxConnsPerNode;
 	}
 
+	public void setAsyncWarmupConcurrency(int asyncWarmupConcurrency) {
+		this.asyncWarmupConcurrency = asyncWarmupConcurrency;
+	}
+
+	public void setAsyncEventLoopAffinity(boolean asyncEventLoopAffinity) {
+		this.asyncEventLoopAffinity = asyncEventLoopAffinity;
+	}
+
+	public void setAsyncAffinitySpillover(int asyncAffinitySpillover) {
+		this.asyncAffinitySpillover = asyncAffinitySpillover;
+	}
+
 	public void setConnPoolsPerNode(int connPoolsPerNode) {
 		this.connPoolsPerNode = connPoolsPerNode;
 	}
@@ -522,6 +628,18 @@ public class ClientPolicy {
 		this.tendInterval = tendInterval;
 	}
 
+	public void setTendParallel(boolean tendParallel) {
+		this.tendParallel = tendParallel;
+	}
+
+	public void setSnapshotFile(String snapshotFile) {
+		this.snapshotFile = snapshotFile;
+	}
+
+	public void setSnapshotInterval(int snapshotInterval) {
+		this.snapshotInterval = snapshotInterval;
+	}
+
 	public void setFailIfNotConnected(boolean failIfNotConnected) {
 		this.failIfNotConnected = failIfNotConnected;
 	}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.policy;
+
+/**
+ * Async command priority class. Each event loop delay queue has a separate lane for each
+ * priority class. Lanes are dequeued in proportion to the weights and limited by the
+ * in-process limits defined in {@link com.aerospike.client.async.EventPolicy}.
+ * <p>
+ * Priority only applies to async commands when
+ * {@link com.aerospike.client.async.EventPolicy#maxCommandsInProcess} is greater than zero.
+ */
+public enum CommandPriority {
+	/**
+	 * Latency sensitive single record commands.
+	 */
+	INTERACTIVE,
+
+	/**
+	 * Batch commands.
+	 */
+	BATCH,
+
+	/**
+	 * Long running scan and query commands.
+	 */
+	BACKGROUND
+}
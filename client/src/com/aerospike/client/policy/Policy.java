@@ -255,6 +255,33 @@ public class Policy {
 	 */
 	public boolean failOnFilteredOut;
 
+	/**
+	 * Return list and map bin values as {@link com.aerospike.client.util.PackedCdt} instead of
+	 * deserialized {@link java.util.List} and {@link java.util.Map} objects. Packed values can
+	 * be traversed with an {@link com.aerospike.client.util.UnpackVisitor} without creating
+	 * intermediate objects. See {@link com.aerospike.client.Record#visit(String, com.aerospike.client.util.UnpackVisitor)}.
+	 * <p>
+	 * This field applies to single record read and operate commands, including CDT operation
+	 * results. It is not applicable to batch, scan or query commands.
+	 * <p>
+	 * Default: false
+	 */
+	public boolean rawCdt;
+
+	/**
+	 * Async command priority class. When the event loop's
+	 * {@link com.aerospike.client.async.EventPolicy#maxCommandsInProcess} limit is reached,
+	 * commands wait in the delay queue lane for this priority class. Lanes are dequeued
+	 * in proportion to their weights, so long running batch or scan traffic can not starve
+	 * latency sensitive commands.
+	 * <p>
+	 * This field is not applicable to sync commands.
+	 * <p>
+	 * Default: {@link CommandPriority#INTERACTIVE} ({@link CommandPriority#BATCH} for batch
+	 * policies and {@link CommandPriority#BACKGROUND} for scan and query policies)
+	 */
+	public CommandPriority priority = CommandPriority.INTERACTIVE;
+
 	/**
 	 * Copy policy from another policy.
 	 */
@@ -274,6 +301,8 @@ public class Policy {
 		this.sendKey = other.sendKey;
 		this.compress = other.compress;
 		this.failOnFilteredOut = other.failOnFilteredOut;
+		this.rawCdt = other.rawCdt;
+		this.priority = other.priority;
 	}
 
 	/**
@@ -367,6 +396,14 @@ public class Policy {
 		this.failOnFilteredOut = failOnFilteredOut;
 	}
 
+	public void setRawCdt(boolean rawCdt) {
+		this.rawCdt = rawCdt;
+	}
+
+	public void setPriority(CommandPriority priority) {
+		this.priority = priority;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
@@ -376,11 +413,11 @@ public class Policy {
 			return false;
 		}
 		Policy policy = (Policy) o;
-		return connectTimeout == policy.connectTimeout && socketTimeout == policy.socketTimeout && totalTimeout == policy.totalTimeout && timeoutDelay == policy.timeoutDelay && maxRetries == policy.maxRetries && sleepBetweenRetries == policy.sleepBetweenRetries && readTouchTtlPercent == policy.readTouchTtlPercent && sendKey == policy.sendKey && compress == policy.compress && failOnFilteredOut == policy.failOnFilteredOut && Objects.equals(txn, policy.txn) && readModeAP == policy.readModeAP && readModeSC == policy.readModeSC && replica == policy.replica && Objects.equals(filterExp, policy.filterExp);
+		return connectTimeout == policy.connectTimeout && socketTimeout == policy.socketTimeout && totalTimeout == policy.totalTimeout && timeoutDelay == policy.timeoutDelay && maxRetries == policy.maxRetries && sleepBetweenRetries == policy.sleepBetweenRetries && readTouchTtlPercent == policy.readTouchTtlPercent && sendKey == policy.sendKey && compress == policy.compress && failOnFilteredOut == policy.failOnFilteredOut && rawCdt == policy.rawCdt && Objects.equals(txn, policy.txn) && readModeAP == policy.readModeAP && readModeSC == policy.readModeSC && replica == policy.replica && priority == policy.priority && Objects.equals(filterExp, policy.filterExp);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(txn, readModeAP, readModeSC, replica, filterExp, connectTimeout, socketTimeout, totalTimeout, timeoutDelay, maxRetries, sleepBetweenRetries, readTouchTtlPercent, sendKey, compress, failOnFilteredOut);
+		return Objects.hash(txn, readModeAP, readModeSC, replica, filterExp, connectTimeout, socketTimeout, totalTimeout, timeoutDelay, maxRetries, sleepBetweenRetries, readTouchTtlPercent, sendKey, compress, failOnFilteredOut, rawCdt, priority);
 	}
 }
@@ -129,7 +129,7 @@ public class QueryPolicy extends Policy {
 	}
 
 	/**
-	 * Default constructor. Disable totalTimeout and set maxRetries.
+	 * Default constructor. Disable totalTimeout, set maxRetries and set background priority.
 	 * <p>
 	 * The latest servers support retries on individual data partitions.
 	 * This feature is useful when a cluster is migrating and partition(s)
@@ -144,6 +144,7 @@ public class QueryPolicy extends Policy {
 	public QueryPolicy() {
 		super.totalTimeout = 0;
 		super.maxRetries = 5;
+		super.priority = CommandPriority.BACKGROUND;
 	}
 
 	// Include setters to facilitate Spring's ConfigurationProperties.
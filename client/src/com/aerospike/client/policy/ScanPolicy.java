@@ -88,7 +88,7 @@ public final class ScanPolicy extends Policy {
 	}
 
 	/**
-	 * Default constructor. Disable totalTimeout and set maxRetries.
+	 * Default constructor. Disable totalTimeout, set maxRetries and set background priority.
 	 * <p>
 	 * The latest servers support retries on individual data partitions.
 	 * This feature is useful when a cluster is migrating and partition(s)
@@ -103,6 +103,7 @@ public final class ScanPolicy extends Policy {
 	public ScanPolicy() {
 		super.totalTimeout = 0;
 		super.maxRetries = 5;
+		super.priority = CommandPriority.BACKGROUND;
 	}
 
 	// Include setters to facilitate Spring's ConfigurationProperties.
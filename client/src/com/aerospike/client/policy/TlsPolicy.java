@@ -95,6 +95,29 @@ public final class TlsPolicy {
 	 */
 	public boolean forLoginOnly;
 
+	/**
+	 * Maximum number of TLS sessions kept in the client session cache. Sessions are cached
+	 * per node address, so new connections to a node can resume a previous session instead
+	 * of performing a full handshake. The cache size should be at least the number of nodes
+	 * in the cluster.
+	 * <p>
+	 * This value is applied to the client session context of {@link #context} and to the netty
+	 * SslContext. If {@link #context} is null, sync connections use a dedicated SSLContext
+	 * created by the client, so the JVM default SSLContext is not changed.
+	 * <p>
+	 * Default: 0 (use JVM or netty default)
+	 */
+	public int sessionCacheSize;
+
+	/**
+	 * Maximum time in seconds a cached TLS session can be resumed. After that, a new connection
+	 * performs a full handshake. This value is applied to the same session caches as
+	 * {@link #sessionCacheSize}, so the JVM default SSLContext is not changed.
+	 * <p>
+	 * Default: 0 (use JVM or netty default)
+	 */
+	public int sessionTimeout;
+
 	/**
 	 * Copy TLS policy from another TLS policy.
 	 */
@@ -104,6 +127,8 @@ public final class TlsPolicy {
 		this.ciphers = other.ciphers;
 		this.revokeCertificates = other.revokeCertificates;
 		this.forLoginOnly = other.forLoginOnly;
+		this.sessionCacheSize = other.sessionCacheSize;
+		this.sessionTimeout = other.sessionTimeout;
 	}
 
 	/**
@@ -137,4 +162,12 @@ public final class TlsPolicy {
 	public void setForLoginOnly(boolean forLoginOnly) {
 		this.forLoginOnly = forLoginOnly;
 	}
+
+	public void setSessionCacheSize(int sessionCacheSize) {
+		this.sessionCacheSize = sessionCacheSize;
+	}
+
+	public void setSessionTimeout(int sessionTimeout) {
+		this.sessionTimeout = sessionTimeout;
+	}
 }
@@ -18,6 +18,8 @@ package com.aerospike.client.util;
 
 import java.util.List;
 
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
 import com.aerospike.client.Value;
 import com.aerospike.client.cdt.CTX;
 import com.aerospike.client.exp.Exp;
@@ -530,7 +532,7 @@ public final class Pack {
 		packer.packInt(v1);
 		v2.pack(packer);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, int v1, Exp v2, Exp v3, CTX... ctx) {
@@ -552,7 +554,7 @@ public final class Pack {
 		v2.pack(packer);
 		v3.pack(packer);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, int v1, Exp v2, Exp v3, Exp v4, CTX... ctx) {
@@ -576,7 +578,7 @@ public final class Pack {
 		v3.pack(packer);
 		v4.pack(packer);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, Exp v1) {
@@ -592,7 +594,7 @@ public final class Pack {
 		packer.packInt(command);
 		v1.pack(packer);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, Exp v1, CTX... ctx) {
@@ -610,7 +612,7 @@ public final class Pack {
 		packer.packInt(command);
 		v1.pack(packer);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, Exp v1, int v2, CTX... ctx) {
@@ -630,7 +632,7 @@ public final class Pack {
 		v1.pack(packer);
 		packer.packInt(v2);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, Exp v1, int v2, int v3, CTX... ctx) {
@@ -652,7 +654,7 @@ public final class Pack {
 		packer.packInt(v2);
 		packer.packInt(v3);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, Exp v1, Exp v2, CTX... ctx) {
@@ -672,7 +674,7 @@ public final class Pack {
 		v1.pack(packer);
 		v2.pack(packer);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, Exp v1, Exp v2, int v3, CTX... ctx) {
@@ -694,7 +696,7 @@ public final class Pack {
 		v2.pack(packer);
 		packer.packInt(v3);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, Exp v1, Exp v2, int v3, int v4, CTX... ctx) {
@@ -718,7 +720,7 @@ public final class Pack {
 		packer.packInt(v3);
 		packer.packInt(v4);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, Exp v1, Exp v2, Exp v3, CTX... ctx) {
@@ -740,7 +742,7 @@ public final class Pack {
 		v2.pack(packer);
 		v3.pack(packer);
 
-		return packer.getBuffer();
+		return getExpBuffer(packer);
 	}
 
 	public static byte[] pack(int command, Exp v1, Exp v2, Exp v3, int v4, CTX... ctx) {
@@ -764,6 +766,14 @@ public final class Pack {
 		v3.pack(packer);
 		packer.packInt(v4);
 
+		return getExpBuffer(packer);
+	}
+
+	private static byte[] getExpBuffer(Packer packer) {
+		if (packer.getSlots() != null) {
+			throw new AerospikeException(ResultCode.PARAMETER_ERROR,
+				"Expression parameters are not supported in CDT, bit and HLL arguments");
+		}
 		return packer.getBuffer();
 	}
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.util;
+
+import java.util.Arrays;
+
+import com.aerospike.client.command.ParticleType;
+
+/**
+ * List or map bin value that has not been deserialized. Returned in place of
+ * {@link java.util.List} and {@link java.util.Map} values when
+ * {@link com.aerospike.client.policy.Policy#rawCdt} is true.
+ */
+public final class PackedCdt {
+	private final byte[] buffer;
+	private final int offset;
+	private final int length;
+	private final int type;
+
+	/**
+	 * Packed value constructor. For internal use only.
+	 */
+	public PackedCdt(int type, byte[] buffer, int offset, int length) {
+		this.type = type;
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Traverse packed value and send events to visitor.
+	 */
+	public void visit(UnpackVisitor visitor) {
+		Unpacker.visit(buffer, offset, length, visitor);
+	}
+
+	/**
+	 * Deserialize packed value into {@link java.util.List} or {@link java.util.Map}
+	 * like the default record parser does.
+	 */
+	public Object unpack() {
+		if (type == ParticleType.MAP) {
+			return Unpacker.unpackObjectMap(buffer, offset, length);
+		}
+		return Unpacker.unpackObjectList(buffer, offset, length);
+	}
+
+	/**
+	 * Decode list of integers directly into a primitive array.
+	 */
+	public long[] toLongArray() {
+		return Unpacker.unpackLongArray(buffer, offset, length);
+	}
+
+	/**
+	 * Decode list of numbers directly into a primitive array.
+	 */
+	public double[] toDoubleArray() {
+		return Unpacker.unpackDoubleArray(buffer, offset, length);
+	}
+
+	/**
+	 * Decode list of blobs into an array of byte arrays.
+	 */
+	public byte[][] toBytesArray() {
+		return Unpacker.unpackBytesArray(buffer, offset, length);
+	}
+
+	/**
+	 * Return particle type. {@link ParticleType#LIST} or {@link ParticleType#MAP}.
+	 */
+	public int getType() {
+		return type;
+	}
+
+	/**
+	 * Return copy of packed bytes.
+	 */
+	public byte[] getBytes() {
+		return Arrays.copyOfRange(buffer, offset, offset + length);
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(unpack());
+	}
+}
@@ -19,6 +19,7 @@ package com.aerospike.client.util;
 import static com.aerospike.client.Value.MapValue.getMapOrder;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -89,13 +90,51 @@ public final class Packer {
 		}
 	}
 
+	/**
+	 * Return packed size of value without packing the value.
+	 */
+	public static int estimateSize(Value val) {
+		try {
+			Packer packer = new Packer();
+			val.pack(packer);
+			return packer.offset;
+		}
+		catch (Throwable e) {
+			throw new AerospikeException.Serialize(e);
+		}
+	}
+
+	/**
+	 * Pack value directly into buffer at offset and return packed length.
+	 * The buffer must have room for {@link #estimateSize(Value)} bytes.
+	 */
+	public static int pack(Value val, byte[] buffer, int offset) {
+		try {
+			Packer packer = new Packer(buffer, offset);
+			val.pack(packer);
+			return packer.offset - offset;
+		}
+		catch (Throwable e) {
+			throw new AerospikeException.Serialize(e);
+		}
+	}
+
 	private byte[] buffer;
 	private int offset;
+	private List<int[]> slots;
 
 	public Packer() {
 		// Default to null buffer in estimate buffer size mode.
 	}
 
+	/**
+	 * Pack directly into an existing buffer starting at offset.
+	 */
+	public Packer(byte[] buffer, int offset) {
+		this.buffer = buffer;
+		this.offset = offset;
+	}
+
 	public void packValueArray(Value[] values) {
 		packArrayBegin(values.length);
 		for (Value value : values) {
@@ -569,6 +608,36 @@ public final class Packer {
 		buffer[offset++] = (byte)val;
 	}
 
+	/**
+	 * Mark parameter slot at the current offset. Nothing is packed.
+	 * Slot offsets are recorded when packing into the buffer.
+	 * For internal use only.
+	 */
+	public void packSlot(int index) {
+		if (slots == null) {
+			slots = new ArrayList<int[]>();
+		}
+
+		if (buffer != null) {
+			slots.add(new int[] {offset, index});
+		}
+	}
+
+	/**
+	 * Return parameter slots as {offset, index} pairs or null if no slots were packed.
+	 * For internal use only.
+	 */
+	public List<int[]> getSlots() {
+		return slots;
+	}
+
+	/**
+	 * Return current offset or estimated size when the buffer has not been created.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
 	public void createBuffer() {
 		buffer = new byte[offset];
 		offset = 0;
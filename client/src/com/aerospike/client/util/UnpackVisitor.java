@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.client.util;
+
+/**
+ * Receive typed events while a packed list or map value is traversed. Values are passed
+ * directly from the packed buffer, so no intermediate collections or boxed objects are created.
+ * String, blob and GeoJSON bytes are only valid for the duration of the callback.
+ * <p>
+ * A list produces {@link #startList(int)}, one event per element and {@link #endList()}.
+ * A map produces {@link #startMap(int)}, key and value events for each entry and {@link #endMap()}.
+ * Nested lists and maps produce nested start/end events.
+ */
+public interface UnpackVisitor {
+	/**
+	 * List with count elements begins.
+	 */
+	void startList(int count);
+
+	/**
+	 * List ends.
+	 */
+	void endList();
+
+	/**
+	 * Map with count entries begins.
+	 */
+	void startMap(int count);
+
+	/**
+	 * Map ends.
+	 */
+	void endMap();
+
+	/**
+	 * Nil value or an unsupported extension value.
+	 */
+	void nil();
+
+	/**
+	 * Boolean value.
+	 */
+	void booleanValue(boolean value);
+
+	/**
+	 * Integer value.
+	 */
+	void longValue(long value);
+
+	/**
+	 * Floating point value.
+	 */
+	void doubleValue(double value);
+
+	/**
+	 * UTF-8 encoded string value.
+	 */
+	void string(byte[] buffer, int offset, int length);
+
+	/**
+	 * Blob value with {@link com.aerospike.client.command.ParticleType}.
+	 */
+	void bytes(byte[] buffer, int offset, int length, int particleType);
+
+	/**
+	 * UTF-8 encoded GeoJSON value.
+	 */
+	void geoJSON(byte[] buffer, int offset, int length);
+}
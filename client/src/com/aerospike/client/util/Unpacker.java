@@ -28,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.TreeMap;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
 import com.aerospike.client.Value;
 import com.aerospike.client.command.Buffer;
 import com.aerospike.client.command.ParticleType;
@@ -469,6 +470,555 @@ public abstract class Unpacker<T> {
 		}
 	}
 
+	/**
+	 * Unpack list of integers directly into a primitive array.
+	 */
+	public static long[] unpackLongArray(byte[] buffer, int offset, int length) throws AerospikeException {
+		if (length <= 0) {
+			return new long[0];
+		}
+
+		try {
+			PrimitiveUnpacker unpacker = new PrimitiveUnpacker(buffer, offset);
+			int count = unpacker.unpackListBegin();
+			long[] array = new long[count];
+
+			for (int i = 0; i < count; i++) {
+				array[i] = unpacker.unpackLong();
+			}
+			return array;
+		}
+		catch (AerospikeException ae) {
+			throw ae;
+		}
+		catch (Throwable e) {
+			throw new AerospikeException.Serialize(e);
+		}
+	}
+
+	/**
+	 * Unpack list of floating point or integer numbers directly into a primitive array.
+	 */
+	public static double[] unpackDoubleArray(byte[] buffer, int offset, int length) throws AerospikeException {
+		if (length <= 0) {
+			return new double[0];
+		}
+
+		try {
+			PrimitiveUnpacker unpacker = new PrimitiveUnpacker(buffer, offset);
+			int count = unpacker.unpackListBegin();
+			double[] array = new double[count];
+
+			for (int i = 0; i < count; i++) {
+				array[i] = unpacker.unpackDouble();
+			}
+			return array;
+		}
+		catch (AerospikeException ae) {
+			throw ae;
+		}
+		catch (Throwable e) {
+			throw new AerospikeException.Serialize(e);
+		}
+	}
+
+	/**
+	 * Unpack list of blobs into an array of byte arrays.
+	 */
+	public static byte[][] unpackBytesArray(byte[] buffer, int offset, int length) throws AerospikeException {
+		if (length <= 0) {
+			return new byte[0][];
+		}
+
+		try {
+			PrimitiveUnpacker unpacker = new PrimitiveUnpacker(buffer, offset);
+			int count = unpacker.unpackListBegin();
+			byte[][] array = new byte[count][];
+
+			for (int i = 0; i < count; i++) {
+				array[i] = unpacker.unpackBytes();
+			}
+			return array;
+		}
+		catch (AerospikeException ae) {
+			throw ae;
+		}
+		catch (Throwable e) {
+			throw new AerospikeException.Serialize(e);
+		}
+	}
+
+	/**
+	 * Unpack lists of a single element type without boxing.
+	 */
+	private static final class PrimitiveUnpacker {
+		private final byte[] buffer;
+		private int offset;
+
+		private PrimitiveUnpacker(byte[] buffer, int offset) {
+			this.buffer = buffer;
+			this.offset = offset;
+		}
+
+		private int unpackListBegin() {
+			int type = buffer[offset++] & 0xff;
+			int count;
+
+			if ((type & 0xf0) == 0x90) {
+				count = type & 0x0f;
+			}
+			else if (type == 0xdc) {
+				count = Buffer.bytesToShort(buffer, offset);
+				offset += 2;
+			}
+			else if (type == 0xdd) {
+				count = Buffer.bytesToInt(buffer, offset);
+				offset += 4;
+			}
+			else {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "Value is not a list");
+			}
+
+			if (count > 0 && skipExtension()) {
+				// Ignore list order extension.
+				count--;
+			}
+			return count;
+		}
+
+		private boolean skipExtension() {
+			int type = buffer[offset] & 0xff;
+
+			switch (type) {
+			case 0xd4:
+				offset += 1 + 1 + 1;
+				return true;
+
+			case 0xd5:
+				offset += 1 + 1 + 2;
+				return true;
+
+			case 0xd6:
+				offset += 1 + 1 + 4;
+				return true;
+
+			case 0xd7:
+				offset += 1 + 1 + 8;
+				return true;
+
+			case 0xd8:
+				offset += 1 + 1 + 16;
+				return true;
+
+			case 0xc7:
+				offset += 1 + (buffer[offset + 1] & 0xff) + 1 + 1;
+				return true;
+
+			case 0xc8:
+				offset += 1 + Buffer.bytesToShort(buffer, offset + 1) + 1 + 2;
+				return true;
+
+			case 0xc9:
+				offset += 1 + Buffer.bytesToInt(buffer, offset + 1) + 1 + 4;
+				return true;
+
+			default:
+				return false;
+			}
+		}
+
+		private long unpackLong() {
+			int type = buffer[offset++] & 0xff;
+			long val;
+
+			switch (type) {
+			case 0xd0: // signed 8 bit integer
+				return buffer[offset++];
+
+			case 0xcc: // unsigned 8 bit integer
+				return buffer[offset++] & 0xff;
+
+			case 0xd1: // signed 16 bit integer
+				val = Buffer.bigSigned16ToShort(buffer, offset);
+				offset += 2;
+				return val;
+
+			case 0xcd: // unsigned 16 bit integer
+				val = Buffer.bytesToShort(buffer, offset);
+				offset += 2;
+				return val;
+
+			case 0xd2: // signed 32 bit integer
+				val = Buffer.bytesToInt(buffer, offset);
+				offset += 4;
+				return val;
+
+			case 0xce: // unsigned 32 bit integer
+				val = Buffer.bigUnsigned32ToLong(buffer, offset);
+				offset += 4;
+				return val;
+
+			case 0xd3: // signed 64 bit integer
+			case 0xcf: // unsigned 64 bit integer
+				val = Buffer.bytesToLong(buffer, offset);
+				offset += 8;
+				return val;
+
+			default:
+				if (type < 0x80) { // 8 bit combined unsigned integer
+					return type;
+				}
+
+				if (type >= 0xe0) { // 8 bit combined signed integer
+					return type - 0xe0 - 32;
+				}
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "List element is not an integer: " + type);
+			}
+		}
+
+		private double unpackDouble() {
+			int type = buffer[offset] & 0xff;
+			double val;
+
+			switch (type) {
+			case 0xca: // float
+				val = Float.intBitsToFloat(Buffer.bytesToInt(buffer, offset + 1));
+				offset += 1 + 4;
+				return val;
+
+			case 0xcb: // double
+				val = Double.longBitsToDouble(Buffer.bytesToLong(buffer, offset + 1));
+				offset += 1 + 8;
+				return val;
+
+			default:
+				return unpackLong();
+			}
+		}
+
+		private byte[] unpackBytes() {
+			int type = buffer[offset++] & 0xff;
+			int count;
+
+			switch (type) {
+			case 0xc4:
+			case 0xd9:
+				count = buffer[offset++] & 0xff;
+				break;
+
+			case 0xc5:
+			case 0xda:
+				count = Buffer.bytesToShort(buffer, offset);
+				offset += 2;
+				break;
+
+			case 0xc6:
+			case 0xdb:
+				count = Buffer.bytesToInt(buffer, offset);
+				offset += 4;
+				break;
+
+			default:
+				if ((type & 0xe0) == 0xa0) {
+					count = type & 0x1f;
+					break;
+				}
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "List element is not a blob: " + type);
+			}
+
+			if (count == 0) {
+				return new byte[0];
+			}
+
+			int particleType = buffer[offset] & 0xff;
+
+			if (particleType != ParticleType.BLOB) {
+				throw new AerospikeException(ResultCode.PARAMETER_ERROR, "List element is not a blob. Particle type: " + particleType);
+			}
+
+			// Skip particle type.
+			byte[] bytes = Arrays.copyOfRange(buffer, offset + 1, offset + count);
+			offset += count;
+			return bytes;
+		}
+	}
+
+	/**
+	 * Traverse packed list or map and send typed events to visitor
+	 * without creating intermediate objects.
+	 */
+	public static void visit(byte[] buffer, int offset, int length, UnpackVisitor visitor) throws AerospikeException {
+		if (length <= 0) {
+			return;
+		}
+
+		try {
+			EventUnpacker unpacker = new EventUnpacker(buffer, offset, visitor);
+			unpacker.unpackObject();
+		}
+		catch (Throwable e) {
+			throw new AerospikeException.Serialize(e);
+		}
+	}
+
+	/**
+	 * Event based unpacker that mirrors unpackObject() without allocating values.
+	 */
+	private static final class EventUnpacker {
+		private final byte[] buffer;
+		private final UnpackVisitor visitor;
+		private int offset;
+
+		private EventUnpacker(byte[] buffer, int offset, UnpackVisitor visitor) {
+			this.buffer = buffer;
+			this.offset = offset;
+			this.visitor = visitor;
+		}
+
+		private void unpackList(int count) throws IOException {
+			if (count > 0 && isExtension(buffer[offset] & 0xff)) {
+				// Ignore list order extension.
+				unpackObject();
+				count--;
+			}
+
+			visitor.startList(count);
+
+			for (int i = 0; i < count; i++) {
+				unpackObject();
+			}
+			visitor.endList();
+		}
+
+		private void unpackMap(int count) throws IOException {
+			if (count > 0 && isExtension(buffer[offset] & 0xff)) {
+				// Ignore map order extension key and its nil value.
+				unpackObject();
+				unpackObject();
+				count--;
+			}
+
+			visitor.startMap(count);
+
+			for (int i = 0; i < count; i++) {
+				unpackObject();
+				unpackObject();
+			}
+			visitor.endMap();
+		}
+
+		private void unpackBlob(int count) {
+			int type = buffer[offset++] & 0xff;
+			count--;
+
+			switch (type) {
+			case ParticleType.STRING:
+				visitor.string(buffer, offset, count);
+				break;
+
+			case ParticleType.GEOJSON:
+				visitor.geoJSON(buffer, offset, count);
+				break;
+
+			default:
+				visitor.bytes(buffer, offset, count, type);
+				break;
+			}
+			offset += count;
+		}
+
+		private void unpackObject() throws IOException {
+			int type = buffer[offset++] & 0xff;
+
+			switch (type) {
+				case 0xc0: // nil
+					visitor.nil();
+					return;
+
+				case 0xc3: // boolean true
+					visitor.booleanValue(true);
+					return;
+
+				case 0xc2: // boolean false
+					visitor.booleanValue(false);
+					return;
+
+				case 0xca: // float
+					visitor.doubleValue(Float.intBitsToFloat(Buffer.bytesToInt(buffer, offset)));
+					offset += 4;
+					return;
+
+				case 0xcb: // double
+					visitor.doubleValue(Double.longBitsToDouble(Buffer.bytesToLong(buffer, offset)));
+					offset += 8;
+					return;
+
+				case 0xd0: // signed 8 bit integer
+					visitor.longValue(buffer[offset++]);
+					return;
+
+				case 0xcc: // unsigned 8 bit integer
+					visitor.longValue(buffer[offset++] & 0xff);
+					return;
+
+				case 0xd1: // signed 16 bit integer
+					visitor.longValue(Buffer.bigSigned16ToShort(buffer, offset));
+					offset += 2;
+					return;
+
+				case 0xcd: // unsigned 16 bit integer
+					visitor.longValue(Buffer.bytesToShort(buffer, offset));
+					offset += 2;
+					return;
+
+				case 0xd2: // signed 32 bit integer
+					visitor.longValue(Buffer.bytesToInt(buffer, offset));
+					offset += 4;
+					return;
+
+				case 0xce: // unsigned 32 bit integer
+					visitor.longValue(Buffer.bigUnsigned32ToLong(buffer, offset));
+					offset += 4;
+					return;
+
+				case 0xd3: // signed 64 bit integer
+				case 0xcf: // unsigned 64 bit integer
+					visitor.longValue(Buffer.bytesToLong(buffer, offset));
+					offset += 8;
+					return;
+
+				case 0xc4:
+				case 0xd9: { // string/raw bytes with 8 bit header
+					int count = buffer[offset++] & 0xff;
+					unpackBlob(count);
+					return;
+				}
+
+				case 0xc5:
+				case 0xda: { // string/raw bytes with 16 bit header
+					int count = Buffer.bytesToShort(buffer, offset);
+					offset += 2;
+					unpackBlob(count);
+					return;
+				}
+
+				case 0xc6:
+				case 0xdb: { // string/raw bytes with 32 bit header
+					int count = Buffer.bytesToInt(buffer, offset);
+					offset += 4;
+					unpackBlob(count);
+					return;
+				}
+
+				case 0xdc: { // list with 16 bit header
+					int count = Buffer.bytesToShort(buffer, offset);
+					offset += 2;
+					unpackList(count);
+					return;
+				}
+
+				case 0xdd: { // list with 32 bit header
+					int count = Buffer.bytesToInt(buffer, offset);
+					offset += 4;
+					unpackList(count);
+					return;
+				}
+
+				case 0xde: { // map with 16 bit header
+					int count = Buffer.bytesToShort(buffer, offset);
+					offset += 2;
+					unpackMap(count);
+					return;
+				}
+
+				case 0xdf: { // map with 32 bit header
+					int count = Buffer.bytesToInt(buffer, offset);
+					offset += 4;
+					unpackMap(count);
+					return;
+				}
+
+				case 0xd4: // Skip over type extension with 1 byte
+					offset += 1 + 1;
+					visitor.nil();
+					return;
+
+				case 0xd5: // Skip over type extension with 2 bytes
+					offset += 1 + 2;
+					visitor.nil();
+					return;
+
+				case 0xd6: // Skip over type extension with 4 bytes
+					offset += 1 + 4;
+					visitor.nil();
+					return;
+
+				case 0xd7: // Skip over type extension with 8 bytes
+					offset += 1 + 8;
+					visitor.nil();
+					return;
+
+				case 0xd8: // Skip over type extension with 16 bytes
+					offset += 1 + 16;
+					visitor.nil();
+					return;
+
+				case 0xc7: { // Skip over type extension with 8 bit header and bytes
+					int count = buffer[offset] & 0xff;
+					offset += count + 1 + 1;
+					visitor.nil();
+					return;
+				}
+
+				case 0xc8: { // Skip over type extension with 16 bit header and bytes
+					int count = Buffer.bytesToShort(buffer, offset);
+					offset += count + 1 + 2;
+					visitor.nil();
+					return;
+				}
+
+				case 0xc9: { // Skip over type extension with 32 bit header and bytes
+					int count = Buffer.bytesToInt(buffer, offset);
+					offset += count + 1 + 4;
+					visitor.nil();
+					return;
+				}
+
+				default: {
+					if ((type & 0xe0) == 0xa0) { // raw bytes with 8 bit combined header
+						unpackBlob(type & 0x1f);
+						return;
+					}
+
+					if ((type & 0xf0) == 0x80) { // map with 8 bit combined header
+						unpackMap(type & 0x0f);
+						return;
+					}
+
+					if ((type & 0xf0) == 0x90) { // list with 8 bit combined header
+						unpackList(type & 0x0f);
+						return;
+					}
+
+					if (type < 0x80) { // 8 bit combined unsigned integer
+						visitor.longValue(type);
+						return;
+					}
+
+					if (type >= 0xe0) { // 8 bit combined signed integer
+						visitor.longValue(type - 0xe0 - 32);
+						return;
+					}
+					throw new IOException("Unknown unpack type: " + type);
+				}
+			}
+		}
+
+		private static boolean isExtension(int type) {
+			return (type >= 0xc7 && type <= 0xc9) || (type >= 0xd4 && type <= 0xd8);
+		}
+	}
+
 	public static final class ObjectUnpacker extends Unpacker<Object> {
 
 		public ObjectUnpacker(byte[] buffer, int offset, int length) {
@@ -22,7 +22,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
 	SuiteSync.class,
-	SuiteAsync.class
+	SuiteAsync.class,
+	SuiteUnit.class
 })
 public class SuiteAll {
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+import com.aerospike.test.unit.TestAsyncMultiParse;
+import com.aerospike.test.unit.TestBatchSplit;
+import com.aerospike.test.unit.TestClusterSnapshot;
+import com.aerospike.test.unit.TestClusterTend;
+import com.aerospike.test.unit.TestCommandPool;
+import com.aerospike.test.unit.TestDelayQueue;
+import com.aerospike.test.unit.TestEventLoopAffinity;
+import com.aerospike.test.unit.TestExpressionTemplate;
+import com.aerospike.test.unit.TestGatherWrite;
+import com.aerospike.test.unit.TestHashedWheelTimer;
+import com.aerospike.test.unit.TestMinConnections;
+import com.aerospike.test.unit.TestMpscQueue;
+import com.aerospike.test.unit.TestOperateTemplate;
+import com.aerospike.test.unit.TestPackedCdt;
+import com.aerospike.test.unit.TestPacker;
+import com.aerospike.test.unit.TestPrimitiveArrays;
+import com.aerospike.test.unit.TestRecordCodec;
+import com.aerospike.test.unit.TestRecordWriter;
+import com.aerospike.test.unit.TestSerializeWrite;
+import com.aerospike.test.unit.TestTlsSession;
+
+/**
+ * Tests that do not require a server.
+ */
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+	TestAsyncMultiParse.class,
+	TestBatchSplit.class,
+	TestClusterSnapshot.class,
+	TestClusterTend.class,
+	TestCommandPool.class,
+	TestDelayQueue.class,
+	TestEventLoopAffinity.class,
+	TestExpressionTemplate.class,
+	TestGatherWrite.class,
+	TestHashedWheelTimer.class,
+	TestMinConnections.class,
+	TestMpscQueue.class,
+	TestOperateTemplate.class,
+	TestPackedCdt.class,
+	TestPacker.class,
+	TestPrimitiveArrays.class,
+	TestRecordCodec.class,
+	TestRecordWriter.class,
+	TestSerializeWrite.class,
+	TestTlsSession.class
+})
+public class SuiteUnit {
+}
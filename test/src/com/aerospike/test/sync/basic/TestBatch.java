@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -32,6 +33,7 @@ import org.junit.Test;
 import com.aerospike.client.BatchDelete;
 import com.aerospike.client.BatchRead;
 import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchRecordSet;
 import com.aerospike.client.BatchResults;
 import com.aerospike.client.BatchWrite;
 import com.aerospike.client.Bin;
@@ -47,6 +49,7 @@ import com.aerospike.client.exp.ExpOperation;
 import com.aerospike.client.exp.ExpReadFlags;
 import com.aerospike.client.exp.ExpWriteFlags;
 import com.aerospike.client.exp.Expression;
+import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.BatchReadPolicy;
 import com.aerospike.client.policy.BatchWritePolicy;
 import com.aerospike.client.policy.WritePolicy;
@@ -144,6 +147,84 @@ public class TestBatch extends TestSync {
 		}
 	}
 
+	@Test
+	public void batchReadsStream() {
+		Key[] keys = new Key[Size + 1];
+		for (int i = 0; i < Size; i++) {
+			keys[i] = new Key(args.namespace, args.set, KeyPrefix + (i + 1));
+		}
+		keys[Size] = new Key(args.namespace, args.set, "keynotfound");
+
+		BatchPolicy policy = new BatchPolicy();
+		policy.recordQueueSize = 2;
+
+		boolean[] found = new boolean[keys.length];
+		int count = 0;
+
+		try (BatchRecordSet rs = client.getRecordSet(policy, keys)) {
+			while (rs.next()) {
+				BatchRecord br = rs.getBatchRecord();
+				int i = indexOf(keys, br.key);
+
+				// Each key is returned exactly once.
+				assertFalse(found[i]);
+				found[i] = true;
+				count++;
+
+				if (i == Size) {
+					assertEquals(ResultCode.KEY_NOT_FOUND_ERROR, br.resultCode);
+					assertNull(br.record);
+				}
+				else if (i != 5) {
+					assertBinEqual(br.key, br.record, BinName, ValuePrefix + (i + 1));
+				}
+				else {
+					assertBinEqual(br.key, br.record, BinName, i + 1);
+				}
+			}
+		}
+		assertEquals(keys.length, count);
+	}
+
+	@Test
+	public void batchOperateStream() {
+		List<BatchRecord> records = new ArrayList<BatchRecord>();
+
+		for (int i = 0; i < Size; i++) {
+			Key key = new Key(args.namespace, args.set, KeyPrefix + (i + 1));
+			records.add(new BatchRead(key, new String[] {BinName}));
+		}
+
+		int count = 0;
+
+		try (BatchRecordSet rs = client.operateRecordSet(null, records)) {
+			for (BatchRecord br : rs) {
+				int i = records.indexOf(br);
+				assertTrue(i >= 0);
+				assertEquals(ResultCode.OK, br.resultCode);
+
+				if (i != 5) {
+					assertBinEqual(br.key, br.record, BinName, ValuePrefix + (i + 1));
+				}
+				else {
+					assertBinEqual(br.key, br.record, BinName, i + 1);
+				}
+				count++;
+			}
+		}
+		assertEquals(Size, count);
+	}
+
+	private static int indexOf(Key[] keys, Key key) {
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i].equals(key)) {
+				return i;
+			}
+		}
+		fail("Unexpected key: " + key);
+		return -1;
+	}
+
 	@Test
 	public void batchReadsEmptyBinNames() {
 		Key[] keys = new Key[Size];
@@ -26,6 +26,7 @@ import org.junit.Test;
 import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
 import com.aerospike.client.Record;
+import com.aerospike.client.RecordWriter;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.test.sync.TestSync;
@@ -113,4 +114,24 @@ public class TestPutGet extends TestSync {
 			assertEquals(b, rcv[i]);
 		}
 	}
+
+	@Test
+	public void putGetWriter() {
+		Key key = new Key(args.namespace, args.set, "pgw");
+		RecordWriter writer = new RecordWriter();
+
+		writer.put("i", 55L).put("d", 1.25).put("s", "value").put("b", new byte[] {1, 2, 3});
+		client.put(null, key, writer);
+
+		// Reuse writer for operate.
+		writer.clear().add("i", 5L).get("i").get("s");
+		Record record = client.operate(null, key, writer);
+		assertEquals(60L, record.getLong("i"));
+		assertEquals("value", record.getString("s"));
+
+		record = client.get(null, key);
+		assertEquals(60L, record.getLong("i"));
+		assertEquals(1.25, record.getDouble("d"), 0.0);
+		assertEquals(3, record.getBytes("b").length);
+	}
 }
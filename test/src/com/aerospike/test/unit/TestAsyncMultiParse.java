@@ -0,0 +1,222 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Record;
+import com.aerospike.client.async.AsyncTestHook.MultiParser;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.FieldType;
+import com.aerospike.client.command.ParticleType;
+
+/**
+ * Verify async multi-record groups are parsed incrementally when bytes arrive in
+ * arbitrary chunks.
+ */
+public class TestAsyncMultiParse {
+	private static final int BUFFER_SIZE = 8192;
+
+	@Test
+	public void smallRecords() {
+		byte[] group = group(true, 100, 200);
+
+		for (int chunk : new int[] {1, 2, 3, 7, 22, 23, 100, 8191, 8192, 8193, group.length}) {
+			MultiParser command = new MultiParser();
+			assertTrue(feed(command, group, chunk));
+			assertRecords(command, 100, 200);
+
+			// Records smaller than the buffer never grow it.
+			assertEquals(BUFFER_SIZE, command.dataBuffer.length);
+		}
+	}
+
+	@Test
+	public void groupWithoutEndMarker() {
+		// A group may end at a record boundary without the end marker.
+		byte[] group = group(false, 50, 1000);
+
+		for (int chunk : new int[] {1, 13, 4096, group.length}) {
+			MultiParser command = new MultiParser();
+			assertFalse(feed(command, group, chunk));
+			command.finishGroup();
+			assertRecords(command, 50, 1000);
+		}
+	}
+
+	@Test
+	public void oversizedRecord() {
+		// Records larger than the buffer. The buffer grows for one record, not for the group.
+		byte[] group = group(true, 10, 20000);
+
+		for (int chunk : new int[] {1000, 8192, 30000, group.length}) {
+			MultiParser command = new MultiParser();
+			assertTrue(feed(command, group, chunk));
+			assertRecords(command, 10, 20000);
+			assertTrue(command.dataBuffer.length >= 20000);
+			assertTrue(command.dataBuffer.length < group.length / 2);
+		}
+	}
+
+	@Test
+	public void tailCompaction() {
+		byte[] group = group(false, 3, 100);
+		int recordSize = group.length / 3;
+
+		MultiParser command = new MultiParser();
+		command.startGroup();
+
+		// One and a half records.
+		int size = recordSize + recordSize / 2;
+		copy(command, group, 0, size);
+		assertFalse(command.parse(size));
+
+		// The first record is parsed and the partial record is moved to the front.
+		assertEquals(1, command.getRecords().size());
+		assertEquals(recordSize / 2, command.getReceiveOffset());
+		assertEquals(size, command.dataOffset);
+
+		copy(command, group, size, group.length - size);
+		assertFalse(command.parse(group.length - size));
+		assertEquals(0, command.getReceiveOffset());
+		assertEquals(group.length, command.dataOffset);
+
+		command.finishGroup();
+		assertRecords(command, 3, 100);
+	}
+
+	@Test
+	public void incompleteRecord() {
+		byte[] group = group(false, 2, 100);
+		MultiParser command = new MultiParser();
+		command.startGroup();
+
+		int size = group.length - 1;
+		copy(command, group, 0, size);
+		command.parse(size);
+
+		try {
+			command.finishGroup();
+			fail("Expected parse error");
+		}
+		catch (AerospikeException.Parse pe) {
+		}
+	}
+
+	/**
+	 * Feed group to command in chunks like the transports do. Return true if the end marker was parsed.
+	 */
+	private static boolean feed(MultiParser command, byte[] group, int chunk) {
+		command.startGroup();
+
+		int offset = 0;
+
+		while (offset < group.length) {
+			int len = Math.min(chunk, group.length - offset);
+
+			do {
+				int space = command.getReceiveSpace();
+				int size = (len < space)? len : space;
+
+				copy(command, group, offset, size);
+				offset += size;
+				len -= size;
+
+				if (command.parse(size)) {
+					assertEquals(group.length, offset);
+					return true;
+				}
+			} while (len > 0);
+		}
+		return false;
+	}
+
+	private static void copy(MultiParser command, byte[] group, int offset, int size) {
+		System.arraycopy(group, offset, command.dataBuffer, command.getReceiveOffset(), size);
+	}
+
+	private static void assertRecords(MultiParser command, int count, int valueSize) {
+		assertEquals(count, command.getRecords().size());
+
+		for (int i = 0; i < count; i++) {
+			Record record = command.getRecords().get(i);
+			assertEquals(i, record.generation);
+			assertArrayEquals(value(i, valueSize), (byte[])record.getValue("b"));
+		}
+	}
+
+	/**
+	 * Return group of records. Each record has a digest field and one blob bin.
+	 */
+	private static byte[] group(boolean endMarker, int count, int valueSize) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] name = "b".getBytes(StandardCharsets.UTF_8);
+
+		for (int i = 0; i < count; i++) {
+			byte[] value = value(i, valueSize);
+			byte[] rec = new byte[Command.MSG_REMAINING_HEADER_SIZE + Command.FIELD_HEADER_SIZE + 20 +
+				Command.OPERATION_HEADER_SIZE + name.length + value.length];
+
+			rec[0] = (byte)Command.MSG_REMAINING_HEADER_SIZE;
+			Buffer.intToBytes(i, rec, 6);
+			Buffer.shortToBytes(1, rec, 18);
+			Buffer.shortToBytes(1, rec, 20);
+
+			int offset = Command.MSG_REMAINING_HEADER_SIZE;
+			Buffer.intToBytes(21, rec, offset);
+			rec[offset + 4] = (byte)FieldType.DIGEST_RIPE;
+			offset += Command.FIELD_HEADER_SIZE + 20;
+
+			Buffer.intToBytes(4 + name.length + value.length, rec, offset);
+			rec[offset + 5] = (byte)ParticleType.BLOB;
+			rec[offset + 7] = (byte)name.length;
+			offset += Command.OPERATION_HEADER_SIZE;
+			System.arraycopy(name, 0, rec, offset, name.length);
+			offset += name.length;
+			System.arraycopy(value, 0, rec, offset, value.length);
+			out.write(rec, 0, rec.length);
+		}
+
+		if (endMarker) {
+			byte[] rec = new byte[Command.MSG_REMAINING_HEADER_SIZE];
+			rec[0] = (byte)Command.MSG_REMAINING_HEADER_SIZE;
+			rec[3] = (byte)Command.INFO3_LAST;
+			out.write(rec, 0, rec.length);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] value(int index, int size) {
+		byte[] value = new byte[size];
+
+		for (int i = 0; i < size; i++) {
+			value[i] = (byte)(index + i);
+		}
+		return value;
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.command.BatchNode;
+import com.aerospike.client.command.BatchNodeList;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.test.util.StandInCluster;
+
+/**
+ * Verify node batches with more than {@link BatchPolicy#maxKeysPerCommand} keys are split
+ * into evenly sized sub-batches on the initial attempt and on retry. The stand-in cluster
+ * has a single node, so all keys are assigned to the same node batch.
+ */
+public class TestBatchSplit {
+	private static StandInCluster standIn;
+	private static AerospikeClient client;
+	private static Cluster cluster;
+
+	@BeforeClass
+	public static void start() throws Exception {
+		standIn = new StandInCluster(1, 1);
+		client = new AerospikeClient(new ClientPolicy(), standIn.getHosts());
+		cluster = client.getCluster();
+	}
+
+	@AfterClass
+	public static void stop() {
+		client.close();
+		standIn.close();
+	}
+
+	@Test
+	public void evenParts() {
+		List<BatchNode> list = generate(createRecords(10), 3);
+
+		// 10 keys with max 3 need 4 parts. Boundaries are 10 * p / 4.
+		assertParts(list, new int[] {0, 1}, new int[] {2, 3, 4}, new int[] {5, 6}, new int[] {7, 8, 9});
+	}
+
+	@Test
+	public void evenPartsOfThree() {
+		List<BatchNode> list = generate(createRecords(10), 4);
+
+		// 10 keys with max 4 need 3 parts of 3, 3 and 4 keys.
+		assertParts(list, new int[] {0, 1, 2}, new int[] {3, 4, 5}, new int[] {6, 7, 8, 9});
+	}
+
+	@Test
+	public void sizeEqualsMax() {
+		List<BatchNode> list = generate(createRecords(10), 10);
+		assertParts(list, new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+	}
+
+	@Test
+	public void noMax() {
+		assertParts(generate(createRecords(10), 0), new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+		assertParts(generate(createRecords(10), -1), new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+	}
+
+	@Test
+	public void retry() {
+		BatchRecord[] records = createRecords(10);
+		List<BatchNode> list = generate(records, 4);
+		BatchNode seed = list.get(2);
+		assertArrayEquals(new int[] {6, 7, 8, 9}, getOffsets(seed));
+
+		// Key 7 has a response and is not retried. The remaining 3 keys are split again.
+		records[7].resultCode = ResultCode.OK;
+
+		BatchPolicy policy = new BatchPolicy();
+		policy.maxKeysPerCommand = 2;
+
+		List<BatchNode> retry = BatchNodeList.generate(cluster, policy, createKeys(records), records,
+			1, 1, seed, false, new Status());
+
+		assertParts(retry, new int[] {6}, new int[] {8, 9});
+	}
+
+	private static List<BatchNode> generate(BatchRecord[] records, int max) {
+		BatchPolicy policy = new BatchPolicy();
+		policy.maxKeysPerCommand = max;
+		return BatchNodeList.generate(cluster, policy, createKeys(records), records, false, new Status());
+	}
+
+	private static BatchRecord[] createRecords(int count) {
+		BatchRecord[] records = new BatchRecord[count];
+
+		for (int i = 0; i < count; i++) {
+			records[i] = new BatchRead(new Key(StandInCluster.NAMESPACE, "set", i), true);
+		}
+		return records;
+	}
+
+	private static Key[] createKeys(BatchRecord[] records) {
+		Key[] keys = new Key[records.length];
+
+		for (int i = 0; i < records.length; i++) {
+			keys[i] = records[i].key;
+		}
+		return keys;
+	}
+
+	private static void assertParts(List<BatchNode> list, int[]... parts) {
+		Node node = cluster.getNodes()[0];
+		assertEquals(parts.length, list.size());
+
+		for (int i = 0; i < parts.length; i++) {
+			BatchNode batchNode = list.get(i);
+			assertSame(node, batchNode.node);
+			assertArrayEquals(parts[i], getOffsets(batchNode));
+		}
+	}
+
+	private static int[] getOffsets(BatchNode batchNode) {
+		int[] offsets = new int[batchNode.offsetsSize];
+		System.arraycopy(batchNode.offsets, 0, offsets, 0, batchNode.offsetsSize);
+		return offsets;
+	}
+
+	private static final class Status implements BatchNodeList.IBatchStatus {
+		@Override
+		public void batchKeyError(Key key, int index, AerospikeException ae, boolean inDoubt, boolean hasWrite) {
+			throw ae;
+		}
+
+		@Override
+		public void batchKeyError(AerospikeException ae) {
+			throw ae;
+		}
+	}
+}
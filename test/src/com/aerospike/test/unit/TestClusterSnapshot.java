@@ -0,0 +1,179 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Log;
+import com.aerospike.client.Log.Level;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partitions;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.test.util.StandInCluster;
+
+/**
+ * Verify the cluster snapshot file written by one client is used to start another client.
+ */
+public class TestClusterSnapshot {
+	private static final int NODES = 3;
+	private static final int REPLICAS = 2;
+
+	private static StandInCluster standIn;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final List<String> messages = new ArrayList<String>();
+
+	@BeforeClass
+	public static void start() throws Exception {
+		standIn = new StandInCluster(NODES, REPLICAS);
+	}
+
+	@AfterClass
+	public static void stop() {
+		standIn.close();
+	}
+
+	@Before
+	public void captureLog() {
+		Log.setLevel(Level.INFO);
+		Log.setCallback(new Log.Callback() {
+			public void log(Level level, String message) {
+				synchronized (messages) {
+					messages.add(message);
+				}
+			}
+		});
+	}
+
+	@After
+	public void resetLog() {
+		Log.setCallback(null);
+		Log.setLevel(Level.INFO);
+	}
+
+	@Test
+	public void writeRead() throws Exception {
+		File file = new File(folder.getRoot(), "cluster.snapshot");
+		ClientPolicy policy = createPolicy(file);
+
+		// First client discovers the cluster from seeds and writes the snapshot after the first tend.
+		AerospikeClient client = new AerospikeClient(policy, standIn.getHosts());
+
+		try {
+			waitForFile(file);
+		}
+		finally {
+			client.close();
+		}
+		assertFalse(hasMessage("Cluster initialized from snapshot"));
+
+		// Second client starts from the snapshot.
+		client = new AerospikeClient(policy, standIn.getHosts()[0]);
+
+		try {
+			assertTrue(hasMessage("Cluster initialized from snapshot: nodes=" + NODES + '/' + NODES));
+			assertCluster(client.getCluster());
+		}
+		finally {
+			client.close();
+		}
+	}
+
+	@Test
+	public void invalidFile() throws Exception {
+		File file = new File(folder.getRoot(), "invalid.snapshot");
+		Files.write(file.toPath(), new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+		// Invalid snapshot falls back to seeds.
+		AerospikeClient client = new AerospikeClient(createPolicy(file), standIn.getHosts()[0]);
+
+		try {
+			assertTrue(hasMessage("Cluster snapshot read failed"));
+			assertFalse(hasMessage("Cluster initialized from snapshot"));
+			assertCluster(client.getCluster());
+		}
+		finally {
+			client.close();
+		}
+	}
+
+	private static ClientPolicy createPolicy(File file) {
+		ClientPolicy policy = new ClientPolicy();
+		policy.snapshotFile = file.getPath();
+		policy.rackAware = true;
+		policy.tendInterval = 50;
+		return policy;
+	}
+
+	private static void waitForFile(File file) throws InterruptedException {
+		long limit = System.currentTimeMillis() + 10000;
+
+		while (! file.exists() && System.currentTimeMillis() < limit) {
+			Thread.sleep(20);
+		}
+		assertTrue(file.exists());
+	}
+
+	private boolean hasMessage(String prefix) {
+		synchronized (messages) {
+			for (String message : messages) {
+				if (message.startsWith(prefix)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static void assertCluster(Cluster cluster) throws Exception {
+		assertEquals(NODES, cluster.getNodes().length);
+
+		Partitions partitions = cluster.partitionMap.get(StandInCluster.NAMESPACE);
+		assertEquals(REPLICAS, partitions.replicas.length);
+
+		for (int r = 0; r < REPLICAS; r++) {
+			for (int p = 0; p < StandInCluster.PARTITIONS; p++) {
+				String expected = standIn.getNodeName(standIn.getOwner(p, r));
+				assertEquals(expected, partitions.replicas[r].get(p).getName());
+			}
+		}
+
+		for (int i = 0; i < NODES; i++) {
+			Node node = cluster.getNode(standIn.getNodeName(i));
+			assertTrue(node.hasRack(StandInCluster.NAMESPACE, standIn.getRack(i)));
+		}
+	}
+}
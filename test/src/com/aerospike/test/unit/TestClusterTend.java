@@ -0,0 +1,126 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.ClusterStats;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partitions;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.test.util.StandInCluster;
+
+/**
+ * Verify parallel and sequential cluster tend produce the same partition map and racks.
+ */
+public class TestClusterTend {
+	private static final int NODES = 3;
+	private static final int REPLICAS = 2;
+
+	private static StandInCluster standIn;
+
+	@BeforeClass
+	public static void start() throws Exception {
+		standIn = new StandInCluster(NODES, REPLICAS);
+	}
+
+	@AfterClass
+	public static void stop() {
+		standIn.close();
+	}
+
+	@Test
+	public void parallelTend() throws Exception {
+		tend(true);
+	}
+
+	@Test
+	public void sequentialTend() throws Exception {
+		tend(false);
+	}
+
+	private void tend(boolean parallel) throws Exception {
+		ClientPolicy policy = new ClientPolicy();
+		policy.tendParallel = parallel;
+		policy.tendInterval = 50;
+		policy.rackAware = true;
+
+		AerospikeClient client = new AerospikeClient(policy, standIn.getHosts());
+
+		try {
+			Cluster cluster = client.getCluster();
+			assertEquals(NODES, cluster.getNodes().length);
+			assertCluster(cluster);
+
+			// Move all partitions and racks and wait for the client to follow.
+			standIn.rebalance();
+			waitForGeneration(cluster, standIn.getGeneration());
+			assertCluster(cluster);
+
+			ClusterStats stats = cluster.getStats();
+			assertTrue(stats.tendCount > 1);
+			assertTrue(stats.tendTimeMax >= stats.tendTimeLast);
+		}
+		finally {
+			client.close();
+		}
+	}
+
+	private static void waitForGeneration(Cluster cluster, int generation) throws InterruptedException {
+		long limit = System.currentTimeMillis() + 10000;
+
+		while (System.currentTimeMillis() < limit) {
+			boolean done = true;
+
+			for (Node node : cluster.getNodes()) {
+				if (node.getPartitionGeneration() != generation || node.getRebalanceGeneration() != generation) {
+					done = false;
+					break;
+				}
+			}
+
+			if (done) {
+				return;
+			}
+			Thread.sleep(20);
+		}
+	}
+
+	private static void assertCluster(Cluster cluster) throws Exception {
+		Partitions partitions = cluster.partitionMap.get(StandInCluster.NAMESPACE);
+		assertEquals(REPLICAS, partitions.replicas.length);
+
+		for (int r = 0; r < REPLICAS; r++) {
+			for (int p = 0; p < StandInCluster.PARTITIONS; p++) {
+				String expected = standIn.getNodeName(standIn.getOwner(p, r));
+				assertEquals("partition " + p + " replica " + r, expected, partitions.replicas[r].get(p).getName());
+			}
+		}
+
+		for (int i = 0; i < NODES; i++) {
+			Node node = cluster.getNode(standIn.getNodeName(i));
+			assertTrue(node.hasRack(StandInCluster.NAMESPACE, standIn.getRack(i)));
+		}
+	}
+}
@@ -0,0 +1,481 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Log;
+import com.aerospike.client.Log.Level;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.async.AsyncTestHook;
+import com.aerospike.client.async.EventPolicy;
+import com.aerospike.client.async.NioCommand;
+import com.aerospike.client.async.NioEventLoop;
+import com.aerospike.client.async.NioEventLoops;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partition;
+import com.aerospike.client.listener.BatchListListener;
+import com.aerospike.client.listener.WriteListener;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.test.util.StandInCluster;
+
+/**
+ * Verify pooled async command wrappers are returned to the event loop's command pool exactly
+ * once on every completion path and that the pool detects lifecycle errors and leaks.
+ * Commands are issued in the event loop thread, so they use pooled wrappers.
+ */
+public class TestCommandPool {
+	private static final int NODES = 2;
+	private static final int POOL_SIZE = 8;
+	private static final int IN_PROCESS = 5;
+
+	private static StandInCluster standIn;
+
+	private final List<String> messages = new ArrayList<String>();
+	private NioEventLoops eventLoops;
+	private NioEventLoop eventLoop;
+	private AerospikeClient client;
+
+	@BeforeClass
+	public static void start() throws Exception {
+		standIn = new StandInCluster(NODES, 2);
+	}
+
+	@AfterClass
+	public static void stop() {
+		standIn.close();
+	}
+
+	@Before
+	public void captureLog() {
+		Log.setLevel(Level.INFO);
+		Log.setCallback(new Log.Callback() {
+			public void log(Level level, String message) {
+				synchronized (messages) {
+					messages.add(message);
+				}
+			}
+		});
+	}
+
+	@After
+	public void close() {
+		if (client != null) {
+			client.close();
+		}
+
+		if (eventLoops != null) {
+			eventLoops.close();
+		}
+		standIn.setResultCode(0, 0);
+		standIn.setResponseDelay(0);
+		Log.setCallback(null);
+		Log.setLevel(Level.INFO);
+	}
+
+	@Test
+	public void success() throws Exception {
+		open(new EventPolicy(), 100);
+
+		put(getKey(0), new WritePolicy()).assertSuccess();
+		assertPool(1, 1);
+
+		// Second command reuses the wrapper.
+		put(getKey(1), new WritePolicy()).assertSuccess();
+		assertPool(1, 1);
+		assertNoErrors();
+	}
+
+	@Test
+	public void failure() throws Exception {
+		open(new EventPolicy(), 100);
+
+		standIn.setResultCode(ResultCode.GENERATION_ERROR, 1);
+		put(getKey(0), new WritePolicy()).assertFailure(ResultCode.GENERATION_ERROR);
+		assertPool(1, 1);
+
+		put(getKey(0), new WritePolicy()).assertSuccess();
+		assertPool(1, 1);
+		assertNoErrors();
+	}
+
+	@Test
+	public void retry() throws Exception {
+		open(new EventPolicy(), 100);
+
+		WritePolicy policy = new WritePolicy();
+		policy.maxRetries = 2;
+
+		standIn.setResultCode(ResultCode.DEVICE_OVERLOAD, 2);
+		put(getKey(0), policy).assertSuccess();
+		assertPool(1, 1);
+
+		// Fail when retries are exhausted.
+		standIn.setResultCode(ResultCode.DEVICE_OVERLOAD, 3);
+		put(getKey(0), policy).assertFailure(ResultCode.DEVICE_OVERLOAD);
+		assertPool(1, 1);
+		assertNoErrors();
+	}
+
+	@Test
+	public void batchRetry() throws Exception {
+		open(new EventPolicy(), 100);
+
+		final List<BatchRead> records = new ArrayList<BatchRead>();
+
+		for (int i = 0; i < 20; i++) {
+			records.add(new BatchRead(new Key(StandInCluster.NAMESPACE, "set", i), true));
+		}
+
+		final BatchPolicy policy = new BatchPolicy();
+		policy.maxRetries = 2;
+
+		// Both node commands fail and their keys are retried in new commands on the other node.
+		standIn.setResultCode(ResultCode.DEVICE_OVERLOAD, NODES);
+
+		final Listener listener = new Listener();
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				client.get(eventLoop, listener, policy, records);
+			}
+		});
+		listener.assertSuccess();
+
+		// Batch retry commands are not pooled. Both original wrappers are returned.
+		assertPool(NODES, NODES);
+		assertNoErrors();
+	}
+
+	@Test
+	public void delayQueueTimeout() throws Exception {
+		EventPolicy eventPolicy = new EventPolicy();
+		eventPolicy.maxCommandsInProcess = IN_PROCESS;
+		open(eventPolicy, 100);
+
+		standIn.setResponseDelay(1000);
+
+		final WritePolicy policy1 = new WritePolicy();
+		policy1.totalTimeout = 10000;
+
+		final WritePolicy policy2 = new WritePolicy();
+		policy2.totalTimeout = 50;
+		policy2.maxRetries = 0;
+
+		final Listener[] listeners1 = new Listener[IN_PROCESS];
+		final Listener listener2 = new Listener();
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				for (int i = 0; i < IN_PROCESS; i++) {
+					listeners1[i] = new Listener();
+					client.put(eventLoop, listeners1[i], policy1, getKey(0), new Bin("a", 1));
+				}
+
+				// Next command waits in the delay queue and times out there.
+				client.put(eventLoop, listener2, policy2, getKey(0), new Bin("a", 2));
+			}
+		});
+
+		listener2.assertFailure(ResultCode.TIMEOUT);
+
+		// Timed out command is still referenced by the delay queue.
+		assertPool(0, IN_PROCESS + 1);
+
+		// In process commands complete and the delay queue drops the timed out command.
+		for (Listener listener : listeners1) {
+			listener.assertSuccess();
+		}
+		assertPool(IN_PROCESS + 1, IN_PROCESS + 1);
+		listener2.assertFailure(ResultCode.TIMEOUT);
+		assertNoErrors();
+	}
+
+	@Test
+	public void queuedRetry() throws Exception {
+		open(new EventPolicy(), 1);
+
+		final Key keyA = getKey(0);
+		final Key keyB = getKey(1);
+		put(keyB, new WritePolicy()).assertSuccess();
+		assertPool(1, 1);
+
+		final Node node = client.getCluster().getNode(standIn.getNodeName(0));
+		final WritePolicy policyA = new WritePolicy();
+		policyA.totalTimeout = 50;
+		policyA.maxRetries = 5;
+
+		final Listener listenerA = new Listener();
+		final Listener listenerB = new Listener();
+		long retryCount = client.getCluster().getRetryCount();
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				// Command A is the next user of this wrapper.
+				NioCommand wrapper = AsyncTestHook.acquireCommand(eventLoop);
+				AsyncTestHook.recycleCommand(wrapper);
+
+				// Node backoff queues a retry of command A to the end of the event loop queue.
+				node.incrErrorRate();
+				node.incrErrorRate();
+				client.put(eventLoop, listenerA, policyA, keyA, new Bin("a", 1));
+
+				// Command A times out and its wrapper is reused by command B before
+				// the queued retry runs.
+				sleep(policyA.totalTimeout * 2);
+				wrapper.timeout();
+				node.resetErrorRate();
+				client.put(eventLoop, listenerB, new WritePolicy(), keyB, new Bin("a", 2));
+			}
+		});
+
+		listenerA.assertFailure(ResultCode.TIMEOUT);
+		listenerB.assertSuccess();
+
+		// Queued retry of command A must not retry command B.
+		runOnLoop(new Runnable() {
+			public void run() {
+			}
+		});
+		assertEquals(retryCount, client.getCluster().getRetryCount());
+		listenerA.assertFailure(ResultCode.TIMEOUT);
+		listenerB.assertSuccess();
+		assertPool(1, 1);
+		assertNoErrors();
+	}
+
+	@Test
+	public void doubleRelease() throws Exception {
+		open(new EventPolicy(), 100);
+
+		put(getKey(0), new WritePolicy()).assertSuccess();
+		assertPool(1, 1);
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				NioCommand wrapper = AsyncTestHook.acquireCommand(eventLoop);
+				AsyncTestHook.recycleCommand(wrapper);
+				AsyncTestHook.recycleCommand(wrapper);
+			}
+		});
+
+		assertTrue(hasMessage("Async command released while not acquired"));
+		assertPool(1, 1);
+
+		// Pool still hands out a single wrapper once.
+		put(getKey(0), new WritePolicy()).assertSuccess();
+		assertPool(1, 1);
+	}
+
+	@Test
+	public void leak() throws Exception {
+		EventPolicy eventPolicy = new EventPolicy();
+		eventPolicy.commandLeakThreshold = 50;
+		open(eventPolicy, 100);
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				// Never released.
+				AsyncTestHook.acquireCommand(eventLoop);
+			}
+		});
+
+		Thread.sleep(eventPolicy.commandLeakThreshold * 2);
+
+		// Leaks are checked when a wrapper is acquired.
+		put(getKey(0), new WritePolicy()).assertSuccess();
+		assertEquals(1, getPoolCount(2));
+		assertTrue(hasMessage("Async command not released within 50ms"));
+
+		// Each leak is reported once.
+		Thread.sleep(eventPolicy.commandLeakThreshold * 2);
+		put(getKey(0), new WritePolicy()).assertSuccess();
+		assertEquals(1, getPoolCount(2));
+		assertPool(1, 2);
+	}
+
+	private void open(EventPolicy eventPolicy, int maxErrorRate) {
+		eventPolicy.commandPoolSize = POOL_SIZE;
+		eventLoops = new NioEventLoops(eventPolicy, 1);
+		eventLoop = eventLoops.get(0);
+
+		ClientPolicy policy = new ClientPolicy();
+		policy.eventLoops = eventLoops;
+		policy.maxErrorRate = maxErrorRate;
+
+		// Error rate is reset on tend. Keep tend out of the way after the first tend.
+		policy.tendInterval = 60000;
+		client = new AerospikeClient(policy, standIn.getHosts());
+	}
+
+	private Listener put(final Key key, final WritePolicy policy) throws InterruptedException {
+		final Listener listener = new Listener();
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				client.put(eventLoop, listener, policy, key, new Bin("a", 1));
+			}
+		});
+		return listener;
+	}
+
+	private void assertPool(int size, long allocCount) throws InterruptedException {
+		assertEquals(size, getPoolCount(0));
+		assertEquals(allocCount, getPoolCount(1));
+	}
+
+	private long getPoolCount(final int type) throws InterruptedException {
+		final long[] count = new long[1];
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				switch (type) {
+				case 0:
+					count[0] = AsyncTestHook.getCommandPoolSize(eventLoop);
+					break;
+
+				case 1:
+					count[0] = AsyncTestHook.getCommandAllocCount(eventLoop);
+					break;
+
+				default:
+					count[0] = AsyncTestHook.getCommandLeakCount(eventLoop);
+					break;
+				}
+			}
+		});
+		return count[0];
+	}
+
+	private void runOnLoop(final Runnable runnable) throws InterruptedException {
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		eventLoop.execute(new Runnable() {
+			public void run() {
+				try {
+					runnable.run();
+				}
+				finally {
+					latch.countDown();
+				}
+			}
+		});
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+	}
+
+	private boolean hasMessage(String prefix) {
+		synchronized (messages) {
+			for (String message : messages) {
+				if (message.startsWith(prefix)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void assertNoErrors() {
+		assertFalse(hasMessage("Async command released while not acquired"));
+		assertFalse(hasMessage("Pooled async command is not free"));
+	}
+
+	/**
+	 * Return key whose master partition is on the given stand-in node.
+	 */
+	private static Key getKey(int node) {
+		for (int i = 0; ; i++) {
+			Key key = new Key(StandInCluster.NAMESPACE, "set", i);
+
+			if (standIn.getOwner(Partition.getPartitionId(key.digest), 0) == node) {
+				return key;
+			}
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ie) {
+			throw new AssertionError(ie);
+		}
+	}
+
+	private static final class Listener implements WriteListener, BatchListListener {
+		private final CountDownLatch latch = new CountDownLatch(1);
+		private final AtomicInteger successCount = new AtomicInteger();
+		private final AtomicInteger failureCount = new AtomicInteger();
+		private volatile AerospikeException exception;
+
+		@Override
+		public void onSuccess(Key key) {
+			successCount.incrementAndGet();
+			latch.countDown();
+		}
+
+		@Override
+		public void onSuccess(List<BatchRead> records) {
+			successCount.incrementAndGet();
+			latch.countDown();
+		}
+
+		@Override
+		public void onFailure(AerospikeException ae) {
+			exception = ae;
+			failureCount.incrementAndGet();
+			latch.countDown();
+		}
+
+		private void assertSuccess() throws InterruptedException {
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+			assertNull(exception);
+			assertEquals(1, successCount.get());
+			assertEquals(0, failureCount.get());
+		}
+
+		private void assertFailure(int resultCode) throws InterruptedException {
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+			assertNotNull(exception);
+			assertEquals(resultCode, exception.getResultCode());
+			assertEquals(0, successCount.get());
+			assertEquals(1, failureCount.get());
+		}
+	}
+}
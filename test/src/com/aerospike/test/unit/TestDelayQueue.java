@@ -0,0 +1,144 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.aerospike.client.async.AsyncTestHook;
+import com.aerospike.client.async.EventPolicy;
+import com.aerospike.client.policy.CommandPriority;
+
+/**
+ * Verify delay queue lane weights, credits and wait estimates.
+ */
+public class TestDelayQueue {
+	private static final int INTERACTIVE = CommandPriority.INTERACTIVE.ordinal();
+	private static final int BATCH = CommandPriority.BATCH.ordinal();
+	private static final int BACKGROUND = CommandPriority.BACKGROUND.ordinal();
+	private static final int PRIORITY_COUNT = CommandPriority.values().length;
+
+	@Test
+	public void weights() {
+		AsyncTestHook.Queue queue = new AsyncTestHook.Queue(new EventPolicy(), new int[PRIORITY_COUNT]);
+		add(queue, INTERACTIVE, 100);
+		add(queue, BATCH, 100);
+		add(queue, BACKGROUND, 100);
+
+		int[] counts = new int[PRIORITY_COUNT];
+
+		// Default weights are 8/2/1.
+		for (int i = 0; i < 11 * 10; i++) {
+			counts[((TestEntry)queue.pollFirst()).priority]++;
+		}
+		assertEquals(80, counts[INTERACTIVE]);
+		assertEquals(20, counts[BATCH]);
+		assertEquals(10, counts[BACKGROUND]);
+	}
+
+	@Test
+	public void idleLaneCredit() {
+		AsyncTestHook.Queue queue = new AsyncTestHook.Queue(new EventPolicy(), new int[PRIORITY_COUNT]);
+		add(queue, INTERACTIVE, 100);
+		TestEntry batch = add(queue, BATCH, 1);
+
+		// Batch lane gains credit while interactive commands are dequeued.
+		assertEquals(INTERACTIVE, ((TestEntry)queue.pollFirst()).priority);
+		assertEquals(INTERACTIVE, ((TestEntry)queue.pollFirst()).priority);
+
+		// Batch command expires before it is dequeued and the lane becomes empty.
+		batch.expired = true;
+		assertEquals(1, queue.removeExpired(0));
+		assertEquals(INTERACTIVE, ((TestEntry)queue.pollFirst()).priority);
+
+		// A new batch command does not spend credit from before the lane was empty.
+		add(queue, BATCH, 1);
+		assertEquals(INTERACTIVE, ((TestEntry)queue.pollFirst()).priority);
+	}
+
+	@Test
+	public void inProcessLimit() {
+		EventPolicy policy = new EventPolicy();
+		policy.batchMaxInProcess = 1;
+
+		int[] pending = new int[PRIORITY_COUNT];
+		AsyncTestHook.Queue queue = new AsyncTestHook.Queue(policy, pending);
+		add(queue, BATCH, 2);
+
+		assertEquals(BATCH, ((TestEntry)queue.pollFirst()).priority);
+		pending[BATCH]++;
+		assertNull(queue.pollFirst());
+
+		pending[BATCH]--;
+		assertEquals(BATCH, ((TestEntry)queue.pollFirst()).priority);
+		assertEquals(0, queue.size());
+	}
+
+	@Test
+	public void estimateWait() {
+		AsyncTestHook.Queue queue = new AsyncTestHook.Queue(new EventPolicy(), new int[PRIORITY_COUNT]);
+		add(queue, BACKGROUND, 1000);
+		assertEquals(0, queue.estimateWait(INTERACTIVE));
+
+		// Two dequeues 8000ns apart measure a 1000ns average interval.
+		queue.addWaitTime(BACKGROUND, 1000, 0);
+		queue.addWaitTime(BACKGROUND, 9000, 0);
+
+		// A background backlog does not delay interactive commands.
+		assertEquals(0, queue.estimateWait(INTERACTIVE));
+		assertEquals(0, queue.estimateWait(BATCH));
+		assertEquals(1000 * 1000, queue.estimateWait(BACKGROUND));
+
+		// Interactive lane gets 8 of 9 dequeues.
+		add(queue, INTERACTIVE, 16);
+		assertEquals(18 * 1000, queue.estimateWait(INTERACTIVE));
+
+		// Interactive lane gets 8 of 11 dequeues.
+		add(queue, BATCH, 4);
+		assertEquals(22 * 1000, queue.estimateWait(INTERACTIVE));
+		assertEquals(22 * 1000, queue.estimateWait(BATCH));
+
+		// Background lane can not wait longer than the whole queue.
+		assertEquals(1020 * 1000, queue.estimateWait(BACKGROUND));
+	}
+
+	private static TestEntry add(AsyncTestHook.Queue queue, int priority, int count) {
+		TestEntry entry = null;
+
+		for (int i = 0; i < count; i++) {
+			entry = new TestEntry(priority);
+			queue.addLast(entry, priority);
+		}
+		return entry;
+	}
+
+	private static final class TestEntry implements AsyncTestHook.QueueEntry {
+		private final int priority;
+		private boolean expired;
+
+		private TestEntry(int priority) {
+			this.priority = priority;
+		}
+
+		@Override
+		public boolean isExpired(long currentTime) {
+			return expired;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.async.NioEventLoops;
+import com.aerospike.client.cluster.Cluster;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Node.AsyncPool;
+import com.aerospike.client.cluster.Partition;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.Replica;
+import com.aerospike.test.util.StandInCluster;
+
+/**
+ * Verify single record async commands are dispatched to the event loops of the node that the
+ * replica policy selects and that async min connections are only kept on those event loops.
+ */
+public class TestEventLoopAffinity {
+	private static final int NODES = 3;
+	private static final int REPLICAS = 2;
+	private static final int LOOPS = 6;
+	private static final int WIDTH = LOOPS / NODES;
+	private static final int MIN_CONNS = 4;
+	private static final int RACK_NODE = 1;
+
+	private static StandInCluster standIn;
+
+	private NioEventLoops eventLoops;
+
+	@BeforeClass
+	public static void start() throws Exception {
+		standIn = new StandInCluster(NODES, REPLICAS);
+	}
+
+	@AfterClass
+	public static void stop() {
+		standIn.close();
+	}
+
+	@Before
+	public void createEventLoops() {
+		eventLoops = new NioEventLoops(LOOPS);
+	}
+
+	@After
+	public void closeEventLoops() {
+		eventLoops.close();
+	}
+
+	@Test
+	public void minConnections() throws Exception {
+		AerospikeClient client = new AerospikeClient(createPolicy(true), standIn.getHosts());
+
+		try {
+			waitForReady(client);
+
+			for (int i = 0; i < NODES; i++) {
+				Node node = client.getCluster().getNode(standIn.getNodeName(i));
+				int total = 0;
+
+				for (int loop = 0; loop < LOOPS; loop++) {
+					AsyncPool pool = node.getAsyncPool(loop);
+
+					if (isNodeLoop(i, loop)) {
+						assertEquals(MIN_CONNS / WIDTH, pool.minSize);
+						assertTrue(pool.total >= pool.minSize);
+					}
+					else {
+						assertEquals(0, pool.minSize);
+					}
+					total += pool.minSize;
+				}
+				assertEquals(MIN_CONNS, total);
+			}
+		}
+		finally {
+			client.close();
+		}
+	}
+
+	@Test
+	public void minConnectionsRoundRobin() throws Exception {
+		AerospikeClient client = new AerospikeClient(createPolicy(false), standIn.getHosts());
+
+		try {
+			waitForReady(client);
+
+			for (Node node : client.getNodes()) {
+				int total = 0;
+
+				for (int loop = 0; loop < LOOPS; loop++) {
+					AsyncPool pool = node.getAsyncPool(loop);
+					assertTrue(pool.minSize <= 1);
+					total += pool.minSize;
+				}
+				assertEquals(MIN_CONNS, total);
+			}
+		}
+		finally {
+			client.close();
+		}
+	}
+
+	@Test
+	public void replica() throws Exception {
+		AerospikeClient client = new AerospikeClient(createPolicy(true), standIn.getHosts());
+
+		try {
+			Cluster cluster = client.getCluster();
+			Policy sequence = new Policy();
+			sequence.replica = Replica.SEQUENCE;
+			Policy preferRack = new Policy();
+			preferRack.replica = Replica.PREFER_RACK;
+
+			for (int i = 0; i < 1000; i++) {
+				Key key = new Key(StandInCluster.NAMESPACE, "set", i);
+				int p = Partition.getPartitionId(key.digest);
+				int master = standIn.getOwner(p, 0);
+				int rackNode = (standIn.getOwner(p, 1) == RACK_NODE)? RACK_NODE : master;
+
+				assertEquals(getLoop(master, p), cluster.nextEventLoop(sequence, key, false).getIndex());
+				assertEquals(getLoop(master, p), cluster.nextEventLoop(sequence, key, true).getIndex());
+				assertEquals(getLoop(rackNode, p), cluster.nextEventLoop(preferRack, key, false).getIndex());
+				assertEquals(getLoop(master, p), cluster.nextEventLoop(preferRack, key, true).getIndex());
+			}
+		}
+		finally {
+			client.close();
+		}
+	}
+
+	private ClientPolicy createPolicy(boolean affinity) {
+		ClientPolicy policy = new ClientPolicy();
+		policy.eventLoops = eventLoops;
+		policy.asyncEventLoopAffinity = affinity;
+		policy.asyncMinConnsPerNode = MIN_CONNS;
+		policy.asyncMaxConnsPerNode = LOOPS * 10;
+		policy.rackAware = true;
+		policy.rackId = standIn.getRack(RACK_NODE);
+		policy.tendInterval = 50;
+		return policy;
+	}
+
+	private static boolean isNodeLoop(int node, int loop) {
+		// Nodes are ordered by name and stand-in node names are ordered by index.
+		return loop >= node * WIDTH && loop < (node + 1) * WIDTH;
+	}
+
+	private static int getLoop(int node, int partitionId) {
+		return node * WIDTH + partitionId % WIDTH;
+	}
+
+	private static void waitForReady(AerospikeClient client) throws InterruptedException {
+		long limit = System.currentTimeMillis() + 10000;
+
+		while (! client.isReady() && System.currentTimeMillis() < limit) {
+			Thread.sleep(20);
+		}
+		assertTrue(client.isReady());
+	}
+}
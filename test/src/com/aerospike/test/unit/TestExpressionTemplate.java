@@ -0,0 +1,175 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static com.aerospike.test.util.UnitAssert.assertGolden;
+import static com.aerospike.test.util.UnitAssert.assertParameterError;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.exp.ExpressionCache;
+import com.aerospike.client.exp.ExpressionTemplate;
+
+/**
+ * Verify compiled expression templates bind to the same bytes as Exp.build on the
+ * equivalent expression tree.
+ */
+public class TestExpressionTemplate {
+	@Test
+	public void singleParam() {
+		ExpressionTemplate template = Exp.compile(Exp.ge(Exp.intBin("age"), Exp.param(0)));
+
+		assertEquals(1, template.getParamCount());
+
+		for (long age : new long[] {0, 1, -1, 127, 128, 70000, Long.MAX_VALUE, Long.MIN_VALUE}) {
+			assertGolden(Exp.build(Exp.ge(Exp.intBin("age"), Exp.val(age))), template.bind(Exp.val(age)));
+		}
+	}
+
+	@Test
+	public void multipleParams() {
+		ExpressionTemplate template = Exp.compile(
+			Exp.and(
+				Exp.eq(Exp.stringBin("name"), Exp.param(1)),
+				Exp.or(
+					Exp.lt(Exp.floatBin("score"), Exp.param(0)),
+					Exp.eq(Exp.blobBin("data"), Exp.param(2)))));
+
+		assertEquals(3, template.getParamCount());
+
+		byte[] blob = new byte[300];
+		blob[0] = 1;
+
+		Exp expected = Exp.and(
+			Exp.eq(Exp.stringBin("name"), Exp.val("Jöhn")),
+			Exp.or(
+				Exp.lt(Exp.floatBin("score"), Exp.val(2.5)),
+				Exp.eq(Exp.blobBin("data"), Exp.val(blob))));
+
+		assertGolden(Exp.build(expected), template.bind(Exp.val(2.5), Exp.val("Jöhn"), Exp.val(blob)));
+	}
+
+	@Test
+	public void repeatedParam() {
+		ExpressionTemplate template = Exp.compile(
+			Exp.and(
+				Exp.ge(Exp.intBin("a"), Exp.param(0)),
+				Exp.le(Exp.intBin("b"), Exp.param(0))));
+
+		assertEquals(1, template.getParamCount());
+
+		Exp expected = Exp.and(
+			Exp.ge(Exp.intBin("a"), Exp.val(1000)),
+			Exp.le(Exp.intBin("b"), Exp.val(1000)));
+
+		assertGolden(Exp.build(expected), template.bind(Exp.val(1000)));
+	}
+
+	@Test
+	public void listParam() {
+		List<Object> list = new ArrayList<Object>();
+		list.add(1L);
+		list.add("two");
+
+		ExpressionTemplate template = Exp.compile(Exp.eq(Exp.listBin("list"), Exp.param(0)));
+		assertGolden(Exp.build(Exp.eq(Exp.listBin("list"), Exp.val(list))), template.bind(Exp.val(list)));
+	}
+
+	@Test
+	public void expressionParam() {
+		// A bound value can be any expression without parameters.
+		ExpressionTemplate template = Exp.compile(Exp.gt(Exp.intBin("a"), Exp.param(0)));
+		Exp value = Exp.add(Exp.intBin("b"), Exp.val(5));
+
+		assertGolden(Exp.build(Exp.gt(Exp.intBin("a"), Exp.add(Exp.intBin("b"), Exp.val(5)))), template.bind(value));
+	}
+
+	@Test
+	public void noParams() {
+		Exp exp = Exp.eq(Exp.intBin("a"), Exp.val(1));
+		ExpressionTemplate template = Exp.compile(exp);
+
+		assertEquals(0, template.getParamCount());
+		assertGolden(Exp.build(exp), template.bind());
+	}
+
+	@Test
+	public void errors() {
+		assertParameterError(new Runnable() {
+			public void run() {
+				Exp.build(Exp.eq(Exp.intBin("a"), Exp.param(0)));
+			}
+		});
+
+		assertParameterError(new Runnable() {
+			public void run() {
+				// Parameter 0 is not used.
+				Exp.compile(Exp.eq(Exp.intBin("a"), Exp.param(1)));
+			}
+		});
+
+		final ExpressionTemplate template = Exp.compile(Exp.eq(Exp.intBin("a"), Exp.param(0)));
+
+		assertParameterError(new Runnable() {
+			public void run() {
+				template.bind();
+			}
+		});
+
+		assertParameterError(new Runnable() {
+			public void run() {
+				template.bind(Exp.param(0));
+			}
+		});
+	}
+
+	@Test
+	public void cache() {
+		ExpressionCache cache = new ExpressionCache(2);
+
+		assertNull(cache.get("a"));
+
+		ExpressionTemplate a = cache.put("a", Exp.eq(Exp.intBin("a"), Exp.param(0)));
+		assertSame(a, cache.get("a"));
+
+		// Existing template is kept.
+		assertSame(a, cache.put("a", Exp.eq(Exp.intBin("x"), Exp.param(0))));
+		assertSame(a, cache.get("a", Exp.eq(Exp.intBin("x"), Exp.param(0))));
+
+		ExpressionTemplate b = cache.get("b", Exp.eq(Exp.intBin("b"), Exp.param(0)));
+
+		// Touch "a" so "b" is the least recently used template.
+		cache.get("a");
+		cache.put("c", Exp.eq(Exp.intBin("c"), Exp.param(0)));
+
+		assertEquals(2, cache.size());
+		assertSame(a, cache.get("a"));
+		assertNull(cache.get("b"));
+
+		assertGolden(Exp.build(Exp.eq(Exp.intBin("b"), Exp.val(7))), b.bind(Exp.val(7)));
+
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.async.NettyCommand;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.test.util.BufferCommand;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+/**
+ * Verify that a put with gathered blobs, spliced into the message when it is copied to
+ * the netty buffer, is byte-identical to the same put serialized without gathering.
+ */
+public class TestGatherWrite {
+	private static final Key KEY = new Key("test", "set", "gather");
+
+	@Test
+	public void multipleBlobs() {
+		// More blobs than the initial gather capacity. Blobs below the threshold are copied.
+		Bin[] bins = new Bin[] {
+			new Bin("a", createBlob(Command.GATHER_THRESHOLD, 1)),
+			new Bin("b", 17),
+			new Bin("c", createBlob(Command.GATHER_THRESHOLD - 1, 2)),
+			new Bin("d", createBlob(5000, 3)),
+			new Bin("e", "abc"),
+			new Bin("f", createBlob(6000, 4)),
+			new Bin("g", createBlob(7000, 5)),
+			new Bin("h", createBlob(8000, 6)),
+			new Bin("i", createBlob(9000, 7)),
+			new Bin("j", "end")
+		};
+		assertGather(new WritePolicy(), bins, 6);
+	}
+
+	@Test
+	public void blobFirstAndLast() {
+		Bin[] bins = new Bin[] {
+			new Bin("first", createBlob(Command.GATHER_THRESHOLD, 1)),
+			new Bin("mid", "value"),
+			new Bin("last", createBlob(10000, 2))
+		};
+		assertGather(new WritePolicy(), bins, 2);
+	}
+
+	@Test
+	public void blobOnly() {
+		Bin[] bins = new Bin[] {new Bin("only", createBlob(20000, 1))};
+		assertGather(new WritePolicy(), bins, 1);
+	}
+
+	@Test
+	public void filterExp() {
+		WritePolicy policy = new WritePolicy();
+		policy.filterExp = Exp.build(Exp.eq(Exp.intBin("b"), Exp.val(17)));
+
+		Bin[] bins = new Bin[] {
+			new Bin("a", createBlob(Command.GATHER_THRESHOLD, 1)),
+			new Bin("b", 17)
+		};
+		assertGather(policy, bins, 1);
+	}
+
+	@Test
+	public void compress() {
+		WritePolicy policy = new WritePolicy();
+		policy.compress = true;
+
+		Bin[] bins = new Bin[] {
+			new Bin("a", createBlob(Command.GATHER_THRESHOLD, 1)),
+			new Bin("b", createBlob(8000, 2))
+		};
+
+		// Compression requires the full message in dataBuffer, so nothing is gathered.
+		assertGather(policy, bins, 0);
+	}
+
+	@Test
+	public void clearBetweenAttempts() {
+		WritePolicy policy = new WritePolicy();
+		Bin[] bins = new Bin[] {
+			new Bin("a", createBlob(5000, 1)),
+			new Bin("b", createBlob(6000, 2))
+		};
+		byte[] expected = writeCopy(policy, bins);
+
+		// A retry serializes the command again without writing the previous attempt.
+		BufferCommand cmd = new BufferCommand();
+		cmd.gatherEnabled = true;
+		cmd.setWrite(policy, Operation.Type.WRITE, KEY, bins);
+		cmd.setWrite(policy, Operation.Type.WRITE, KEY, bins);
+		assertEquals(2, cmd.gatherCount);
+		assertEquals(11000, cmd.gatherSize);
+		assertArrayEquals(expected, copyMessage(cmd));
+
+		// A later attempt without blobs does not splice blobs from the earlier attempt.
+		Bin[] small = new Bin[] {new Bin("a", 1)};
+		cmd.setWrite(policy, Operation.Type.WRITE, KEY, bins);
+		cmd.setWrite(policy, Operation.Type.WRITE, KEY, small);
+		assertEquals(0, cmd.gatherCount);
+		assertEquals(0, cmd.gatherSize);
+		assertNull(cmd.gatherBuffers[0]);
+		assertNull(cmd.gatherBuffers[1]);
+		assertArrayEquals(writeCopy(policy, small), copyMessage(cmd));
+	}
+
+	private static void assertGather(WritePolicy policy, Bin[] bins, int gatherCount) {
+		byte[] expected = writeCopy(policy, bins);
+
+		BufferCommand cmd = new BufferCommand();
+		cmd.gatherEnabled = true;
+		cmd.setWrite(policy, Operation.Type.WRITE, KEY, bins);
+		assertEquals(gatherCount, cmd.gatherCount);
+
+		assertArrayEquals(expected, copyMessage(cmd));
+
+		// Blob references are released after the message is copied.
+		assertEquals(0, cmd.gatherCount);
+		assertEquals(0, cmd.gatherSize);
+
+		if (cmd.gatherBuffers != null) {
+			for (byte[] buffer : cmd.gatherBuffers) {
+				assertNull(buffer);
+			}
+		}
+	}
+
+	private static byte[] writeCopy(WritePolicy policy, Bin[] bins) {
+		BufferCommand cmd = new BufferCommand();
+		cmd.setWrite(policy, Operation.Type.WRITE, KEY, bins);
+		assertEquals(0, cmd.gatherCount);
+		return cmd.getBytes();
+	}
+
+	private static byte[] copyMessage(Command cmd) {
+		ByteBuf byteBuffer = NettyCommand.copyMessage(cmd, UnpooledByteBufAllocator.DEFAULT);
+
+		try {
+			return ByteBufUtil.getBytes(byteBuffer);
+		}
+		finally {
+			byteBuffer.release();
+		}
+	}
+
+	private static byte[] createBlob(int size, int seed) {
+		byte[] bytes = new byte[size];
+
+		for (int i = 0; i < size; i++) {
+			bytes[i] = (byte)(i * 31 + seed);
+		}
+		return bytes;
+	}
+}
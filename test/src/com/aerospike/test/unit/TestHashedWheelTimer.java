@@ -0,0 +1,227 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aerospike.client.async.AsyncTestHook;
+import com.aerospike.client.async.EventPolicy;
+import com.aerospike.client.async.HashedWheelTimer.HashedWheelTimeout;
+import com.aerospike.client.async.NioEventLoop;
+import com.aerospike.client.async.NioEventLoops;
+import com.aerospike.client.async.TimerTask;
+
+/**
+ * Verify timing wheel timeouts fire once, never before their deadline, and never after
+ * they are cancelled. Timeouts cross several wheel levels. Lateness is not asserted
+ * because event loop scheduling on a loaded machine is unbounded.
+ */
+public class TestHashedWheelTimer {
+	private static final long TICK = TimeUnit.MILLISECONDS.toNanos(5);
+
+	// Generous wait for a timeout to fire.
+	private static final long WAIT = 10;
+
+	private NioEventLoops eventLoops;
+	private NioEventLoop eventLoop;
+
+	@Before
+	public void createEventLoop() {
+		EventPolicy policy = new EventPolicy();
+		policy.timerTickTime = (int)TimeUnit.NANOSECONDS.toMicros(TICK);
+		policy.ticksPerWheel = 16;
+		eventLoops = new NioEventLoops(policy, 1);
+		eventLoop = eventLoops.get(0);
+	}
+
+	@After
+	public void closeEventLoop() {
+		eventLoops.close();
+	}
+
+	@Test
+	public void fireTimes() throws Exception {
+		final Task[] tasks = new Task[40];
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				for (int i = 0; i < tasks.length; i++) {
+					// 1ms to 400ms in shuffled order.
+					tasks[i] = new Task((i * 37 % 40) * 10 + 1);
+					tasks[i].add();
+				}
+			}
+		});
+
+		for (Task task : tasks) {
+			task.assertFired();
+		}
+	}
+
+	@Test
+	public void cancel() throws Exception {
+		final Task[] tasks = new Task[20];
+		final Task late = new Task(400);
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				for (int i = 0; i < tasks.length; i++) {
+					tasks[i] = new Task(20 + i * 10);
+					tasks[i].add();
+				}
+				late.add();
+
+				for (int i = 0; i < tasks.length; i += 2) {
+					tasks[i].timeout.cancel();
+				}
+			}
+		});
+
+		// Cancel a pending timeout after the timer has run.
+		tasks[1].assertFired();
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				late.timeout.cancel();
+			}
+		});
+
+		// Timeouts fire in deadline order, so cancelled timeouts would have fired
+		// before this one.
+		final Task last = new Task(500);
+		runOnLoop(last.adder());
+		last.assertFired();
+
+		for (int i = 0; i < tasks.length; i++) {
+			if (i % 2 == 0) {
+				assertEquals(0, tasks[i].count.get());
+			}
+			else {
+				tasks[i].assertFired();
+			}
+		}
+		assertEquals(0, late.count.get());
+	}
+
+	@Test
+	public void idle() throws Exception {
+		final Task first = new Task(10);
+		runOnLoop(first.adder());
+		first.assertFired();
+
+		// Stay idle for several wheel revolutions.
+		Thread.sleep(500);
+
+		final Task second = new Task(30);
+		runOnLoop(second.adder());
+		second.assertFired();
+	}
+
+	@Test
+	public void earlierWake() throws Exception {
+		// Move the timer off its initial tick.
+		final Task first = new Task(10);
+		runOnLoop(first.adder());
+		first.assertFired();
+
+		final Task late = new Task(50);
+		final Task early = new Task(10);
+		final int[] sizes = new int[2];
+
+		runOnLoop(new Runnable() {
+			public void run() {
+				int base = AsyncTestHook.getScheduleQueueSize(eventLoop);
+				late.add();
+				sizes[0] = AsyncTestHook.getScheduleQueueSize(eventLoop) - base;
+
+				// Earlier timeout moves the pending wakeup instead of queueing another.
+				early.add();
+				sizes[1] = AsyncTestHook.getScheduleQueueSize(eventLoop) - base;
+			}
+		});
+
+		assertEquals(1, sizes[0]);
+		assertEquals(1, sizes[1]);
+
+		early.assertFired();
+		late.assertFired();
+	}
+
+	private void runOnLoop(final Runnable runnable) throws InterruptedException {
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		eventLoop.execute(new Runnable() {
+			public void run() {
+				try {
+					runnable.run();
+				}
+				finally {
+					latch.countDown();
+				}
+			}
+		});
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+	}
+
+	private final class Task implements TimerTask {
+		private final HashedWheelTimeout timeout = AsyncTestHook.createTimeout(this);
+		private final AtomicInteger count = new AtomicInteger();
+		private final CountDownLatch fired = new CountDownLatch(1);
+		private final long delay;
+		private long deadline;
+		private volatile long fireTime;
+
+		private Task(long delayMillis) {
+			this.delay = TimeUnit.MILLISECONDS.toNanos(delayMillis);
+		}
+
+		private void add() {
+			deadline = System.nanoTime() + delay;
+			AsyncTestHook.addTimeout(eventLoop, timeout, deadline);
+		}
+
+		private Runnable adder() {
+			return new Runnable() {
+				public void run() {
+					add();
+				}
+			};
+		}
+
+		@Override
+		public void timeout() {
+			fireTime = System.nanoTime();
+			count.incrementAndGet();
+			fired.countDown();
+		}
+
+		private void assertFired() throws InterruptedException {
+			assertTrue("not fired", fired.await(WAIT, TimeUnit.SECONDS));
+			assertEquals(1, count.get());
+			assertTrue("early " + (deadline - fireTime), fireTime >= deadline);
+		}
+	}
+}
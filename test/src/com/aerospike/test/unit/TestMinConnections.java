@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.cluster.ConnectionStats;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.test.util.StandInCluster;
+
+/**
+ * Verify sync min connections are created concurrently when a node is added and that each
+ * connection pool is filled to its share of min connections.
+ */
+public class TestMinConnections {
+	private static final int NODES = 2;
+
+	private static StandInCluster standIn;
+
+	@BeforeClass
+	public static void start() throws Exception {
+		standIn = new StandInCluster(NODES, 1);
+	}
+
+	@AfterClass
+	public static void stop() {
+		standIn.close();
+	}
+
+	@Test
+	public void warmup() {
+		// More connections than the warm-up concurrency limit and uneven pool shares.
+		assertWarmup(50, 3);
+	}
+
+	@Test
+	public void warmupSingle() {
+		assertWarmup(1, 1);
+	}
+
+	private static void assertWarmup(int minConns, int pools) {
+		ClientPolicy policy = new ClientPolicy();
+		policy.minConnsPerNode = minConns;
+		policy.maxConnsPerNode = minConns * 2;
+		policy.connPoolsPerNode = pools;
+
+		AerospikeClient client = new AerospikeClient(policy, standIn.getHosts());
+
+		try {
+			assertTrue(client.isConnected());
+			Node[] nodes = client.getNodes();
+			assertEquals(NODES, nodes.length);
+
+			for (Node node : nodes) {
+				ConnectionStats stats = node.getConnectionStats();
+				assertEquals(minConns, stats.inPool);
+				assertEquals(0, stats.inUse);
+				// Tend connection is opened outside the pools.
+				assertEquals(minConns + 1, stats.opened);
+				assertEquals(0, stats.closed);
+				assertTrue(node.getWarmupTime() >= 0);
+			}
+		}
+		finally {
+			client.close();
+		}
+	}
+}
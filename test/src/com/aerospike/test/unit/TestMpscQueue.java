@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.aerospike.client.async.MpscQueue;
+
+/**
+ * Verify the multi-producer single-consumer queue does not lose, duplicate or reorder
+ * elements.
+ */
+public class TestMpscQueue {
+	private static final int PRODUCERS = 4;
+	private static final int COUNT = 250000;
+
+	@Test
+	public void singleThread() {
+		MpscQueue<Integer> queue = new MpscQueue<Integer>();
+		assertTrue(queue.isEmpty());
+		assertNull(queue.poll());
+
+		// Cross several chunk boundaries.
+		for (int i = 0; i < 5000; i++) {
+			queue.offer(i);
+		}
+
+		for (int i = 0; i < 5000; i++) {
+			assertFalse(queue.isEmpty());
+			assertEquals(i, (int)queue.poll());
+		}
+		assertTrue(queue.isEmpty());
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void multipleProducers() throws Exception {
+		final MpscQueue<Long> queue = new MpscQueue<Long>();
+		final CyclicBarrier barrier = new CyclicBarrier(PRODUCERS);
+		final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+		Thread[] producers = new Thread[PRODUCERS];
+
+		for (int p = 0; p < PRODUCERS; p++) {
+			final long producer = p;
+
+			producers[p] = new Thread(new Runnable() {
+				public void run() {
+					try {
+						barrier.await();
+
+						for (long seq = 0; seq < COUNT; seq++) {
+							queue.offer((producer << 32) | seq);
+						}
+					}
+					catch (Throwable e) {
+						error.set(e);
+					}
+				}
+			}, "mpsc-producer-" + p);
+			producers[p].start();
+		}
+
+		// Consume concurrently with the producers on this thread.
+		long[] next = new long[PRODUCERS];
+		long total = (long)PRODUCERS * COUNT;
+		long received = 0;
+		long limit = System.currentTimeMillis() + 60000;
+
+		while (received < total) {
+			Long e = queue.poll();
+
+			if (e == null) {
+				if (error.get() != null || System.currentTimeMillis() > limit) {
+					break;
+				}
+				Thread.yield();
+				continue;
+			}
+
+			int producer = (int)(e >>> 32);
+			long seq = e & 0xFFFFFFFFL;
+
+			if (seq != next[producer]) {
+				fail("Producer " + producer + " expected " + next[producer] + " received " + seq);
+			}
+			next[producer]++;
+			received++;
+		}
+
+		for (Thread producer : producers) {
+			producer.join();
+		}
+
+		if (error.get() != null) {
+			throw new AssertionError(error.get());
+		}
+		assertEquals(total, received);
+
+		for (int p = 0; p < PRODUCERS; p++) {
+			assertEquals(COUNT, next[p]);
+		}
+		assertTrue(queue.isEmpty());
+		assertNull(queue.poll());
+	}
+}
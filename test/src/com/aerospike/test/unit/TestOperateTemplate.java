@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static com.aerospike.test.util.UnitAssert.assertGolden;
+import static com.aerospike.test.util.UnitAssert.assertParameterError;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.OperateTemplate;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.ListOperation;
+import com.aerospike.client.cdt.MapOperation;
+import com.aerospike.client.cdt.MapPolicy;
+import com.aerospike.client.command.OperateArgs;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.test.util.BufferCommand;
+
+/**
+ * Verify operate templates produce the same wire format as the equivalent operation list.
+ */
+public class TestOperateTemplate {
+	private static final Key KEY = new Key("test", "template", "k1");
+
+	@Test
+	public void writeAndRead() {
+		OperateTemplate template = new OperateTemplate(
+			Operation.add(new Bin("count", OperateTemplate.PARAM)),
+			Operation.put(new Bin("name", OperateTemplate.PARAM)),
+			ListOperation.append("events", Value.get("login")),
+			Operation.get("count"));
+
+		assertEquals(2, template.getParamCount());
+		assertBind(template, Value.get(5), Value.get("Jöhn"));
+		assertBind(template, Value.get(-1), Value.get(new byte[] {1, 2, 3}));
+	}
+
+	@Test
+	public void readOnly() {
+		assertBind(new OperateTemplate(Operation.get("a"), Operation.getHeader()));
+		assertBind(new OperateTemplate(Operation.getHeader()));
+		assertBind(new OperateTemplate(Operation.get()));
+	}
+
+	@Test
+	public void respondAllOps() {
+		OperateTemplate template = new OperateTemplate(
+			Operation.put(new Bin("name", OperateTemplate.PARAM)),
+			MapOperation.put(MapPolicy.Default, "map", Value.get("k"), Value.get(1)),
+			Operation.get("map"));
+
+		assertBind(template, Value.get("value"));
+	}
+
+	@Test(expected = AerospikeException.class)
+	public void invalidParam() {
+		new OperateTemplate(Operation.get("a"), new Operation(Operation.Type.READ, "b", OperateTemplate.PARAM));
+	}
+
+	@Test
+	public void invalidValueCount() {
+		final OperateTemplate template = new OperateTemplate(Operation.put(new Bin("a", OperateTemplate.PARAM)));
+
+		assertParameterError(new Runnable() {
+			public void run() {
+				template.validate(new Value[0]);
+			}
+		});
+	}
+
+	private static void assertBind(OperateTemplate template, Value... values) {
+		WritePolicy policy = new WritePolicy();
+		OperateArgs expectedArgs = new OperateArgs(null, policy, policy, template.bind(values));
+		OperateArgs args = new OperateArgs(null, policy, policy, template, values);
+
+		assertEquals(expectedArgs.readAttr, args.readAttr);
+		assertEquals(expectedArgs.writeAttr, args.writeAttr);
+		assertEquals(expectedArgs.hasWrite, args.hasWrite);
+		assertEquals(expectedArgs.size, args.size);
+
+		BufferCommand expected = new BufferCommand();
+		expected.setOperate(policy, KEY, expectedArgs);
+
+		BufferCommand command = new BufferCommand();
+		command.setOperate(policy, KEY, args);
+
+		assertGolden(expected, command);
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.aerospike.client.Record;
+import com.aerospike.client.cdt.MapOrder;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.command.RecordParser;
+import com.aerospike.client.util.PackedCdt;
+import com.aerospike.client.util.Packer;
+import com.aerospike.client.util.UnpackVisitor;
+
+/**
+ * Verify packed list and map values can be visited, unpacked and decoded without a server.
+ */
+public class TestPackedCdt {
+	@Test
+	public void visitList() {
+		List<Object> inner = new ArrayList<Object>();
+		inner.add("x");
+		inner.add(new byte[] {7, 8});
+
+		List<Object> list = new ArrayList<Object>();
+		list.add(1L);
+		list.add(-2.5);
+		list.add(true);
+		list.add(null);
+		list.add("abc");
+		list.add(inner);
+
+		PackedCdt cdt = packed(ParticleType.LIST, Packer.pack(list));
+		EventVisitor visitor = new EventVisitor();
+		cdt.visit(visitor);
+
+		assertEquals("[6 1 -2.5 true nil 'abc' [2 'x' b2 ] ]", visitor.toString());
+		List<?> result = (List<?>)cdt.unpack();
+		assertEquals(list.subList(0, 5), result.subList(0, 5));
+
+		List<?> innerResult = (List<?>)result.get(5);
+		assertEquals("x", innerResult.get(0));
+		assertArrayEquals((byte[])inner.get(1), (byte[])innerResult.get(1));
+	}
+
+	@Test
+	public void visitMap() {
+		Map<Object,Object> map = new HashMap<Object,Object>();
+		map.put("k", 5L);
+
+		PackedCdt cdt = packed(ParticleType.MAP, Packer.pack(map, MapOrder.UNORDERED));
+		EventVisitor visitor = new EventVisitor();
+		cdt.visit(visitor);
+
+		assertEquals("{1 'k' 5 }", visitor.toString());
+		assertEquals(map, cdt.unpack());
+	}
+
+	@Test
+	public void primitiveArrays() {
+		List<Long> longs = Arrays.asList(0L, 1L, -1L, 300L, Long.MAX_VALUE, Long.MIN_VALUE);
+		assertArrayEquals(new long[] {0, 1, -1, 300, Long.MAX_VALUE, Long.MIN_VALUE},
+			packed(ParticleType.LIST, Packer.pack(longs)).toLongArray());
+
+		List<Object> doubles = new ArrayList<Object>();
+		doubles.add(1.5);
+		doubles.add(2L);
+		assertArrayEquals(new double[] {1.5, 2.0}, packed(ParticleType.LIST, Packer.pack(doubles)).toDoubleArray(), 0.0);
+
+		List<byte[]> blobs = new ArrayList<byte[]>();
+		blobs.add(new byte[] {1});
+		blobs.add(new byte[0]);
+
+		byte[][] result = packed(ParticleType.LIST, Packer.pack(blobs)).toBytesArray();
+		assertEquals(2, result.length);
+		assertArrayEquals(blobs.get(0), result[0]);
+		assertArrayEquals(blobs.get(1), result[1]);
+	}
+
+	@Test
+	public void parseRecordCopiesSlice() {
+		List<Long> list = Arrays.asList(1L, 2L, 3L);
+		byte[] packed = Packer.pack(list);
+		byte[] name = "list".getBytes(StandardCharsets.UTF_8);
+
+		// Response header followed by one list operation.
+		int size = Command.MSG_REMAINING_HEADER_SIZE + Command.OPERATION_HEADER_SIZE + name.length + packed.length;
+		byte[] buffer = new byte[size];
+		buffer[0] = (byte)Command.MSG_REMAINING_HEADER_SIZE;
+		Buffer.intToBytes(3, buffer, 6);
+		Buffer.shortToBytes(1, buffer, 20);
+
+		int offset = Command.MSG_REMAINING_HEADER_SIZE;
+		Buffer.intToBytes(4 + name.length + packed.length, buffer, offset);
+		buffer[offset + 5] = (byte)ParticleType.LIST;
+		buffer[offset + 7] = (byte)name.length;
+		offset += Command.OPERATION_HEADER_SIZE;
+		System.arraycopy(name, 0, buffer, offset, name.length);
+		offset += name.length;
+		System.arraycopy(packed, 0, buffer, offset, packed.length);
+
+		RecordParser rp = new RecordParser(buffer, 0, size);
+		rp.parseFields(null, null, false);
+		Record record = rp.parseRecord(false, true);
+
+		// Clear the response buffer. The packed value must not reference it.
+		Arrays.fill(buffer, (byte)0);
+
+		PackedCdt cdt = record.getPacked("list");
+		assertEquals(3, record.generation);
+		assertEquals(ParticleType.LIST, cdt.getType());
+		assertArrayEquals(packed, cdt.getBytes());
+		assertArrayEquals(new long[] {1, 2, 3}, cdt.toLongArray());
+		assertTrue(record.visit("list", new EventVisitor()));
+	}
+
+	private static PackedCdt packed(int type, byte[] bytes) {
+		// Place value in the middle of a larger buffer.
+		byte[] buffer = new byte[bytes.length + 10];
+		System.arraycopy(bytes, 0, buffer, 5, bytes.length);
+		return new PackedCdt(type, buffer, 5, bytes.length);
+	}
+
+	private static final class EventVisitor implements UnpackVisitor {
+		private final StringBuilder sb = new StringBuilder();
+
+		public void startList(int count) {
+			sb.append('[').append(count).append(' ');
+		}
+
+		public void endList() {
+			sb.append("] ");
+		}
+
+		public void startMap(int count) {
+			sb.append('{').append(count).append(' ');
+		}
+
+		public void endMap() {
+			sb.append("} ");
+		}
+
+		public void nil() {
+			sb.append("nil ");
+		}
+
+		public void booleanValue(boolean value) {
+			sb.append(value).append(' ');
+		}
+
+		public void longValue(long value) {
+			sb.append(value).append(' ');
+		}
+
+		public void doubleValue(double value) {
+			sb.append(value).append(' ');
+		}
+
+		public void string(byte[] buffer, int offset, int length) {
+			sb.append('\'').append(new String(buffer, offset, length, StandardCharsets.UTF_8)).append("' ");
+		}
+
+		public void bytes(byte[] buffer, int offset, int length, int particleType) {
+			sb.append('b').append(length).append(' ');
+		}
+
+		public void geoJSON(byte[] buffer, int offset, int length) {
+			sb.append("geo ");
+		}
+
+		@Override
+		public String toString() {
+			return sb.toString().trim();
+		}
+	}
+}
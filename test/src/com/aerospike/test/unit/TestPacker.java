@@ -0,0 +1,163 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.MapOrder;
+import com.aerospike.client.util.Packer;
+
+/**
+ * Verify that values packed directly into a destination buffer are byte for byte
+ * identical to values packed into a separate buffer.
+ */
+public class TestPacker {
+	private static final int OFFSET = 13;
+
+	@Test
+	public void goldenList() {
+		List<Object> list = new ArrayList<Object>();
+		list.add(1L);
+		list.add("ab");
+		list.add(true);
+		list.add(300L);
+		list.add(new byte[] {1, 2});
+		list.add(1.5);
+
+		byte[] expected = hex("9601a3036162c3cd012ca3040102cb3ff8000000000000");
+
+		assertArrayEquals(expected, Packer.pack(list));
+		assertArrayEquals(expected, write(new Value.ListValue(list)));
+	}
+
+	@Test
+	public void goldenMap() {
+		TreeMap<String,Object> map = new TreeMap<String,Object>();
+		map.put("a", 1L);
+		map.put("b", Arrays.asList(-1L, 70000L));
+
+		byte[] expected = hex("83c70001c0a2036101a2036292ffce00011170");
+
+		assertArrayEquals(expected, Packer.pack(map, MapOrder.KEY_ORDERED));
+		assertArrayEquals(expected, write(new Value.MapValue(map, MapOrder.KEY_ORDERED)));
+		assertArrayEquals(expected, write(new Value.SortedMapValue(new ArrayList<Map.Entry<String,Object>>(map.entrySet()), MapOrder.KEY_ORDERED)));
+	}
+
+	@Test
+	public void goldenValueArray() {
+		Value[] array = new Value[] {Value.get(7), Value.get("x")};
+		byte[] expected = hex("9207a20378");
+
+		assertArrayEquals(expected, Packer.pack(array));
+		assertArrayEquals(expected, write(new Value.ValueArray(array)));
+	}
+
+	@Test
+	public void randomValues() {
+		Random random = new Random(1);
+
+		for (int i = 0; i < 200; i++) {
+			List<Object> list = randomList(random, 3);
+			assertArrayEquals(Packer.pack(list), write(new Value.ListValue(list)));
+
+			Map<Object,Object> map = new HashMap<Object,Object>();
+			map.put("list", list);
+			map.put(random.nextLong(), randomList(random, 2));
+			assertArrayEquals(Packer.pack(map, MapOrder.UNORDERED), write(new Value.MapValue(map, MapOrder.UNORDERED)));
+		}
+	}
+
+	/**
+	 * Write value at an offset in a larger buffer like a command does and return the packed bytes.
+	 */
+	private static byte[] write(Value value) {
+		int size = value.estimateSize();
+		byte[] buffer = new byte[OFFSET + size + 7];
+		int len = value.write(buffer, OFFSET);
+
+		assertEquals(size, len);
+		return Arrays.copyOfRange(buffer, OFFSET, OFFSET + len);
+	}
+
+	private static List<Object> randomList(Random random, int depth) {
+		int count = random.nextInt(40);
+		List<Object> list = new ArrayList<Object>(count);
+
+		for (int i = 0; i < count; i++) {
+			switch (random.nextInt(depth > 0 ? 6 : 5)) {
+			case 0:
+				list.add(random.nextLong() >> random.nextInt(64));
+				break;
+
+			case 1:
+				list.add(randomString(random));
+				break;
+
+			case 2:
+				list.add(random.nextDouble());
+				break;
+
+			case 3:
+				byte[] bytes = new byte[random.nextInt(300)];
+				random.nextBytes(bytes);
+				list.add(bytes);
+				break;
+
+			case 4:
+				list.add(random.nextBoolean());
+				break;
+
+			default:
+				list.add(randomList(random, depth - 1));
+				break;
+			}
+		}
+		return list;
+	}
+
+	private static String randomString(Random random) {
+		int len = random.nextInt(100);
+		StringBuilder sb = new StringBuilder(len);
+
+		for (int i = 0; i < len; i++) {
+			// Include multi-byte characters.
+			sb.append((char)(random.nextInt(10) == 0 ? 0x400 + random.nextInt(0x800) : 'a' + random.nextInt(26)));
+		}
+		return sb.toString();
+	}
+
+	private static byte[] hex(String s) {
+		byte[] bytes = new byte[s.length() / 2];
+
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte)Integer.parseInt(s.substring(i * 2, i * 2 + 2), 16);
+		}
+		return bytes;
+	}
+}
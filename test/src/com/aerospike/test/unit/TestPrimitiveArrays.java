@@ -0,0 +1,214 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static com.aerospike.test.util.UnitAssert.assertParameterError;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.aerospike.client.Record;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.command.RecordParser;
+import com.aerospike.client.util.PackedCdt;
+import com.aerospike.client.util.Packer;
+import com.aerospike.client.util.Unpacker;
+
+/**
+ * Verify lists decode into primitive arrays the same way from packed and parsed values.
+ */
+public class TestPrimitiveArrays {
+	@Test
+	public void longs() {
+		List<Long> list = new ArrayList<Long>();
+
+		for (long i = -40; i < 40; i++) {
+			list.add(i * i * i * 1000);
+		}
+		list.add(Long.MAX_VALUE);
+		list.add(Long.MIN_VALUE);
+
+		long[] expected = new long[list.size()];
+
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = list.get(i);
+		}
+
+		for (Record record : records(list)) {
+			assertArrayEquals(expected, record.getLongArray("bin"));
+		}
+	}
+
+	@Test
+	public void doubles() {
+		List<Object> list = new ArrayList<Object>();
+		list.add(1.5);
+		list.add(-3L);
+		list.add(Double.MAX_VALUE);
+
+		for (Record record : records(list)) {
+			assertArrayEquals(new double[] {1.5, -3.0, Double.MAX_VALUE}, record.getDoubleArray("bin"), 0.0);
+		}
+	}
+
+	@Test
+	public void blobs() {
+		List<byte[]> list = new ArrayList<byte[]>();
+		list.add(new byte[] {1, 2});
+		list.add(new byte[300]);
+
+		for (Record record : records(list)) {
+			byte[][] array = record.getBytesArray("bin");
+			assertEquals(2, array.length);
+			assertArrayEquals(list.get(0), array[0]);
+			assertArrayEquals(list.get(1), array[1]);
+		}
+	}
+
+	@Test
+	public void orderedList() {
+		// Ordered list: array of 3 with a list order extension followed by 1 and 2.
+		byte[] packed = new byte[] {(byte)0x93, (byte)0xd4, (byte)0xff, 1, 1, 2};
+		assertArrayEquals(new long[] {1, 2}, Unpacker.unpackLongArray(packed, 0, packed.length));
+	}
+
+	@Test
+	public void wrongElementType() {
+		List<Object> strings = new ArrayList<Object>();
+		strings.add("a");
+		strings.add("b");
+
+		for (final Record record : records(strings)) {
+			// Strings are not blobs, even though both are packed as msgpack raw bytes.
+			assertParameterError(new Runnable() {
+				public void run() {
+					record.getBytesArray("bin");
+				}
+			});
+
+			assertParameterError(new Runnable() {
+				public void run() {
+					record.getLongArray("bin");
+				}
+			});
+
+			assertParameterError(new Runnable() {
+				public void run() {
+					record.getDoubleArray("bin");
+				}
+			});
+		}
+
+		List<Object> mixed = new ArrayList<Object>();
+		mixed.add(1L);
+		mixed.add(2.5);
+
+		for (final Record record : records(mixed)) {
+			assertParameterError(new Runnable() {
+				public void run() {
+					record.getLongArray("bin");
+				}
+			});
+		}
+	}
+
+	@Test
+	public void notList() {
+		Map<String,Object> bins = new HashMap<String,Object>();
+		bins.put("bin", 5L);
+
+		final Record record = new Record(bins, 1, 0);
+
+		assertParameterError(new Runnable() {
+			public void run() {
+				record.getLongArray("bin");
+			}
+		});
+	}
+
+	@Test
+	public void operationResults() {
+		// Two list operation results for the same bin read with rawCdt.
+		byte[] first = Packer.pack(Arrays.asList(1L, 2L));
+		byte[] second = Packer.pack(Arrays.asList(3L));
+		byte[] buffer = response(first, second);
+
+		RecordParser rp = new RecordParser(buffer, 0, buffer.length);
+		rp.parseFields(null, null, false);
+		Record record = rp.parseRecord(true, true);
+
+		List<?> results = record.getList("bin");
+		assertEquals(2, results.size());
+		assertArrayEquals(new long[] {1, 2}, ((PackedCdt)results.get(0)).toLongArray());
+		assertArrayEquals(new long[] {3}, ((PackedCdt)results.get(1)).toLongArray());
+	}
+
+	/**
+	 * Return records with the list as a parsed bin and as a packed bin.
+	 */
+	private static Record[] records(List<?> list) {
+		byte[] buffer = response(Packer.pack(list));
+		Record[] records = new Record[2];
+
+		for (int i = 0; i < 2; i++) {
+			RecordParser rp = new RecordParser(buffer, 0, buffer.length);
+			rp.parseFields(null, null, false);
+			records[i] = rp.parseRecord(false, i == 1);
+		}
+		return records;
+	}
+
+	/**
+	 * Return response message with one list operation per value for bin "bin".
+	 */
+	private static byte[] response(byte[]... values) {
+		byte[] name = "bin".getBytes(StandardCharsets.UTF_8);
+		int size = Command.MSG_REMAINING_HEADER_SIZE;
+
+		for (byte[] value : values) {
+			size += Command.OPERATION_HEADER_SIZE + name.length + value.length;
+		}
+
+		byte[] buffer = new byte[size];
+		buffer[0] = (byte)Command.MSG_REMAINING_HEADER_SIZE;
+		Buffer.shortToBytes(values.length, buffer, 20);
+
+		int offset = Command.MSG_REMAINING_HEADER_SIZE;
+
+		for (byte[] value : values) {
+			Buffer.intToBytes(4 + name.length + value.length, buffer, offset);
+			buffer[offset + 5] = (byte)ParticleType.LIST;
+			buffer[offset + 7] = (byte)name.length;
+			offset += Command.OPERATION_HEADER_SIZE;
+			System.arraycopy(name, 0, buffer, offset, name.length);
+			offset += name.length;
+			System.arraycopy(value, 0, buffer, offset, value.length);
+			offset += value.length;
+		}
+		return buffer;
+	}
+}
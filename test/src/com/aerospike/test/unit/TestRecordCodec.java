@@ -0,0 +1,203 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static com.aerospike.test.util.UnitAssert.assertParameterError;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.codec.BinName;
+import com.aerospike.client.codec.RecordCodec;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+import com.aerospike.client.command.RecordParser;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.test.util.BufferCommand;
+
+/**
+ * Verify record codecs write the same bytes as bin writes and decode responses back into
+ * objects.
+ */
+public class TestRecordCodec {
+	private static final Key KEY = new Key("test", "codec", "k1");
+
+	public static class Person {
+		String name;
+		int age;
+		@BinName("ts") long lastLogin;
+		short s;
+		byte b;
+		char c;
+		float f;
+		double d;
+		boolean active;
+		Integer count;
+		byte[] blob;
+		List<Object> list;
+		Map<Object,Object> map;
+		transient String ignored;
+	}
+
+	public static class Nullable {
+		String name;
+		Long count;
+	}
+
+	@Test
+	public void roundTrip() {
+		Person p = new Person();
+		p.name = "Jöhn";
+		p.age = -42;
+		p.lastLogin = 1L << 40;
+		p.s = Short.MIN_VALUE;
+		p.b = Byte.MAX_VALUE;
+		p.c = 'é';
+		p.f = 1.5f;
+		p.d = -2.25;
+		p.active = true;
+		p.count = 7;
+		p.blob = new byte[] {1, 2, 3};
+		p.list = new ArrayList<Object>();
+		p.list.add(1L);
+		p.list.add("x");
+		p.map = new HashMap<Object,Object>();
+		p.map.put("k", 2L);
+		p.ignored = "ignored";
+
+		RecordCodec<Person> codec = RecordCodec.get(Person.class);
+		byte[] request = write(codec, p);
+
+		// All mapped fields are written. The transient field is not.
+		assertEquals(13, Buffer.bytesToShort(request, 28));
+
+		Person r = read(codec, request);
+		assertEquals(p.name, r.name);
+		assertEquals(p.age, r.age);
+		assertEquals(p.lastLogin, r.lastLogin);
+		assertEquals(p.s, r.s);
+		assertEquals(p.b, r.b);
+		assertEquals(p.c, r.c);
+		assertEquals(p.f, r.f, 0.0f);
+		assertEquals(p.d, r.d, 0.0);
+		assertEquals(p.active, r.active);
+		assertEquals(p.count, r.count);
+		assertArrayEquals(p.blob, r.blob);
+		assertEquals(p.list, r.list);
+		assertEquals(p.map, r.map);
+		assertNull(r.ignored);
+	}
+
+	@Test
+	public void nullFields() {
+		Nullable n = new Nullable();
+		n.count = 5L;
+
+		RecordCodec<Nullable> codec = RecordCodec.get(Nullable.class);
+		assertFalse(codec.isEmpty(n));
+
+		// The null field is skipped and the operation count is back-patched.
+		byte[] request = write(codec, n);
+		assertEquals(1, Buffer.bytesToShort(request, 28));
+
+		// The bytes are the same as a put of the non-null bins.
+		BufferCommand command = new BufferCommand();
+		command.setWrite(new WritePolicy(), Operation.Type.WRITE, KEY, new Bin[] {new Bin("count", 5L)});
+		assertArrayEquals(command.getBytes(), request);
+
+		Nullable r = read(codec, request);
+		assertNull(r.name);
+		assertEquals(Long.valueOf(5), r.count);
+
+		n.count = null;
+		assertTrue(codec.isEmpty(n));
+		assertFalse(RecordCodec.get(Person.class).isEmpty(new Person()));
+	}
+
+	@Test
+	public void outOfRange() {
+		final Nullable n = new Nullable();
+		n.count = 1L << 40;
+
+		final byte[] request = write(RecordCodec.get(Nullable.class), n);
+
+		// Same bin name, but narrower field types.
+		assertParameterError(new Runnable() {
+			public void run() {
+				read(RecordCodec.get(IntCount.class), request);
+			}
+		});
+
+		assertParameterError(new Runnable() {
+			public void run() {
+				read(RecordCodec.get(IntegerCount.class), request);
+			}
+		});
+
+		n.count = (long)Integer.MAX_VALUE;
+		assertEquals(Integer.MAX_VALUE, read(RecordCodec.get(IntCount.class), write(RecordCodec.get(Nullable.class), n)).count);
+	}
+
+	public static class IntCount {
+		int count;
+	}
+
+	public static class IntegerCount {
+		Integer count;
+	}
+
+	private static <T> byte[] write(RecordCodec<T> codec, T obj) {
+		BufferCommand command = new BufferCommand();
+		command.setWrite(new WritePolicy(), KEY, codec, obj);
+		return command.getBytes();
+	}
+
+	/**
+	 * Convert write request into a read response with the same bins and parse the response.
+	 */
+	private static <T> T read(RecordCodec<T> codec, byte[] request) {
+		int fieldCount = Buffer.bytesToShort(request, 26);
+		int opCount = Buffer.bytesToShort(request, 28);
+		int offset = Command.MSG_TOTAL_HEADER_SIZE;
+
+		for (int i = 0; i < fieldCount; i++) {
+			offset += 4 + Buffer.bytesToInt(request, offset);
+		}
+
+		int opSize = request.length - offset;
+		byte[] response = new byte[Command.MSG_REMAINING_HEADER_SIZE + opSize];
+		response[0] = (byte)Command.MSG_REMAINING_HEADER_SIZE;
+		Buffer.shortToBytes(opCount, response, 20);
+		System.arraycopy(request, offset, response, Command.MSG_REMAINING_HEADER_SIZE, opSize);
+
+		RecordParser rp = new RecordParser(response, 0, response.length);
+		rp.parseFields(null, null, false);
+		return rp.parseObject(codec);
+	}
+}
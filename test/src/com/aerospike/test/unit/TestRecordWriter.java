@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static com.aerospike.test.util.UnitAssert.assertGolden;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.RecordWriter;
+import com.aerospike.client.command.OperateArgs;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.test.util.BufferCommand;
+
+/**
+ * Verify record writers produce the same wire format as bin writes and operation lists.
+ */
+public class TestRecordWriter {
+	private static final Key KEY = new Key("test", "writer", "k1");
+
+	@Test
+	public void put() {
+		// Start small, so the writer buffer grows.
+		RecordWriter writer = new RecordWriter(8);
+		writer.put("l", -5L)
+			.put("d", 2.5)
+			.put("b", true)
+			.put("s", "Jöhn €")
+			.put("ë", "x")
+			.put("blob", new byte[] {1, 2, 3})
+			.put("empty", "")
+			.putNull("n");
+
+		Bin[] bins = new Bin[] {
+			new Bin("l", -5L),
+			new Bin("d", 2.5),
+			new Bin("b", true),
+			new Bin("s", "Jöhn €"),
+			new Bin("ë", "x"),
+			new Bin("blob", new byte[] {1, 2, 3}),
+			new Bin("empty", ""),
+			Bin.asNull("n")
+		};
+
+		WritePolicy policy = new WritePolicy();
+
+		BufferCommand expected = new BufferCommand();
+		expected.setWrite(policy, Operation.Type.WRITE, KEY, bins);
+
+		BufferCommand command = new BufferCommand();
+		command.setWrite(policy, KEY, writer);
+
+		assertGolden(expected, command);
+
+		// Cleared writers produce the same bytes again.
+		writer.clear().put("l", -5L);
+
+		expected.setWrite(policy, Operation.Type.WRITE, KEY, new Bin[] {new Bin("l", -5L)});
+		command.setWrite(policy, KEY, writer);
+		assertGolden(expected, command);
+	}
+
+	@Test
+	public void operate() {
+		RecordWriter writer = new RecordWriter();
+		writer.add("count", 1)
+			.add("score", 0.5)
+			.append("s", "tail")
+			.prepend("s", "head")
+			.get("count");
+
+		Operation[] ops = new Operation[] {
+			Operation.add(new Bin("count", 1L)),
+			Operation.add(new Bin("score", 0.5)),
+			Operation.append(new Bin("s", "tail")),
+			Operation.prepend(new Bin("s", "head")),
+			Operation.get("count")
+		};
+
+		assertOperate(writer, ops, new WritePolicy());
+
+		WritePolicy policy = new WritePolicy();
+		policy.respondAllOps = true;
+		assertOperate(writer, ops, policy);
+
+		// Read only.
+		assertOperate(new RecordWriter().get("a"), new Operation[] {Operation.get("a")}, new WritePolicy());
+	}
+
+	@Test
+	public void batchRepeat() {
+		RecordWriter writer = new RecordWriter().put("a", 1L);
+
+		BatchWrite bw1 = new BatchWrite(new Key("test", "writer", 1), writer);
+		BatchWrite bw2 = new BatchWrite(new Key("test", "writer", 2), writer);
+
+		writer.clear().put("a", 2L);
+		BatchWrite bw3 = new BatchWrite(new Key("test", "writer", 3), writer);
+
+		// Writers are copied, so equal operations are detected by content.
+		assertTrue(bw1.equals(bw2));
+		assertFalse(bw2.equals(bw3));
+		assertFalse(bw1.equals(new BatchWrite(KEY, new Operation[] {Operation.put(new Bin("a", 1L))})));
+	}
+
+	private static void assertOperate(RecordWriter writer, Operation[] ops, WritePolicy policy) {
+		OperateArgs expectedArgs = new OperateArgs(policy, null, null, ops);
+		OperateArgs args = new OperateArgs(policy, null, null, writer);
+
+		assertEquals(expectedArgs.readAttr, args.readAttr);
+		assertEquals(expectedArgs.writeAttr, args.writeAttr);
+		assertEquals(expectedArgs.hasWrite, args.hasWrite);
+
+		BufferCommand expected = new BufferCommand();
+		expected.setOperate(policy, KEY, expectedArgs);
+
+		BufferCommand command = new BufferCommand();
+		command.setOperate(policy, KEY, args);
+
+		assertGolden(expected, command);
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static com.aerospike.test.util.UnitAssert.assertGolden;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.command.OperateArgs;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.test.util.BufferCommand;
+
+/**
+ * Verify single pass put serialization produces the same bytes as the operation list
+ * path and does not grow the buffer unless strings contain multi-byte characters.
+ */
+public class TestSerializeWrite {
+	private static final Key KEY = new Key("test", "serialize", "k1");
+
+	@Test
+	public void scalars() {
+		assertGrowCount(0,
+			new Bin("s", "hello"),
+			new Bin("i", 42),
+			new Bin("d", 1.5),
+			new Bin("b", new byte[] {1, 2, 3}),
+			new Bin("t", true),
+			new Bin("e", ""),
+			Bin.asNull("n"));
+	}
+
+	@Test
+	public void largeList() {
+		List<Long> list = new ArrayList<Long>();
+
+		for (long i = 0; i < 20000; i++) {
+			list.add(i * 1000);
+		}
+
+		Map<String,Object> map = new HashMap<String,Object>();
+		map.put("k", list);
+
+		// Lists and maps are included in the estimate, so the buffer is allocated once.
+		assertGrowCount(0, new Bin("list", list), new Bin("i", 1));
+		assertGrowCount(0, new Bin("i", 1), new Bin("map", map), new Bin("s", "abc"));
+	}
+
+	@Test
+	public void multiByteStrings() {
+		// 2 byte, 3 byte and 4 byte (surrogate pair) characters.
+		assertGrowCount(1, new Bin("s", "héllo"), new Bin("i", 1));
+		assertGrowCount(1, new Bin("s", "abc€def"), new Bin("i", 1));
+		assertGrowCount(1, new Bin("s", "ab😀cdé"), new Bin("i", 1));
+		assertGrowCount(1, new Bin("bïn", "value"), new Bin("i", 1));
+
+		// Multi-byte string followed by large values.
+		List<Long> list = new ArrayList<Long>();
+
+		for (long i = 0; i < 1000; i++) {
+			list.add(i);
+		}
+		assertGrowCount(1, new Bin("s", "ééé"), new Bin("list", list), new Bin("b", new byte[5000]));
+	}
+
+	@Test
+	public void longMultiByteString() {
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < 10000; i++) {
+			sb.append((char)('a' + (i % 26)));
+		}
+		sb.append('é');
+
+		for (int i = 0; i < 10000; i++) {
+			sb.append((char)(0x400 + (i % 200)));
+		}
+		// Each multi-byte string grows the buffer at most once.
+		assertGrowCount(2, new Bin("s", sb.toString()), new Bin("s2", sb.toString()));
+	}
+
+	private static void assertGrowCount(int growCount, Bin... bins) {
+		WritePolicy policy = new WritePolicy();
+		Operation[] ops = new Operation[bins.length];
+
+		for (int i = 0; i < bins.length; i++) {
+			ops[i] = Operation.put(bins[i]);
+		}
+
+		BufferCommand expected = new BufferCommand();
+		expected.setOperate(policy, KEY, new OperateArgs(null, policy, policy, ops));
+
+		BufferCommand command = new BufferCommand();
+		command.setWrite(policy, Operation.Type.WRITE, KEY, bins);
+
+		assertGolden(expected, command);
+		assertEquals(growCount, command.getGrowCount());
+	}
+}
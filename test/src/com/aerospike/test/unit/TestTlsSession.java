@@ -0,0 +1,147 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.cluster.Connection;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.ClientPolicy;
+import com.aerospike.client.policy.TlsPolicy;
+import com.aerospike.test.util.StandInCluster;
+
+/**
+ * Verify TLS session cache settings are only applied to a client owned SSLContext and
+ * that completed handshakes are counted as full handshakes or session resumptions.
+ */
+public class TestTlsSession {
+	private static StandInCluster standIn;
+	private static AerospikeClient client;
+
+	@BeforeClass
+	public static void start() throws Exception {
+		standIn = new StandInCluster(1, 1);
+		client = new AerospikeClient(new ClientPolicy(), standIn.getHosts());
+	}
+
+	@AfterClass
+	public static void stop() {
+		client.close();
+		standIn.close();
+	}
+
+	@Test
+	public void defaultContext() throws Exception {
+		SSLSessionContext defaultSessions = SSLContext.getDefault().getClientSessionContext();
+		int defaultSize = defaultSessions.getSessionCacheSize();
+		int defaultTimeout = defaultSessions.getSessionTimeout();
+
+		TlsPolicy policy = new TlsPolicy();
+		policy.sessionCacheSize = defaultSize + 17;
+		policy.sessionTimeout = defaultTimeout + 23;
+
+		TlsPolicy result = Connection.configureSessionCache(policy);
+
+		// The JVM default context is shared with other TLS clients and must not change.
+		assertEquals(defaultSize, defaultSessions.getSessionCacheSize());
+		assertEquals(defaultTimeout, defaultSessions.getSessionTimeout());
+
+		// Client uses a dedicated context and the caller's policy is not modified.
+		assertNotSame(policy, result);
+		assertNull(policy.context);
+		assertNotSame(SSLContext.getDefault(), result.context);
+
+		SSLSessionContext sessions = result.context.getClientSessionContext();
+		assertEquals(policy.sessionCacheSize, sessions.getSessionCacheSize());
+		assertEquals(policy.sessionTimeout, sessions.getSessionTimeout());
+	}
+
+	@Test
+	public void suppliedContext() throws Exception {
+		SSLContext context = SSLContext.getInstance("TLS");
+		context.init(null, null, null);
+
+		TlsPolicy policy = new TlsPolicy();
+		policy.context = context;
+		policy.sessionCacheSize = 11;
+		policy.sessionTimeout = 13;
+
+		assertSame(policy, Connection.configureSessionCache(policy));
+		assertSame(context, policy.context);
+
+		SSLSessionContext sessions = context.getClientSessionContext();
+		assertEquals(11, sessions.getSessionCacheSize());
+		assertEquals(13, sessions.getSessionTimeout());
+	}
+
+	@Test
+	public void noSessionSettings() {
+		TlsPolicy policy = new TlsPolicy();
+		assertSame(policy, Connection.configureSessionCache(policy));
+		assertNull(policy.context);
+	}
+
+	@Test
+	public void handshakeCount() {
+		Node node = client.getNodes()[0];
+		long handshakes = node.getTlsHandshakes();
+		long resumptions = node.getTlsResumptions();
+		long begin = System.currentTimeMillis();
+
+		// Session created before the handshake began was resumed.
+		node.tlsHandshakeComplete(createSession(begin - 1000), begin);
+		node.tlsHandshakeComplete(createSession(begin - 1), begin);
+		assertEquals(handshakes, node.getTlsHandshakes());
+		assertEquals(resumptions + 2, node.getTlsResumptions());
+
+		// Session created when or after the handshake began is a full handshake.
+		node.tlsHandshakeComplete(createSession(begin), begin);
+		node.tlsHandshakeComplete(createSession(begin + 5), begin);
+		assertEquals(handshakes + 2, node.getTlsHandshakes());
+		assertEquals(resumptions + 2, node.getTlsResumptions());
+	}
+
+	private static SSLSession createSession(final long creationTime) {
+		return (SSLSession)Proxy.newProxyInstance(
+			SSLSession.class.getClassLoader(),
+			new Class<?>[] {SSLSession.class},
+			new InvocationHandler() {
+				public Object invoke(Object proxy, Method method, Object[] args) {
+					if (method.getName().equals("getCreationTime")) {
+						return creationTime;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				}
+			});
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.util;
+
+import java.util.Arrays;
+
+import com.aerospike.client.command.Command;
+
+/**
+ * Command that serializes into a buffer sized by the command's own estimate.
+ * It lets tests compare wire format bytes without a server.
+ */
+public final class BufferCommand extends Command {
+	private int growCount;
+
+	public BufferCommand() {
+		super(0, 0, 0);
+	}
+
+	@Override
+	protected void sizeBuffer() {
+		dataBuffer = new byte[dataOffset];
+		growCount = 0;
+	}
+
+	@Override
+	protected void growBuffer(int capacity) {
+		super.growBuffer(capacity);
+		growCount++;
+	}
+
+	/**
+	 * Return number of times the buffer grew during the last set call.
+	 */
+	public int getGrowCount() {
+		return growCount;
+	}
+
+	/**
+	 * Return buffer size after the last set call.
+	 */
+	public int getCapacity() {
+		return dataBuffer.length;
+	}
+
+	/**
+	 * Return bytes written by the last set call.
+	 */
+	public byte[] getBytes() {
+		return Arrays.copyOf(dataBuffer, dataOffset);
+	}
+}
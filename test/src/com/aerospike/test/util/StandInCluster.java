@@ -0,0 +1,398 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.util;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.aerospike.client.Host;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.command.Command;
+
+/**
+ * In-process stand-in for a small Aerospike cluster on the loopback interface.
+ * It lets tests exercise cluster tending and the network path without a database.
+ * <ul>
+ * <li>Each node answers the info commands used by cluster tending. Node i is the
+ * replica r owner of partition p when (p + shift + r) % nodeCount == i. Node i is
+ * in rack ((i + shift) % nodeCount) + 1 for {@link #NAMESPACE}.</li>
+ * <li>{@link #rebalance()} increments shift and the partition and rebalance generations.</li>
+ * <li>Record commands succeed and return no bins. Nothing is stored. Batch commands
+ * return only the last group marker.</li>
+ * <li>{@link #setResultCode(int, int)} and {@link #setResponseDelay(int)} change the
+ * response to record commands on every node.</li>
+ * </ul>
+ * Each connection is served by its own daemon thread.
+ */
+public final class StandInCluster implements Closeable {
+	public static final String NAMESPACE = "test";
+	public static final int PARTITIONS = 4096;
+
+	private static final int INFO_TYPE = 1;
+	private static final int MSG_TYPE = 3;
+
+	private final StandInNode[] nodes;
+	private final int replicaCount;
+	private volatile int shift;
+	private volatile int generation = 1;
+	private final AtomicInteger resultCount = new AtomicInteger();
+	private volatile int resultCode;
+	private volatile int responseDelay;
+	private volatile boolean closed;
+
+	public StandInCluster(int nodeCount, int replicaCount) throws IOException {
+		this.replicaCount = replicaCount;
+		this.nodes = new StandInNode[nodeCount];
+
+		try {
+			for (int i = 0; i < nodeCount; i++) {
+				nodes[i] = new StandInNode(i);
+			}
+		}
+		catch (IOException ioe) {
+			close();
+			throw ioe;
+		}
+
+		for (StandInNode node : nodes) {
+			node.start();
+		}
+	}
+
+	/**
+	 * Return seed host of each node.
+	 */
+	public Host[] getHosts() {
+		Host[] hosts = new Host[nodes.length];
+
+		for (int i = 0; i < nodes.length; i++) {
+			hosts[i] = nodes[i].getHost();
+		}
+		return hosts;
+	}
+
+	/**
+	 * Return node name of the given node index.
+	 */
+	public String getNodeName(int index) {
+		return nodes[index].name;
+	}
+
+	/**
+	 * Return index of the node that owns the given partition replica.
+	 */
+	public int getOwner(int partition, int replica) {
+		return (partition + shift + replica) % nodes.length;
+	}
+
+	/**
+	 * Return rack id of the given node index.
+	 */
+	public int getRack(int index) {
+		return ((index + shift) % nodes.length) + 1;
+	}
+
+	/**
+	 * Return current partition and rebalance generation.
+	 */
+	public int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Move every partition replica to the next node and change node racks.
+	 */
+	public void rebalance() {
+		shift++;
+		generation++;
+	}
+
+	/**
+	 * Respond to the next count record commands with the given result code.
+	 */
+	public void setResultCode(int resultCode, int count) {
+		this.resultCode = resultCode;
+		this.resultCount.set(count);
+	}
+
+	/**
+	 * Delay each record command response by the given number of milliseconds.
+	 */
+	public void setResponseDelay(int millis) {
+		this.responseDelay = millis;
+	}
+
+	/**
+	 * Stop accepting and serving connections on the given node.
+	 */
+	public void stop(int index) {
+		nodes[index].close();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+
+		for (StandInNode node : nodes) {
+			if (node != null) {
+				node.close();
+			}
+		}
+	}
+
+	private final class StandInNode implements Runnable {
+		private final int index;
+		private final String name;
+		private final ServerSocket serverSocket;
+		private final Thread acceptThread;
+		private volatile boolean stopped;
+
+		private StandInNode(int index) throws IOException {
+			this.index = index;
+			this.name = "BB9" + String.format("%012X", index + 1);
+			this.serverSocket = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+			this.acceptThread = new Thread(this, "stand-in-accept-" + index);
+			this.acceptThread.setDaemon(true);
+		}
+
+		private void start() {
+			acceptThread.start();
+		}
+
+		private Host getHost() {
+			return new Host(serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort());
+		}
+
+		@Override
+		public void run() {
+			while (! isStopped()) {
+				try {
+					final Socket socket = serverSocket.accept();
+					socket.setTcpNoDelay(true);
+
+					Thread thread = new Thread(new Runnable() {
+						public void run() {
+							serve(socket);
+						}
+					}, "stand-in-conn-" + index);
+					thread.setDaemon(true);
+					thread.start();
+				}
+				catch (IOException ioe) {
+					// Server socket closed.
+				}
+			}
+		}
+
+		private boolean isStopped() {
+			return stopped || closed;
+		}
+
+		private void serve(Socket socket) {
+			byte[] buffer = new byte[8192];
+
+			try {
+				DataInputStream in = new DataInputStream(socket.getInputStream());
+				OutputStream out = socket.getOutputStream();
+
+				while (! isStopped()) {
+					in.readFully(buffer, 0, 8);
+
+					long proto = Buffer.bytesToLong(buffer, 0);
+					int size = (int)(proto & 0xFFFFFFFFFFFFL);
+					int type = (int)((proto >> 48) & 0xFF);
+
+					if (size > buffer.length) {
+						buffer = new byte[size];
+					}
+					in.readFully(buffer, 0, size);
+
+					if (isStopped()) {
+						break;
+					}
+
+					switch (type) {
+					case INFO_TYPE:
+						out.write(info(buffer, size));
+						break;
+
+					case MSG_TYPE:
+						out.write(message(buffer));
+						break;
+
+					default:
+						// Compressed and other message types are not supported.
+						return;
+					}
+				}
+			}
+			catch (IOException ioe) {
+				// Connection closed.
+			}
+			finally {
+				try {
+					socket.close();
+				}
+				catch (IOException ioe) {
+				}
+			}
+		}
+
+		private byte[] info(byte[] buffer, int size) {
+			String request = new String(buffer, 0, size, StandardCharsets.UTF_8);
+			StringBuilder sb = new StringBuilder(2048);
+
+			for (String command : request.split("\n")) {
+				if (command.isEmpty()) {
+					continue;
+				}
+				sb.append(command).append('\t').append(infoValue(command)).append('\n');
+			}
+
+			byte[] body = sb.toString().getBytes(StandardCharsets.UTF_8);
+			byte[] response = new byte[8 + body.length];
+			writeProto(response, INFO_TYPE, body.length);
+			System.arraycopy(body, 0, response, 8, body.length);
+			return response;
+		}
+
+		private String infoValue(String command) {
+			switch (command) {
+			case "node":
+				return name;
+
+			case "features":
+				return "pscans;query-show;batch-any;pquery";
+
+			case "peers-generation":
+				return "1";
+
+			case "partition-generation":
+			case "rebalance-generation":
+				return Integer.toString(generation);
+
+			case "peers-clear-std":
+			case "peers-clear-alt":
+				return peers();
+
+			case "replicas":
+				return replicas();
+
+			case "rack-ids":
+				return NAMESPACE + ':' + getRack(index);
+
+			default:
+				return "";
+			}
+		}
+
+		private String peers() {
+			// Format: <gen>,<default port>,[[<name>,<tls name>,[<host>:<port>]],...]
+			StringBuilder sb = new StringBuilder(256);
+			sb.append("1,").append(serverSocket.getLocalPort()).append(",[");
+
+			boolean first = true;
+
+			for (StandInNode node : nodes) {
+				if (node == this) {
+					continue;
+				}
+
+				if (! first) {
+					sb.append(',');
+				}
+				first = false;
+
+				Host host = node.getHost();
+				sb.append('[').append(node.name).append(",,[").append(host.name).append(':')
+					.append(host.port).append("]]");
+			}
+			sb.append(']');
+			return sb.toString();
+		}
+
+		private String replicas() {
+			// Format: <ns>:<regime>,<count>,<bitmap1>,<bitmap2>...
+			StringBuilder sb = new StringBuilder(replicaCount * 700);
+			sb.append(NAMESPACE).append(":0,").append(replicaCount);
+
+			for (int r = 0; r < replicaCount; r++) {
+				byte[] bitmap = new byte[PARTITIONS / 8];
+
+				for (int p = 0; p < PARTITIONS; p++) {
+					if (getOwner(p, r) == index) {
+						bitmap[p >> 3] |= (byte)(0x80 >> (p & 7));
+					}
+				}
+				sb.append(',').append(Base64.getEncoder().encodeToString(bitmap));
+			}
+			return sb.toString();
+		}
+
+		private byte[] message(byte[] request) {
+			int delay = responseDelay;
+
+			if (delay > 0) {
+				try {
+					Thread.sleep(delay);
+				}
+				catch (InterruptedException ie) {
+				}
+			}
+
+			// Generation 1. No fields or bins.
+			int size = Command.MSG_REMAINING_HEADER_SIZE;
+			byte[] response = new byte[8 + size];
+
+			writeProto(response, MSG_TYPE, size);
+			response[8] = (byte)Command.MSG_REMAINING_HEADER_SIZE;
+
+			if ((request[1] & Command.INFO1_BATCH) != 0) {
+				response[8 + 3] = (byte)Command.INFO3_LAST;
+			}
+
+			if (resultCount.get() > 0 && resultCount.getAndDecrement() > 0) {
+				response[8 + 5] = (byte)resultCode;
+			}
+			Buffer.intToBytes(1, response, 8 + 6);
+			return response;
+		}
+
+		private void close() {
+			stopped = true;
+
+			try {
+				serverSocket.close();
+			}
+			catch (IOException ioe) {
+			}
+		}
+	}
+
+	private static void writeProto(byte[] buffer, int type, int size) {
+		long proto = (long)size | (Command.CL_MSG_VERSION << 56) | ((long)type << 48);
+		Buffer.longToBytes(proto, buffer, 0);
+	}
+}
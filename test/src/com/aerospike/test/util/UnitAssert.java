@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2025 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.test.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.exp.Expression;
+
+/**
+ * Assertions shared by unit tests.
+ */
+public final class UnitAssert {
+	/**
+	 * Assert command wrote the same bytes as the golden command.
+	 */
+	public static void assertGolden(BufferCommand expected, BufferCommand command) {
+		assertArrayEquals(expected.getBytes(), command.getBytes());
+	}
+
+	/**
+	 * Assert expression has the same bytes as the golden expression.
+	 */
+	public static void assertGolden(Expression expected, Expression exp) {
+		assertArrayEquals(expected.getBytes(), exp.getBytes());
+	}
+
+	/**
+	 * Assert runnable fails with {@link ResultCode#PARAMETER_ERROR}.
+	 */
+	public static void assertParameterError(Runnable runnable) {
+		try {
+			runnable.run();
+			fail("Expected PARAMETER_ERROR");
+		}
+		catch (AerospikeException ae) {
+			assertEquals(ResultCode.PARAMETER_ERROR, ae.getResultCode());
+		}
+	}
+}